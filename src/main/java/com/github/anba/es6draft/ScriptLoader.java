@@ -8,15 +8,28 @@ package com.github.anba.es6draft;
 
 import static com.github.anba.es6draft.runtime.ExecutionContext.newScriptExecutionContext;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.github.anba.es6draft.ast.FunctionDefinition;
 import com.github.anba.es6draft.ast.GeneratorDefinition;
+import com.github.anba.es6draft.compiler.CodeCache;
 import com.github.anba.es6draft.compiler.CompilationException;
 import com.github.anba.es6draft.compiler.CompiledScript;
 import com.github.anba.es6draft.compiler.Compiler;
 import com.github.anba.es6draft.interpreter.InterpretedScript;
 import com.github.anba.es6draft.interpreter.Interpreter;
+import com.github.anba.es6draft.parser.ParserException;
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.LexicalEnvironment;
 import com.github.anba.es6draft.runtime.Realm;
@@ -32,6 +45,32 @@ public final class ScriptLoader {
     private ScriptLoader() {
     }
 
+    /**
+     * Thread pool for concurrent script loading, created on first use. The pool uses daemon
+     * threads which are released when idle.
+     */
+    private static final class LoaderPool {
+        static final ThreadPoolExecutor pool = newPool();
+
+        private static ThreadPoolExecutor newPool() {
+            int threads = Runtime.getRuntime().availableProcessors();
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 30,
+                    TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                        private final AtomicInteger threadCount = new AtomicInteger();
+
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            Thread thread = new Thread(r, "es6draft-loader-"
+                                    + threadCount.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+            pool.allowCoreThreadTimeOut(true);
+            return pool;
+        }
+    }
+
     /**
      * [15.2.7 Runtime Semantics: Script Evaluation]
      */
@@ -83,6 +122,23 @@ public final class ScriptLoader {
         return script;
     }
 
+    /**
+     * Returns an executable {@link Script} object for given
+     * {@link com.github.anba.es6draft.ast.Script} AST-node. This may either be an
+     * {@link InterpretedScript} or {@link CompiledScript} instance. Compiled scripts are stored
+     * under {@code cacheKey} in {@code codeCache}.
+     */
+    public static Script load(String className, com.github.anba.es6draft.ast.Script parsedScript,
+            EnumSet<Compiler.Option> options, CodeCache codeCache, String cacheKey)
+            throws CompilationException {
+        Script script = Interpreter.script(parsedScript);
+        if (script == null) {
+            Compiler compiler = new Compiler(options);
+            script = compiler.compile(parsedScript, className, codeCache, cacheKey);
+        }
+        return script;
+    }
+
     /**
      * Compiles the given {@link com.github.anba.es6draft.ast.Script} to an executable
      * {@link Script} object
@@ -113,4 +169,58 @@ public final class ScriptLoader {
         Compiler compiler = new Compiler(options);
         return compiler.compile(generator, className).getFunction();
     }
+
+    /**
+     * Runs the script loading tasks concurrently and returns the pending results in the same order
+     * as {@code tasks}. Each task is expected to parse and compile a separate script, parser and
+     * compiler instances are not shared between scripts.
+     */
+    public static List<Future<Script>> loadAll(List<? extends Callable<Script>> tasks) {
+        ThreadPoolExecutor pool = LoaderPool.pool;
+        List<Future<Script>> futures = new ArrayList<>(tasks.size());
+        for (Callable<Script> task : tasks) {
+            futures.add(pool.submit(task));
+        }
+        return futures;
+    }
+
+    /**
+     * Waits for the results of {@link #loadAll(List)}. If any script fails to load, the remaining
+     * tasks are cancelled and the first error is rethrown. I/O errors are rethrown as the original
+     * {@link IOException}, even when wrapped by the task.
+     */
+    public static List<Script> awaitAll(List<Future<Script>> futures) throws IOException,
+            ParserException, CompilationException {
+        List<Script> scripts = new ArrayList<>(futures.size());
+        try {
+            for (Future<Script> future : futures) {
+                scripts.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            Throwable cause = e.getCause();
+            for (Throwable t = cause; t != null; t = t.getCause()) {
+                if (t instanceof IOException) {
+                    throw (IOException) t;
+                }
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        return scripts;
+    }
+
+    private static void cancelAll(List<Future<Script>> futures) {
+        for (Future<Script> future : futures) {
+            future.cancel(false);
+        }
+    }
 }
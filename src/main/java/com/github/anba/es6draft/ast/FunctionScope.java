@@ -19,4 +19,11 @@ public interface FunctionScope extends TopLevelScope {
      * Returns the set of parameter names.
      */
     Set<String> parameterNames();
+
+    /**
+     * Returns <code>true</code> if the function code references its arguments object, either
+     * through an <code>arguments</code> identifier or a direct-eval call in the function or in
+     * nested arrow functions.
+     */
+    boolean needsArguments();
 }
@@ -94,6 +94,21 @@ final class Code {
         return classCode;
     }
 
+    /**
+     * Returns the name of the main class
+     */
+    String getMainClassName() {
+        return mainClass.className;
+    }
+
+    /**
+     * Add a new static field to main class module
+     */
+    void newMainField(int access, String fieldName, String fieldDescriptor) {
+        mainClass.classWriter.visitField(access, fieldName, fieldDescriptor, null, null)
+                .visitEnd();
+    }
+
     /**
      * Add a new method to main class module
      */
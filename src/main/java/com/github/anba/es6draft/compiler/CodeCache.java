@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.compiler;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Set;
+
+import com.github.anba.es6draft.compiler.Code.ClassCode;
+import com.github.anba.es6draft.compiler.Compiler.CodeLoader;
+import com.github.anba.es6draft.compiler.Compiler.Option;
+import com.github.anba.es6draft.runtime.internal.CompatibilityOption;
+
+/**
+ * Persistent on-disk cache for the class files of compiled scripts.
+ * <p>
+ * Cache entries are keyed by the script source, the source location, the compatibility options,
+ * the compiler options and the compiler version. Each entry is stored in a separate file, entries
+ * are written to a temporary file first and then moved into place, so multiple processes can share
+ * the same cache directory.
+ * Unreadable or outdated entries are treated as cache misses.
+ */
+public final class CodeCache {
+    private static final int MAGIC = 0x6573_6364;
+    private static final int FORMAT_VERSION = 1;
+    private static final String FILE_SUFFIX = ".classes";
+    private static final String COMPILER_VERSION = compilerVersion();
+
+    private final Path directory;
+
+    /**
+     * Creates a new code cache which stores its entries in {@code directory}
+     */
+    public CodeCache(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    /**
+     * Returns the cache directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private static String compilerVersion() {
+        try (InputStream stream = CodeCache.class.getResourceAsStream("/version")) {
+            if (stream != null) {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream,
+                        StandardCharsets.UTF_8))) {
+                    String version = reader.readLine();
+                    if (version != null) {
+                        return version;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // ignore
+        }
+        return "<unknown version>";
+    }
+
+    /**
+     * Returns the cache key for a script
+     */
+    public String newKey(String sourceName, int sourceLine, String source,
+            Set<CompatibilityOption> options, Set<Option> compilerOptions) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append(FORMAT_VERSION).append('\0');
+        sb.append(COMPILER_VERSION).append('\0');
+        sb.append(sourceName).append('\0');
+        sb.append(sourceLine).append('\0');
+        for (CompatibilityOption option : options) {
+            sb.append(option.name()).append(',');
+        }
+        sb.append('\0');
+        for (Option option : compilerOptions) {
+            sb.append(option.name()).append(',');
+        }
+        sb.append('\0');
+        digest.update(sb.toString().getBytes(StandardCharsets.UTF_8));
+        digest.update(source.getBytes(StandardCharsets.UTF_8));
+        return toHexString(digest.digest());
+    }
+
+    private static String toHexString(byte[] bytes) {
+        final char[] hexdigits = "0123456789abcdef".toCharArray();
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; ++i) {
+            chars[i * 2] = hexdigits[(bytes[i] >> 4) & 0xf];
+            chars[i * 2 + 1] = hexdigits[bytes[i] & 0xf];
+        }
+        return new String(chars);
+    }
+
+    private Path entry(String key) {
+        return directory.resolve(key + FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the compiled script for {@code key}, or {@code null} if not present in the cache
+     */
+    public CompiledScript load(String key) {
+        Path file = entry(key);
+        CodeLoader loader = new CodeLoader();
+        String mainClassName;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION
+                    || !COMPILER_VERSION.equals(in.readUTF()) || !key.equals(in.readUTF())) {
+                return null;
+            }
+            mainClassName = in.readUTF();
+            for (int i = 0, count = in.readInt(); i < count; ++i) {
+                String className = in.readUTF();
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                loader.defineClass(className, bytes);
+            }
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | LinkageError | RuntimeException e) {
+            // corrupt cache entry
+            return null;
+        }
+        try {
+            Class<?> c = loader.loadClass(mainClassName);
+            return (CompiledScript) c.newInstance();
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stores the generated classes under {@code key}. Failures to write the cache entry are
+     * silently ignored.
+     */
+    void store(String key, String mainClassName, List<ClassCode> classes, List<byte[]> classBytes) {
+        assert classes.size() == classBytes.size();
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(directory, key, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(COMPILER_VERSION);
+                out.writeUTF(key);
+                out.writeUTF(mainClassName);
+                out.writeInt(classes.size());
+                for (int i = 0, size = classes.size(); i < size; ++i) {
+                    byte[] bytes = classBytes.get(i);
+                    out.writeUTF(classes.get(i).className);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+            }
+            try {
+                Files.move(tempFile, entry(key), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, entry(key), StandardCopyOption.REPLACE_EXISTING);
+            }
+            tempFile = null;
+        } catch (IOException e) {
+            // ignore, the cache is only used to speed up subsequent compilations
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+}
@@ -6,16 +6,19 @@
  */
 package com.github.anba.es6draft.compiler;
 
+import static com.github.anba.es6draft.semantics.StaticSemantics.BoundNames;
+import static com.github.anba.es6draft.semantics.StaticSemantics.ExpectedArgumentCount;
 import static com.github.anba.es6draft.semantics.StaticSemantics.IsStrict;
 import static com.github.anba.es6draft.semantics.StaticSemantics.TemplateStrings;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -31,22 +34,26 @@ import com.github.anba.es6draft.ast.synthetic.StatementListMethod;
 import com.github.anba.es6draft.compiler.Code.MethodCode;
 import com.github.anba.es6draft.compiler.DefaultCodeGenerator.ValType;
 import com.github.anba.es6draft.compiler.ExpressionVisitor.GeneratorState;
+import com.github.anba.es6draft.compiler.InstructionVisitor.FieldDesc;
+import com.github.anba.es6draft.compiler.InstructionVisitor.FieldType;
 import com.github.anba.es6draft.compiler.InstructionVisitor.MethodDesc;
 import com.github.anba.es6draft.compiler.InstructionVisitor.MethodType;
 import com.github.anba.es6draft.compiler.InstructionVisitor.Variable;
 import com.github.anba.es6draft.compiler.StatementGenerator.Completion;
 import com.github.anba.es6draft.runtime.LexicalEnvironment;
+import com.github.anba.es6draft.runtime.internal.Bootstrap;
 import com.github.anba.es6draft.runtime.internal.CompatibilityOption;
 import com.github.anba.es6draft.runtime.internal.ImmediateFuture;
 import com.github.anba.es6draft.runtime.internal.JVMNames;
 import com.github.anba.es6draft.runtime.internal.ResumptionPoint;
+import com.github.anba.es6draft.runtime.internal.RuntimeInfo;
 import com.github.anba.es6draft.runtime.internal.SourceCompressor;
 import com.github.anba.es6draft.runtime.types.ScriptObject;
 
 /**
  * 
  */
-final class CodeGenerator implements AutoCloseable {
+final class CodeGenerator {
     private static final class Methods {
         // class: CompiledFunction
         static final MethodDesc CompiledFunction_Constructor = MethodDesc.create(
@@ -85,6 +92,19 @@ final class CodeGenerator implements AutoCloseable {
         static final String ExpressionMethod = Type.getMethodDescriptor(Types.Object,
                 Types.ExecutionContext);
 
+        static final String StatementListMethod_Resumable = Type.getMethodDescriptor(
+                Types.Object, Types.ExecutionContext, Types.Object, Types.ResumptionPoint);
+
+        static final String SpreadElementMethod_Resumable = Type.getMethodDescriptor(
+                Types.Object, Types.ExecutionContext, Types.ExoticArray, Type.INT_TYPE,
+                Types.ResumptionPoint);
+
+        static final String PropertyDefinitionsMethod_Resumable = Type.getMethodDescriptor(
+                Types.Object, Types.ExecutionContext, Types.ScriptObject, Types.ResumptionPoint);
+
+        static final String ExpressionMethod_Resumable = Type.getMethodDescriptor(Types.Object,
+                Types.ExecutionContext, Types.ResumptionPoint);
+
         static final String BlockDeclarationInit = Type.getMethodDescriptor(
                 Types.LexicalEnvironment, Types.ExecutionContext, Types.LexicalEnvironment);
 
@@ -117,37 +137,44 @@ final class CodeGenerator implements AutoCloseable {
     private static final Future<String> NO_SOURCE = new ImmediateFuture<>(null);
     private static final int MAX_FNAME_LENGTH = 0x4000;
 
+    private static final String LAZY_FUNCTIONS = "lazyFunctions";
+
     private final Code code;
     private final EnumSet<CompatibilityOption> options;
-    private ExecutorService sourceCompressor;
+    private final Compiler compiler;
+    private final String className;
+    private final String sourceFile;
+    private final List<LazyFunction> lazyFunctions = new ArrayList<>();
 
     private final StatementGenerator stmtgen = new StatementGenerator(this);
     private final ExpressionGenerator exprgen = new ExpressionGenerator(this);
     private final PropertyGenerator propgen = new PropertyGenerator(this);
 
     CodeGenerator(Code code, EnumSet<CompatibilityOption> options) {
+        this(code, options, null, null, null);
+    }
+
+    /**
+     * Creates a new code generator which compiles function declarations and expressions lazily,
+     * see {@link LazyFunction}
+     */
+    CodeGenerator(Code code, EnumSet<CompatibilityOption> options, Compiler compiler,
+            String className, String sourceFile) {
         this.code = code;
         this.options = options;
-        if (INCLUDE_SOURCE) {
-            this.sourceCompressor = Executors.newFixedThreadPool(1);
-        }
+        this.compiler = compiler;
+        this.className = className;
+        this.sourceFile = sourceFile;
     }
 
     boolean isEnabled(CompatibilityOption option) {
         return options.contains(option);
     }
 
-    @Override
-    public void close() {
-        if (INCLUDE_SOURCE) {
-            sourceCompressor.shutdown();
-        }
-        sourceCompressor = null;
-    }
-
     private Future<String> compressed(String source) {
         if (INCLUDE_SOURCE) {
-            return sourceCompressor.submit(SourceCompressor.compress(source));
+            return CompilerExecutor.submit(SourceCompressor.compress(source),
+                    CompilerExecutor.isInline(source));
         } else {
             return NO_SOURCE;
         }
@@ -171,7 +198,7 @@ final class CodeGenerator implements AutoCloseable {
     }
 
     enum FunctionName {
-        Call, Code, Init, RTI
+        Call, Code, Init, RTI, FixedArityCall, FixedArityInit
     }
 
     /**
@@ -180,10 +207,33 @@ final class CodeGenerator implements AutoCloseable {
     private final Map<Node, String> methodNames = new HashMap<>(32);
     private final AtomicInteger methodCounter = new AtomicInteger(0);
 
+    /**
+     * Set of synthetic method nodes which are compiled as resumable methods
+     */
+    private final Set<Node> resumableMethods = new HashSet<>();
+
     private boolean isCompiled(Node node) {
         return methodNames.containsKey(node);
     }
 
+    private boolean isResumable(Node node) {
+        return resumableMethods.contains(node);
+    }
+
+    /**
+     * Set of functions which are evaluated without a function environment record
+     */
+    private final Set<FunctionNode> scopeFreeFunctions = new HashSet<>();
+
+    /**
+     * Returns {@code true} if {@code node} is evaluated directly in its closure environment, see
+     * {@link NumericLocals#hasUnobservableEnvironment(FunctionNode)}. The formal parameters are
+     * then passed as separate parameters to the function code method.
+     */
+    boolean isScopeFree(FunctionNode node) {
+        return scopeFreeFunctions.contains(node);
+    }
+
     private String methodName(Script node, ScriptName name) {
         switch (name) {
         case Code:
@@ -253,6 +303,10 @@ final class CodeGenerator implements AutoCloseable {
             return insertMarker("!", fname, "_init");
         case RTI:
             return insertMarker("", fname, "_rti");
+        case FixedArityCall:
+            return insertMarker("", fname, "_fixed");
+        case FixedArityInit:
+            return insertMarker("!", fname, "_fixedinit");
         default:
             throw new IllegalStateException();
         }
@@ -304,18 +358,30 @@ final class CodeGenerator implements AutoCloseable {
     }
 
     private String methodDescriptor(StatementListMethod node) {
+        if (isResumable(node)) {
+            return MethodDescriptors.StatementListMethod_Resumable;
+        }
         return MethodDescriptors.StatementListMethod;
     }
 
     private String methodDescriptor(SpreadElementMethod node) {
+        if (isResumable(node)) {
+            return MethodDescriptors.SpreadElementMethod_Resumable;
+        }
         return MethodDescriptors.SpreadElementMethod;
     }
 
     private String methodDescriptor(PropertyDefinitionsMethod node) {
+        if (isResumable(node)) {
+            return MethodDescriptors.PropertyDefinitionsMethod_Resumable;
+        }
         return MethodDescriptors.PropertyDefinitionsMethod;
     }
 
     private String methodDescriptor(ExpressionMethod node) {
+        if (isResumable(node)) {
+            return MethodDescriptors.ExpressionMethod_Resumable;
+        }
         return MethodDescriptors.ExpressionMethod;
     }
 
@@ -338,16 +404,36 @@ final class CodeGenerator implements AutoCloseable {
             if (node.isGenerator()) {
                 return MethodDescriptors.Generator_Code;
             }
+            if (isScopeFree(node)) {
+                return fixedArityDescriptor(Type.getMethodType(Types.Object,
+                        Types.ExecutionContext), fixedArity(node));
+            }
             return MethodDescriptors.FunctionNode_Code;
         case Init:
             return MethodDescriptors.FunctionNode_Init;
         case RTI:
             return MethodDescriptors.FunctionNode_RTI;
+        case FixedArityCall:
+            return fixedArityDescriptor(Type.getMethodType(Types.Object, Types.OrdinaryFunction,
+                    Types.ExecutionContext, Types.Object), fixedArity(node));
+        case FixedArityInit:
+            return fixedArityDescriptor(Type.getMethodType(Type.VOID_TYPE,
+                    Types.ExecutionContext, Types.FunctionObject), fixedArity(node));
         default:
             throw new IllegalStateException();
         }
     }
 
+    private static String fixedArityDescriptor(Type methodType, int arity) {
+        Type[] argumentTypes = methodType.getArgumentTypes();
+        Type[] parameters = new Type[argumentTypes.length + arity];
+        System.arraycopy(argumentTypes, 0, parameters, 0, argumentTypes.length);
+        for (int i = argumentTypes.length; i < parameters.length; ++i) {
+            parameters[i] = Types.Object;
+        }
+        return Type.getMethodDescriptor(methodType.getReturnType(), parameters);
+    }
+
     private String methodDescriptor(Script node, ScriptName name) {
         switch (name) {
         case Code:
@@ -526,6 +612,9 @@ final class CodeGenerator implements AutoCloseable {
 
         // add default constructor
         defaultScriptConstructor(node);
+
+        // add field for lazily compiled functions
+        lazyFunctionsField();
     }
 
     private void scriptBody(Script node) {
@@ -558,15 +647,52 @@ final class CodeGenerator implements AutoCloseable {
     }
 
     void compileFunction(FunctionNode function) {
-        if (function instanceof FunctionDefinition) {
-            compile((FunctionDefinition) function);
-        } else {
-            assert function instanceof GeneratorDefinition;
-            compile((GeneratorDefinition) function);
-        }
+        assert function instanceof FunctionDefinition || function instanceof GeneratorDefinition;
+        compile(function);
 
         // add default constructor
         defaultFunctionConstructor(function);
+
+        // add field for lazily compiled functions
+        lazyFunctionsField();
+    }
+
+    /**
+     * Returns the function code objects for the lazily compiled functions, which need to be
+     * stored in the static field {@link #LAZY_FUNCTIONS} of the main class
+     */
+    RuntimeInfo.Function[] getLazyFunctions() {
+        return lazyFunctions.toArray(new RuntimeInfo.Function[lazyFunctions.size()]);
+    }
+
+    static String getLazyFunctionsFieldName() {
+        return LAZY_FUNCTIONS;
+    }
+
+    private void lazyFunctionsField() {
+        if (!lazyFunctions.isEmpty()) {
+            code.newMainField(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, LAZY_FUNCTIONS,
+                    Types.RuntimeInfo$Function_.getDescriptor());
+        }
+    }
+
+    private boolean isLazy(FunctionNode node) {
+        return compiler != null && LazyFunction.isLazy(node);
+    }
+
+    private void lazyFunction(FunctionNode node) {
+        if (!isCompiled(node)) {
+            int index = lazyFunctions.size();
+            FieldDesc field = FieldDesc.create(FieldType.Static, code.getMainClassName(),
+                    LAZY_FUNCTIONS, Types.RuntimeInfo$Function_);
+            RuntimeInfoGenerator rti = new RuntimeInfoGenerator(this);
+            lazyFunctions.add(new LazyFunction(compiler, className + "$" + index, sourceFile,
+                    options, node, rti.lazyFunctionFlags(node), ExpectedArgumentCount(node
+                            .getParameters()), getSource(node)));
+
+            // runtime-info method
+            rti.lazyRuntimeInfo(node, field, index);
+        }
     }
 
     private void defaultFunctionConstructor(FunctionNode function) {
@@ -585,7 +711,11 @@ final class CodeGenerator implements AutoCloseable {
     }
 
     void compile(FunctionDefinition node) {
-        compile((FunctionNode) node);
+        if (isLazy(node)) {
+            lazyFunction(node);
+        } else {
+            compile((FunctionNode) node);
+        }
     }
 
     void compile(GeneratorDefinition node) {
@@ -604,8 +734,13 @@ final class CodeGenerator implements AutoCloseable {
         if (!isCompiled(node)) {
             Future<String> source = getSource(node);
 
-            // initialisation method
-            new FunctionDeclarationInstantiationGenerator(this).generate(node);
+            boolean scopeFree = !isLegacy(node) && NumericLocals.hasUnobservableEnvironment(node);
+            if (scopeFree) {
+                scopeFreeFunctions.add(node);
+            } else {
+                // initialisation method
+                new FunctionDeclarationInstantiationGenerator(this).generate(node);
+            }
 
             // runtime method
             boolean tailCalls;
@@ -622,9 +757,67 @@ final class CodeGenerator implements AutoCloseable {
             // call method
             new FunctionCodeGenerator(this).generate(node);
 
+            // fixed-arity initialisation and call methods
+            boolean fixedArity = hasFixedArityCall(node, tailCalls);
+            if (fixedArity) {
+                if (!scopeFree) {
+                    new FunctionDeclarationInstantiationGenerator(this).generateFixedArity(node);
+                }
+                new FunctionCodeGenerator(this).generateFixedArity(node);
+            }
+
             // runtime-info method
-            new RuntimeInfoGenerator(this).runtimeInfo(node, tailCalls, source);
+            new RuntimeInfoGenerator(this).runtimeInfo(node, tailCalls, fixedArity, source);
+        }
+    }
+
+    /**
+     * Returns {@code true} if a fixed-arity call method is emitted for {@code node}. The
+     * fixed-arity call method receives the arguments as separate parameters instead of an
+     * {@code Object[]}, which requires a non-legacy, non-generator function without tail calls,
+     * without an arguments object and with at most {@link Bootstrap#MAX_FIXED_ARGUMENTS} simple
+     * formal parameters.
+     */
+    private boolean hasFixedArityCall(FunctionNode node, boolean tailCalls) {
+        if (node.isGenerator() || tailCalls) {
+            return false;
+        }
+        if (isLegacy(node)) {
+            // legacy 'caller' and 'arguments' properties
+            return false;
         }
+        if (!(node instanceof ArrowFunction) && node.getScope().needsArguments()) {
+            return false;
+        }
+        List<FormalParameter> formals = node.getParameters().getFormals();
+        if (formals.size() > Bootstrap.MAX_FIXED_ARGUMENTS) {
+            return false;
+        }
+        for (FormalParameter formal : formals) {
+            if (!(formal instanceof BindingElement)) {
+                return false;
+            }
+            BindingElement element = (BindingElement) formal;
+            if (!(element.getBinding() instanceof BindingIdentifier)
+                    || element.getInitialiser() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if {@code node} has the legacy 'caller' and 'arguments' properties
+     */
+    private boolean isLegacy(FunctionNode node) {
+        return !IsStrict(node) && isEnabled(CompatibilityOption.FunctionPrototype);
+    }
+
+    /**
+     * Returns the number of parameters of the fixed-arity call method of {@code node}
+     */
+    static int fixedArity(FunctionNode node) {
+        return node.getParameters().getFormals().size();
     }
 
     private Future<String> getSource(FunctionNode node) {
@@ -666,6 +859,19 @@ final class CodeGenerator implements AutoCloseable {
         body.lineInfo(node);
         body.begin();
 
+        if (isScopeFree(node)) {
+            List<String> parameters = BoundNames(node.getParameters());
+            for (int i = 0, size = parameters.size(); i < size; ++i) {
+                body.addParameterLocal(parameters.get(i), body.getParameter(1 + i, Object.class));
+            }
+        }
+        for (String name : NumericLocals.analyze(node)) {
+            Variable<Double> local = body.newVariable(name, double.class);
+            body.dconst(0);
+            body.store(local);
+            body.addNumericLocal(name, local);
+        }
+
         body.enterScope(node);
         Completion result = statements(node.getStatements(), body);
         body.exitScope();
@@ -728,11 +934,20 @@ final class CodeGenerator implements AutoCloseable {
 
     void compile(StatementListMethod node, StatementVisitor mv) {
         if (!isCompiled(node)) {
+            if (mv.isResumable()) {
+                resumableMethods.add(node);
+            }
             StatementVisitor body = new StatementListMethodStatementVisitor(newMethod(
                     mv.getTopLevelNode(), node), mv);
             body.lineInfo(node);
             body.nop(); // force line-number entry
             body.begin();
+            Variable<ResumptionPoint> resume = null;
+            GeneratorState state = null;
+            if (body.isResumable()) {
+                resume = body.getParameter(2, ResumptionPoint.class);
+                state = body.prologue(resume);
+            }
 
             body.setScope(mv.getScope());
             Completion result = statements(node.getStatements(), body);
@@ -743,6 +958,9 @@ final class CodeGenerator implements AutoCloseable {
                 body.areturn();
             }
 
+            if (body.isResumable()) {
+                body.epilogue(resume, state);
+            }
             body.end();
 
             // propagate state information from nested statement-list-method
@@ -752,14 +970,29 @@ final class CodeGenerator implements AutoCloseable {
 
     void compile(SpreadElementMethod node, ExpressionVisitor mv) {
         if (!isCompiled(node)) {
+            if (mv.isResumable()) {
+                resumableMethods.add(node);
+            }
             ExpressionVisitor body = new SpreadElementMethodVisitor(newMethod(node), mv);
             body.lineInfo(node);
             body.begin();
+            Variable<ResumptionPoint> resume = null;
+            GeneratorState state = null;
+            if (body.isResumable()) {
+                resume = body.getParameter(3, ResumptionPoint.class);
+                state = body.prologue(resume);
+            }
 
             body.setScope(mv.getScope());
             expression(node.getExpression(), body);
 
-            body.areturn();
+            if (body.isResumable()) {
+                body.toBoxed(Type.INT_TYPE);
+                body.areturn();
+                body.epilogue(resume, state);
+            } else {
+                body.areturn();
+            }
             body.end();
 
             // propagate state information from nested spread-element-method
@@ -769,9 +1002,18 @@ final class CodeGenerator implements AutoCloseable {
 
     void compile(PropertyDefinitionsMethod node, ExpressionVisitor mv) {
         if (!isCompiled(node)) {
+            if (mv.isResumable()) {
+                resumableMethods.add(node);
+            }
             ExpressionVisitor body = new PropertyDefinitionsMethodVisitor(newMethod(node), mv);
             body.lineInfo(node);
             body.begin();
+            Variable<ResumptionPoint> resume = null;
+            GeneratorState state = null;
+            if (body.isResumable()) {
+                resume = body.getParameter(2, ResumptionPoint.class);
+                state = body.prologue(resume);
+            }
 
             body.setScope(mv.getScope());
             Variable<ScriptObject> object = body.getParameter(1, ScriptObject.class);
@@ -780,7 +1022,13 @@ final class CodeGenerator implements AutoCloseable {
                 propertyDefinition(property, body);
             }
 
-            body.areturn();
+            if (body.isResumable()) {
+                body.aconst(null);
+                body.areturn();
+                body.epilogue(resume, state);
+            } else {
+                body.areturn();
+            }
             body.end();
 
             // propagate state information from nested property-definition-method
@@ -790,14 +1038,26 @@ final class CodeGenerator implements AutoCloseable {
 
     void compile(ExpressionMethod node, ExpressionVisitor mv) {
         if (!isCompiled(node)) {
+            if (mv.isResumable()) {
+                resumableMethods.add(node);
+            }
             ExpressionVisitor body = new ExpressionMethodVisitor(newMethod(node), mv);
             body.lineInfo(node);
             body.begin();
+            Variable<ResumptionPoint> resume = null;
+            GeneratorState state = null;
+            if (body.isResumable()) {
+                resume = body.getParameter(1, ResumptionPoint.class);
+                state = body.prologue(resume);
+            }
 
             body.setScope(mv.getScope());
             expressionBoxedValue(node.getExpression(), body);
 
             body.areturn();
+            if (body.isResumable()) {
+                body.epilogue(resume, state);
+            }
             body.end();
 
             // propagate state information from nested expression-method
@@ -933,12 +1193,15 @@ final class CodeGenerator implements AutoCloseable {
             super.begin();
             setParameterName("cx", 0, Types.ExecutionContext);
             setParameterName("completion", 1, Types.Object);
+            if (isResumable()) {
+                setParameterName("rp", 2, Types.ResumptionPoint);
+            }
         }
     }
 
     private static final class ArrowFunctionVisitor extends ExpressionVisitor {
         ArrowFunctionVisitor(MethodCode method, ArrowFunction node) {
-            super(method, false, IsStrict(node), false, node.hasSyntheticNodes());
+            super(method, false, IsStrict(node), false);
         }
 
         @Override
@@ -950,7 +1213,7 @@ final class CodeGenerator implements AutoCloseable {
 
     private static final class GeneratorComprehensionVisitor extends ExpressionVisitor {
         GeneratorComprehensionVisitor(MethodCode method, GeneratorComprehension node) {
-            super(method, true, IsStrict(node), false, node.hasSyntheticNodes());
+            super(method, true, IsStrict(node), false);
         }
 
         @Override
@@ -970,6 +1233,9 @@ final class CodeGenerator implements AutoCloseable {
         public void begin() {
             super.begin();
             setParameterName("cx", 0, Types.ExecutionContext);
+            if (isResumable()) {
+                setParameterName("rp", 1, Types.ResumptionPoint);
+            }
         }
     }
 
@@ -984,6 +1250,9 @@ final class CodeGenerator implements AutoCloseable {
             setParameterName("cx", 0, Types.ExecutionContext);
             setParameterName("array", 1, Types.ExoticArray);
             setParameterName("index", 2, Type.INT_TYPE);
+            if (isResumable()) {
+                setParameterName("rp", 3, Types.ResumptionPoint);
+            }
         }
     }
 
@@ -997,6 +1266,9 @@ final class CodeGenerator implements AutoCloseable {
             super.begin();
             setParameterName("cx", 0, Types.ExecutionContext);
             setParameterName("object", 1, Types.ScriptObject);
+            if (isResumable()) {
+                setParameterName("rp", 2, Types.ResumptionPoint);
+            }
         }
     }
 
@@ -10,6 +10,7 @@ import java.io.PrintWriter;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.Formatter;
 import java.util.List;
@@ -33,6 +34,7 @@ import com.github.anba.es6draft.compiler.Code.ClassCode;
 import com.github.anba.es6draft.compiler.analyzer.CodeSizeAnalysis;
 import com.github.anba.es6draft.compiler.analyzer.CodeSizeException;
 import com.github.anba.es6draft.runtime.internal.CompatibilityOption;
+import com.github.anba.es6draft.runtime.internal.RuntimeInfo;
 
 /**
  *
@@ -49,6 +51,15 @@ public final class Compiler {
     }
 
     public CompiledScript compile(Script script, String className) {
+        return compile(script, className, null, null);
+    }
+
+    /**
+     * Compiles {@code script} and stores the generated classes under {@code cacheKey} in
+     * {@code codeCache}
+     */
+    public CompiledScript compile(Script script, String className, CodeCache codeCache,
+            String cacheKey) {
         try (CodeSizeAnalysis analysis = new CodeSizeAnalysis()) {
             analysis.submit(script);
         } catch (CodeSizeException e) {
@@ -63,13 +74,20 @@ public final class Compiler {
         Code code = new Code(clazzName, superClassName, script.getSourceFile(), sourceMap(script));
 
         // generate code
-        try (CodeGenerator codegen = new CodeGenerator(code, script.getOptions())) {
-            codegen.compile(script);
+        // lazily compiled functions are not available from the code cache
+        CodeGenerator codegen;
+        if (codeCache == null) {
+            codegen = new CodeGenerator(code, script.getOptions(), this, className,
+                    script.getSourceFile());
+        } else {
+            codegen = new CodeGenerator(code, script.getOptions());
         }
+        codegen.compile(script);
 
         // finalize
         CodeLoader loader = new CodeLoader();
         List<ClassCode> classes = code.getClasses();
+        List<byte[]> classBytes = new ArrayList<>(classes.size());
         for (ClassCode classCode : classes) {
             byte[] bytes = classCode.toByteArray();
             if (compilerOptions.contains(Option.Debug)) {
@@ -77,10 +95,15 @@ public final class Compiler {
             }
             // System.out.printf("define class '%s'%n", classCode.className);
             loader.defineClass(classCode.className, bytes);
+            classBytes.add(bytes);
+        }
+        if (codeCache != null) {
+            codeCache.store(cacheKey, clazzName, classes, classBytes);
         }
 
         try {
             Class<?> c = loader.loadClass(clazzName);
+            initialiseLazyFunctions(c, codegen);
             return (CompiledScript) c.newInstance();
         } catch (ReflectiveOperationException e) {
             throw new RuntimeException(e);
@@ -102,16 +125,29 @@ public final class Compiler {
             throw new CompilationException(e.getMessage());
         }
 
+        return compile(function, className, "<Function>", optionsFrom(function));
+    }
+
+    /**
+     * Compiles the lazily compiled function {@code function}, the function node was already
+     * analysed when its enclosing script or function was compiled
+     */
+    RuntimeInfo.Function compileLazy(FunctionNode function, String className, String sourceFile,
+            EnumSet<CompatibilityOption> options) {
+        return compile(function, className, sourceFile, options).getFunction();
+    }
+
+    private CompiledFunction compile(FunctionNode function, String className, String sourceFile,
+            EnumSet<CompatibilityOption> options) {
         // set-up
         // prepend '#' to mark generated classes, cf. ErrorPrototype
         String clazzName = "#" + className;
         String superClassName = Types.CompiledFunction.getInternalName();
-        Code code = new Code(clazzName, superClassName, "<Function>", null);
+        Code code = new Code(clazzName, superClassName, sourceFile, null);
 
         // generate code
-        try (CodeGenerator codegen = new CodeGenerator(code, optionsFrom(function))) {
-            codegen.compileFunction(function);
-        }
+        CodeGenerator codegen = new CodeGenerator(code, options, this, className, sourceFile);
+        codegen.compileFunction(function);
 
         // finalize
         CodeLoader loader = new CodeLoader();
@@ -126,12 +162,21 @@ public final class Compiler {
 
         try {
             Class<?> c = loader.loadClass(clazzName);
+            initialiseLazyFunctions(c, codegen);
             return (CompiledFunction) c.newInstance();
         } catch (ReflectiveOperationException e) {
             throw new RuntimeException(e);
         }
     }
 
+    private static void initialiseLazyFunctions(Class<?> c, CodeGenerator codegen)
+            throws ReflectiveOperationException {
+        RuntimeInfo.Function[] lazyFunctions = codegen.getLazyFunctions();
+        if (lazyFunctions.length != 0) {
+            c.getField(CodeGenerator.getLazyFunctionsFieldName()).set(null, lazyFunctions);
+        }
+    }
+
     private static EnumSet<CompatibilityOption> optionsFrom(FunctionNode function) {
         Scope enclosingScope = function.getScope().getEnclosingScope();
         if (enclosingScope instanceof ScriptScope) {
@@ -140,7 +185,7 @@ public final class Compiler {
         return EnumSet.noneOf(CompatibilityOption.class);
     }
 
-    private static final class CodeLoader extends ClassLoader {
+    static final class CodeLoader extends ClassLoader {
         public CodeLoader() {
             this(ClassLoader.getSystemClassLoader());
         }
@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.compiler;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.anba.es6draft.ast.Node;
+
+/**
+ * Process-wide executor for background compilation tasks (code size analysis and source
+ * compression).
+ * <p>
+ * The executor uses a bounded number of daemon threads and a bounded task queue, tasks are run in
+ * the submitting thread when the queue is full. Tasks for small inputs are always run in the
+ * submitting thread. The executor is configured with the following system properties:
+ * <ul>
+ * <li>{@code es6draft.compiler.threads}: the maximum number of compiler threads, {@code 0} to run
+ * all tasks in the submitting thread
+ * <li>{@code es6draft.compiler.queueCapacity}: the maximum number of queued tasks
+ * <li>{@code es6draft.compiler.inlineLineCount}: nodes spanning fewer lines are analyzed in the
+ * submitting thread
+ * <li>{@code es6draft.compiler.inlineSourceLength}: sources with fewer characters are compressed in
+ * the submitting thread
+ * </ul>
+ */
+public final class CompilerExecutor {
+    private static final int THREADS = Integer.getInteger("es6draft.compiler.threads",
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())));
+    private static final int QUEUE_CAPACITY = Math.max(1,
+            Integer.getInteger("es6draft.compiler.queueCapacity", 1024));
+    private static final int INLINE_LINE_COUNT = Integer.getInteger(
+            "es6draft.compiler.inlineLineCount", 100);
+    private static final int INLINE_SOURCE_LENGTH = Integer.getInteger(
+            "es6draft.compiler.inlineSourceLength", 4096);
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private static final AtomicLong submittedTasks = new AtomicLong();
+    private static final AtomicLong inlineTasks = new AtomicLong();
+    private static final AtomicInteger peakQueueDepth = new AtomicInteger();
+
+    private CompilerExecutor() {
+    }
+
+    private static final class ExecutorHolder {
+        static final ThreadPoolExecutor executor = newExecutor();
+
+        private static ThreadPoolExecutor newExecutor() {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(THREADS, THREADS,
+                    KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(
+                            QUEUE_CAPACITY), new CompilerThreadFactory(), new CallerRuns());
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    private static final class CompilerThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "es6draft-compiler-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    private static final class CallerRuns implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            // the task was already counted as submitted in submit()
+            submittedTasks.decrementAndGet();
+            inlineTasks.incrementAndGet();
+            r.run();
+        }
+    }
+
+    /**
+     * Returns {@code true} if the code size analysis for {@code node} should be performed in the
+     * calling thread
+     */
+    public static boolean isInline(Node node) {
+        return THREADS <= 0 || node.getEndLine() - node.getBeginLine() < INLINE_LINE_COUNT;
+    }
+
+    /**
+     * Returns {@code true} if {@code source} should be processed in the calling thread
+     */
+    public static boolean isInline(String source) {
+        return THREADS <= 0 || source.length() < INLINE_SOURCE_LENGTH;
+    }
+
+    /**
+     * Submits {@code task} to the compiler executor, or runs the task in the calling thread if
+     * {@code inline} is {@code true}
+     */
+    public static <T> Future<T> submit(Callable<T> task, boolean inline) {
+        FutureTask<T> future = new FutureTask<>(task);
+        if (inline || THREADS <= 0) {
+            inlineTasks.incrementAndGet();
+            future.run();
+        } else {
+            ThreadPoolExecutor executor = ExecutorHolder.executor;
+            submittedTasks.incrementAndGet();
+            executor.execute(future);
+            updatePeakQueueDepth(executor.getQueue().size());
+        }
+        return future;
+    }
+
+    private static void updatePeakQueueDepth(int depth) {
+        for (int peak; (peak = peakQueueDepth.get()) < depth;) {
+            if (peakQueueDepth.compareAndSet(peak, depth)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of tasks currently waiting in the queue
+     */
+    public static int getQueueDepth() {
+        return THREADS > 0 ? ExecutorHolder.executor.getQueue().size() : 0;
+    }
+
+    /**
+     * Returns the maximum observed number of tasks waiting in the queue
+     */
+    public static int getPeakQueueDepth() {
+        return peakQueueDepth.get();
+    }
+
+    /**
+     * Returns the number of tasks submitted to the compiler threads
+     */
+    public static long getSubmittedTaskCount() {
+        return submittedTasks.get();
+    }
+
+    /**
+     * Returns the number of tasks which were run in the submitting thread, either because the input
+     * was small or because the queue was full
+     */
+    public static long getInlineTaskCount() {
+        return inlineTasks.get();
+    }
+
+    /**
+     * Returns the number of compiler threads currently alive
+     */
+    public static int getThreadCount() {
+        return THREADS > 0 ? ExecutorHolder.executor.getPoolSize() : 0;
+    }
+}
@@ -215,10 +215,6 @@ abstract class DefaultCodeGenerator<R, V extends ExpressionVisitor> extends
                 MethodType.Static, Types.ScriptRuntime, "CreateDefaultEmptyConstructor",
                 Type.getMethodType(Types.RuntimeInfo$Function));
 
-        static final MethodDesc ScriptRuntime_delegatedYield = MethodDesc.create(MethodType.Static,
-                Types.ScriptRuntime, "delegatedYield",
-                Type.getMethodType(Types.Object, Types.Object, Types.ExecutionContext));
-
         static final MethodDesc ScriptRuntime_EvaluateConstructorMethod = MethodDesc.create(
                 MethodType.Static, Types.ScriptRuntime, "EvaluateConstructorMethod", Type
                         .getMethodType(Types.OrdinaryFunction, Types.ScriptObject,
@@ -233,10 +229,6 @@ abstract class DefaultCodeGenerator<R, V extends ExpressionVisitor> extends
                 MethodType.Static, Types.ScriptRuntime, "getDefaultClassProto",
                 Type.getMethodType(Types.ScriptObject_, Types.ExecutionContext));
 
-        static final MethodDesc ScriptRuntime_yield = MethodDesc.create(MethodType.Static,
-                Types.ScriptRuntime, "yield",
-                Type.getMethodType(Types.Object, Types.Object, Types.ExecutionContext));
-
         // class: Type
         static final MethodDesc Type_isUndefinedOrNull = MethodDesc.create(MethodType.Static,
                 Types._Type, "isUndefinedOrNull",
@@ -1071,97 +1063,92 @@ abstract class DefaultCodeGenerator<R, V extends ExpressionVisitor> extends
      * stack: [value] -> [value]
      */
     protected final void delegatedYield(Expression node, ExpressionVisitor mv) {
+        assert mv.isResumable();
         mv.lineInfo(node);
-        if (!mv.hasSyntheticMethods() && mv.hasStack()) {
-            Label iteratorNext = new Label(), iteratorThrow = new Label(), iteratorComplete = new Label();
-            Label done = new Label();
+        Label iteratorNext = new Label(), iteratorThrow = new Label();
+        Label iteratorComplete = new Label(), done = new Label();
 
-            mv.enterVariableScope();
-            Variable<ScriptObject> iterator = mv.newVariable("iterator", ScriptObject.class);
-            Variable<ScriptObject> innerResult = mv.newVariable("innerResult", ScriptObject.class);
-            Variable<Object> received = mv.newVariable("received", Object.class);
+        mv.enterVariableScope();
+        Variable<ScriptObject> iterator = mv.newVariable("iterator", ScriptObject.class);
+        Variable<ScriptObject> innerResult = mv.newVariable("innerResult", ScriptObject.class);
+        Variable<Object> received = mv.newVariable("received", Object.class);
 
-            /* steps 4-5 */
-            // stack: [value] -> []
-            mv.loadExecutionContext();
-            mv.swap();
-            mv.invoke(Methods.AbstractOperations_GetIterator);
-            mv.store(iterator);
+        /* steps 4-5 */
+        // stack: [value] -> []
+        mv.loadExecutionContext();
+        mv.swap();
+        mv.invoke(Methods.AbstractOperations_GetIterator);
+        mv.store(iterator);
 
-            /* step 6 */
-            // stack: [] -> []
-            mv.loadUndefined();
-            mv.store(received);
+        /* step 6 */
+        // stack: [] -> []
+        mv.loadUndefined();
+        mv.store(received);
 
-            /* step 7a */
-            // stack: [] -> [innerResult]
-            mv.mark(iteratorNext);
-            mv.loadExecutionContext();
-            mv.load(iterator);
+        /* step 7a */
+        // stack: [] -> [innerResult]
+        mv.mark(iteratorNext);
+        mv.loadExecutionContext();
+        mv.load(iterator);
+        mv.load(received);
+        mv.invoke(Methods.AbstractOperations_IteratorNext);
+        mv.goTo(iteratorComplete);
+
+        /* step 7b (I) */
+        // stack: [] -> [innerResult]
+        mv.mark(iteratorThrow);
+        mv.loadExecutionContext();
+        mv.load(iterator);
+        mv.load(received);
+        mv.invoke(Methods.AbstractOperations_IteratorThrow);
+
+        /* steps 7c-7d */
+        // stack: [innerResult] -> [done]
+        mv.mark(iteratorComplete);
+        mv.store(innerResult);
+        mv.loadExecutionContext();
+        mv.load(innerResult);
+        mv.invoke(Methods.AbstractOperations_IteratorComplete);
+        mv.ifne(done);
+
+        /* step 7f */
+        // stack: [] -> [Object(innerResult)]
+        // force stack top to Object-type
+        mv.load(innerResult);
+        mv.checkcast(Types.Object);
+        mv.newResumptionPoint();
+        mv.store(received);
+
+        /* step 7b (II) */
+        mv.load(received);
+        mv.instanceOf(Types.ScriptException);
+        mv.ifeq(iteratorNext);
+        {
             mv.load(received);
-            mv.invoke(Methods.AbstractOperations_IteratorNext);
-            mv.goTo(iteratorComplete);
+            mv.checkcast(Types.ScriptException);
 
-            /* step 7b (I) */
-            // stack: [] -> [innerResult]
-            mv.mark(iteratorThrow);
+            Label hasThrow = new Label();
             mv.loadExecutionContext();
             mv.load(iterator);
-            mv.load(received);
-            mv.invoke(Methods.AbstractOperations_IteratorThrow);
-
-            /* steps 7c-7d */
-            // stack: [innerResult] -> [done]
-            mv.mark(iteratorComplete);
-            mv.store(innerResult);
-            mv.loadExecutionContext();
-            mv.load(innerResult);
-            mv.invoke(Methods.AbstractOperations_IteratorComplete);
-            mv.ifne(done);
-
-            /* step 7f */
-            // stack: [] -> [Object(innerResult)]
-            // force stack top to Object-type
-            mv.load(innerResult);
-            mv.checkcast(Types.Object);
-            mv.newResumptionPoint();
-            mv.store(received);
-
-            /* step 7b (II) */
-            mv.load(received);
-            mv.instanceOf(Types.ScriptException);
-            mv.ifeq(iteratorNext);
+            mv.aconst("throw");
+            mv.invoke(Methods.AbstractOperations_HasProperty);
+            mv.ifeq(hasThrow);
             {
-                mv.load(received);
-                mv.checkcast(Types.ScriptException);
-
-                Label hasThrow = new Label();
-                mv.loadExecutionContext();
-                mv.load(iterator);
-                mv.aconst("throw");
-                mv.invoke(Methods.AbstractOperations_HasProperty);
-                mv.ifeq(hasThrow);
-                {
-                    mv.invoke(Methods.ScriptException_getValue);
-                    mv.store(received);
-                    mv.goTo(iteratorThrow);
-                }
-                mv.mark(hasThrow);
-                mv.athrow();
+                mv.invoke(Methods.ScriptException_getValue);
+                mv.store(received);
+                mv.goTo(iteratorThrow);
             }
+            mv.mark(hasThrow);
+            mv.athrow();
+        }
 
-            /* step 7e */
-            mv.mark(done);
-            mv.loadExecutionContext();
-            mv.load(innerResult);
-            mv.invoke(Methods.AbstractOperations_IteratorValue);
+        /* step 7e */
+        mv.mark(done);
+        mv.loadExecutionContext();
+        mv.load(innerResult);
+        mv.invoke(Methods.AbstractOperations_IteratorValue);
 
-            mv.exitVariableScope();
-        } else {
-            // call runtime
-            mv.loadExecutionContext();
-            mv.invoke(Methods.ScriptRuntime_delegatedYield);
-        }
+        mv.exitVariableScope();
     }
 
     /**
@@ -1176,31 +1163,26 @@ abstract class DefaultCodeGenerator<R, V extends ExpressionVisitor> extends
      * stack: [value] -> [value]
      */
     protected final void yield(Expression node, ExpressionVisitor mv) {
+        assert mv.isResumable();
         mv.lineInfo(node);
-        if (!mv.hasSyntheticMethods() && mv.hasStack()) {
-            mv.loadExecutionContext();
-            mv.swap();
-            mv.iconst(false);
-            mv.invoke(Methods.AbstractOperations_CreateIterResultObject);
+        mv.loadExecutionContext();
+        mv.swap();
+        mv.iconst(false);
+        mv.invoke(Methods.AbstractOperations_CreateIterResultObject);
 
-            // force stack top to Object-type
-            mv.checkcast(Types.Object);
-            mv.newResumptionPoint();
+        // force stack top to Object-type
+        mv.checkcast(Types.Object);
+        mv.newResumptionPoint();
 
-            // check for exception
-            Label isException = new Label();
-            mv.dup();
-            mv.instanceOf(Types.ScriptException);
-            mv.ifeq(isException);
-            {
-                mv.checkcast(Types.ScriptException);
-                mv.athrow();
-            }
-            mv.mark(isException);
-        } else {
-            // call runtime
-            mv.loadExecutionContext();
-            mv.invoke(Methods.ScriptRuntime_yield);
+        // check for exception
+        Label isException = new Label();
+        mv.dup();
+        mv.instanceOf(Types.ScriptException);
+        mv.ifeq(isException);
+        {
+            mv.checkcast(Types.ScriptException);
+            mv.athrow();
         }
+        mv.mark(isException);
     }
 }
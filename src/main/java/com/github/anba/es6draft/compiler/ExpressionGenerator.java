@@ -32,6 +32,7 @@ import com.github.anba.es6draft.compiler.InstructionVisitor.FieldDesc;
 import com.github.anba.es6draft.compiler.InstructionVisitor.FieldType;
 import com.github.anba.es6draft.compiler.InstructionVisitor.MethodDesc;
 import com.github.anba.es6draft.compiler.InstructionVisitor.MethodType;
+import com.github.anba.es6draft.compiler.InstructionVisitor.Variable;
 import com.github.anba.es6draft.runtime.internal.Bootstrap;
 import com.github.anba.es6draft.runtime.objects.Eval.EvalFlags;
 import com.github.anba.es6draft.runtime.types.builtins.ExoticArray;
@@ -50,6 +51,10 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
 
     private static final class Methods {
         // class: AbstractOperations
+        static final MethodDesc AbstractOperations_CheckObjectCoercible = MethodDesc.create(
+                MethodType.Static, Types.AbstractOperations, "CheckObjectCoercible", Type
+                        .getMethodType(Types.Object, Types.ExecutionContext, Types.Object));
+
         static final MethodDesc AbstractOperations_Put = MethodDesc.create(MethodType.Static,
                 Types.AbstractOperations, "Put", Type.getMethodType(Type.VOID_TYPE,
                         Types.ExecutionContext, Types.ScriptObject, Types.String, Types.Object,
@@ -113,11 +118,6 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
                 Types.Reference, "putValue",
                 Type.getMethodType(Type.VOID_TYPE, Types.Object, Types.ExecutionContext));
 
-        // class: RegExpConstructor
-        static final MethodDesc RegExpConstructor_RegExpCreate = MethodDesc.create(
-                MethodType.Static, Types.RegExpConstructor, "RegExpCreate", Type.getMethodType(
-                        Types.RegExpObject, Types.ExecutionContext, Types.Object, Types.Object));
-
         // class: ScriptRuntime
         static final MethodDesc ScriptRuntime_add_str = MethodDesc.create(MethodType.Static,
                 Types.ScriptRuntime, "add", Type.getMethodType(Types.CharSequence,
@@ -220,6 +220,20 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
                         Types.Object, Types.Object, Types.Object, Types.ExecutionContext,
                         Type.BOOLEAN_TYPE));
 
+        static final MethodDesc ScriptRuntime_getElementValue_Number = MethodDesc.create(
+                MethodType.Static, Types.ScriptRuntime, "getElementValue", Type.getMethodType(
+                        Types.Object, Types.Object, Type.DOUBLE_TYPE, Types.ExecutionContext,
+                        Type.BOOLEAN_TYPE));
+
+        static final MethodDesc ScriptRuntime_checkElementKey = MethodDesc.create(
+                MethodType.Static, Types.ScriptRuntime, "checkElementKey", Type.getMethodType(
+                        Types.Object, Types.Object, Types.Object, Types.ExecutionContext));
+
+        static final MethodDesc ScriptRuntime_setElementValue = MethodDesc.create(
+                MethodType.Static, Types.ScriptRuntime, "setElementValue", Type.getMethodType(
+                        Type.VOID_TYPE, Types.Object, Types.Object, Types.Object,
+                        Types.ExecutionContext, Type.BOOLEAN_TYPE));
+
         static final MethodDesc ScriptRuntime_getProperty = MethodDesc.create(MethodType.Static,
                 Types.ScriptRuntime, "getProperty", Type.getMethodType(Types.Reference,
                         Types.Object, Types.String, Types.ExecutionContext, Type.BOOLEAN_TYPE));
@@ -283,6 +297,33 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
                 Bootstrap.getCallBootstrap(), EMPTY_BSM_ARGS);
     }
 
+    /**
+     * stack: [func(Callable), cx, thisValue, arg1...argN] -> [result]
+     */
+    private void invokeDynamicCall(int argumentCount, ExpressionVisitor mv) {
+        mv.invokedynamic(Bootstrap.getCallName(),
+                Bootstrap.getCallMethodDescriptor(argumentCount), Bootstrap.getCallBootstrap(),
+                EMPTY_BSM_ARGS);
+    }
+
+    /**
+     * stack: [base, cx] -> [value]
+     */
+    private void invokeDynamicGetProperty(String name, ExpressionVisitor mv) {
+        mv.invokedynamic(Bootstrap.getPropertyGetName(),
+                Bootstrap.getPropertyGetMethodDescriptor(), Bootstrap.getPropertyBootstrap(),
+                new Object[] { name, mv.isStrict() ? 1 : 0 });
+    }
+
+    /**
+     * stack: [base, value, cx] -> []
+     */
+    private void invokeDynamicSetProperty(String name, ExpressionVisitor mv) {
+        mv.invokedynamic(Bootstrap.getPropertySetName(),
+                Bootstrap.getPropertySetMethodDescriptor(), Bootstrap.getPropertyBootstrap(),
+                new Object[] { name, mv.isStrict() ? 1 : 0 });
+    }
+
     private void invokeDynamicOperator(BinaryExpression.Operator operator, ExpressionVisitor mv) {
         mv.invokedynamic(Bootstrap.getName(operator), Bootstrap.getMethodDescriptor(operator),
                 Bootstrap.getBootstrap(operator), EMPTY_BSM_ARGS);
@@ -408,9 +449,12 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
 
         /* steps 3-4 */
         // stack: [ref, func] -> [args, ref, func]
-        ArgumentListEvaluation(arguments, mv);
-        mv.dupX2();
-        mv.pop();
+        List<Variable<Object>> fixedArguments = FixedArgumentListEvaluation(call, arguments, mv);
+        if (fixedArguments == null) {
+            ArgumentListEvaluation(arguments, mv);
+            mv.dupX2();
+            mv.pop();
+        }
 
         // stack: [args, ref, func]
         mv.lineInfo(call);
@@ -429,7 +473,45 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
 
         /* steps 9-13 */
         // stack: [args, thisValue, func(Callable)] -> result
-        standardCall(call, mv);
+        standardCall(call, fixedArguments, mv);
+    }
+
+    /**
+     * [12.2.4.2 Runtime Semantics: EvaluateCall]
+     */
+    private void EvaluateCallPropAccessor(Expression call, PropertyAccessor base,
+            List<Expression> arguments, ExpressionVisitor mv) {
+        // `obj.method(...)`, the property reference is not materialized
+
+        // stack: [] -> [thisValue, thisValue]
+        evalAndGetBoxedValue(base.getBase(), mv);
+        mv.dup();
+
+        /* steps 1-2 */
+        // stack: [thisValue, thisValue] -> [thisValue, func]
+        mv.loadExecutionContext();
+        invokeDynamicGetProperty(base.getName(), mv);
+
+        /* steps 3-4 */
+        // stack: [thisValue, func] -> [args, thisValue, func]
+        List<Variable<Object>> fixedArguments = FixedArgumentListEvaluation(call, arguments, mv);
+        if (fixedArguments == null) {
+            ArgumentListEvaluation(arguments, mv);
+            mv.dupX2();
+            mv.pop();
+        }
+
+        // stack: [args, thisValue, func]
+        mv.lineInfo(call);
+
+        /* steps 5-6 */
+        // stack: [args, thisValue, func] -> [args, thisValue, func(Callable)]
+        mv.loadExecutionContext();
+        mv.invoke(Methods.ScriptRuntime_CheckCallable);
+
+        /* steps 9-13 */
+        // stack: [args, thisValue, func(Callable)] -> result
+        standardCall(call, fixedArguments, mv);
     }
 
     /**
@@ -444,8 +526,11 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
 
         /* steps 3-4 */
         // stack: [func] -> [args, func]
-        ArgumentListEvaluation(arguments, mv);
-        mv.swap();
+        List<Variable<Object>> fixedArguments = FixedArgumentListEvaluation(call, arguments, mv);
+        if (fixedArguments == null) {
+            ArgumentListEvaluation(arguments, mv);
+            mv.swap();
+        }
 
         // stack: [args, func]
         mv.lineInfo(call);
@@ -462,7 +547,7 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
 
         /* steps 9-13 */
         // stack: [args, thisValue, func(Callable)] -> result
-        standardCall(call, mv);
+        standardCall(call, fixedArguments, mv);
     }
 
     /**
@@ -480,8 +565,15 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
 
         /* steps 3-4 */
         // stack: [func] -> [args, func]
-        boolean hasSpread = ArgumentListEvaluation(arguments, mv);
-        mv.swap();
+        boolean hasSpread = false;
+        List<Variable<Object>> fixedArguments = null;
+        if (!directEval) {
+            fixedArguments = FixedArgumentListEvaluation(call, arguments, mv);
+        }
+        if (fixedArguments == null) {
+            hasSpread = ArgumentListEvaluation(arguments, mv);
+            mv.swap();
+        }
 
         // stack: [args, func]
         mv.lineInfo(call);
@@ -502,7 +594,7 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
 
         /* steps 9-13 */
         // stack: [args, thisValue, func(Callable)] -> result
-        standardCall(call, mv);
+        standardCall(call, fixedArguments, mv);
 
         mv.mark(afterCall);
     }
@@ -525,9 +617,16 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
 
         /* steps 3-4 */
         // stack: [ref, func] -> [args, ref, func]
-        boolean hasSpread = ArgumentListEvaluation(arguments, mv);
-        mv.dupX2();
-        mv.pop();
+        boolean hasSpread = false;
+        List<Variable<Object>> fixedArguments = null;
+        if (!directEval) {
+            fixedArguments = FixedArgumentListEvaluation(call, arguments, mv);
+        }
+        if (fixedArguments == null) {
+            hasSpread = ArgumentListEvaluation(arguments, mv);
+            mv.dupX2();
+            mv.pop();
+        }
 
         // stack: [args, ref, func]
         mv.lineInfo(call);
@@ -560,7 +659,7 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
 
         /* steps 9-13 */
         // stack: [args, thisValue, func(Callable)] -> result
-        standardCall(call, mv);
+        standardCall(call, fixedArguments, mv);
 
         mv.mark(afterCall);
     }
@@ -624,7 +723,24 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
     /**
      * [12.2.3 EvaluateCall Abstract Operation]
      */
-    private void standardCall(Expression call, ExpressionVisitor mv) {
+    private void standardCall(Expression call, List<Variable<Object>> fixedArguments,
+            ExpressionVisitor mv) {
+        if (fixedArguments != null) {
+            // stack: [thisValue, func(Callable)] -> [func(Callable), cx, thisValue, arg1...argN]
+            mv.swap();
+            mv.loadExecutionContext();
+            mv.swap();
+            for (Variable<Object> argument : fixedArguments) {
+                mv.load(argument);
+                mv.freeVariable(argument);
+            }
+
+            /* steps 11, 14 */
+            // stack: [func(Callable), cx, thisValue, arg1...argN] -> [result]
+            invokeDynamicCall(fixedArguments.size(), mv);
+            return;
+        }
+
         // stack: [args, thisValue, func(Callable)]
 
         /* steps 10, 12-13 */
@@ -645,6 +761,35 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
         invokeDynamicCall(mv);
     }
 
+    /**
+     * [12.2.5.1 ArgumentListEvaluation]
+     * <p>
+     * Evaluates the arguments of a call with at most {@link Bootstrap#MAX_FIXED_ARGUMENTS}
+     * arguments into local variables, so the arguments can be passed without allocating an
+     * arguments array. Returns {@code null} and does not evaluate the arguments if the call needs
+     * an arguments array: spread arguments, tail calls and calls in resumable code.
+     */
+    private List<Variable<Object>> FixedArgumentListEvaluation(Expression call,
+            List<Expression> arguments, ExpressionVisitor mv) {
+        if (arguments.size() > Bootstrap.MAX_FIXED_ARGUMENTS || mv.isTailCall(call)
+                || mv.isResumable()) {
+            return null;
+        }
+        for (Expression argument : arguments) {
+            if (argument instanceof CallSpreadElement) {
+                return null;
+            }
+        }
+        List<Variable<Object>> fixedArguments = new ArrayList<>(arguments.size());
+        for (Expression argument : arguments) {
+            evalAndGetBoxedValue(argument, mv);
+            Variable<Object> variable = mv.newScratchVariable(Object.class);
+            mv.store(variable);
+            fixedArguments.add(variable);
+        }
+        return fixedArguments;
+    }
+
     /**
      * [12.2.5.1 ArgumentListEvaluation]
      */
@@ -880,7 +1025,13 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
         mv.pop();
 
         // stack: [array, cx, array, nextIndex] -> [array, nextIndex']
-        mv.invoke(codegen.methodDesc(node));
+        if (mv.isResumable()) {
+            mv.invokeResumable(codegen.methodDesc(node));
+            mv.checkcast(Types.Integer);
+            mv.toUnboxed(Type.INT_TYPE);
+        } else {
+            mv.invoke(codegen.methodDesc(node));
+        }
 
         return ValType.Any;
     }
@@ -907,6 +1058,10 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
     public ValType visit(AssignmentExpression node, ExpressionVisitor mv) {
         LeftHandSideExpression left = node.getLeft();
         Expression right = node.getRight();
+        Variable<Double> local = numericLocal(left, mv);
+        if (local != null) {
+            return assignNumericLocal(node, local, mv);
+        }
         if (node.getOperator() == AssignmentExpression.Operator.ASSIGN) {
             if (left instanceof AssignmentPattern) {
                 ValType rtype = evalAndGetValue(right, mv);
@@ -921,6 +1076,42 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
                 DestructuringAssignment((AssignmentPattern) left, mv);
 
                 return ValType.Object;
+            } else if (left instanceof PropertyAccessor) {
+                PropertyAccessor accessor = (PropertyAccessor) left;
+                evalAndGetBoxedValue(accessor.getBase(), mv);
+                mv.loadExecutionContext();
+                mv.swap();
+                mv.invoke(Methods.AbstractOperations_CheckObjectCoercible);
+                ValType rtype = evalAndGetValue(right, mv);
+
+                // base rval
+                mv.dupX(ValType.Any, rtype);
+                mv.toBoxed(rtype);
+                mv.loadExecutionContext();
+                invokeDynamicSetProperty(accessor.getName(), mv);
+
+                return rtype;
+            } else if (left instanceof ElementAccessor) {
+                ElementAccessor accessor = (ElementAccessor) left;
+                evalAndGetBoxedValue(accessor.getBase(), mv);
+                mv.dup();
+                evalAndGetBoxedValue(accessor.getElement(), mv);
+                mv.loadExecutionContext();
+                mv.invoke(Methods.ScriptRuntime_checkElementKey);
+                ValType rtype = evalAndGetValue(right, mv);
+
+                // base key rval
+                if (rtype.size() == 1) {
+                    mv.dupX2();
+                } else {
+                    mv.dup2X2();
+                }
+                mv.toBoxed(rtype);
+                mv.loadExecutionContext();
+                mv.iconst(mv.isStrict());
+                mv.invoke(Methods.ScriptRuntime_setElementValue);
+
+                return rtype;
             } else {
                 ValType ltype = left.accept(this, mv);
                 ValType rtype = evalAndGetValue(right, mv);
@@ -1226,6 +1417,165 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
         }
     }
 
+    private static Variable<Double> numericLocal(Expression node, ExpressionVisitor mv) {
+        if (node instanceof Identifier) {
+            return mv.getNumericLocal(((Identifier) node).getName());
+        }
+        return null;
+    }
+
+    /**
+     * Simple and compound assignment to an unboxed numeric local variable
+     * <p>
+     * stack: [] -> [double]
+     */
+    private ValType assignNumericLocal(AssignmentExpression node, Variable<Double> local,
+            ExpressionVisitor mv) {
+        Expression value;
+        if (node.getOperator() == AssignmentExpression.Operator.ASSIGN) {
+            value = node.getRight();
+        } else {
+            // `x op= y` is evaluated as `x = x op y`, the value of `x` has no side-effects
+            value = new BinaryExpression(binaryOperator(node.getOperator()), node.getLeft(),
+                    node.getRight());
+        }
+        ValType type = evalAndGetValue(value, mv);
+        ToNumber(type, mv);
+        mv.dup2();
+        mv.store(local);
+        return ValType.Number;
+    }
+
+    private static BinaryExpression.Operator binaryOperator(AssignmentExpression.Operator op) {
+        switch (op) {
+        case ASSIGN_ADD:
+            return BinaryExpression.Operator.ADD;
+        case ASSIGN_SUB:
+            return BinaryExpression.Operator.SUB;
+        case ASSIGN_MUL:
+            return BinaryExpression.Operator.MUL;
+        case ASSIGN_DIV:
+            return BinaryExpression.Operator.DIV;
+        case ASSIGN_MOD:
+            return BinaryExpression.Operator.MOD;
+        case ASSIGN_SHL:
+            return BinaryExpression.Operator.SHL;
+        case ASSIGN_SHR:
+            return BinaryExpression.Operator.SHR;
+        case ASSIGN_USHR:
+            return BinaryExpression.Operator.USHR;
+        case ASSIGN_BITAND:
+            return BinaryExpression.Operator.BITAND;
+        case ASSIGN_BITOR:
+            return BinaryExpression.Operator.BITOR;
+        case ASSIGN_BITXOR:
+            return BinaryExpression.Operator.BITXOR;
+        case ASSIGN:
+        default:
+            throw new IllegalStateException(Objects.toString(op, "<null>"));
+        }
+    }
+
+    /**
+     * Evaluates the operands of a relational operator. If at least one operand is a number, the
+     * abstract relational comparison never compares strings, so the other operand is converted
+     * with ToNumber after both operands were evaluated, the unboxed values are left on the stack
+     * and {@code true} is returned. Otherwise both boxed values are left on the stack and
+     * {@code false} is returned.
+     * <p>
+     * stack: [] -> [double, double] or [Object, Object]
+     */
+    private boolean evalRelationalOperands(Expression left, Expression right,
+            ExpressionVisitor mv) {
+        ValType ltype = evalAndGetValue(left, mv);
+        if (ltype.isNumeric()) {
+            ToNumber(ltype, mv);
+            ValType rtype = evalAndGetValue(right, mv);
+            ToNumber(rtype, mv);
+            return true;
+        }
+        mv.toBoxed(ltype);
+        ValType rtype = evalAndGetValue(right, mv);
+        if (!rtype.isNumeric()) {
+            mv.toBoxed(rtype);
+            return false;
+        }
+        ToNumber(rtype, mv);
+        mv.swap(ValType.Any, ValType.Number);
+        ToNumber(ValType.Any, mv);
+        mv.swap(ValType.Number, ValType.Number);
+        return true;
+    }
+
+    /**
+     * Evaluates the operands of an equality operator. If both operands are numbers, their unboxed
+     * values are left on the stack and {@code true} is returned, otherwise both boxed values are
+     * left on the stack and {@code false} is returned.
+     * <p>
+     * stack: [] -> [double, double] or [Object, Object]
+     */
+    private boolean evalEqualityOperands(Expression left, Expression right, ExpressionVisitor mv) {
+        ValType ltype = evalAndGetValue(left, mv);
+        if (!ltype.isNumeric()) {
+            mv.toBoxed(ltype);
+            evalAndGetBoxedValue(right, mv);
+            return false;
+        }
+        ToNumber(ltype, mv);
+        ValType rtype = evalAndGetValue(right, mv);
+        if (rtype.isNumeric()) {
+            ToNumber(rtype, mv);
+            return true;
+        }
+        mv.toBoxed(rtype);
+        mv.swap(ValType.Number, ValType.Any);
+        mv.toBoxed(ValType.Number);
+        mv.swap();
+        return false;
+    }
+
+    /**
+     * stack: [double, double] -> [boolean]
+     */
+    private void numericComparison(BinaryExpression.Operator op, ExpressionVisitor mv) {
+        Label lblTrue = new Label(), lblEnd = new Label();
+        switch (op) {
+        case LT:
+            mv.cmpg(Type.DOUBLE_TYPE);
+            mv.iflt(lblTrue);
+            break;
+        case GT:
+            mv.cmpl(Type.DOUBLE_TYPE);
+            mv.ifgt(lblTrue);
+            break;
+        case LE:
+            mv.cmpg(Type.DOUBLE_TYPE);
+            mv.ifle(lblTrue);
+            break;
+        case GE:
+            mv.cmpl(Type.DOUBLE_TYPE);
+            mv.ifge(lblTrue);
+            break;
+        case EQ:
+        case SHEQ:
+            mv.cmpl(Type.DOUBLE_TYPE);
+            mv.ifeq(lblTrue);
+            break;
+        case NE:
+        case SHNE:
+            mv.cmpl(Type.DOUBLE_TYPE);
+            mv.ifne(lblTrue);
+            break;
+        default:
+            throw new IllegalStateException(Objects.toString(op, "<null>"));
+        }
+        mv.iconst(false);
+        mv.goTo(lblEnd);
+        mv.mark(lblTrue);
+        mv.iconst(true);
+        mv.mark(lblEnd);
+    }
+
     /**
      * 12.5.2 Runtime Semantics: Evaluation<br>
      * 12.6.2.1 Runtime Semantics: Evaluation<br>
@@ -1336,6 +1686,24 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
                 mv.add(Type.DOUBLE_TYPE);
                 return ValType.Number;
             }
+            if (ltype.isNumeric()) {
+                ToNumber(ltype, mv);
+                ValType rtype = evalAndGetValue(right, mv);
+                if (rtype.isNumeric()) {
+                    ToNumber(rtype, mv);
+                    mv.add(Type.DOUBLE_TYPE);
+                    return ValType.Number;
+                }
+                mv.toBoxed(rtype);
+                mv.swap(ValType.Number, ValType.Any);
+                mv.toBoxed(ValType.Number);
+                mv.swap();
+
+                mv.loadExecutionContext();
+                invokeDynamicOperator(node.getOperator(), mv);
+
+                return ValType.Any;
+            }
             mv.toBoxed(ltype);
             ValType rtype = evalAndGetValue(right, mv);
             mv.toBoxed(rtype);
@@ -1417,8 +1785,10 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
         }
         case LT: {
             // 12.8 Relational Operators ( < )
-            evalAndGetBoxedValue(left, mv);
-            evalAndGetBoxedValue(right, mv);
+            if (evalRelationalOperands(left, right, mv)) {
+                numericComparison(node.getOperator(), mv);
+                return ValType.Boolean;
+            }
 
             mv.loadExecutionContext();
             invokeDynamicOperator(node.getOperator(), mv);
@@ -1436,8 +1806,10 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
         }
         case GT: {
             // 12.8 Relational Operators ( > )
-            evalAndGetBoxedValue(left, mv);
-            evalAndGetBoxedValue(right, mv);
+            if (evalRelationalOperands(left, right, mv)) {
+                numericComparison(node.getOperator(), mv);
+                return ValType.Boolean;
+            }
             mv.swap();
 
             mv.loadExecutionContext();
@@ -1456,8 +1828,10 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
         }
         case LE: {
             // 12.8 Relational Operators ( <= )
-            evalAndGetBoxedValue(left, mv);
-            evalAndGetBoxedValue(right, mv);
+            if (evalRelationalOperands(left, right, mv)) {
+                numericComparison(node.getOperator(), mv);
+                return ValType.Boolean;
+            }
             mv.swap();
 
             mv.loadExecutionContext();
@@ -1476,8 +1850,10 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
         }
         case GE: {
             // 12.8 Relational Operators ( >= )
-            evalAndGetBoxedValue(left, mv);
-            evalAndGetBoxedValue(right, mv);
+            if (evalRelationalOperands(left, right, mv)) {
+                numericComparison(node.getOperator(), mv);
+                return ValType.Boolean;
+            }
 
             mv.loadExecutionContext();
             invokeDynamicOperator(node.getOperator(), mv);
@@ -1513,8 +1889,10 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
         }
         case EQ: {
             // 12.9 Equality Operators ( == )
-            evalAndGetBoxedValue(left, mv);
-            evalAndGetBoxedValue(right, mv);
+            if (evalEqualityOperands(left, right, mv)) {
+                numericComparison(node.getOperator(), mv);
+                return ValType.Boolean;
+            }
 
             mv.loadExecutionContext();
             invokeDynamicOperator(node.getOperator(), mv);
@@ -1523,8 +1901,10 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
         }
         case NE: {
             // 12.9 Equality Operators ( != )
-            evalAndGetBoxedValue(left, mv);
-            evalAndGetBoxedValue(right, mv);
+            if (evalEqualityOperands(left, right, mv)) {
+                numericComparison(node.getOperator(), mv);
+                return ValType.Boolean;
+            }
 
             mv.loadExecutionContext();
             invokeDynamicOperator(node.getOperator(), mv);
@@ -1534,8 +1914,10 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
         }
         case SHEQ: {
             // 12.9 Equality Operators ( === )
-            evalAndGetBoxedValue(left, mv);
-            evalAndGetBoxedValue(right, mv);
+            if (evalEqualityOperands(left, right, mv)) {
+                numericComparison(node.getOperator(), mv);
+                return ValType.Boolean;
+            }
 
             invokeDynamicOperator(node.getOperator(), mv);
 
@@ -1543,8 +1925,10 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
         }
         case SHNE: {
             // 12.9 Equality Operators ( !== )
-            evalAndGetBoxedValue(left, mv);
-            evalAndGetBoxedValue(right, mv);
+            if (evalEqualityOperands(left, right, mv)) {
+                numericComparison(node.getOperator(), mv);
+                return ValType.Boolean;
+            }
 
             invokeDynamicOperator(node.getOperator(), mv);
 
@@ -1639,6 +2023,11 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
      */
     @Override
     public ValType visit(CallExpression node, ExpressionVisitor mv) {
+        if (node.getBase() instanceof PropertyAccessor) {
+            EvaluateCallPropAccessor(node, (PropertyAccessor) node.getBase(),
+                    node.getArguments(), mv);
+            return ValType.Any;
+        }
         ValType type = node.getBase().accept(this, mv);
         mv.toBoxed(type);
 
@@ -1741,7 +2130,12 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
     public ValType visit(ElementAccessorValue node, ExpressionVisitor mv) {
         evalAndGetBoxedValue(node.getBase(), mv);
         ValType elementType = evalAndGetValue(node.getElement(), mv);
-        if (elementType.isPrimitive()) {
+        if (elementType.isNumeric()) {
+            ToNumber(elementType, mv);
+            mv.loadExecutionContext();
+            mv.iconst(mv.isStrict());
+            mv.invoke(Methods.ScriptRuntime_getElementValue_Number);
+        } else if (elementType.isPrimitive()) {
             ToFlatString(elementType, mv);
             mv.loadExecutionContext();
             mv.iconst(mv.isStrict());
@@ -1760,7 +2154,11 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
         codegen.compile(node, mv);
 
         mv.loadExecutionContext();
-        mv.invoke(codegen.methodDesc(node));
+        if (mv.isResumable()) {
+            mv.invokeResumable(codegen.methodDesc(node));
+        } else {
+            mv.invoke(codegen.methodDesc(node));
+        }
 
         return ValType.Any;
     }
@@ -1833,6 +2231,8 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
      */
     @Override
     public ValType visit(Identifier node, ExpressionVisitor mv) {
+        assert mv.getNumericLocal(node.getName()) == null : "numeric local as reference";
+        assert mv.getParameterLocal(node.getName()) == null : "parameter local as reference";
         return identifierResolution.resolve(node, mv);
     }
 
@@ -1841,6 +2241,16 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
      */
     @Override
     public ValType visit(IdentifierValue node, ExpressionVisitor mv) {
+        Variable<Double> local = mv.getNumericLocal(node.getName());
+        if (local != null) {
+            mv.load(local);
+            return ValType.Number;
+        }
+        Variable<Object> parameter = mv.getParameterLocal(node.getName());
+        if (parameter != null) {
+            mv.load(parameter);
+            return ValType.Any;
+        }
         return identifierResolution.resolveValue(node, mv);
     }
 
@@ -1974,10 +2384,8 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
     @Override
     public ValType visit(PropertyAccessorValue node, ExpressionVisitor mv) {
         evalAndGetBoxedValue(node.getBase(), mv);
-        mv.aconst(node.getName());
         mv.loadExecutionContext();
-        mv.iconst(mv.isStrict());
-        mv.invoke(Methods.ScriptRuntime_getPropertyValue);
+        invokeDynamicGetProperty(node.getName(), mv);
 
         return ValType.Any;
     }
@@ -1988,9 +2396,9 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
     @Override
     public ValType visit(RegularExpressionLiteral node, ExpressionVisitor mv) {
         mv.loadExecutionContext();
-        mv.aconst(node.getRegexp());
-        mv.aconst(node.getFlags());
-        mv.invoke(Methods.RegExpConstructor_RegExpCreate);
+        mv.invokedynamic(Bootstrap.getRegExpLiteralName(),
+                Bootstrap.getRegExpLiteralMethodDescriptor(), Bootstrap.getRegExpBootstrap(),
+                new Object[] { node.getRegexp(), node.getFlags() });
 
         return ValType.Object;
     }
@@ -2196,6 +2604,15 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
         case POST_INC: {
             // 12.3.3 Postfix Increment Operator
             Expression expr = node.getOperand();
+            Variable<Double> local = numericLocal(expr, mv);
+            if (local != null) {
+                mv.load(local);
+                mv.dup2();
+                mv.dconst(1d);
+                mv.add(Type.DOUBLE_TYPE);
+                mv.store(local);
+                return ValType.Number;
+            }
             ValType type = expr.accept(this, mv);
             mv.dup();
             GetValue(expr, type, mv);
@@ -2210,6 +2627,15 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
         case POST_DEC: {
             // 12.3.4 Postfix Decrement Operator
             Expression expr = node.getOperand();
+            Variable<Double> local = numericLocal(expr, mv);
+            if (local != null) {
+                mv.load(local);
+                mv.dup2();
+                mv.dconst(1d);
+                mv.sub(Type.DOUBLE_TYPE);
+                mv.store(local);
+                return ValType.Number;
+            }
             ValType type = expr.accept(this, mv);
             mv.dup();
             GetValue(expr, type, mv);
@@ -2259,6 +2685,15 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
         case PRE_INC: {
             // 12.4.6 Prefix Increment Operator
             Expression expr = node.getOperand();
+            Variable<Double> local = numericLocal(expr, mv);
+            if (local != null) {
+                mv.load(local);
+                mv.dconst(1d);
+                mv.add(Type.DOUBLE_TYPE);
+                mv.dup2();
+                mv.store(local);
+                return ValType.Number;
+            }
             ValType type = expr.accept(this, mv);
             mv.dup();
             GetValue(expr, type, mv);
@@ -2273,6 +2708,15 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType, Expression
         case PRE_DEC: {
             // 12.4.7 Prefix Decrement Operator
             Expression expr = node.getOperand();
+            Variable<Double> local = numericLocal(expr, mv);
+            if (local != null) {
+                mv.load(local);
+                mv.dconst(1d);
+                mv.sub(Type.DOUBLE_TYPE);
+                mv.dup2();
+                mv.store(local);
+                return ValType.Number;
+            }
             ValType type = expr.accept(this, mv);
             mv.dup();
             GetValue(expr, type, mv);
@@ -7,12 +7,15 @@
 package com.github.anba.es6draft.compiler;
 
 import static com.github.anba.es6draft.semantics.StaticSemantics.TailCallNodes;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.objectweb.asm.Label;
@@ -58,26 +61,30 @@ abstract class ExpressionVisitor extends InstructionVisitor {
 
     private final boolean strict;
     private final boolean globalCode;
-    private final boolean syntheticMethods;
+    private final boolean resumable;
     private Variable<ExecutionContext> executionContext;
     private Scope scope;
+    // unboxed numeric local variables
+    private Map<String, Variable<Double>> numericLocals = emptyMap();
+    // formal parameters passed as method parameters
+    private Map<String, Variable<Object>> parameterLocals = emptyMap();
     // tail-call support
     private boolean hasTailCalls = false;
     private Set<Expression> tailCallNodes = emptySet();
 
     protected ExpressionVisitor(MethodCode method, ExpressionVisitor parent) {
-        super(method);
+        super(method, parent.isResumable());
         this.strict = parent.isStrict();
         this.globalCode = parent.isGlobalCode();
-        this.syntheticMethods = true;
+        this.resumable = parent.isResumable();
     }
 
-    protected ExpressionVisitor(MethodCode method, boolean recordStack, boolean strict,
-            boolean globalCode, boolean syntheticMethods) {
-        super(method, recordStack);
+    protected ExpressionVisitor(MethodCode method, boolean resumable, boolean strict,
+            boolean globalCode) {
+        super(method, resumable);
         this.strict = strict;
         this.globalCode = globalCode;
-        this.syntheticMethods = syntheticMethods;
+        this.resumable = resumable;
     }
 
     @Override
@@ -123,8 +130,12 @@ abstract class ExpressionVisitor extends InstructionVisitor {
         return globalCode;
     }
 
-    boolean hasSyntheticMethods() {
-        return syntheticMethods;
+    /**
+     * Returns {@code true} if the method can be suspended and resumed through
+     * {@link ResumptionPoint} objects, i.e. the method is part of a generator body
+     */
+    boolean isResumable() {
+        return resumable;
     }
 
     Scope getScope() {
@@ -135,6 +146,44 @@ abstract class ExpressionVisitor extends InstructionVisitor {
         this.scope = scope;
     }
 
+    /**
+     * Stores the variable {@code name} in the unboxed local variable {@code variable} instead of
+     * the environment record
+     */
+    void addNumericLocal(String name, Variable<Double> variable) {
+        if (numericLocals.isEmpty()) {
+            numericLocals = new HashMap<>();
+        }
+        numericLocals.put(name, variable);
+    }
+
+    /**
+     * Returns the unboxed local variable for {@code name} or {@code null} if the variable is
+     * stored in the environment record
+     */
+    Variable<Double> getNumericLocal(String name) {
+        return numericLocals.get(name);
+    }
+
+    /**
+     * Reads the formal parameter {@code name} from the method parameter {@code variable} instead
+     * of the environment record
+     */
+    void addParameterLocal(String name, Variable<Object> variable) {
+        if (parameterLocals.isEmpty()) {
+            parameterLocals = new HashMap<>();
+        }
+        parameterLocals.put(name, variable);
+    }
+
+    /**
+     * Returns the method parameter for the formal parameter {@code name} or {@code null} if the
+     * formal parameter is stored in the environment record
+     */
+    Variable<Object> getParameterLocal(String name) {
+        return parameterLocals.get(name);
+    }
+
     Scope enterScope(ScopedNode node) {
         assert node.getScope().getParent() == this.scope;
         return this.scope = node.getScope();
@@ -251,7 +300,7 @@ abstract class ExpressionVisitor extends InstructionVisitor {
      * Create a new resumption point at the current instruction offset
      */
     void newResumptionPoint() {
-        assert hasStack() && !hasSyntheticMethods();
+        assert hasStack() && isResumable();
         ExecutionState state = suspend();
         // manually restore stack type information
         restoreStack(state.stack);
@@ -259,6 +308,54 @@ abstract class ExpressionVisitor extends InstructionVisitor {
         mark(state.instruction);
     }
 
+    /**
+     * Invokes a resumable synthetic method. If the synthetic method was suspended, the current
+     * method is suspended as well and the nested resumption point is saved as the top stack entry.
+     * When execution is resumed, the nested resumption point is passed back to the synthetic method.
+     * <p>
+     * stack: [args] → [result]
+     */
+    void invokeResumable(MethodDesc method) {
+        assert hasStack() && isResumable();
+        Type[] argumentTypes = Type.getArgumentTypes(method.desc);
+        assert argumentTypes.length >= 2 && argumentTypes[0].equals(Types.ExecutionContext)
+                && argumentTypes[argumentTypes.length - 1].equals(Types.ResumptionPoint);
+        assert Type.getReturnType(method.desc).equals(Types.Object);
+        Label check = new Label(), done = new Label();
+
+        // stack: [args] -> [result]
+        aconst(null);
+        invoke(method);
+
+        mark(check);
+        dup();
+        instanceOf(Types.ResumptionPoint);
+        ifeq(done);
+        {
+            // stack: [rp] -> [rp]
+            newResumptionPoint();
+
+            // stack: [rp] -> [cx, <args>, rp]
+            loadExecutionContext();
+            swap();
+            for (int i = 1, last = argumentTypes.length - 1; i < last; ++i) {
+                // remaining arguments are restored from the nested resumption point
+                if (argumentTypes[i].getSort() == Type.INT) {
+                    iconst(0);
+                } else {
+                    aconst(null);
+                }
+                swap();
+            }
+            checkcast(Types.ResumptionPoint);
+
+            // stack: [cx, <args>, rp] -> [result]
+            invoke(method);
+            goTo(check);
+        }
+        mark(done);
+    }
+
     /**
      * Suspend: Saves the current stack and locals and emits a return instruction
      */
@@ -318,7 +415,7 @@ abstract class ExpressionVisitor extends InstructionVisitor {
      * Resume: Restores the locals and stack and jumps to the resumption point
      */
     private void resume(Variable<ResumptionPoint> resume, ExecutionState state) {
-        assert hasStack() && !hasSyntheticMethods();
+        assert hasStack() && isResumable();
         assert getStack().length == 0;
 
         // emit line info for debugging
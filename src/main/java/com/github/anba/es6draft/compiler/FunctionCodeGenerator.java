@@ -15,6 +15,8 @@ import com.github.anba.es6draft.ast.FunctionNode;
 import com.github.anba.es6draft.ast.GeneratorComprehension;
 import com.github.anba.es6draft.compiler.Code.MethodCode;
 import com.github.anba.es6draft.compiler.CodeGenerator.FunctionName;
+import com.github.anba.es6draft.compiler.InstructionVisitor.FieldDesc;
+import com.github.anba.es6draft.compiler.InstructionVisitor.FieldType;
 import com.github.anba.es6draft.compiler.InstructionVisitor.MethodDesc;
 import com.github.anba.es6draft.compiler.InstructionVisitor.MethodType;
 import com.github.anba.es6draft.compiler.InstructionVisitor.Variable;
@@ -35,6 +37,10 @@ final class FunctionCodeGenerator {
                         .getMethodType(Types.ExecutionContext, Types.ExecutionContext,
                                 Types.FunctionObject, Types.Object));
 
+        static final MethodDesc ExecutionContext_newScopeFreeExecutionContext = MethodDesc
+                .create(MethodType.Static, Types.ExecutionContext, "newScopeFreeExecutionContext",
+                        Type.getMethodType(Types.ExecutionContext, Types.FunctionObject));
+
         static final MethodDesc ExecutionContext_getCurrentFunction = MethodDesc.create(
                 MethodType.Virtual, Types.ExecutionContext, "getCurrentFunction",
                 Type.getMethodType(Types.FunctionObject));
@@ -67,6 +73,11 @@ final class FunctionCodeGenerator {
                                 Types.OrdinaryGenerator));
     }
 
+    private static final class Fields {
+        static final FieldDesc Undefined_UNDEFINED = FieldDesc.create(FieldType.Static,
+                Types.Undefined, "UNDEFINED", Types.Undefined);
+    }
+
     private static final int FUNCTION = 0;
     private static final int GENERATOR = 0;
     private static final int EXECUTION_CONTEXT = 1;
@@ -103,6 +114,26 @@ final class FunctionCodeGenerator {
         }
     }
 
+    private static final class FixedArityCodeMethodGenerator extends InstructionVisitor {
+        private final int arity;
+
+        FixedArityCodeMethodGenerator(MethodCode method, int arity) {
+            super(method);
+            this.arity = arity;
+        }
+
+        @Override
+        public void begin() {
+            super.begin();
+            setParameterName("function", FUNCTION, Types.OrdinaryFunction);
+            setParameterName("callerContext", EXECUTION_CONTEXT, Types.ExecutionContext);
+            setParameterName("thisValue", THIS_VALUE, Types.Object);
+            for (int i = 0; i < arity; ++i) {
+                setParameterName("arg" + i, ARGUMENTS + i, Types.Object);
+            }
+        }
+    }
+
     private final CodeGenerator codegen;
 
     FunctionCodeGenerator(CodeGenerator codegen) {
@@ -130,6 +161,8 @@ final class FunctionCodeGenerator {
 
             if (isLegacy(node)) {
                 generateLegacyFunction(node, mv);
+            } else if (codegen.isScopeFree(node)) {
+                generateScopeFreeFunction(node, mv);
             } else {
                 generateFunction(node, mv);
             }
@@ -138,6 +171,23 @@ final class FunctionCodeGenerator {
         }
     }
 
+    /**
+     * Generates the fixed-arity call method, which is only available for non-legacy, non-generator
+     * functions
+     */
+    void generateFixedArity(FunctionNode node) {
+        assert !node.isGenerator() && !isLegacy(node);
+        MethodCode method = codegen.newMethod(node, FunctionName.FixedArityCall);
+        int arity = CodeGenerator.fixedArity(node);
+        InstructionVisitor mv = new FixedArityCodeMethodGenerator(method, arity);
+        mv.lineInfo(node.getBeginLine());
+        mv.begin();
+
+        generateFixedArityFunction(node, arity, mv);
+
+        mv.end();
+    }
+
     /**
      * Generate bytecode for:
      * 
@@ -241,6 +291,94 @@ final class FunctionCodeGenerator {
         mv.areturn(Types.Object);
     }
 
+    /**
+     * Generate bytecode for:
+     * 
+     * <pre>
+     * calleeContext = newScopeFreeExecutionContext(function)
+     * return function_code(calleeContext, arguments[0], ..., arguments[N])
+     * </pre>
+     */
+    private void generateScopeFreeFunction(FunctionNode node, InstructionVisitor mv) {
+        Variable<OrdinaryFunction> function = mv.getParameter(FUNCTION, OrdinaryFunction.class);
+        Variable<Object[]> arguments = mv.getParameter(ARGUMENTS, Object[].class);
+
+        Variable<ExecutionContext> calleeContext = mv.newVariable("calleeContext",
+                ExecutionContext.class);
+
+        // (1) Create a new ExecutionContext
+        newScopeFreeExecutionContext(calleeContext, function, mv);
+
+        // (2) Perform EvaluateBody, formal parameters are passed to the function code
+        mv.load(calleeContext);
+        for (int i = 0, arity = CodeGenerator.fixedArity(node); i < arity; ++i) {
+            argumentOrUndefined(arguments, i, mv);
+        }
+        mv.invoke(codegen.methodDesc(node, FunctionName.Code));
+
+        // (3) Return result value
+        mv.areturn(Types.Object);
+    }
+
+    /**
+     * Generate bytecode for:
+     * 
+     * <pre>
+     * calleeContext = newFunctionExecutionContext(callerContext, function, thisValue)
+     * function_fixedinit(calleeContext, function, arg0, ..., argN)
+     * return function_code(calleeContext)
+     * </pre>
+     * 
+     * or for scope-free functions:
+     * 
+     * <pre>
+     * calleeContext = newScopeFreeExecutionContext(function)
+     * return function_code(calleeContext, arg0, ..., argN)
+     * </pre>
+     */
+    private void generateFixedArityFunction(FunctionNode node, int arity, InstructionVisitor mv) {
+        Variable<OrdinaryFunction> function = mv.getParameter(FUNCTION, OrdinaryFunction.class);
+        Variable<ExecutionContext> callerContext = mv.getParameter(EXECUTION_CONTEXT,
+                ExecutionContext.class);
+        Variable<Object> thisValue = mv.getParameter(THIS_VALUE, Object.class);
+
+        Variable<ExecutionContext> calleeContext = mv.newVariable("calleeContext",
+                ExecutionContext.class);
+
+        if (codegen.isScopeFree(node)) {
+            // (1) Create a new ExecutionContext
+            newScopeFreeExecutionContext(calleeContext, function, mv);
+
+            // (2) Perform EvaluateBody, formal parameters are passed to the function code
+            mv.load(calleeContext);
+            for (int i = 0; i < arity; ++i) {
+                mv.loadParameter(ARGUMENTS + i, Object.class);
+            }
+            mv.invoke(codegen.methodDesc(node, FunctionName.Code));
+
+            // (3) Return result value
+            mv.areturn(Types.Object);
+            return;
+        }
+
+        // (1) Create a new ExecutionContext
+        newFunctionExecutionContext(calleeContext, callerContext, function, thisValue, mv);
+
+        // (2) Perform FunctionDeclarationInstantiation
+        mv.load(calleeContext);
+        mv.load(function);
+        for (int i = 0; i < arity; ++i) {
+            mv.loadParameter(ARGUMENTS + i, Object.class);
+        }
+        mv.invoke(codegen.methodDesc(node, FunctionName.FixedArityInit));
+
+        // (3) Perform EvaluateBody
+        evaluateBody(node, calleeContext, mv);
+
+        // (4) Return result value
+        mv.areturn(Types.Object);
+    }
+
     /**
      * Generate bytecode for:
      * 
@@ -324,6 +462,38 @@ final class FunctionCodeGenerator {
         mv.store(calleeContext);
     }
 
+    /**
+     * <code>
+     * calleeContext = newScopeFreeExecutionContext(function)
+     * </code>
+     */
+    private void newScopeFreeExecutionContext(Variable<ExecutionContext> calleeContext,
+            Variable<? extends FunctionObject> function, InstructionVisitor mv) {
+        mv.load(function);
+        mv.invoke(Methods.ExecutionContext_newScopeFreeExecutionContext);
+        mv.store(calleeContext);
+    }
+
+    /**
+     * <code>
+     * index < arguments.length ? arguments[index] : undefined
+     * </code>
+     */
+    private void argumentOrUndefined(Variable<Object[]> arguments, int index,
+            InstructionVisitor mv) {
+        Label undef = new Label(), done = new Label();
+        mv.load(arguments);
+        mv.arraylength();
+        mv.iconst(index);
+        mv.ificmple(undef);
+        mv.load(arguments);
+        mv.aload(index, Types.Object);
+        mv.goTo(done);
+        mv.mark(undef);
+        mv.get(Fields.Undefined_UNDEFINED);
+        mv.mark(done);
+    }
+
     /**
      * <code>
      * function_init(calleeContext, function, arguments)
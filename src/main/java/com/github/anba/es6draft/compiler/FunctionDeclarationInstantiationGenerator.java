@@ -44,6 +44,11 @@ final class FunctionDeclarationInstantiationGenerator extends
         static final MethodDesc Arrays_asList = MethodDesc.create(MethodType.Static, Types.Arrays,
                 "asList", Type.getMethodType(Types.List, Types.Object_));
 
+        // class: DeclarativeEnvironmentRecord
+        static final MethodDesc DeclarativeEnvironmentRecord_reserveBindings = MethodDesc.create(
+                MethodType.Virtual, Types.DeclarativeEnvironmentRecord, "reserveBindings",
+                Type.getMethodType(Type.VOID_TYPE, Type.INT_TYPE));
+
         // class: ExecutionContext
         static final MethodDesc ExecutionContext_getVariableEnvironment = MethodDesc.create(
                 MethodType.Virtual, Types.ExecutionContext, "getVariableEnvironment",
@@ -60,11 +65,12 @@ final class FunctionDeclarationInstantiationGenerator extends
                 MethodType.Static, Types.ExoticArguments, "CreateStrictArgumentsObject",
                 Type.getMethodType(Types.ExoticArguments, Types.ExecutionContext, Types.Object_));
 
-        static final MethodDesc ExoticArguments_CreateLegacyArgumentsObject = MethodDesc.create(
-                MethodType.Static, Types.ExoticArguments, "CreateLegacyArgumentsObject", Type
-                        .getMethodType(Types.ExoticArguments, Types.ExecutionContext,
-                                Types.FunctionObject, Types.Object_, Types.String_,
-                                Types.LexicalEnvironment));
+        static final MethodDesc ExoticArguments_CreateLazyLegacyArgumentsObject = MethodDesc
+                .create(MethodType.Static, Types.ExoticArguments,
+                        "CreateLazyLegacyArgumentsObject", Type.getMethodType(
+                                Types.ExoticArguments$LazyLegacyArguments,
+                                Types.ExecutionContext, Types.FunctionObject, Types.Object_,
+                                Types.String_, Types.LexicalEnvironment));
 
         static final MethodDesc ExoticArguments_CreateLegacyArgumentsObjectFrom = MethodDesc
                 .create(MethodType.Static, Types.ExoticArguments, "CreateLegacyArgumentsObject",
@@ -76,6 +82,10 @@ final class FunctionDeclarationInstantiationGenerator extends
                 MethodType.Virtual, Types.FunctionObject, "setLegacyArguments",
                 Type.getMethodType(Type.VOID_TYPE, Types.ExoticArguments));
 
+        static final MethodDesc FunctionObject_setLegacyArguments_Lazy = MethodDesc.create(
+                MethodType.Virtual, Types.FunctionObject, "setLegacyArguments",
+                Type.getMethodType(Type.VOID_TYPE, Types.ExoticArguments$LazyLegacyArguments));
+
         // class: List
         static final MethodDesc List_iterator = MethodDesc.create(MethodType.Interface, Types.List,
                 "iterator", Type.getMethodType(Types.Iterator));
@@ -87,7 +97,7 @@ final class FunctionDeclarationInstantiationGenerator extends
 
     private static final class FunctionDeclInitMethodGenerator extends ExpressionVisitor {
         FunctionDeclInitMethodGenerator(MethodCode method, FunctionNode node) {
-            super(method, false, IsStrict(node), false, false);
+            super(method, false, IsStrict(node), false);
         }
 
         @Override
@@ -99,6 +109,25 @@ final class FunctionDeclarationInstantiationGenerator extends
         }
     }
 
+    private static final class FixedArityDeclInitMethodGenerator extends ExpressionVisitor {
+        private final int arity;
+
+        FixedArityDeclInitMethodGenerator(MethodCode method, FunctionNode node, int arity) {
+            super(method, false, IsStrict(node), false);
+            this.arity = arity;
+        }
+
+        @Override
+        public void begin() {
+            super.begin();
+            setParameterName("cx", EXECUTION_CONTEXT, Types.ExecutionContext);
+            setParameterName("function", FUNCTION, Types.FunctionObject);
+            for (int i = 0; i < arity; ++i) {
+                setParameterName("arg" + i, ARGUMENTS + i, Types.Object);
+            }
+        }
+    }
+
     FunctionDeclarationInstantiationGenerator(CodeGenerator codegen) {
         super(codegen);
     }
@@ -110,12 +139,29 @@ final class FunctionDeclarationInstantiationGenerator extends
         mv.lineInfo(function);
         mv.begin();
         mv.enterScope(function);
-        generate(function, mv);
+        generate(function, false, mv);
         mv.exitScope();
         mv.end();
     }
 
-    private void generate(FunctionNode function, ExpressionVisitor mv) {
+    /**
+     * Generates the initialisation method for the fixed-arity call method, the arguments are
+     * passed as separate parameters and directly assigned to the formal parameters
+     */
+    void generateFixedArity(FunctionNode function) {
+        MethodCode method = codegen.newMethod(function, FunctionName.FixedArityInit);
+        ExpressionVisitor mv = new FixedArityDeclInitMethodGenerator(method, function,
+                CodeGenerator.fixedArity(function));
+
+        mv.lineInfo(function);
+        mv.begin();
+        mv.enterScope(function);
+        generate(function, true, mv);
+        mv.exitScope();
+        mv.end();
+    }
+
+    private void generate(FunctionNode function, boolean fixedArity, ExpressionVisitor mv) {
         Variable<ExecutionContext> context = mv.getParameter(EXECUTION_CONTEXT,
                 ExecutionContext.class);
 
@@ -134,7 +180,7 @@ final class FunctionDeclarationInstantiationGenerator extends
 
         boolean hasParameters = !function.getParameters().getFormals().isEmpty();
         Variable<Iterator<?>> iterator = null;
-        if (hasParameters) {
+        if (hasParameters && !fixedArity) {
             iterator = uncheckedCast(mv.newVariable("iterator", Iterator.class));
             mv.loadParameter(ARGUMENTS, Object[].class);
             mv.invoke(Methods.Arrays_asList);
@@ -161,9 +207,13 @@ final class FunctionDeclarationInstantiationGenerator extends
         if (function instanceof ArrowFunction || function instanceof GeneratorComprehension) {
             // => [[ThisMode]] of func is lexical
             argumentsObjectNeeded = false;
+        } else if (!function.getScope().needsArguments()) {
+            // the arguments object is not observable, skip its allocation
+            argumentsObjectNeeded = false;
         } else {
             argumentsObjectNeeded = true;
         }
+        reserveBindings(envRec, bindingCount(function, parameterNames, argumentsObjectNeeded), mv);
         /* step 9 */
         for (StatementListItem item : reverse(varDeclarations)) {
             if (item instanceof FunctionDeclaration || item instanceof GeneratorDeclaration) {
@@ -244,9 +294,14 @@ final class FunctionDeclarationInstantiationGenerator extends
         }
         /* steps 18-20 */
         if (hasParameters) {
-            BindingInitialisation(function, iterator, mv);
+            if (fixedArity) {
+                BindingInitialisation(formals, mv);
+            } else {
+                BindingInitialisation(function, iterator, mv);
+            }
         }
         /* step 21 */
+        assert !fixedArity || !(argumentsObjectNeeded || legacy);
         if (argumentsObjectNeeded) {
             // stack: [] -> [ao]
             if (strict) {
@@ -271,12 +326,58 @@ final class FunctionDeclarationInstantiationGenerator extends
         mv.areturn();
     }
 
+    /**
+     * Returns the number of bindings created in steps 9-16
+     */
+    private static int bindingCount(FunctionNode function, List<String> parameterNames,
+            boolean argumentsObjectNeeded) {
+        Set<String> names = new HashSet<>(parameterNames);
+        for (StatementListItem item : VarScopedDeclarations(function)) {
+            if (item instanceof FunctionDeclaration || item instanceof GeneratorDeclaration) {
+                names.add(BoundName((Declaration) item));
+            }
+        }
+        if (argumentsObjectNeeded) {
+            names.add("arguments");
+        }
+        names.addAll(VarDeclaredNames(function));
+        int count = names.size();
+        for (Declaration d : LexicallyScopedDeclarations(function)) {
+            count += BoundNames(d).size();
+        }
+        return count;
+    }
+
+    /**
+     * Presizes the binding storage of the function environment record
+     */
+    private void reserveBindings(Variable<EnvironmentRecord> envRec, int count,
+            ExpressionVisitor mv) {
+        if (count > 0) {
+            // stack: [] -> []
+            mv.load(envRec);
+            mv.checkcast(Types.DeclarativeEnvironmentRecord);
+            mv.iconst(count);
+            mv.invoke(Methods.DeclarativeEnvironmentRecord_reserveBindings);
+        }
+    }
+
     private void BindingInitialisation(FunctionNode node, Variable<Iterator<?>> iterator,
             ExpressionVisitor mv) {
         // stack: [] -> []
         new BindingInitialisationGenerator(codegen).generate(node, iterator, mv);
     }
 
+    private void BindingInitialisation(FormalParameterList formals, ExpressionVisitor mv) {
+        BindingInitialisationGenerator generator = new BindingInitialisationGenerator(codegen);
+        int index = ARGUMENTS;
+        for (FormalParameter formal : formals) {
+            // stack: [] -> [value] -> []
+            mv.loadParameter(index++, Object.class);
+            generator.generate(((BindingElement) formal).getBinding(), mv);
+        }
+    }
+
     private void CreateMappedArgumentsObject(Variable<LexicalEnvironment> env,
             FormalParameterList formals, ExpressionVisitor mv) {
         mv.loadExecutionContext();
@@ -298,15 +399,15 @@ final class FunctionDeclarationInstantiationGenerator extends
         // function.setLegacyArguments(<legacy-arguments>)
         mv.loadParameter(FUNCTION, FunctionObject.class);
         {
-            // CreateLegacyArgumentsObject(cx, function, arguments, formals, scope)
+            // CreateLazyLegacyArgumentsObject(cx, function, arguments, formals, scope)
             mv.loadExecutionContext();
             mv.loadParameter(FUNCTION, FunctionObject.class);
             mv.loadParameter(ARGUMENTS, Object[].class);
             newStringArray(mv, mappedNames(formals));
             mv.load(env);
-            mv.invoke(Methods.ExoticArguments_CreateLegacyArgumentsObject);
+            mv.invoke(Methods.ExoticArguments_CreateLazyLegacyArgumentsObject);
         }
-        mv.invoke(Methods.FunctionObject_setLegacyArguments);
+        mv.invoke(Methods.FunctionObject_setLegacyArguments_Lazy);
     }
 
     private void CreateLegacyArguments(Variable<ExoticArguments> argumentsObj, ExpressionVisitor mv) {
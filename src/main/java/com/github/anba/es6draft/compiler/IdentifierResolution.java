@@ -9,13 +9,24 @@ package com.github.anba.es6draft.compiler;
 import org.objectweb.asm.Type;
 
 import com.github.anba.es6draft.ast.BindingIdentifier;
+import com.github.anba.es6draft.ast.BlockScope;
 import com.github.anba.es6draft.ast.Identifier;
+import com.github.anba.es6draft.ast.Scope;
+import com.github.anba.es6draft.ast.ScopedNode;
+import com.github.anba.es6draft.ast.Script;
+import com.github.anba.es6draft.ast.TopLevelScope;
 import com.github.anba.es6draft.compiler.DefaultCodeGenerator.ValType;
 import com.github.anba.es6draft.compiler.InstructionVisitor.MethodDesc;
 import com.github.anba.es6draft.compiler.InstructionVisitor.MethodType;
+import com.github.anba.es6draft.runtime.internal.Bootstrap;
 
 /**
  * 8.3.1 ResolveBinding(name)
+ * <p>
+ * Identifiers in statically scoped code, i.e. code which is neither eval code nor enclosed by
+ * dynamic scopes (non-strict direct eval, with-statements), are resolved through
+ * {@link Bootstrap#getBindingBootstrap()} call sites. These call sites cache the binding location
+ * (environment depth and binding index) after the first resolution.
  */
 final class IdentifierResolution {
     private static final class Methods {
@@ -46,19 +57,57 @@ final class IdentifierResolution {
 
     private ValType resolve(String identifierName, ExpressionVisitor mv) {
         mv.loadExecutionContext();
-        mv.aconst(identifierName);
-        mv.iconst(mv.isStrict());
-        mv.invoke(Methods.ExecutionContext_resolveBinding);
+        if (isStaticallyScoped(mv)) {
+            mv.invokedynamic(Bootstrap.getBindingReferenceName(),
+                    Bootstrap.getBindingReferenceMethodDescriptor(),
+                    Bootstrap.getBindingBootstrap(), new Object[] { identifierName,
+                            mv.isStrict() ? 1 : 0 });
+        } else {
+            mv.aconst(identifierName);
+            mv.iconst(mv.isStrict());
+            mv.invoke(Methods.ExecutionContext_resolveBinding);
+        }
 
         return ValType.Reference;
     }
 
     private ValType resolveValue(String identifierName, ExpressionVisitor mv) {
         mv.loadExecutionContext();
-        mv.aconst(identifierName);
-        mv.iconst(mv.isStrict());
-        mv.invoke(Methods.ExecutionContext_resolveBindingValue);
+        if (isStaticallyScoped(mv)) {
+            mv.invokedynamic(Bootstrap.getBindingValueName(),
+                    Bootstrap.getBindingValueMethodDescriptor(), Bootstrap.getBindingBootstrap(),
+                    new Object[] { identifierName, mv.isStrict() ? 1 : 0 });
+        } else {
+            mv.aconst(identifierName);
+            mv.iconst(mv.isStrict());
+            mv.invoke(Methods.ExecutionContext_resolveBindingValue);
+        }
 
         return ValType.Any;
     }
+
+    /**
+     * Returns {@code true} if no binding can be added to the lexical environments of the current
+     * scope after they were instantiated
+     */
+    private static boolean isStaticallyScoped(ExpressionVisitor mv) {
+        for (Scope scope = mv.getScope(); scope != null;) {
+            if (scope.isDynamic()) {
+                return false;
+            }
+            if (scope instanceof BlockScope) {
+                scope = scope.getParent();
+            } else if (scope instanceof TopLevelScope) {
+                ScopedNode node = scope.getNode();
+                if (node instanceof Script && ((Script) node).isEvalScript()) {
+                    return false;
+                }
+                scope = ((TopLevelScope) scope).getEnclosingScope();
+            } else {
+                assert false : "unknown scope class: " + scope.getClass().getName();
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -337,6 +337,10 @@ class InstructionVisitor extends InstructionAdapter {
         static FieldDesc create(FieldType type, Type owner, String name, Type desc) {
             return new FieldDesc(type, owner.getInternalName(), name, desc.getDescriptor());
         }
+
+        static FieldDesc create(FieldType type, String owner, String name, Type desc) {
+            return new FieldDesc(type, owner, name, desc.getDescriptor());
+        }
     }
 
     private static final class Methods {
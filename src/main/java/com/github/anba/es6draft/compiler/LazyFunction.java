@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.compiler;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.EnumSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import com.github.anba.es6draft.ast.FunctionDefinition;
+import com.github.anba.es6draft.ast.FunctionNode;
+import com.github.anba.es6draft.runtime.ExecutionContext;
+import com.github.anba.es6draft.runtime.internal.CompatibilityOption;
+import com.github.anba.es6draft.runtime.internal.RuntimeInfo;
+import com.github.anba.es6draft.runtime.internal.RuntimeInfo.FunctionFlags;
+import com.github.anba.es6draft.runtime.types.builtins.OrdinaryFunction;
+
+/**
+ * Function code which is compiled on its first call.
+ * <p>
+ * Function declarations and expressions with a body of at least
+ * {@code es6draft.compiler.lazyFunctionLength} characters (default: 256, a negative value
+ * disables lazy compilation) are not compiled together with their enclosing script or function.
+ * Instead the enclosing code only references a {@link LazyFunction} object, which retains the
+ * function node and compiles it into a separate class when any function object created from it is
+ * called for the first time. The function object then switches over to the compiled code, so
+ * invokedynamic call sites relink to the compiled call method.
+ * <p>
+ * This is not a tiered execution mode: function bodies cannot be interpreted, so the first call
+ * compiles the function synchronously in the calling thread, there are no invocation or loop
+ * counters and no background compilation. Until that first call the function node, and through
+ * its scope chain the enclosing code, remains reachable from the {@code lazyFunctions} field of
+ * the enclosing class, that means the node of a function which is never called is retained as long
+ * as its enclosing script. After compilation only the compiled code is retained.
+ */
+final class LazyFunction implements RuntimeInfo.Function {
+    private static final int LAZY_FUNCTION_LENGTH = Integer.getInteger(
+            "es6draft.compiler.lazyFunctionLength", 256);
+
+    private static final MethodHandle callMH;
+    static {
+        try {
+            callMH = MethodHandles.lookup().findVirtual(
+                    LazyFunction.class,
+                    "call",
+                    MethodType.methodType(Object.class, OrdinaryFunction.class,
+                            ExecutionContext.class, Object.class, Object[].class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Compiler compiler;
+    private final String className;
+    private final String sourceFile;
+    private EnumSet<CompatibilityOption> options;
+    private final String functionName;
+    private final int functionFlags;
+    private final int expectedArgumentCount;
+    private final Future<String> source;
+    private final MethodHandle callMethod;
+    private FunctionNode node;
+    private volatile RuntimeInfo.Function compiled;
+
+    LazyFunction(Compiler compiler, String className, String sourceFile,
+            EnumSet<CompatibilityOption> options, FunctionNode node, int functionFlags,
+            int expectedArgumentCount, Future<String> source) {
+        this.compiler = compiler;
+        this.className = className;
+        this.sourceFile = sourceFile;
+        this.options = options;
+        this.node = node;
+        this.functionName = node.getFunctionName();
+        this.functionFlags = functionFlags;
+        this.expectedArgumentCount = expectedArgumentCount;
+        this.source = source;
+        this.callMethod = callMH.bindTo(this);
+    }
+
+    /**
+     * Returns {@code true} if {@code node} is compiled lazily
+     */
+    static boolean isLazy(FunctionNode node) {
+        return LAZY_FUNCTION_LENGTH >= 0 && node instanceof FunctionDefinition
+                && node.getBodySource().length() >= LAZY_FUNCTION_LENGTH;
+    }
+
+    /**
+     * Returns the compiled function code, compiles the function node if necessary. The function
+     * node and the compiler are released after compilation.
+     */
+    RuntimeInfo.Function getCompiledFunction() {
+        RuntimeInfo.Function function = compiled;
+        if (function == null) {
+            synchronized (this) {
+                function = compiled;
+                if (function == null) {
+                    function = compiler.compileLazy(node, className, sourceFile, options);
+                    compiled = function;
+                    node = null;
+                    compiler = null;
+                    options = null;
+                }
+            }
+        }
+        return function;
+    }
+
+    @SuppressWarnings("unused")
+    private Object call(OrdinaryFunction function, ExecutionContext callerContext,
+            Object thisValue, Object[] args) throws Throwable {
+        RuntimeInfo.Function code = getCompiledFunction();
+        if (function.getCode() == this) {
+            function.replaceCode(code);
+        }
+        return code.callMethod().invokeExact(function, callerContext, thisValue, args);
+    }
+
+    @Override
+    public String functionName() {
+        return functionName;
+    }
+
+    @Override
+    public boolean isStrict() {
+        return FunctionFlags.Strict.isSet(functionFlags);
+    }
+
+    @Override
+    public boolean hasSuperReference() {
+        return FunctionFlags.Super.isSet(functionFlags);
+    }
+
+    @Override
+    public boolean hasScopedName() {
+        return FunctionFlags.ScopedName.isSet(functionFlags);
+    }
+
+    @Override
+    public boolean isGenerator() {
+        return FunctionFlags.Generator.isSet(functionFlags);
+    }
+
+    @Override
+    public boolean hasTailCall() {
+        return FunctionFlags.TailCall.isSet(functionFlags);
+    }
+
+    @Override
+    public boolean isLegacy() {
+        return FunctionFlags.Legacy.isSet(functionFlags);
+    }
+
+    @Override
+    public int expectedArgumentCount() {
+        return expectedArgumentCount;
+    }
+
+    @Override
+    public String source() {
+        try {
+            return source.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public MethodHandle callMethod() {
+        return callMethod;
+    }
+
+    @Override
+    public MethodHandle fixedArityCallMethod() {
+        // not available until compiled, the function object relinks after replaceCode()
+        return null;
+    }
+
+    @Override
+    public MethodHandle handle() {
+        return getCompiledFunction().handle();
+    }
+}
@@ -0,0 +1,1079 @@
+/**
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.compiler;
+
+import static com.github.anba.es6draft.semantics.StaticSemantics.VarDeclaredNames;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.github.anba.es6draft.ast.*;
+import com.github.anba.es6draft.ast.synthetic.ElementAccessorValue;
+import com.github.anba.es6draft.ast.synthetic.IdentifierValue;
+import com.github.anba.es6draft.ast.synthetic.PropertyAccessorValue;
+import com.github.anba.es6draft.ast.synthetic.SuperExpressionValue;
+
+/**
+ * Type inference for function local variables.
+ * <p>
+ * Computes the variables of a function body which can be stored as unboxed {@code double} values
+ * in JVM local variable slots instead of in the function's declarative environment record. A
+ * variable qualifies if:
+ * <ul>
+ * <li>it is declared exactly once through {@code let} or {@code const}, or only through
+ * {@code var} declarations, but is neither a parameter, nor a function, class or catch parameter
+ * binding,
+ * <li>it is always initialised before being used: the first {@code var} declaration with an
+ * initialiser is a top-level statement (or the head of a top-level {@code for} statement), resp.
+ * the {@code let} declaration has an initialiser, and all references follow the declaration
+ * textually (and are contained in the block of a {@code let} declaration),
+ * <li>it is only referenced as a value, as the target of simple or compound assignments, or as
+ * the operand of increment and decrement operators,
+ * <li>it is not referenced from nested functions, classes or destructuring patterns, and
+ * <li>all values assigned to it are numbers, i.e. the results of numeric literals, arithmetic
+ * operators or other variables which qualify.
+ * </ul>
+ * Functions containing direct eval calls, with-statements, legacy extensions or synthetic nodes
+ * from code size analysis are not optimised at all. Binding lookups for qualified variables never
+ * reach the environment record, so the unused binding in the record is not observable.
+ * <p>
+ * If all bindings of a function are kept in local variables, the function environment record is
+ * not needed at all, see {@link #hasUnobservableEnvironment(FunctionNode)}.
+ */
+final class NumericLocals {
+    private NumericLocals() {
+    }
+
+    /**
+     * Returns the names of the variables in the function body of {@code node} which can be stored
+     * as unboxed {@code double} values
+     */
+    static Set<String> analyze(FunctionNode node) {
+        if (node.isGenerator() || node.hasSyntheticNodes() || node.getScope().isDynamic()) {
+            return Collections.emptySet();
+        }
+        Collector collector = new Collector();
+        try {
+            collector.visitParameters(node.getParameters());
+            collector.visitBody(node.getStatements());
+        } catch (UnsupportedNode e) {
+            return Collections.emptySet();
+        }
+        return collector.qualified();
+    }
+
+    /**
+     * Returns {@code true} if the function environment record of {@code node} is not observable,
+     * so the function code can be evaluated directly in the function's closure environment. This
+     * requires a function:
+     * <ul>
+     * <li>without nested functions or classes, {@code this}, {@code super} or an arguments object,
+     * <li>whose var and lexically declared names are all unboxed numeric locals, and
+     * <li>whose formal parameters are simple, distinct identifiers which are never assigned to or
+     * evaluated as references, so they can be passed as method parameters.
+     * </ul>
+     */
+    static boolean hasUnobservableEnvironment(FunctionNode node) {
+        if (node.isGenerator() || node.hasSyntheticNodes() || node.getScope().isDynamic()
+                || node.getScope().needsArguments()) {
+            return false;
+        }
+        if (node instanceof ArrowFunction && ((ArrowFunction) node).getExpression() != null) {
+            return false;
+        }
+        Set<String> parameters = new HashSet<>();
+        for (FormalParameter formal : node.getParameters().getFormals()) {
+            if (!(formal instanceof BindingElement)) {
+                return false;
+            }
+            BindingElement element = (BindingElement) formal;
+            if (!(element.getBinding() instanceof BindingIdentifier)
+                    || element.getInitialiser() != null) {
+                return false;
+            }
+            if (!parameters.add(((BindingIdentifier) element.getBinding()).getName())) {
+                return false;
+            }
+        }
+        Collector collector = new Collector();
+        try {
+            collector.visitBody(node.getStatements());
+        } catch (UnsupportedNode e) {
+            return false;
+        }
+        if (collector.hasClosures || collector.hasThisOrSuper) {
+            return false;
+        }
+        for (String name : parameters) {
+            if (!collector.isReadOnly(name)) {
+                return false;
+            }
+        }
+        Set<String> numericLocals = analyze(node);
+        Set<String> lexicalNames = node.getScope().lexicallyDeclaredNames();
+        return numericLocals.containsAll(VarDeclaredNames(node))
+                && (lexicalNames == null || numericLocals.containsAll(lexicalNames));
+    }
+
+    @SuppressWarnings("serial")
+    private static final class UnsupportedNode extends RuntimeException {
+        UnsupportedNode() {
+            super(null, null, false, false);
+        }
+    }
+
+    private enum DeclarationKind {
+        Var, Let, Const
+    }
+
+    private static final class Declaration {
+        final DeclarationKind kind;
+        final Node node;
+        final Expression initialiser;
+        // top-level var declaration resp. enclosing block for let and const declarations
+        final boolean topLevel;
+        final Node block;
+
+        Declaration(DeclarationKind kind, Node node, Expression initialiser, boolean topLevel,
+                Node block) {
+            this.kind = kind;
+            this.node = node;
+            this.initialiser = initialiser;
+            this.topLevel = topLevel;
+            this.block = block;
+        }
+    }
+
+    private static final class Variable {
+        final List<Declaration> declarations = new ArrayList<>();
+        // positions of all uses except declarations
+        final List<Node> uses = new ArrayList<>();
+        // right-hand side of simple assignments and '+=' compound assignments
+        final List<Expression> values = new ArrayList<>();
+        boolean hasWrite = false;
+    }
+
+    private static boolean isBefore(long position, long other) {
+        int line = (int) position, otherLine = (int) other;
+        if (line != otherLine) {
+            return line < otherLine;
+        }
+        return (position >>> 32) < (other >>> 32);
+    }
+
+    /**
+     * Visitor to collect all variable declarations and uses in a function body
+     */
+    private static final class Collector extends DefaultNodeVisitor<Void, Void> {
+        private final Map<String, Variable> variables = new HashMap<>();
+        private final Set<String> disqualified = new HashSet<>();
+        // > 0 when visiting nested functions, classes and destructuring patterns
+        private int escaped = 0;
+        private boolean hasClosures = false;
+        private boolean hasThisOrSuper = false;
+        private boolean topLevel = false;
+        private Node block = null;
+
+        private Variable variable(String name) {
+            Variable variable = variables.get(name);
+            if (variable == null) {
+                variables.put(name, variable = new Variable());
+            }
+            return variable;
+        }
+
+        private void disqualify(String name) {
+            if ("eval".equals(name)) {
+                // possible direct eval call
+                throw new UnsupportedNode();
+            }
+            disqualified.add(name);
+        }
+
+        private void declare(DeclarationKind kind, Binding binding, Node node,
+                Expression initialiser) {
+            if (escaped == 0 && binding instanceof BindingIdentifier) {
+                String name = ((BindingIdentifier) binding).getName();
+                if ("eval".equals(name)) {
+                    throw new UnsupportedNode();
+                }
+                Variable variable = variable(name);
+                variable.declarations.add(new Declaration(kind, node, initialiser, topLevel,
+                        block));
+                if (initialiser != null) {
+                    variable.values.add(initialiser);
+                }
+            } else {
+                escaped(binding);
+            }
+            if (initialiser != null) {
+                value(initialiser);
+            }
+        }
+
+        private void escaped(Node node) {
+            escaped += 1;
+            node.accept(this, null);
+            escaped -= 1;
+        }
+
+        private void escaped(List<? extends Node> nodes) {
+            escaped += 1;
+            visit(nodes);
+            escaped -= 1;
+        }
+
+        private void read(Identifier node) {
+            if (escaped > 0) {
+                disqualify(node.getName());
+            } else {
+                variable(node.getName()).uses.add(node);
+            }
+        }
+
+        private void write(Identifier node, Expression value) {
+            if (escaped > 0) {
+                disqualify(node.getName());
+            } else {
+                Variable variable = variable(node.getName());
+                variable.uses.add(node);
+                variable.hasWrite = true;
+                if (value != null) {
+                    variable.values.add(value);
+                }
+            }
+        }
+
+        private void value(Expression node) {
+            if (node instanceof Identifier) {
+                read((Identifier) node);
+            } else {
+                node.accept(this, null);
+            }
+        }
+
+        private void values(List<Expression> nodes) {
+            for (Expression node : nodes) {
+                value(node);
+            }
+        }
+
+        private void visit(List<? extends Node> nodes) {
+            for (Node node : nodes) {
+                node.accept(this, null);
+            }
+        }
+
+        private void visit(Node node) {
+            if (node != null) {
+                node.accept(this, null);
+            }
+        }
+
+        void visitParameters(FormalParameterList parameters) {
+            escaped(parameters);
+        }
+
+        void visitBody(List<StatementListItem> statements) {
+            for (StatementListItem statement : statements) {
+                topLevel = true;
+                statement.accept(this, null);
+            }
+            topLevel = false;
+        }
+
+        /**
+         * Returns {@code true} if {@code name} is only referenced as a value
+         */
+        boolean isReadOnly(String name) {
+            Variable variable = variables.get(name);
+            return !disqualified.contains(name)
+                    && (variable == null || (variable.declarations.isEmpty() && !variable.hasWrite));
+        }
+
+        private void visitFunction(FunctionNode node) {
+            hasClosures = true;
+            escaped(node.getParameters());
+            if (node instanceof ArrowFunction && ((ArrowFunction) node).getExpression() != null) {
+                escaped(((ArrowFunction) node).getExpression());
+            } else {
+                escaped(node.getStatements());
+            }
+        }
+
+        private void visitClass(ClassDefinition node, Expression heritage,
+                List<MethodDefinition> staticMethods, List<MethodDefinition> prototypeMethods) {
+            hasClosures = true;
+            escaped += 1;
+            visit(heritage);
+            visit(staticMethods);
+            visit(prototypeMethods);
+            escaped -= 1;
+        }
+
+        private void visitStatement(Statement node) {
+            boolean topLevel = this.topLevel;
+            this.topLevel = false;
+            node.accept(this, null);
+            this.topLevel = topLevel;
+        }
+
+        private void visitBlock(Node block, List<? extends Node> statements) {
+            boolean topLevel = this.topLevel;
+            Node outer = this.block;
+            this.topLevel = false;
+            this.block = block;
+            visit(statements);
+            this.block = outer;
+            this.topLevel = topLevel;
+        }
+
+        /**
+         * Returns the names of all variables which qualify
+         */
+        Set<String> qualified() {
+            Set<String> candidates = new LinkedHashSet<>();
+            for (Map.Entry<String, Variable> entry : variables.entrySet()) {
+                String name = entry.getKey();
+                if (!disqualified.contains(name) && !"arguments".equals(name)
+                        && isInitialisedBeforeUse(entry.getValue())) {
+                    candidates.add(name);
+                }
+            }
+            // remove variables with non-numeric values until a fixed point is reached
+            for (boolean changed = true; changed;) {
+                changed = false;
+                for (String name : new ArrayList<>(candidates)) {
+                    for (Expression value : variables.get(name).values) {
+                        if (!isNumeric(value, candidates)) {
+                            candidates.remove(name);
+                            changed = true;
+                            break;
+                        }
+                    }
+                }
+            }
+            return candidates;
+        }
+
+        private static boolean isInitialisedBeforeUse(Variable variable) {
+            List<Declaration> declarations = variable.declarations;
+            if (declarations.isEmpty()) {
+                // not declared in this function
+                return false;
+            }
+            Declaration first = null;
+            for (Declaration declaration : declarations) {
+                if (declaration.kind != DeclarationKind.Var) {
+                    if (declarations.size() != 1 || declaration.initialiser == null) {
+                        return false;
+                    }
+                    if (declaration.kind == DeclarationKind.Const && variable.hasWrite) {
+                        return false;
+                    }
+                    if (declaration.block instanceof SwitchStatement) {
+                        return false;
+                    }
+                    first = declaration;
+                } else if (declaration.initialiser != null) {
+                    if (first == null
+                            || isBefore(declaration.node.getBeginPosition(),
+                                    first.node.getBeginPosition())) {
+                        first = declaration;
+                    }
+                }
+            }
+            if (first == null || (first.kind == DeclarationKind.Var && !first.topLevel)) {
+                return false;
+            }
+            long start = first.node.getEndPosition();
+            for (Declaration declaration : declarations) {
+                if (declaration != first && declaration.initialiser != null
+                        && !isBefore(start, declaration.node.getBeginPosition())) {
+                    return false;
+                }
+            }
+            for (Node use : variable.uses) {
+                if (!isBefore(start, use.getBeginPosition())) {
+                    return false;
+                }
+                if (first.block != null
+                        && !isBefore(use.getEndPosition(), first.block.getEndPosition())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isNumeric(Expression node, Set<String> candidates) {
+            if (node instanceof NumericLiteral) {
+                return true;
+            }
+            if (node instanceof Identifier) {
+                return candidates.contains(((Identifier) node).getName());
+            }
+            if (node instanceof UnaryExpression) {
+                switch (((UnaryExpression) node).getOperator()) {
+                case POST_INC:
+                case POST_DEC:
+                case PRE_INC:
+                case PRE_DEC:
+                case POS:
+                case NEG:
+                case BITNOT:
+                    return true;
+                default:
+                    return false;
+                }
+            }
+            if (node instanceof BinaryExpression) {
+                BinaryExpression binary = (BinaryExpression) node;
+                switch (binary.getOperator()) {
+                case MUL:
+                case DIV:
+                case MOD:
+                case SUB:
+                case SHL:
+                case SHR:
+                case USHR:
+                case BITAND:
+                case BITXOR:
+                case BITOR:
+                    return true;
+                case ADD:
+                    return isNumeric(binary.getLeft(), candidates)
+                            && isNumeric(binary.getRight(), candidates);
+                default:
+                    return false;
+                }
+            }
+            if (node instanceof AssignmentExpression) {
+                AssignmentExpression assignment = (AssignmentExpression) node;
+                switch (assignment.getOperator()) {
+                case ASSIGN:
+                    return isNumeric(assignment.getRight(), candidates);
+                case ASSIGN_ADD:
+                    return isNumeric(assignment.getLeft(), candidates)
+                            && isNumeric(assignment.getRight(), candidates);
+                default:
+                    return true;
+                }
+            }
+            if (node instanceof CommaExpression) {
+                List<Expression> operands = ((CommaExpression) node).getOperands();
+                return isNumeric(operands.get(operands.size() - 1), candidates);
+            }
+            if (node instanceof ConditionalExpression) {
+                ConditionalExpression conditional = (ConditionalExpression) node;
+                return isNumeric(conditional.getThen(), candidates)
+                        && isNumeric(conditional.getOtherwise(), candidates);
+            }
+            return false;
+        }
+
+        @Override
+        protected Void visit(Node node, Void value) {
+            throw new UnsupportedNode();
+        }
+
+        /* ------------------------------------------------------------------------------------- */
+
+        @Override
+        public Void visit(ArrayAssignmentPattern node, Void value) {
+            escaped += 1;
+            visit(node.getElements());
+            escaped -= 1;
+            return null;
+        }
+
+        @Override
+        public Void visit(ArrayBindingPattern node, Void value) {
+            escaped += 1;
+            visit(node.getElements());
+            escaped -= 1;
+            return null;
+        }
+
+        @Override
+        public Void visit(ArrayLiteral node, Void value) {
+            values(node.getElements());
+            return null;
+        }
+
+        @Override
+        public Void visit(ArrowFunction node, Void value) {
+            visitFunction(node);
+            return null;
+        }
+
+        @Override
+        public Void visit(AssignmentElement node, Void value) {
+            visit(node.getTarget());
+            visit(node.getInitialiser());
+            return null;
+        }
+
+        @Override
+        public Void visit(AssignmentExpression node, Void value) {
+            LeftHandSideExpression left = node.getLeft();
+            Expression right = node.getRight();
+            if (left instanceof Identifier) {
+                switch (node.getOperator()) {
+                case ASSIGN:
+                case ASSIGN_ADD:
+                    write((Identifier) left, right);
+                    break;
+                default:
+                    write((Identifier) left, null);
+                }
+            } else {
+                left.accept(this, null);
+            }
+            value(right);
+            return null;
+        }
+
+        @Override
+        public Void visit(AssignmentProperty node, Void value) {
+            visit(node.getPropertyName());
+            visit(node.getTarget());
+            visit(node.getInitialiser());
+            return null;
+        }
+
+        @Override
+        public Void visit(AssignmentRestElement node, Void value) {
+            visit(node.getTarget());
+            return null;
+        }
+
+        @Override
+        public Void visit(BinaryExpression node, Void value) {
+            value(node.getLeft());
+            value(node.getRight());
+            return null;
+        }
+
+        @Override
+        public Void visit(BindingElement node, Void value) {
+            visit(node.getBinding());
+            visit(node.getInitialiser());
+            return null;
+        }
+
+        @Override
+        public Void visit(BindingElision node, Void value) {
+            return null;
+        }
+
+        @Override
+        public Void visit(BindingIdentifier node, Void value) {
+            // binding outside of a simple variable declaration
+            disqualify(node.getName());
+            return null;
+        }
+
+        @Override
+        public Void visit(BindingProperty node, Void value) {
+            visit(node.getPropertyName());
+            visit(node.getBinding());
+            visit(node.getInitialiser());
+            return null;
+        }
+
+        @Override
+        public Void visit(BindingRestElement node, Void value) {
+            visit(node.getBindingIdentifier());
+            return null;
+        }
+
+        @Override
+        public Void visit(BlockStatement node, Void value) {
+            visitBlock(node, node.getStatements());
+            return null;
+        }
+
+        @Override
+        public Void visit(BooleanLiteral node, Void value) {
+            return null;
+        }
+
+        @Override
+        public Void visit(BreakStatement node, Void value) {
+            return null;
+        }
+
+        @Override
+        public Void visit(CallExpression node, Void value) {
+            // identifiers in call position are evaluated as references
+            visit(node.getBase());
+            values(node.getArguments());
+            return null;
+        }
+
+        @Override
+        public Void visit(CallSpreadElement node, Void value) {
+            value(node.getExpression());
+            return null;
+        }
+
+        @Override
+        public Void visit(CatchNode node, Void value) {
+            escaped(node.getCatchParameter());
+            visit(node.getCatchBlock());
+            return null;
+        }
+
+        @Override
+        public Void visit(ClassDeclaration node, Void value) {
+            visit(node.getName());
+            visitClass(node, node.getHeritage(), node.getStaticMethods(),
+                    node.getPrototypeMethods());
+            return null;
+        }
+
+        @Override
+        public Void visit(ClassExpression node, Void value) {
+            if (node.getName() != null) {
+                visit(node.getName());
+            }
+            visitClass(node, node.getHeritage(), node.getStaticMethods(),
+                    node.getPrototypeMethods());
+            return null;
+        }
+
+        @Override
+        public Void visit(CommaExpression node, Void value) {
+            values(node.getOperands());
+            return null;
+        }
+
+        @Override
+        public Void visit(ComputedPropertyName node, Void value) {
+            value(node.getExpression());
+            return null;
+        }
+
+        @Override
+        public Void visit(ConditionalExpression node, Void value) {
+            value(node.getTest());
+            value(node.getThen());
+            value(node.getOtherwise());
+            return null;
+        }
+
+        @Override
+        public Void visit(ContinueStatement node, Void value) {
+            return null;
+        }
+
+        @Override
+        public Void visit(DebuggerStatement node, Void value) {
+            return null;
+        }
+
+        @Override
+        public Void visit(DoWhileStatement node, Void value) {
+            visitStatement(node.getStatement());
+            value(node.getTest());
+            return null;
+        }
+
+        @Override
+        public Void visit(ElementAccessor node, Void value) {
+            value(node.getBase());
+            value(node.getElement());
+            return null;
+        }
+
+        @Override
+        public Void visit(ElementAccessorValue node, Void value) {
+            value(node.getBase());
+            value(node.getElement());
+            return null;
+        }
+
+        @Override
+        public Void visit(Elision node, Void value) {
+            return null;
+        }
+
+        @Override
+        public Void visit(EmptyStatement node, Void value) {
+            return null;
+        }
+
+        @Override
+        public Void visit(ExpressionStatement node, Void value) {
+            value(node.getExpression());
+            return null;
+        }
+
+        @Override
+        public Void visit(ForInStatement node, Void value) {
+            escaped(node.getHead());
+            value(node.getExpression());
+            visitStatement(node.getStatement());
+            return null;
+        }
+
+        @Override
+        public Void visit(FormalParameterList node, Void value) {
+            visit(node.getFormals());
+            return null;
+        }
+
+        @Override
+        public Void visit(ForOfStatement node, Void value) {
+            escaped(node.getHead());
+            value(node.getExpression());
+            visitStatement(node.getStatement());
+            return null;
+        }
+
+        @Override
+        public Void visit(ForStatement node, Void value) {
+            Node head = node.getHead();
+            if (head instanceof LexicalDeclaration) {
+                boolean topLevel = this.topLevel;
+                Node outer = this.block;
+                this.topLevel = false;
+                this.block = node;
+                visit(head);
+                if (node.getTest() != null) {
+                    value(node.getTest());
+                }
+                if (node.getStep() != null) {
+                    value(node.getStep());
+                }
+                visit(node.getStatement());
+                this.block = outer;
+                this.topLevel = topLevel;
+            } else {
+                if (head instanceof Expression) {
+                    value((Expression) head);
+                } else {
+                    // top-level var declarations are always evaluated
+                    visit(head);
+                }
+                boolean topLevel = this.topLevel;
+                this.topLevel = false;
+                if (node.getTest() != null) {
+                    value(node.getTest());
+                }
+                if (node.getStep() != null) {
+                    value(node.getStep());
+                }
+                visit(node.getStatement());
+                this.topLevel = topLevel;
+            }
+            return null;
+        }
+
+        @Override
+        public Void visit(FunctionDeclaration node, Void value) {
+            visit(node.getIdentifier());
+            visitFunction(node);
+            return null;
+        }
+
+        @Override
+        public Void visit(FunctionExpression node, Void value) {
+            if (node.getIdentifier() != null) {
+                visit(node.getIdentifier());
+            }
+            visitFunction(node);
+            return null;
+        }
+
+        @Override
+        public Void visit(GeneratorDeclaration node, Void value) {
+            visit(node.getIdentifier());
+            visitFunction(node);
+            return null;
+        }
+
+        @Override
+        public Void visit(GeneratorExpression node, Void value) {
+            if (node.getIdentifier() != null) {
+                visit(node.getIdentifier());
+            }
+            visitFunction(node);
+            return null;
+        }
+
+        @Override
+        public Void visit(Identifier node, Void value) {
+            // identifier evaluated as a reference
+            disqualify(node.getName());
+            return null;
+        }
+
+        @Override
+        public Void visit(IdentifierValue node, Void value) {
+            read(node);
+            return null;
+        }
+
+        @Override
+        public Void visit(IfStatement node, Void value) {
+            value(node.getTest());
+            visitStatement(node.getThen());
+            if (node.getOtherwise() != null) {
+                visitStatement(node.getOtherwise());
+            }
+            return null;
+        }
+
+        @Override
+        public Void visit(LabelledStatement node, Void value) {
+            visitStatement(node.getStatement());
+            return null;
+        }
+
+        @Override
+        public Void visit(LexicalDeclaration node, Void value) {
+            DeclarationKind kind = node.isConstDeclaration() ? DeclarationKind.Const
+                    : DeclarationKind.Let;
+            for (LexicalBinding binding : node.getElements()) {
+                declare(kind, binding.getBinding(), binding, binding.getInitialiser());
+            }
+            return null;
+        }
+
+        @Override
+        public Void visit(MethodDefinition node, Void value) {
+            escaped += 1;
+            visit(node.getPropertyName());
+            visitFunction(node);
+            escaped -= 1;
+            return null;
+        }
+
+        @Override
+        public Void visit(NewExpression node, Void value) {
+            value(node.getExpression());
+            values(node.getArguments());
+            return null;
+        }
+
+        @Override
+        public Void visit(NullLiteral node, Void value) {
+            return null;
+        }
+
+        @Override
+        public Void visit(NumericLiteral node, Void value) {
+            return null;
+        }
+
+        @Override
+        public Void visit(ObjectAssignmentPattern node, Void value) {
+            escaped += 1;
+            visit(node.getProperties());
+            escaped -= 1;
+            return null;
+        }
+
+        @Override
+        public Void visit(ObjectBindingPattern node, Void value) {
+            escaped += 1;
+            visit(node.getProperties());
+            escaped -= 1;
+            return null;
+        }
+
+        @Override
+        public Void visit(ObjectLiteral node, Void value) {
+            visit(node.getProperties());
+            return null;
+        }
+
+        @Override
+        public Void visit(PropertyAccessor node, Void value) {
+            value(node.getBase());
+            return null;
+        }
+
+        @Override
+        public Void visit(PropertyAccessorValue node, Void value) {
+            value(node.getBase());
+            return null;
+        }
+
+        @Override
+        public Void visit(PropertyNameDefinition node, Void value) {
+            read(node.getPropertyName());
+            return null;
+        }
+
+        @Override
+        public Void visit(PropertyValueDefinition node, Void value) {
+            visit(node.getPropertyName());
+            value(node.getPropertyValue());
+            return null;
+        }
+
+        @Override
+        public Void visit(RegularExpressionLiteral node, Void value) {
+            return null;
+        }
+
+        @Override
+        public Void visit(ReturnStatement node, Void value) {
+            if (node.getExpression() != null) {
+                value(node.getExpression());
+            }
+            return null;
+        }
+
+        @Override
+        public Void visit(SpreadElement node, Void value) {
+            value(node.getExpression());
+            return null;
+        }
+
+        @Override
+        public Void visit(StringLiteral node, Void value) {
+            return null;
+        }
+
+        @Override
+        public Void visit(SuperExpression node, Void value) {
+            hasThisOrSuper = true;
+            if (node.getExpression() != null) {
+                value(node.getExpression());
+            }
+            if (node.getArguments() != null) {
+                values(node.getArguments());
+            }
+            return null;
+        }
+
+        @Override
+        public Void visit(SuperExpressionValue node, Void value) {
+            return visit((SuperExpression) node, value);
+        }
+
+        @Override
+        public Void visit(SwitchClause node, Void value) {
+            if (node.getExpression() != null) {
+                value(node.getExpression());
+            }
+            visit(node.getStatements());
+            return null;
+        }
+
+        @Override
+        public Void visit(SwitchStatement node, Void value) {
+            value(node.getExpression());
+            visitBlock(node, node.getClauses());
+            return null;
+        }
+
+        @Override
+        public Void visit(TemplateCallExpression node, Void value) {
+            visit(node.getBase());
+            visit(node.getTemplate());
+            return null;
+        }
+
+        @Override
+        public Void visit(TemplateCharacters node, Void value) {
+            return null;
+        }
+
+        @Override
+        public Void visit(TemplateLiteral node, Void value) {
+            values(node.getElements());
+            return null;
+        }
+
+        @Override
+        public Void visit(ThisExpression node, Void value) {
+            hasThisOrSuper = true;
+            return null;
+        }
+
+        @Override
+        public Void visit(ThrowStatement node, Void value) {
+            value(node.getExpression());
+            return null;
+        }
+
+        @Override
+        public Void visit(TryStatement node, Void value) {
+            if (!node.getGuardedCatchNodes().isEmpty()) {
+                throw new UnsupportedNode();
+            }
+            visitStatement(node.getTryBlock());
+            visit(node.getCatchNode());
+            if (node.getFinallyBlock() != null) {
+                visitStatement(node.getFinallyBlock());
+            }
+            return null;
+        }
+
+        @Override
+        public Void visit(UnaryExpression node, Void value) {
+            Expression operand = node.getOperand();
+            switch (node.getOperator()) {
+            case POST_INC:
+            case POST_DEC:
+            case PRE_INC:
+            case PRE_DEC:
+                if (operand instanceof Identifier) {
+                    write((Identifier) operand, null);
+                } else {
+                    operand.accept(this, null);
+                }
+                break;
+            case DELETE:
+            case TYPEOF:
+                // identifiers are evaluated as references
+                operand.accept(this, null);
+                break;
+            default:
+                value(operand);
+            }
+            return null;
+        }
+
+        @Override
+        public Void visit(VariableDeclaration node, Void value) {
+            declare(DeclarationKind.Var, node.getBinding(), node, node.getInitialiser());
+            return null;
+        }
+
+        @Override
+        public Void visit(VariableStatement node, Void value) {
+            visit(node.getElements());
+            return null;
+        }
+
+        @Override
+        public Void visit(WhileStatement node, Void value) {
+            value(node.getTest());
+            visitStatement(node.getStatement());
+            return null;
+        }
+
+        @Override
+        public Void visit(YieldExpression node, Void value) {
+            if (node.getExpression() != null) {
+                value(node.getExpression());
+            }
+            return null;
+        }
+    }
+}
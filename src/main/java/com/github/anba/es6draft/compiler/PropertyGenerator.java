@@ -119,7 +119,12 @@ final class PropertyGenerator extends
         mv.swap();
 
         // stack: [<object>] -> []
-        mv.invoke(codegen.methodDesc(node));
+        if (mv.isResumable()) {
+            mv.invokeResumable(codegen.methodDesc(node));
+            mv.pop();
+        } else {
+            mv.invoke(codegen.methodDesc(node));
+        }
 
         return null;
     }
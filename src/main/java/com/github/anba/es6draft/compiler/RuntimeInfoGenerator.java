@@ -20,6 +20,7 @@ import com.github.anba.es6draft.ast.GeneratorExpression;
 import com.github.anba.es6draft.ast.Script;
 import com.github.anba.es6draft.compiler.CodeGenerator.FunctionName;
 import com.github.anba.es6draft.compiler.CodeGenerator.ScriptName;
+import com.github.anba.es6draft.compiler.InstructionVisitor.FieldDesc;
 import com.github.anba.es6draft.compiler.InstructionVisitor.MethodDesc;
 import com.github.anba.es6draft.compiler.InstructionVisitor.MethodType;
 import com.github.anba.es6draft.runtime.internal.CompatibilityOption;
@@ -40,6 +41,11 @@ final class RuntimeInfoGenerator {
                 Types.RuntimeInfo, "newFunction", Type.getMethodType(Types.RuntimeInfo$Function,
                         Types.String, Type.INT_TYPE, Type.INT_TYPE, Types.String,
                         Types.MethodHandle, Types.MethodHandle));
+
+        static final MethodDesc RTI_newFunction_FixedArity = MethodDesc.create(MethodType.Static,
+                Types.RuntimeInfo, "newFunction", Type.getMethodType(Types.RuntimeInfo$Function,
+                        Types.String, Type.INT_TYPE, Type.INT_TYPE, Types.String,
+                        Types.MethodHandle, Types.MethodHandle, Types.MethodHandle));
     }
 
     private final CodeGenerator codegen;
@@ -64,9 +70,6 @@ final class RuntimeInfoGenerator {
         if (node.isGenerator()) {
             functionFlags |= FunctionFlags.Generator.getValue();
         }
-        if (node.hasSyntheticNodes()) {
-            functionFlags |= FunctionFlags.SyntheticMethods.getValue();
-        }
         if (tailCall) {
             assert !node.isGenerator() && strict;
             functionFlags |= FunctionFlags.TailCall.getValue();
@@ -95,7 +98,8 @@ final class RuntimeInfoGenerator {
         }
     }
 
-    void runtimeInfo(FunctionNode node, boolean tailCall, Future<String> source) {
+    void runtimeInfo(FunctionNode node, boolean tailCall, boolean fixedArity,
+            Future<String> source) {
         InstructionVisitor mv = new InstructionVisitor(codegen.newMethod(node, FunctionName.RTI));
         mv.begin();
 
@@ -105,7 +109,31 @@ final class RuntimeInfoGenerator {
         mv.aconst(get(source));
         mv.handle(codegen.methodDesc(node, FunctionName.Code));
         mv.handle(codegen.methodDesc(node, FunctionName.Call));
-        mv.invoke(Methods.RTI_newFunction);
+        if (fixedArity) {
+            mv.handle(codegen.methodDesc(node, FunctionName.FixedArityCall));
+            mv.invoke(Methods.RTI_newFunction_FixedArity);
+        } else {
+            mv.invoke(Methods.RTI_newFunction);
+        }
+        mv.areturn();
+
+        mv.end();
+    }
+
+    /**
+     * Returns the function flags for a lazily compiled function. Tail calls are not known before
+     * the function is compiled, therefore all strict functions are marked as having tail calls.
+     */
+    int lazyFunctionFlags(FunctionNode node) {
+        return functionFlags(node, IsStrict(node) && !node.isGenerator());
+    }
+
+    void lazyRuntimeInfo(FunctionNode node, FieldDesc lazyFunctions, int index) {
+        InstructionVisitor mv = new InstructionVisitor(codegen.newMethod(node, FunctionName.RTI));
+        mv.begin();
+
+        mv.get(lazyFunctions);
+        mv.aload(index, Types.RuntimeInfo$Function);
         mv.areturn();
 
         mv.end();
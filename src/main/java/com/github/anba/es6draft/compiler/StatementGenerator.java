@@ -778,6 +778,9 @@ final class StatementGenerator extends
     public Completion visit(LexicalBinding node, StatementVisitor mv) {
         Binding binding = node.getBinding();
         Expression initialiser = node.getInitialiser();
+        if (initialiser != null && initialiseNumericLocal(binding, initialiser, mv)) {
+            return Completion.Normal;
+        }
         if (initialiser != null) {
             ValType type = expressionBoxedValue(initialiser, mv);
             if (binding instanceof BindingPattern) {
@@ -826,7 +829,11 @@ final class StatementGenerator extends
         mv.loadExecutionContext();
         mv.loadCompletionValue();
 
-        mv.invoke(codegen.methodDesc(node));
+        if (mv.isResumable()) {
+            mv.invokeResumable(codegen.methodDesc(node));
+        } else {
+            mv.invoke(codegen.methodDesc(node));
+        }
 
         if (mv.getCodeType() == StatementVisitor.CodeType.Function) {
             // TODO: only emit when `return` used in StatementListMethod
@@ -1288,6 +1295,9 @@ final class StatementGenerator extends
     public Completion visit(VariableDeclaration node, StatementVisitor mv) {
         Binding binding = node.getBinding();
         Expression initialiser = node.getInitialiser();
+        if (initialiser != null && initialiseNumericLocal(binding, initialiser, mv)) {
+            return Completion.Normal;
+        }
         if (initialiser != null) {
             ValType type = expressionBoxedValue(initialiser, mv);
             if (binding instanceof BindingPattern) {
@@ -1303,6 +1313,25 @@ final class StatementGenerator extends
         return Completion.Normal;
     }
 
+    /**
+     * Initialises the variable {@code binding} if it is stored in an unboxed numeric local
+     * variable, returns {@code false} otherwise
+     */
+    private boolean initialiseNumericLocal(Binding binding, Expression initialiser,
+            StatementVisitor mv) {
+        if (!(binding instanceof BindingIdentifier)) {
+            return false;
+        }
+        Variable<Double> local = mv.getNumericLocal(((BindingIdentifier) binding).getName());
+        if (local == null) {
+            return false;
+        }
+        ValType type = expressionValue(initialiser, mv);
+        ToNumber(type, mv);
+        mv.store(local);
+        return true;
+    }
+
     /**
      * 13.2.2.3 Runtime Semantics: Evaluation
      */
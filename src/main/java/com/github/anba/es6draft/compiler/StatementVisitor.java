@@ -142,10 +142,9 @@ abstract class StatementVisitor extends ExpressionVisitor {
         this.labels.returnLabel = codeType == CodeType.Function ? new ReturnLabel() : null;
     }
 
-    protected StatementVisitor(MethodCode method, boolean recordStack, boolean strict,
+    protected StatementVisitor(MethodCode method, boolean resumable, boolean strict,
             TopLevelNode topLevelNode, CodeType codeType) {
-        super(method, recordStack, strict, codeType == CodeType.GlobalScript, topLevelNode
-                .hasSyntheticNodes());
+        super(method, resumable, strict, codeType == CodeType.GlobalScript);
         this.topLevelNode = topLevelNode;
         this.codeType = codeType;
         this.isScriptCode = codeType != CodeType.Function;
@@ -16,6 +16,7 @@ import java.util.List;
 import org.objectweb.asm.Type;
 
 import com.github.anba.es6draft.runtime.AbstractOperations;
+import com.github.anba.es6draft.runtime.DeclarativeEnvironmentRecord;
 import com.github.anba.es6draft.runtime.EnvironmentRecord;
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.GlobalEnvironmentRecord;
@@ -89,6 +90,8 @@ final class Types {
 
     // runtime
     static final Type AbstractOperations = Type.getType(AbstractOperations.class);
+    static final Type DeclarativeEnvironmentRecord = Type
+            .getType(DeclarativeEnvironmentRecord.class);
     static final Type EnvironmentRecord = Type.getType(EnvironmentRecord.class);
     static final Type ExecutionContext = Type.getType(ExecutionContext.class);
     static final Type GlobalEnvironmentRecord = Type.getType(GlobalEnvironmentRecord.class);
@@ -117,6 +120,8 @@ final class Types {
 
     // runtime.types.builtins
     static final Type ExoticArguments = Type.getType(ExoticArguments.class);
+    static final Type ExoticArguments$LazyLegacyArguments = Type
+            .getType(ExoticArguments.LazyLegacyArguments.class);
     static final Type ExoticArray = Type.getType(ExoticArray.class);
     static final Type FunctionObject = Type.getType(FunctionObject.class);
     static final Type OrdinaryGenerator = Type.getType(OrdinaryGenerator.class);
@@ -127,6 +132,7 @@ final class Types {
     static final Type ResumptionPoint = Type.getType(ResumptionPoint.class);
     static final Type RuntimeInfo = Type.getType(RuntimeInfo.class);
     static final Type RuntimeInfo$Function = Type.getType(RuntimeInfo.Function.class);
+    static final Type RuntimeInfo$Function_ = Type.getType(RuntimeInfo.Function[].class);
     static final Type RuntimeInfo$ScriptBody = Type.getType(RuntimeInfo.ScriptBody.class);
     static final Type ScriptException = Type.getType(ScriptException.class);
 }
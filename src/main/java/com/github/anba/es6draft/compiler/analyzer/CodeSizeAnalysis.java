@@ -6,16 +6,15 @@
  */
 package com.github.anba.es6draft.compiler.analyzer;
 
+import java.util.ArrayDeque;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
 
 import com.github.anba.es6draft.ast.*;
+import com.github.anba.es6draft.compiler.CompilerExecutor;
 
 /**
  * Analyzes code size and possibly splits statements or expressions into sub-methods to avoid
@@ -25,13 +24,15 @@ public final class CodeSizeAnalysis implements AutoCloseable {
     private static final int MAX_SIZE = 65535;
     private static final int MAX_SIZE_ALLOWED = MAX_SIZE / 2;
 
-    private ExecutorService executor = Executors.newFixedThreadPool(2);
+    private boolean inline;
+    private ArrayDeque<Entry> pending = new ArrayDeque<>();
     private LinkedBlockingQueue<Future<Integer>> queue = new LinkedBlockingQueue<>();
 
     /**
      * Start method
      */
     public void submit(Script script) {
+        inline = CompilerExecutor.isInline(script);
         submit(script, script.getStatements());
         drainQueue();
     }
@@ -40,26 +41,36 @@ public final class CodeSizeAnalysis implements AutoCloseable {
      * Start method
      */
     public void submit(FunctionNode function) {
+        inline = CompilerExecutor.isInline(function);
         submit(function, function.getStatements());
         drainQueue();
     }
 
     @Override
     public void close() {
-        executor.shutdownNow();
+        pending.clear();
+        for (Future<Integer> future; (future = queue.poll()) != null;) {
+            future.cancel(false);
+        }
     }
 
     private void submit(TopLevelNode node, List<? extends Node> children) {
-        queue.add(executor.submit(new Entry(node, children)));
+        if (inline) {
+            // small inputs are analyzed in the calling thread
+            pending.add(new Entry(node, children));
+        } else {
+            queue.add(CompilerExecutor.submit(new Entry(node, children), false));
+        }
     }
 
     private void drainQueue() {
         try {
+            for (Entry entry; (entry = pending.poll()) != null;) {
+                entry.call();
+            }
             while (!queue.isEmpty()) {
                 queue.take().get();
             }
-            executor.shutdown();
-            executor.awaitTermination(10, TimeUnit.MINUTES);
         } catch (ExecutionException e) {
             Throwable cause = e.getCause();
             if (cause instanceof RuntimeException) {
@@ -83,7 +94,7 @@ public final class CodeSizeAnalysis implements AutoCloseable {
         }
 
         @Override
-        public Integer call() throws Exception {
+        public Integer call() {
             CodeSizeVisitor visitor = new CodeSizeVisitor();
             CodeSizeHandler handler = new CodeSizeHandlerImpl(node);
             return visitor.startAnalyze(node, children, handler);
@@ -6,16 +6,17 @@
  */
 package com.github.anba.es6draft.parser;
 
-import static com.github.anba.es6draft.runtime.AbstractOperations.ToString;
 import static com.github.anba.es6draft.runtime.types.Null.NULL;
-import static com.github.anba.es6draft.runtime.types.builtins.ExoticArray.ArrayCreate;
-import static com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject.ObjectCreate;
+import static com.github.anba.es6draft.runtime.types.builtins.ExoticArray.DenseArrayCreate;
+import static com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject.DataObjectCreate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
 
 import com.github.anba.es6draft.parser.ParserException.ExceptionType;
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.internal.Messages;
-import com.github.anba.es6draft.runtime.types.Intrinsics;
-import com.github.anba.es6draft.runtime.types.PropertyDescriptor;
 import com.github.anba.es6draft.runtime.types.ScriptObject;
 
 /**
@@ -25,17 +26,53 @@ import com.github.anba.es6draft.runtime.types.ScriptObject;
  * <ul>
  * <li>24.3.1.2 The JSON Syntactic Grammar
  * </ul>
+ * <p>
+ * Objects and arrays are created in a single step after all their members were parsed. The
+ * members of all open objects and arrays are kept on a shared stack, so no intermediate
+ * collections are allocated.
  */
 public final class JSONParser {
     private static final boolean DEBUG = false;
+    private static final int INITIAL_STACK_SIZE = 64;
 
     private boolean parseCalled = false;
     private JSONTokenStream ts;
     private ExecutionContext cx;
+    // pending object keys and object or array values
+    private String[] keys = new String[INITIAL_STACK_SIZE];
+    private Object[] values = new Object[INITIAL_STACK_SIZE];
+    private int top = 0;
 
     public JSONParser(ExecutionContext cx, CharSequence source) {
         this.cx = cx;
-        ts = new JSONTokenStream(new TokenStreamInput(source));
+        ts = new JSONTokenStream(source);
+    }
+
+    private JSONParser(ExecutionContext cx, Reader reader) {
+        this.cx = cx;
+        ts = new JSONTokenStream(reader);
+    }
+
+    /**
+     * Parses the JSON text read from {@code reader}, the input is consumed incrementally
+     * 
+     * @param cx
+     *            the execution context
+     * @param reader
+     *            the source reader
+     * @return the parsed value
+     * @throws ParserException
+     *             if the input is not a valid JSON text
+     * @throws IOException
+     *             if there was any I/O error
+     */
+    public static Object parse(ExecutionContext cx, Reader reader) throws ParserException,
+            IOException {
+        try {
+            return new JSONParser(cx, reader).parse();
+        } catch (JSONTokenStream.InputException e) {
+            throw e.getCause();
+        }
     }
 
     private void reportParseError(Messages.Key messageKey, String... args) {
@@ -120,6 +157,24 @@ public final class JSONParser {
         }
     }
 
+    private void push(String key, Object value) {
+        int top = this.top;
+        if (top == values.length) {
+            int newLength = top << 1;
+            keys = Arrays.copyOf(keys, newLength);
+            values = Arrays.copyOf(values, newLength);
+        }
+        keys[top] = key;
+        values[top] = value;
+        this.top = top + 1;
+    }
+
+    private void pop(int start) {
+        Arrays.fill(keys, start, top, null);
+        Arrays.fill(values, start, top, null);
+        top = start;
+    }
+
     /**
      * <pre>
      * JSONObject :
@@ -131,16 +186,18 @@ public final class JSONParser {
      * </pre>
      */
     private ScriptObject jsonObject() {
-        ScriptObject object = ObjectCreate(cx, Intrinsics.ObjectPrototype);
+        int start = top;
         consume(Token.LC);
         if (token() != Token.RC) {
-            jsonMember(object);
+            jsonMember();
             while (token() != Token.RC) {
                 consume(Token.COMMA);
-                jsonMember(object);
+                jsonMember();
             }
         }
         consume(Token.RC);
+        ScriptObject object = DataObjectCreate(cx, keys, values, start, top);
+        pop(start);
         return object;
     }
 
@@ -150,12 +207,12 @@ public final class JSONParser {
      *      JSONString : JSONValue
      * </pre>
      */
-    private void jsonMember(ScriptObject object) {
+    private void jsonMember() {
         consume(Token.STRING);
-        String name = ts.getString();
+        String name = ts.getPropertyKey();
         consume(Token.COLON);
         Object value = jsonValue();
-        object.defineOwnProperty(cx, name, new PropertyDescriptor(value, true, true, true));
+        push(name, value);
     }
 
     /**
@@ -169,21 +226,18 @@ public final class JSONParser {
      * </pre>
      */
     private Object jsonArray() {
-        ScriptObject array = ArrayCreate(cx, 0);
+        int start = top;
         consume(Token.LB);
         if (token() != Token.RB) {
-            long index = 0;
-            Object value = jsonValue();
-            array.defineOwnProperty(cx, ToString(index++), new PropertyDescriptor(value, true,
-                    true, true));
+            push(null, jsonValue());
             while (token() != Token.RB) {
                 consume(Token.COMMA);
-                value = jsonValue();
-                array.defineOwnProperty(cx, ToString(index++), new PropertyDescriptor(value, true,
-                        true, true));
+                push(null, jsonValue());
             }
         }
         consume(Token.RB);
+        ScriptObject array = DenseArrayCreate(cx, Arrays.copyOfRange(values, start, top));
+        pop(start);
         return array;
     }
 }
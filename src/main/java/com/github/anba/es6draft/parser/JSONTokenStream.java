@@ -8,6 +8,8 @@ package com.github.anba.es6draft.parser;
 
 import static com.github.anba.es6draft.parser.NumberParser.parseDecimal;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.Arrays;
 
 import com.github.anba.es6draft.parser.ParserException.ExceptionType;
@@ -23,13 +25,25 @@ import com.github.anba.es6draft.runtime.internal.Messages;
  */
 public final class JSONTokenStream {
     private static final boolean DEBUG = false;
+    private static final int EOF = TokenStreamInput.EOF;
+    private static final int INPUT_BUFFER_SIZE = 8192;
+    private static final int MAX_INTERNED_KEY_LENGTH = 32;
+    private static final int KEY_CACHE_SIZE = 256;
 
-    private final TokenStreamInput input;
+    // input data, either read from a reader or copied in chunks from a string
+    private final Reader reader;
+    private final String source;
+    private int sourcePosition = 0;
+    private final char[] input;
+    private int inputPosition = 0;
+    private int inputLimit = 0;
     // token data
     private Token current;
     // literal data
     private StringBuffer buffer = new StringBuffer();
     private double number = 0;
+    // recently used property keys, indexed by hash code
+    private final String[] keyCache = new String[KEY_CACHE_SIZE];
 
     private static final class StringBuffer {
         char[] cbuf = new char[512];
@@ -49,8 +63,32 @@ public final class JSONTokenStream {
         }
     }
 
-    public JSONTokenStream(TokenStreamInput input) {
-        this.input = input;
+    /**
+     * Unchecked wrapper for {@link IOException}s thrown by the underlying reader
+     */
+    @SuppressWarnings("serial")
+    static final class InputException extends RuntimeException {
+        InputException(IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+
+    public JSONTokenStream(CharSequence source) {
+        this.reader = null;
+        this.source = source.toString();
+        this.input = new char[Math.min(INPUT_BUFFER_SIZE, this.source.length())];
+        this.current = scanToken();
+    }
+
+    public JSONTokenStream(Reader reader) {
+        this.reader = reader;
+        this.source = null;
+        this.input = new char[INPUT_BUFFER_SIZE];
         this.current = scanToken();
     }
 
@@ -58,6 +96,40 @@ public final class JSONTokenStream {
         return new String(buffer.cbuf, 0, buffer.length);
     }
 
+    /**
+     * Returns the current string literal as a property key, short keys are shared between all
+     * objects created from this token stream
+     */
+    public String getPropertyKey() {
+        char[] cbuf = buffer.cbuf;
+        int length = buffer.length;
+        if (length > MAX_INTERNED_KEY_LENGTH) {
+            return new String(cbuf, 0, length);
+        }
+        int hash = 0;
+        for (int i = 0; i < length; ++i) {
+            hash = 31 * hash + cbuf[i];
+        }
+        int index = (hash ^ (hash >>> 16)) & (KEY_CACHE_SIZE - 1);
+        String key = keyCache[index];
+        if (key != null && key.hashCode() == hash && contentEquals(key, cbuf, length)) {
+            return key;
+        }
+        return keyCache[index] = new String(cbuf, 0, length);
+    }
+
+    private static boolean contentEquals(String s, char[] cbuf, int length) {
+        if (s.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; ++i) {
+            if (s.charAt(i) != cbuf[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public double getNumber() {
         return number;
     }
@@ -74,13 +146,58 @@ public final class JSONTokenStream {
 
     //
 
-    private Token scanToken() {
-        TokenStreamInput input = this.input;
+    /**
+     * Returns the next input character or {@link TokenStreamInput#EOF} when the end of the input
+     * has been reached
+     */
+    private int get() {
+        if (inputPosition < inputLimit) {
+            return input[inputPosition++];
+        }
+        return fill() ? input[inputPosition++] : EOF;
+    }
+
+    /**
+     * Ungets the character {@code c}
+     */
+    private void unget(int c) {
+        if (c != EOF) {
+            assert inputPosition > 0 && input[inputPosition - 1] == c;
+            inputPosition -= 1;
+        }
+    }
+
+    private boolean fill() {
+        int n;
+        if (reader != null) {
+            try {
+                do {
+                    n = reader.read(input, 0, input.length);
+                } while (n == 0);
+            } catch (IOException e) {
+                throw new InputException(e);
+            }
+        } else {
+            n = Math.min(input.length, source.length() - sourcePosition);
+            if (n > 0) {
+                source.getChars(sourcePosition, sourcePosition + n, input, 0);
+                sourcePosition += n;
+            }
+        }
+        if (n <= 0) {
+            inputPosition = inputLimit = 0;
+            return false;
+        }
+        inputPosition = 0;
+        inputLimit = n;
+        return true;
+    }
 
+    private Token scanToken() {
         int c;
         for (;;) {
-            c = input.get();
-            if (c == TokenStreamInput.EOF) {
+            c = get();
+            if (c == EOF) {
                 return Token.EOF;
             } else if (c <= 0x20) {
                 if (c == 0x09 || c == 0x0A || c == 0x0D || c == 0x20) {
@@ -132,25 +249,22 @@ public final class JSONTokenStream {
     }
 
     private Token readNullLiteral(int c) {
-        TokenStreamInput input = this.input;
-        if (c == 'n' && input.get() == 'u' && input.get() == 'l' && input.get() == 'l') {
+        if (c == 'n' && get() == 'u' && get() == 'l' && get() == 'l') {
             return Token.NULL;
         }
         return Token.ERROR;
     }
 
     private Token readFalseLiteral(int c) {
-        TokenStreamInput input = this.input;
-        if (c == 'f' && input.get() == 'a' && input.get() == 'l' && input.get() == 's'
-                && input.get() == 'e') {
+        if (c == 'f' && get() == 'a' && get() == 'l' && get() == 's'
+                && get() == 'e') {
             return Token.FALSE;
         }
         return Token.ERROR;
     }
 
     private Token readTrueLiteral(int c) {
-        TokenStreamInput input = this.input;
-        if (c == 't' && input.get() == 'r' && input.get() == 'u' && input.get() == 'e') {
+        if (c == 't' && get() == 'r' && get() == 'u' && get() == 'e') {
             return Token.TRUE;
         }
         return Token.ERROR;
@@ -159,11 +273,9 @@ public final class JSONTokenStream {
     private Token readString(int quoteChar) {
         assert quoteChar == '"';
 
-        final int EOF = TokenStreamInput.EOF;
-        TokenStreamInput input = this.input;
         StringBuffer buffer = this.buffer();
         for (;;) {
-            int c = input.get();
+            int c = get();
             if (c == EOF) {
                 throw error(Messages.Key.JSONUnterminatedStringLiteral);
             }
@@ -178,7 +290,7 @@ public final class JSONTokenStream {
                 buffer.add(c);
                 continue;
             }
-            c = input.get();
+            c = get();
             // escape sequences
             switch (c) {
             case '"':
@@ -201,8 +313,8 @@ public final class JSONTokenStream {
                 c = '\t';
                 break;
             case 'u':
-                c = (hexDigit(input.get()) << 12) | (hexDigit(input.get()) << 8)
-                        | (hexDigit(input.get()) << 4) | hexDigit(input.get());
+                c = (hexDigit(get()) << 12) | (hexDigit(get()) << 8)
+                        | (hexDigit(get()) << 4) | hexDigit(get());
                 if (c < 0) {
                     throw error(Messages.Key.JSONInvalidUnicodeEscape);
                 }
@@ -236,48 +348,47 @@ public final class JSONTokenStream {
 
     private double readDecimalLiteral(int c) {
         assert c == '-' || isDigit(c);
-        TokenStreamInput input = this.input;
         StringBuffer buffer = this.buffer();
         if (c == '-') {
             buffer.add(c);
-            if (!isDigit(c = input.get())) {
+            if (!isDigit(c = get())) {
                 throw error(Messages.Key.JSONInvalidNumberLiteral);
             }
         }
         buffer.add(c);
         if (c != '0') {
-            while (isDigit(c = input.get())) {
+            while (isDigit(c = get())) {
                 buffer.add(c);
             }
         } else {
-            c = input.get();
+            c = get();
         }
         if (c == '.') {
             buffer.add(c);
-            if (!isDigit(c = input.get())) {
+            if (!isDigit(c = get())) {
                 throw error(Messages.Key.JSONInvalidNumberLiteral);
             }
             buffer.add(c);
-            while (isDigit(c = input.get())) {
+            while (isDigit(c = get())) {
                 buffer.add(c);
             }
         }
         if (c == 'e' || c == 'E') {
             buffer.add(c);
-            c = input.get();
+            c = get();
             if (c == '+' || c == '-') {
                 buffer.add(c);
-                c = input.get();
+                c = get();
             }
             if (!isDigit(c)) {
                 throw error(Messages.Key.JSONInvalidNumberLiteral);
             }
             buffer.add(c);
-            while (isDigit(c = input.get())) {
+            while (isDigit(c = get())) {
                 buffer.add(c);
             }
         }
-        input.unget(c);
+        unget(c);
         return parseDecimal(buffer.cbuf, buffer.length);
     }
 
@@ -153,6 +153,15 @@ public final class Parser {
             superReference = true;
         }
 
+        void setReferencesArguments() {
+            // arrow functions and generator comprehensions use the arguments object of the
+            // enclosing function
+            ParseContext cx = findSuperContext();
+            if (cx.funContext != null) {
+                cx.funContext.argumentsReference = true;
+            }
+        }
+
         boolean hasSuperReference() {
             return superReference;
         }
@@ -176,6 +185,7 @@ public final class Parser {
     private static final class FunctionContext extends TopContext implements FunctionScope {
         FunctionNode node = null;
         HashSet<String> parameterNames = null;
+        boolean argumentsReference = false;
 
         FunctionContext(ParseContext context) {
             super(context);
@@ -195,6 +205,11 @@ public final class Parser {
         public Set<String> parameterNames() {
             return parameterNames;
         }
+
+        @Override
+        public boolean needsArguments() {
+            return argumentsReference;
+        }
     }
 
     private static final class ScriptContext extends TopContext implements ScriptScope {
@@ -4823,6 +4838,9 @@ public final class Parser {
         }
         String name = getName(tok);
         consume(tok);
+        if ("arguments".equals(name)) {
+            context.setReferencesArguments();
+        }
         return name;
     }
 
@@ -4845,6 +4863,9 @@ public final class Parser {
         }
         String name = getName(tok);
         consume(tok);
+        if ("arguments".equals(name)) {
+            context.setReferencesArguments();
+        }
         return name;
     }
 
@@ -5682,6 +5703,7 @@ public final class Parser {
                 }
                 if (lhs instanceof Identifier && "eval".equals(((Identifier) lhs).getName())) {
                     context.topContext.directEval = true;
+                    context.setReferencesArguments();
                 }
                 begin = ts.beginPosition();
                 List<Expression> args = arguments();
@@ -18,7 +18,7 @@ final class JDKRegExpMatcher implements RegExpMatcher {
     // Java flags for the input RegExp
     private final int flags;
     private final BitSet negativeLAGroups;
-    private Pattern pattern;
+    private volatile Pattern pattern;
 
     public JDKRegExpMatcher(String regex, int flags, BitSet negativeLAGroups) {
         this.regex = regex;
@@ -27,8 +27,10 @@ final class JDKRegExpMatcher implements RegExpMatcher {
     }
 
     private Pattern getPattern() {
+        // benign data race, Pattern objects are immutable
+        Pattern pattern = this.pattern;
         if (pattern == null) {
-            pattern = Pattern.compile(regex, flags);
+            this.pattern = pattern = Pattern.compile(regex, flags);
         }
         return pattern;
     }
@@ -17,20 +17,25 @@ import org.joni.Region;
  * {@link MatchState} implementation for Joni {@link Regex} regular expressions
  */
 final class JoniMatchState implements MatchState {
-    private final Matcher matcher;
+    private final Regex pattern;
+    private boolean buffered;
+    private Matcher matcher;
+    private byte[] bytes;
     private final String string;
     private final int byteLength;
     private int begin = -1, end = 0;
     private Region region;
 
-    public JoniMatchState(Matcher matcher, String string) {
-        this.matcher = matcher;
+    public JoniMatchState(Regex pattern, String string) {
+        this.pattern = pattern;
+        this.buffered = UCS2InputBuffer.isBuffered(string);
         this.string = string;
         this.byteLength = string.length() << 1;
     }
 
     private JoniMatchState(String string, int begin, int end, Region region) {
-        this.matcher = null;
+        this.pattern = null;
+        this.buffered = false;
         this.string = string;
         this.byteLength = string.length() << 1;
         this.begin = begin;
@@ -38,6 +43,35 @@ final class JoniMatchState implements MatchState {
         this.region = region;
     }
 
+    /**
+     * Returns the matcher for the encoded input. The input is initially encoded into the
+     * per-thread input buffer. If the buffer was used for a different string since the last call,
+     * this match state switches to its own encoded copy, so interleaved matches against other
+     * strings don't need to encode the input again for every call.
+     */
+    private Matcher matcher() {
+        if (matcher == null) {
+            byte[] bytes = buffered ? UCS2InputBuffer.encode(string) : UCS2Encoding.toBytes(string);
+            return newMatcher(bytes);
+        }
+        if (buffered) {
+            byte[] bytes = UCS2InputBuffer.encoded(string);
+            if (bytes == null) {
+                buffered = false;
+                return newMatcher(UCS2Encoding.toBytes(string));
+            }
+            if (bytes != this.bytes) {
+                return newMatcher(bytes);
+            }
+        }
+        return matcher;
+    }
+
+    private Matcher newMatcher(byte[] bytes) {
+        this.bytes = bytes;
+        return this.matcher = pattern.matcher(bytes, 0, byteLength);
+    }
+
     private boolean update(int r) {
         begin = matcher.getBegin();
         end = matcher.getEnd();
@@ -63,17 +97,17 @@ final class JoniMatchState implements MatchState {
     @Override
     public boolean find() {
         int start = end != begin ? end : end + 2;
-        return update(matcher.search(start, byteLength, Option.NONE));
+        return update(matcher().search(start, byteLength, Option.NONE));
     }
 
     @Override
     public boolean find(int start) {
-        return update(matcher.search(start << 1, byteLength, Option.NONE));
+        return update(matcher().search(start << 1, byteLength, Option.NONE));
     }
 
     @Override
     public boolean matches(int start) {
-        return update(matcher.match(start << 1, byteLength, Option.NONE));
+        return update(matcher().match(start << 1, byteLength, Option.NONE));
     }
 
     @Override
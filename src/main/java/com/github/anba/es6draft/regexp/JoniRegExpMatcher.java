@@ -22,9 +22,7 @@ final class JoniRegExpMatcher implements RegExpMatcher {
     // Java flags for the input RegExp
     private final int flags;
     private final BitSet negativeLAGroups;
-    private Regex pattern;
-    private String lastInput = null;
-    private byte[] lastInputBytes = null;
+    private volatile Regex pattern;
 
     public JoniRegExpMatcher(String regex, int flags, BitSet negativeLAGroups) {
         this.regex = regex;
@@ -33,6 +31,8 @@ final class JoniRegExpMatcher implements RegExpMatcher {
     }
 
     private Regex getPattern() {
+        // benign data race, Regex objects are not modified after construction
+        Regex pattern = this.pattern;
         if (pattern == null) {
             int flags = 0;
             if ((this.flags & Pattern.MULTILINE) != 0) {
@@ -45,18 +45,15 @@ final class JoniRegExpMatcher implements RegExpMatcher {
             }
             Encoding enc = UCS2Encoding.INSTANCE;
             byte[] bytes = UCS2Encoding.toBytes(regex);
-            pattern = new Regex(bytes, 0, bytes.length, flags, enc, JoniSyntax.ECMAScript);
+            this.pattern = pattern = new Regex(bytes, 0, bytes.length, flags, enc,
+                    JoniSyntax.ECMAScript);
         }
         return pattern;
     }
 
     @Override
     public JoniMatchState matcher(String s) {
-        if (s != lastInput) {
-            lastInput = s;
-            lastInputBytes = UCS2Encoding.toBytes(s);
-        }
-        return new JoniMatchState(getPattern().matcher(lastInputBytes), s);
+        return new JoniMatchState(getPattern(), s);
     }
 
     @Override
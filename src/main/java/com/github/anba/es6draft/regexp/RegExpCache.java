@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.regexp;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.anba.es6draft.parser.ParserException;
+
+/**
+ * Process-wide cache for compiled {@link RegExpMatcher} objects, keyed by pattern and flags.
+ * <p>
+ * {@link RegExpMatcher} objects are immutable and can be shared between realms and threads. The
+ * cache holds at most {@code es6draft.regexp.cacheSize} entries (default: 256), the least recently
+ * used entry is evicted first. Patterns with syntax errors are not cached.
+ */
+public final class RegExpCache {
+    private static final int CACHE_SIZE = Math.max(0,
+            Integer.getInteger("es6draft.regexp.cacheSize", 256));
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
+    @SuppressWarnings("serial")
+    private static final Map<Key, RegExpMatcher> cache = new LinkedHashMap<Key, RegExpMatcher>(16,
+            0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, RegExpMatcher> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private RegExpCache() {
+    }
+
+    private static final class Key {
+        final String pattern;
+        final String flags;
+
+        Key(String pattern, String flags) {
+            this.pattern = pattern;
+            this.flags = flags;
+        }
+
+        @Override
+        public int hashCode() {
+            return pattern.hashCode() * 31 + flags.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return pattern.equals(other.pattern) && flags.equals(other.flags);
+        }
+    }
+
+    /**
+     * Returns the compiled matcher for the regular expression {@code pattern} with {@code flags}
+     *
+     * @param pattern
+     *            the regular expression pattern
+     * @param flags
+     *            the regular expression flags
+     * @return the compiled matcher
+     * @throws ParserException
+     *             if the pattern or the flags are invalid
+     */
+    public static RegExpMatcher get(String pattern, String flags) throws ParserException {
+        Key key = new Key(pattern, flags);
+        RegExpMatcher matcher;
+        synchronized (cache) {
+            matcher = cache.get(key);
+        }
+        if (matcher != null) {
+            hits.incrementAndGet();
+            return matcher;
+        }
+        misses.incrementAndGet();
+        matcher = RegExpParser.parse(pattern, flags, "<regexp>", 1, 1);
+        if (CACHE_SIZE > 0) {
+            synchronized (cache) {
+                RegExpMatcher previous = cache.put(key, matcher);
+                if (previous != null) {
+                    // concurrently compiled, keep the first matcher
+                    cache.put(key, previous);
+                    matcher = previous;
+                }
+            }
+        }
+        return matcher;
+    }
+
+    /**
+     * Returns the number of cache hits
+     */
+    public static long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of cache misses
+     */
+    public static long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the current number of cache entries
+     */
+    public static int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Removes all cache entries
+     */
+    public static void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+}
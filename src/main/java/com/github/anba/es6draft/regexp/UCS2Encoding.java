@@ -23,14 +23,22 @@ final class UCS2Encoding extends UnicodeEncoding {
     }
 
     public static byte[] toBytes(String s) {
-        char[] chars = s.toCharArray();
-        byte[] bytes = new byte[chars.length * 2];
-        for (int i = 0, j = 0, len = chars.length; i < len; ++i) {
-            char c = chars[i];
+        byte[] bytes = new byte[s.length() * 2];
+        toBytes(s, bytes);
+        return bytes;
+    }
+
+    /**
+     * Encodes {@code s} into {@code bytes}, the array length must be at least twice the string
+     * length
+     */
+    public static void toBytes(String s, byte[] bytes) {
+        assert bytes.length >= s.length() * 2;
+        for (int i = 0, j = 0, len = s.length(); i < len; ++i) {
+            char c = s.charAt(i);
             bytes[j++] = (byte) ((c >>> 8) & 0xff);
             bytes[j++] = (byte) ((c >>> 0) & 0xff);
         }
-        return bytes;
     }
 
     @Override
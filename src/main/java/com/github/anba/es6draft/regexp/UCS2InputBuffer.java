@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.regexp;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Per-thread buffers for the UCS-2 encoded input of Joni regular expressions.
+ * <p>
+ * Joni only matches over byte arrays, so every input string needs to be encoded. Instead of
+ * allocating a new copy for each match, strings are encoded into a scratch array shared by all
+ * Joni matchers of a thread. Each thread has two scratch arrays: one for strings with at most
+ * {@code es6draft.regexp.sharedInputLength} characters (default: 1024) and one for longer strings,
+ * so matching short strings in between does not require to encode a long string again. A scratch
+ * array grows as needed up to {@code es6draft.regexp.inputBufferLimit} characters (default: 1M),
+ * longer strings are not buffered. The buffers only hold weak references to the encoded strings.
+ */
+final class UCS2InputBuffer {
+    private static final int MAX_LENGTH = Math.max(0,
+            Integer.getInteger("es6draft.regexp.inputBufferLimit", 1 << 20));
+    private static final int SHORT_LENGTH = Math.max(0,
+            Integer.getInteger("es6draft.regexp.sharedInputLength", 1024));
+    private static final int MIN_CAPACITY = 256;
+
+    private static final ThreadLocal<UCS2InputBuffer> shortInputs = newThreadLocal();
+    private static final ThreadLocal<UCS2InputBuffer> longInputs = newThreadLocal();
+
+    private static ThreadLocal<UCS2InputBuffer> newThreadLocal() {
+        return new ThreadLocal<UCS2InputBuffer>() {
+            @Override
+            protected UCS2InputBuffer initialValue() {
+                return new UCS2InputBuffer();
+            }
+        };
+    }
+
+    private WeakReference<String> input = new WeakReference<>(null);
+    private byte[] bytes = new byte[MIN_CAPACITY];
+
+    private UCS2InputBuffer() {
+    }
+
+    private static UCS2InputBuffer buffer(String s) {
+        return (s.length() <= SHORT_LENGTH ? shortInputs : longInputs).get();
+    }
+
+    /**
+     * Returns {@code true} if {@code s} can be encoded into the per-thread input buffers
+     */
+    static boolean isBuffered(String s) {
+        return s.length() <= MAX_LENGTH;
+    }
+
+    /**
+     * Returns the UCS-2 encoded bytes of {@code s}, the returned array may be longer than the
+     * encoded string. The array contents are only valid until the per-thread buffer is used for a
+     * different string.
+     */
+    static byte[] encode(String s) {
+        assert isBuffered(s);
+        return buffer(s).get(s);
+    }
+
+    /**
+     * Returns the UCS-2 encoded bytes of {@code s} if the per-thread buffer still holds the
+     * encoded string, otherwise returns {@code null}
+     */
+    static byte[] encoded(String s) {
+        assert isBuffered(s);
+        UCS2InputBuffer buffer = buffer(s);
+        return buffer.input.get() == s ? buffer.bytes : null;
+    }
+
+    private byte[] get(String s) {
+        if (input.get() == s) {
+            return bytes;
+        }
+        int length = s.length() * 2;
+        byte[] bytes = this.bytes;
+        if (length > bytes.length) {
+            bytes = new byte[Math.max(length, Math.min(bytes.length << 1, MAX_LENGTH * 2))];
+        }
+        UCS2Encoding.toBytes(s, bytes);
+        this.bytes = bytes;
+        this.input = new WeakReference<>(s);
+        return bytes;
+    }
+}
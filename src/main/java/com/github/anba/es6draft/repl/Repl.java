@@ -35,6 +35,7 @@ import jline.console.ConsoleReader;
 
 import com.github.anba.es6draft.Script;
 import com.github.anba.es6draft.ScriptLoader;
+import com.github.anba.es6draft.compiler.CodeCache;
 import com.github.anba.es6draft.compiler.CompilationException;
 import com.github.anba.es6draft.compiler.Compiler;
 import com.github.anba.es6draft.parser.Parser;
@@ -67,6 +68,7 @@ import com.github.anba.es6draft.runtime.types.ScriptObject;
 public final class Repl {
     private static final String PROGRAM_NAME = "es6draft";
     private static final int STACKTRACE_DEPTH = 20;
+    private static final String CODE_CACHE_OPTION = "--code-cache=";
 
     public static void main(String[] args) throws Throwable {
         try {
@@ -84,7 +86,8 @@ public final class Repl {
             } else {
                 console = new LegacyConsole(System.out, System.in);
             }
-            new Repl(options, startScript, console).loop();
+            Path codeCache = codeCacheDirectory(args);
+            new Repl(options, startScript, codeCache, console).loop();
         } catch (Throwable e) {
             printStackTrace(e);
             System.exit(1);
@@ -157,11 +160,15 @@ public final class Repl {
 
     private enum Option {
         NoInterpreter, Debug, FullDebug, StackTrace, Strict, SimpleShell, MozillaShell, V8Shell,
-        NoJLine, NoColor;
+        NoJLine, NoColor, CodeCache;
 
         static EnumSet<Option> fromArgs(String[] args) {
             EnumSet<Option> options = EnumSet.noneOf(Option.class);
             for (String arg : args) {
+                if (arg.startsWith(CODE_CACHE_OPTION)) {
+                    options.add(CodeCache);
+                    continue;
+                }
                 switch (arg) {
                 case "--compile-only":
                 case "--no-interpreter":
@@ -222,6 +229,7 @@ public final class Repl {
         sb.append("  --no-color        Disable colored output\n");
         sb.append("  --no-jline        Disable JLine support\n");
         sb.append("  --stacktrace      Print stack-trace on error\n");
+        sb.append("  --code-cache=DIR  Store compiled scripts in directory DIR\n");
         sb.append("  --debug           Print generated Java bytecode\n");
         sb.append("  --full-debug      Print generated Java bytecode (full type descriptors)\n");
         sb.append("  --help            Print this help\n");
@@ -237,6 +245,16 @@ public final class Repl {
         }
     }
 
+    private static Path codeCacheDirectory(String[] args) {
+        Path directory = null;
+        for (String arg : args) {
+            if (arg.startsWith(CODE_CACHE_OPTION)) {
+                directory = Paths.get(arg.substring(CODE_CACHE_OPTION.length()));
+            }
+        }
+        return directory;
+    }
+
     private static final class StartScript {
         private Path script = Paths.get("-");
         private List<String> arguments = new ArrayList<>();
@@ -281,12 +299,15 @@ public final class Repl {
 
     private final EnumSet<Option> options;
     private final StartScript startScript;
+    private final Path codeCache;
     private final ReplConsole console;
     private AtomicInteger scriptCounter = new AtomicInteger(0);
 
-    private Repl(EnumSet<Option> options, StartScript startScript, ReplConsole console) {
+    private Repl(EnumSet<Option> options, StartScript startScript, Path codeCache,
+            ReplConsole console) {
         this.options = options;
         this.startScript = startScript;
+        this.codeCache = codeCache;
         this.console = console;
     }
 
@@ -445,6 +466,15 @@ public final class Repl {
         }
     }
 
+    private CodeCache newCodeCache(Path directory) {
+        try {
+            return new CodeCache(directory);
+        } catch (IOException e) {
+            printException(e);
+            return null;
+        }
+    }
+
     private Realm newRealm() {
         ReplConsole console = this.console;
         Path baseDir = Paths.get("").toAbsolutePath();
@@ -464,7 +494,13 @@ public final class Repl {
         if (options.contains(Option.FullDebug)) {
             compilerOptions.add(Compiler.Option.FullDebug);
         }
-        ScriptCache scriptCache = new ScriptCache(compatibilityOptions);
+        ScriptCache scriptCache;
+        if (options.contains(Option.CodeCache)) {
+            scriptCache = new ScriptCache(compatibilityOptions, compilerOptions,
+                    newCodeCache(codeCache));
+        } else {
+            scriptCache = new ScriptCache(compatibilityOptions);
+        }
 
         ObjectAllocator<? extends ShellGlobalObject> allocator;
         if (options.contains(Option.MozillaShell)) {
@@ -20,6 +20,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 
 import com.github.anba.es6draft.Script;
 import com.github.anba.es6draft.ScriptLoader;
@@ -70,6 +71,23 @@ public abstract class ShellGlobalObject extends GlobalObject {
         }
     }
 
+    /**
+     * Compiles the scripts {@code names} from the 'scripts' directory concurrently
+     */
+    public static List<Script> compileScripts(final ScriptCache scriptCache, List<String> names)
+            throws IOException, ParserException, CompilationException {
+        List<Callable<Script>> tasks = new ArrayList<>(names.size());
+        for (final String name : names) {
+            tasks.add(new Callable<Script>() {
+                @Override
+                public Script call() throws IOException, ParserException, CompilationException {
+                    return compileScript(scriptCache, name);
+                }
+            });
+        }
+        return ScriptLoader.awaitAll(ScriptLoader.loadAll(tasks));
+    }
+
     protected static String getResourceInfo(String resourceName, String defaultValue) {
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(
                 ShellGlobalObject.class.getResourceAsStream(resourceName), StandardCharsets.UTF_8))) {
@@ -10,10 +10,8 @@ import static com.github.anba.es6draft.runtime.internal.Errors.newReferenceError
 import static com.github.anba.es6draft.runtime.internal.Errors.newTypeError;
 import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
 
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
-import java.util.Map.Entry;
 
 import com.github.anba.es6draft.runtime.internal.Messages;
 import com.github.anba.es6draft.runtime.types.ScriptObject;
@@ -27,25 +25,28 @@ import com.github.anba.es6draft.runtime.types.ScriptObject;
  * </ul>
  */
 public class DeclarativeEnvironmentRecord implements EnvironmentRecord {
-    private static final class Binding {
-        final boolean mutable;
-        final boolean deletable;
-        Object value;
-
-        public Binding(boolean mutable, boolean deletable) {
-            this.mutable = mutable;
-            this.deletable = deletable;
-        }
+    private static final String[] EMPTY_NAMES = new String[0];
+    private static final Object[] EMPTY_VALUES = new Object[0];
+    private static final byte[] EMPTY_FLAGS = new byte[0];
+    private static final int MIN_CAPACITY = 4;
 
-        @Override
-        public String toString() {
-            return String.format("{value = %s, mutable = %b, deletable = %b}", value, mutable,
-                    deletable);
-        }
-    }
+    /** Records with more bindings use a hash table for name lookups */
+    private static final int LINEAR_LOOKUP_LIMIT = 8;
+
+    private static final byte MUTABLE = 0x1;
+    private static final byte DELETABLE = 0x2;
 
     protected final ExecutionContext cx;
-    private final Map<String, Binding> bindings = new HashMap<>();
+
+    // Bindings are stored in insertion order in parallel arrays, uninitialised bindings have a
+    // null value. The binding index is stable unless a deletable binding is removed.
+    private String[] names = EMPTY_NAMES;
+    private Object[] values = EMPTY_VALUES;
+    private byte[] flags = EMPTY_FLAGS;
+    private int size = 0;
+
+    // Map<String, Integer> indices, only present if size > LINEAR_LOOKUP_LIMIT
+    private HashMap<String, Integer> indices = null;
 
     public DeclarativeEnvironmentRecord(ExecutionContext cx) {
         this.cx = cx;
@@ -53,25 +54,115 @@ public class DeclarativeEnvironmentRecord implements EnvironmentRecord {
 
     @Override
     public String toString() {
-        return String.format("%s: {bindings=%s}", getClass().getSimpleName(), toString(bindings));
+        return String.format("%s: {bindings=%s}", getClass().getSimpleName(), bindingsToString());
     }
 
-    private static <KEY, VALUE> String toString(Map<KEY, VALUE> map) {
-        if (map.isEmpty()) {
+    private String bindingsToString() {
+        if (size == 0) {
             return "{}";
         }
         StringBuilder sb = new StringBuilder();
         sb.append('{');
-        for (Iterator<Entry<KEY, VALUE>> iter = map.entrySet().iterator();;) {
-            Entry<KEY, VALUE> entry = iter.next();
-            sb.append("\n  ").append(entry.getKey()).append('=').append(entry.getValue());
-            if (!iter.hasNext())
+        for (int i = 0;;) {
+            sb.append("\n  ").append(names[i]).append('=');
+            sb.append(String.format("{value = %s, mutable = %b, deletable = %b}", values[i],
+                    (flags[i] & MUTABLE) != 0, (flags[i] & DELETABLE) != 0));
+            if (++i == size)
                 break;
             sb.append(',');
         }
         return sb.append('\n').append('}').toString();
     }
 
+    /**
+     * Returns the index of the binding {@code name} or {@code -1} if not present
+     */
+    public final int getBindingIndex(String name) {
+        HashMap<String, Integer> indices = this.indices;
+        if (indices != null) {
+            Integer index = indices.get(name);
+            return index != null ? index : -1;
+        }
+        String[] names = this.names;
+        for (int i = 0, size = this.size; i < size; ++i) {
+            if (names[i] == name) {
+                return i;
+            }
+        }
+        for (int i = 0, size = this.size; i < size; ++i) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns {@code true} if the binding {@code name} is stored at {@code index}
+     */
+    public final boolean hasBindingAt(int index, String name) {
+        if (index < size) {
+            String n = names[index];
+            return n == name || n.equals(name);
+        }
+        return false;
+    }
+
+    /**
+     * Allocates storage for {@code count} additional bindings
+     * <p>
+     * [Called from generated code]
+     */
+    public final void reserveBindings(int count) {
+        int capacity = size + count;
+        if (capacity > names.length) {
+            names = Arrays.copyOf(names, capacity);
+            values = Arrays.copyOf(values, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+        }
+    }
+
+    private void addBinding(String name, byte bindingFlags) {
+        int index = size;
+        if (index == names.length) {
+            int newCapacity = Math.max(MIN_CAPACITY, index + (index >> 1));
+            names = Arrays.copyOf(names, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+            flags = Arrays.copyOf(flags, newCapacity);
+        }
+        names[index] = name;
+        flags[index] = bindingFlags;
+        size = index + 1;
+        if (indices != null) {
+            indices.put(name, index);
+        } else if (size > LINEAR_LOOKUP_LIMIT) {
+            createIndices();
+        }
+    }
+
+    private void createIndices() {
+        HashMap<String, Integer> indices = new HashMap<>(size * 2);
+        for (int i = 0; i < size; ++i) {
+            indices.put(names[i], i);
+        }
+        this.indices = indices;
+    }
+
+    private void removeBinding(int index) {
+        int last = size - 1;
+        System.arraycopy(names, index + 1, names, index, last - index);
+        System.arraycopy(values, index + 1, values, index, last - index);
+        System.arraycopy(flags, index + 1, flags, index, last - index);
+        names[last] = null;
+        values[last] = null;
+        size = last;
+        if (size > LINEAR_LOOKUP_LIMIT) {
+            createIndices();
+        } else {
+            indices = null;
+        }
+    }
+
     /**
      * 8.1.1.1.1 HasBinding(N)
      */
@@ -79,7 +170,7 @@ public class DeclarativeEnvironmentRecord implements EnvironmentRecord {
     public boolean hasBinding(String name) {
         /* step 1 (omitted) */
         /* steps 2-3 */
-        return bindings.containsKey(name);
+        return getBindingIndex(name) >= 0;
     }
 
     /**
@@ -89,9 +180,9 @@ public class DeclarativeEnvironmentRecord implements EnvironmentRecord {
     public void createMutableBinding(String name, boolean deletable) {
         /* step 1 (omitted) */
         /* step 2 */
-        assert !bindings.containsKey(name);
+        assert getBindingIndex(name) < 0;
         /* steps 3-4 */
-        bindings.put(name, new Binding(true, deletable));
+        addBinding(name, deletable ? (byte) (MUTABLE | DELETABLE) : MUTABLE);
     }
 
     /**
@@ -101,9 +192,9 @@ public class DeclarativeEnvironmentRecord implements EnvironmentRecord {
     public void createImmutableBinding(String name) {
         /* step 1 (omitted) */
         /* step 2 */
-        assert !bindings.containsKey(name);
+        assert getBindingIndex(name) < 0;
         /* step 3 */
-        bindings.put(name, new Binding(false, false));
+        addBinding(name, (byte) 0);
     }
 
     /**
@@ -112,12 +203,12 @@ public class DeclarativeEnvironmentRecord implements EnvironmentRecord {
     @Override
     public void initialiseBinding(String name, Object value) {
         assert value != null;
-        Binding b = bindings.get(name);
+        int index = getBindingIndex(name);
         /* step 1 (omitted) */
         /* step 2 */
-        assert b != null && b.value == null;
+        assert index >= 0 && values[index] == null;
         /* steps 3-4 */
-        b.value = value;
+        values[index] = value;
     }
 
     /**
@@ -125,18 +216,28 @@ public class DeclarativeEnvironmentRecord implements EnvironmentRecord {
      */
     @Override
     public void setMutableBinding(String name, Object value, boolean strict) {
-        assert value != null;
-        Binding b = bindings.get(name);
+        int index = getBindingIndex(name);
         /* step 1 (omitted) */
         /* step 2 */
-        assert b != null; // FIXME: spec bug (bug 159)
+        assert index >= 0; // FIXME: spec bug (bug 159)
         /* steps 3-6 */
-        if (b.value == null) {
-            throw newReferenceError(cx, Messages.Key.UninitialisedBinding, name);
-        } else if (b.mutable) {
-            b.value = value;
+        setMutableBindingAt(index, value, strict);
+    }
+
+    /**
+     * 8.1.1.1.5 SetMutableBinding (N,V,S)
+     * <p>
+     * Precondition: {@code index} is a valid binding index
+     */
+    public final void setMutableBindingAt(int index, Object value, boolean strict) {
+        assert value != null && index < size;
+        /* steps 3-6 */
+        if (values[index] == null) {
+            throw newReferenceError(cx, Messages.Key.UninitialisedBinding, names[index]);
+        } else if ((flags[index] & MUTABLE) != 0) {
+            values[index] = value;
         } else if (strict) {
-            throw newTypeError(cx, Messages.Key.ImmutableBinding, name);
+            throw newTypeError(cx, Messages.Key.ImmutableBinding, names[index]);
         }
     }
 
@@ -145,19 +246,31 @@ public class DeclarativeEnvironmentRecord implements EnvironmentRecord {
      */
     @Override
     public Object getBindingValue(String name, boolean strict) {
-        Binding b = bindings.get(name);
+        int index = getBindingIndex(name);
         /* step 1 (omitted) */
         /* step 2 */
-        assert b != null;
+        assert index >= 0;
+        /* steps 3-4 */
+        return getBindingValueAt(index, strict);
+    }
+
+    /**
+     * 8.1.1.1.6 GetBindingValue(N,S)
+     * <p>
+     * Precondition: {@code index} is a valid binding index
+     */
+    public final Object getBindingValueAt(int index, boolean strict) {
+        assert index < size;
+        Object value = values[index];
         /* step 3 */
-        if (b.value == null) {
+        if (value == null) {
             if (!strict) {
                 return UNDEFINED;
             }
-            throw newReferenceError(cx, Messages.Key.UninitialisedBinding, name);
+            throw newReferenceError(cx, Messages.Key.UninitialisedBinding, names[index]);
         }
         /* step 4 */
-        return b.value;
+        return value;
     }
 
     /**
@@ -165,18 +278,18 @@ public class DeclarativeEnvironmentRecord implements EnvironmentRecord {
      */
     @Override
     public boolean deleteBinding(String name) {
-        Binding b = bindings.get(name);
+        int index = getBindingIndex(name);
         /* step 1 (omitted) */
         /* step 2 */
-        if (b == null) {
+        if (index < 0) {
             return true;
         }
         /* step 3 */
-        if (!b.deletable) {
+        if ((flags[index] & DELETABLE) == 0) {
             return false;
         }
         /* step 4 */
-        bindings.remove(name);
+        removeBinding(index);
         /* step 5 */
         return true;
     }
@@ -188,6 +188,20 @@ public final class ExecutionContext {
         return new ExecutionContext(calleeRealm, localEnv, localEnv, null, f);
     }
 
+    /**
+     * 9.2.4 [[Call]] (thisArgument, argumentsList)
+     * <p>
+     * Creates the execution context for a function whose function environment record is not
+     * observable: the function neither captures its scope nor refers to {@code this},
+     * {@code super} or its arguments object, and the compiler keeps all of its bindings in local
+     * variables. The function code is evaluated directly in the closure environment, so neither a
+     * lexical environment nor an environment record is allocated.
+     */
+    public static ExecutionContext newScopeFreeExecutionContext(FunctionObject f) {
+        LexicalEnvironment env = f.getEnvironment();
+        return new ExecutionContext(f.getRealm(), env, env, null, f);
+    }
+
     /**
      * Combined {@link #resolveBinding(String, boolean)} with
      * {@link Reference#GetValue(Object, ExecutionContext)} internal method
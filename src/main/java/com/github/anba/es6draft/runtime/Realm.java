@@ -40,6 +40,7 @@ import com.github.anba.es6draft.runtime.objects.intl.CollatorConstructor;
 import com.github.anba.es6draft.runtime.objects.intl.CollatorPrototype;
 import com.github.anba.es6draft.runtime.objects.intl.DateTimeFormatConstructor;
 import com.github.anba.es6draft.runtime.objects.intl.DateTimeFormatPrototype;
+import com.github.anba.es6draft.runtime.objects.intl.IntlCache;
 import com.github.anba.es6draft.runtime.objects.intl.IntlObject;
 import com.github.anba.es6draft.runtime.objects.intl.NumberFormatConstructor;
 import com.github.anba.es6draft.runtime.objects.intl.NumberFormatPrototype;
@@ -293,6 +294,13 @@ public final class Realm {
         return world.getSymbolRegistry();
     }
 
+    /**
+     * Returns the cache for the ICU formatters and collators of the Intl objects
+     */
+    public IntlCache getIntlCache() {
+        return world.getIntlCache();
+    }
+
     /**
      * 8.4.1 EnqueueTask ( queueName, task, arguments) Abstract Operation
      * <p>
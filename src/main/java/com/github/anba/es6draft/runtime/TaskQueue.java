@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime;
+
+import java.util.ArrayDeque;
+
+/**
+ * <h1>8 Executable Code and Execution Contexts</h1>
+ * <ul>
+ * <li>8.4 Tasks and Task Queues
+ * </ul>
+ * <p>
+ * A queue of pending {@link Task} objects, including counters for the number of enqueued and
+ * executed tasks
+ */
+public final class TaskQueue {
+    private final String name;
+    private final ArrayDeque<Task> tasks = new ArrayDeque<>();
+    private long enqueuedTasks = 0;
+    private long executedTasks = 0;
+    private int peakSize = 0;
+
+    TaskQueue(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: {size=%d, peak=%d, enqueued=%d, executed=%d}", name,
+                tasks.size(), peakSize, enqueuedTasks, executedTasks);
+    }
+
+    /**
+     * Returns the name of this queue
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns {@code true} if there are no pending tasks in this queue
+     */
+    public boolean isEmpty() {
+        return tasks.isEmpty();
+    }
+
+    /**
+     * Returns the number of pending tasks in this queue
+     */
+    public int size() {
+        return tasks.size();
+    }
+
+    /**
+     * Returns the largest number of pending tasks seen in this queue
+     */
+    public int getPeakSize() {
+        return peakSize;
+    }
+
+    /**
+     * Returns the total number of tasks added to this queue
+     */
+    public long getEnqueuedTaskCount() {
+        return enqueuedTasks;
+    }
+
+    /**
+     * Returns the total number of tasks removed from this queue for execution
+     */
+    public long getExecutedTaskCount() {
+        return executedTasks;
+    }
+
+    /**
+     * Appends {@code task} to this queue
+     */
+    void offer(Task task) {
+        tasks.offer(task);
+        enqueuedTasks += 1;
+        peakSize = Math.max(peakSize, tasks.size());
+    }
+
+    /**
+     * Removes the next task from this queue, or returns {@code null} if the queue is empty
+     */
+    Task poll() {
+        Task task = tasks.poll();
+        if (task != null) {
+            executedTasks += 1;
+        }
+        return task;
+    }
+}
@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h1>8 Executable Code and Execution Contexts</h1>
+ * <ul>
+ * <li>8.4 Tasks and Task Queues
+ * </ul>
+ * <p>
+ * Schedules the pending loading-tasks and promise-tasks of a {@link World}. Tasks are executed in
+ * turns, each turn first executes the pending loading-tasks and then the pending promise-tasks,
+ * with at most {@link #getTurnBudget()} tasks per queue. Tasks enqueued during a turn are
+ * executed in the same turn as long as the budget of their queue is not exhausted.
+ * <p>
+ * If an {@link Executor} is set, turns are submitted to the executor whenever tasks are pending,
+ * so task execution interleaves with the other work of the executor. Task scheduling is not
+ * thread-safe, the executor needs to run its tasks on the thread which owns the world.
+ */
+public final class TaskScheduler {
+    private final TaskQueue loadingTasks = new TaskQueue("loading-tasks");
+    private final TaskQueue promiseTasks = new TaskQueue("promise-tasks");
+    private int turnBudget = Integer.MAX_VALUE;
+    private Executor executor = null;
+    private boolean turnScheduled = false;
+
+    private final Runnable turn = new Runnable() {
+        @Override
+        public void run() {
+            try {
+                executeTurn();
+            } finally {
+                // tasks enqueued during this turn are picked up by the next turn
+                turnScheduled = false;
+                scheduleTurn();
+            }
+        }
+    };
+
+    TaskScheduler() {
+    }
+
+    /**
+     * Returns the queue of pending loading-tasks
+     */
+    public TaskQueue getLoadingTasks() {
+        return loadingTasks;
+    }
+
+    /**
+     * Returns the queue of pending promise-tasks
+     */
+    public TaskQueue getPromiseTasks() {
+        return promiseTasks;
+    }
+
+    /**
+     * Returns the maximum number of tasks per queue executed in a single turn
+     */
+    public int getTurnBudget() {
+        return turnBudget;
+    }
+
+    /**
+     * Sets the maximum number of tasks per queue executed in a single turn
+     */
+    public void setTurnBudget(int turnBudget) {
+        if (turnBudget <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.turnBudget = turnBudget;
+    }
+
+    /**
+     * Returns the executor which runs the task turns, or {@code null} if tasks are only executed
+     * through {@link #executeTasks()} and its variants
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor which runs the task turns, {@code null} disables automatic scheduling
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+        scheduleTurn();
+    }
+
+    /**
+     * Checks whether there are any pending tasks
+     */
+    public boolean hasPendingTasks() {
+        return !(loadingTasks.isEmpty() && promiseTasks.isEmpty());
+    }
+
+    /**
+     * Enqueues {@code task} to the queue of pending loading-tasks
+     */
+    public void enqueueLoadingTask(Task task) {
+        loadingTasks.offer(task);
+        scheduleTurn();
+    }
+
+    /**
+     * Enqueues {@code task} to the queue of pending promise-tasks
+     */
+    public void enqueuePromiseTask(Task task) {
+        promiseTasks.offer(task);
+        scheduleTurn();
+    }
+
+    /**
+     * Executes turns until there are no more pending tasks
+     */
+    public void executeTasks() {
+        while (hasPendingTasks()) {
+            executeTurn();
+        }
+    }
+
+    /**
+     * Executes turns until there are no more pending tasks or the timeout has elapsed, returns
+     * {@code true} if all pending tasks were executed. The timeout is checked before each task,
+     * a running task is not interrupted.
+     */
+    public boolean executeTasks(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (hasPendingTasks()) {
+            executeTasks(loadingTasks, deadline, true);
+            executeTasks(promiseTasks, deadline, true);
+            if (deadline - System.nanoTime() <= 0) {
+                break;
+            }
+        }
+        return !hasPendingTasks();
+    }
+
+    /**
+     * Executes a single turn, returns the number of executed tasks
+     */
+    public int executeTurn() {
+        int executed = executeTasks(loadingTasks, 0, false);
+        executed += executeTasks(promiseTasks, 0, false);
+        return executed;
+    }
+
+    /**
+     * Executes up to {@link #getTurnBudget()} tasks from {@code tasks}
+     */
+    private int executeTasks(TaskQueue tasks, long deadline, boolean timed) {
+        int executed = 0;
+        for (int budget = turnBudget; executed < budget; ++executed) {
+            if (timed && deadline - System.nanoTime() <= 0) {
+                break;
+            }
+            Task task = tasks.poll();
+            if (task == null) {
+                break;
+            }
+            task.execute();
+        }
+        return executed;
+    }
+
+    private void scheduleTurn() {
+        if (executor != null && !turnScheduled && hasPendingTasks()) {
+            turnScheduled = true;
+            try {
+                executor.execute(turn);
+            } catch (RuntimeException e) {
+                turnScheduled = false;
+                throw e;
+            }
+        }
+    }
+}
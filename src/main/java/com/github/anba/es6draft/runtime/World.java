@@ -6,11 +6,11 @@
  */
 package com.github.anba.es6draft.runtime;
 
-import java.util.ArrayDeque;
 import java.util.EnumSet;
 import java.util.Locale;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
 
 import com.github.anba.es6draft.compiler.Compiler;
 import com.github.anba.es6draft.compiler.Compiler.Option;
@@ -18,6 +18,7 @@ import com.github.anba.es6draft.runtime.internal.CompatibilityOption;
 import com.github.anba.es6draft.runtime.internal.Messages;
 import com.github.anba.es6draft.runtime.internal.ObjectAllocator;
 import com.github.anba.es6draft.runtime.objects.GlobalObject;
+import com.github.anba.es6draft.runtime.objects.intl.IntlCache;
 import com.github.anba.es6draft.runtime.types.Intrinsics;
 
 /**
@@ -36,12 +37,12 @@ public final class World<GLOBAL extends GlobalObject> {
     private final TimeZone timezone = TimeZone.getDefault();
     private final Messages messages = Messages.create(locale);
 
-    // TODO: move to custom class
-    private final ArrayDeque<Task> loadingTasks = new ArrayDeque<>();
-    private final ArrayDeque<Task> promiseTasks = new ArrayDeque<>();
+    private final TaskScheduler taskScheduler = new TaskScheduler();
 
     private final GlobalSymbolRegistry symbolRegistry = new GlobalSymbolRegistry();
 
+    private final IntlCache intlCache = new IntlCache();
+
     private static final ObjectAllocator<GlobalObject> DEFAULT_GLOBAL_OBJECT = new ObjectAllocator<GlobalObject>() {
         @Override
         public GlobalObject newInstance(Realm realm) {
@@ -81,11 +82,18 @@ public final class World<GLOBAL extends GlobalObject> {
         this.compilerOptions = EnumSet.copyOf(compilerOptions);
     }
 
+    /**
+     * Returns the task scheduler
+     */
+    public TaskScheduler getTaskScheduler() {
+        return taskScheduler;
+    }
+
     /**
      * Checks whether there are any pending tasks
      */
     public boolean hasPendingTasks() {
-        return !(loadingTasks.isEmpty() && promiseTasks.isEmpty());
+        return taskScheduler.hasPendingTasks();
     }
 
     /**
@@ -94,7 +102,7 @@ public final class World<GLOBAL extends GlobalObject> {
      * Enqueues {@code task} to the queue of pending loading-tasks
      */
     public void enqueueLoadingTask(Task task) {
-        loadingTasks.offer(task);
+        taskScheduler.enqueueLoadingTask(task);
     }
 
     /**
@@ -103,27 +111,22 @@ public final class World<GLOBAL extends GlobalObject> {
      * Enqueues {@code task} to the queue of pending promise-tasks
      */
     public void enqueuePromiseTask(Task task) {
-        promiseTasks.offer(task);
+        taskScheduler.enqueuePromiseTask(task);
     }
 
     /**
      * Executes the queue of pending tasks
      */
     public void executeTasks() {
-        while (hasPendingTasks()) {
-            executeTasks(loadingTasks);
-            executeTasks(promiseTasks);
-        }
+        taskScheduler.executeTasks();
     }
 
     /**
-     * Executes the queue of pending tasks
+     * Executes the queue of pending tasks until all tasks are finished or the timeout has
+     * elapsed, returns {@code true} if there are no more pending tasks
      */
-    private void executeTasks(ArrayDeque<Task> tasks) {
-        // execute all pending tasks until the queue is empty
-        for (Task task; (task = tasks.poll()) != null;) {
-            task.execute();
-        }
+    public boolean executeTasks(long timeout, TimeUnit unit) {
+        return taskScheduler.executeTasks(timeout, unit);
     }
 
     /**
@@ -189,6 +192,13 @@ public final class World<GLOBAL extends GlobalObject> {
         return symbolRegistry;
     }
 
+    /**
+     * Returns the cache for the ICU formatters and collators of the Intl objects
+     */
+    public IntlCache getIntlCache() {
+        return intlCache;
+    }
+
     /**
      * Creates a new {@link Realm} object and returns its {@link GlobalObject}
      */
@@ -12,14 +12,25 @@ import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.invoke.MutableCallSite;
+import java.util.Arrays;
 
 import org.objectweb.asm.Handle;
 import org.objectweb.asm.Opcodes;
 
 import com.github.anba.es6draft.ast.BinaryExpression;
+import com.github.anba.es6draft.parser.ParserException;
+import com.github.anba.es6draft.regexp.RegExpCache;
+import com.github.anba.es6draft.regexp.RegExpMatcher;
+import com.github.anba.es6draft.runtime.DeclarativeEnvironmentRecord;
+import com.github.anba.es6draft.runtime.EnvironmentRecord;
 import com.github.anba.es6draft.runtime.ExecutionContext;
+import com.github.anba.es6draft.runtime.LexicalEnvironment;
+import com.github.anba.es6draft.runtime.objects.RegExpConstructor;
 import com.github.anba.es6draft.runtime.types.Callable;
+import com.github.anba.es6draft.runtime.types.Reference;
+import com.github.anba.es6draft.runtime.types.ScriptObject;
 import com.github.anba.es6draft.runtime.types.Type;
+import com.github.anba.es6draft.runtime.types.builtins.CachedProperty;
 import com.github.anba.es6draft.runtime.types.builtins.FunctionObject;
 import com.github.anba.es6draft.runtime.types.builtins.NativeFunction;
 import com.github.anba.es6draft.runtime.types.builtins.NativeTailCallFunction;
@@ -39,6 +50,8 @@ public final class Bootstrap {
                 .getType(ExecutionContext.class);
         static final org.objectweb.asm.Type Callable = org.objectweb.asm.Type
                 .getType(Callable.class);
+        static final org.objectweb.asm.Type Reference = org.objectweb.asm.Type
+                .getType(Reference.class);
     }
 
     private static final class CallNames {
@@ -50,6 +63,11 @@ public final class Bootstrap {
         static final String GT = "expression::greaterThan";
         static final String LE = "expression::lessThanEquals";
         static final String GE = "expression::greaterThanEquals";
+        static final String GET_PROPERTY = "property::get";
+        static final String SET_PROPERTY = "property::set";
+        static final String BINDING_VALUE = "binding::value";
+        static final String BINDING_REFERENCE = "binding::reference";
+        static final String REGEXP_LITERAL = "literal::regexp";
     }
 
     private static final String OP_ADD = org.objectweb.asm.Type.getMethodDescriptor(Types.Object,
@@ -64,6 +82,36 @@ public final class Bootstrap {
     private static final String OP_CALL = org.objectweb.asm.Type.getMethodDescriptor(Types.Object,
             Types.Callable, Types.ExecutionContext, Types.Object, Types.Object_);
 
+    /**
+     * Maximum number of arguments for fixed-arity call sites
+     */
+    public static final int MAX_FIXED_ARGUMENTS = 4;
+
+    private static final String[] OP_CALL_FIXED = new String[MAX_FIXED_ARGUMENTS + 1];
+    static {
+        for (int argumentCount = 0; argumentCount <= MAX_FIXED_ARGUMENTS; ++argumentCount) {
+            org.objectweb.asm.Type[] parameters = new org.objectweb.asm.Type[3 + argumentCount];
+            parameters[0] = Types.Callable;
+            parameters[1] = Types.ExecutionContext;
+            Arrays.fill(parameters, 2, parameters.length, Types.Object);
+            OP_CALL_FIXED[argumentCount] = org.objectweb.asm.Type.getMethodDescriptor(
+                    Types.Object, parameters);
+        }
+    }
+
+    private static final String OP_GET_PROPERTY = org.objectweb.asm.Type.getMethodDescriptor(
+            Types.Object, Types.Object, Types.ExecutionContext);
+    private static final String OP_SET_PROPERTY = org.objectweb.asm.Type.getMethodDescriptor(
+            org.objectweb.asm.Type.VOID_TYPE, Types.Object, Types.Object, Types.ExecutionContext);
+
+    private static final String OP_BINDING_VALUE = org.objectweb.asm.Type.getMethodDescriptor(
+            Types.Object, Types.ExecutionContext);
+    private static final String OP_BINDING_REFERENCE = org.objectweb.asm.Type
+            .getMethodDescriptor(Types.Reference, Types.ExecutionContext);
+
+    private static final String OP_REGEXP_LITERAL = org.objectweb.asm.Type.getMethodDescriptor(
+            Types.Object, Types.ExecutionContext);
+
     private static final Handle BOOTSTRAP;
     static {
         MethodType mt = MethodType.methodType(CallSite.class, MethodHandles.Lookup.class,
@@ -73,6 +121,15 @@ public final class Bootstrap {
                 mt.toMethodDescriptorString());
     }
 
+    private static final Handle PROPERTY_BOOTSTRAP;
+    static {
+        MethodType mt = MethodType.methodType(CallSite.class, MethodHandles.Lookup.class,
+                String.class, MethodType.class, String.class, int.class);
+        PROPERTY_BOOTSTRAP = new Handle(Opcodes.H_INVOKESTATIC,
+                org.objectweb.asm.Type.getInternalName(Bootstrap.class), "bootstrapProperty",
+                mt.toMethodDescriptorString());
+    }
+
     public static String getCallName() {
         return CallNames.CALL;
     }
@@ -81,10 +138,101 @@ public final class Bootstrap {
         return OP_CALL;
     }
 
+    /**
+     * Returns the method descriptor for fixed-arity call sites with {@code argumentCount}
+     * arguments: {@code (Callable, ExecutionContext, Object, Object...) -> Object}
+     */
+    public static String getCallMethodDescriptor(int argumentCount) {
+        assert 0 <= argumentCount && argumentCount <= MAX_FIXED_ARGUMENTS;
+        return OP_CALL_FIXED[argumentCount];
+    }
+
     public static Handle getCallBootstrap() {
         return BOOTSTRAP;
     }
 
+    public static String getPropertyGetName() {
+        return CallNames.GET_PROPERTY;
+    }
+
+    public static String getPropertyGetMethodDescriptor() {
+        return OP_GET_PROPERTY;
+    }
+
+    public static String getPropertySetName() {
+        return CallNames.SET_PROPERTY;
+    }
+
+    public static String getPropertySetMethodDescriptor() {
+        return OP_SET_PROPERTY;
+    }
+
+    /**
+     * Returns the bootstrap method for named property accesses, the bootstrap arguments are the
+     * property name and the strict mode flag ({@code 0} or {@code 1})
+     */
+    public static Handle getPropertyBootstrap() {
+        return PROPERTY_BOOTSTRAP;
+    }
+
+    private static final Handle BINDING_BOOTSTRAP;
+    static {
+        MethodType mt = MethodType.methodType(CallSite.class, MethodHandles.Lookup.class,
+                String.class, MethodType.class, String.class, int.class);
+        BINDING_BOOTSTRAP = new Handle(Opcodes.H_INVOKESTATIC,
+                org.objectweb.asm.Type.getInternalName(Bootstrap.class), "bootstrapBinding",
+                mt.toMethodDescriptorString());
+    }
+
+    public static String getBindingValueName() {
+        return CallNames.BINDING_VALUE;
+    }
+
+    public static String getBindingValueMethodDescriptor() {
+        return OP_BINDING_VALUE;
+    }
+
+    public static String getBindingReferenceName() {
+        return CallNames.BINDING_REFERENCE;
+    }
+
+    public static String getBindingReferenceMethodDescriptor() {
+        return OP_BINDING_REFERENCE;
+    }
+
+    /**
+     * Returns the bootstrap method for identifier resolution in statically scoped code, the
+     * bootstrap arguments are the identifier name and the strict mode flag ({@code 0} or {@code 1})
+     */
+    public static Handle getBindingBootstrap() {
+        return BINDING_BOOTSTRAP;
+    }
+
+    private static final Handle REGEXP_BOOTSTRAP;
+    static {
+        MethodType mt = MethodType.methodType(CallSite.class, MethodHandles.Lookup.class,
+                String.class, MethodType.class, String.class, String.class);
+        REGEXP_BOOTSTRAP = new Handle(Opcodes.H_INVOKESTATIC,
+                org.objectweb.asm.Type.getInternalName(Bootstrap.class), "bootstrapRegExp",
+                mt.toMethodDescriptorString());
+    }
+
+    public static String getRegExpLiteralName() {
+        return CallNames.REGEXP_LITERAL;
+    }
+
+    public static String getRegExpLiteralMethodDescriptor() {
+        return OP_REGEXP_LITERAL;
+    }
+
+    /**
+     * Returns the bootstrap method for regular expression literals, the bootstrap arguments are
+     * the pattern and the flags of the regular expression
+     */
+    public static Handle getRegExpBootstrap() {
+        return REGEXP_BOOTSTRAP;
+    }
+
     private static final MethodHandle callSetupMH;
     private static final MethodHandle callGenericMH;
     private static final MethodHandle testFunctionObjectMH, testNativeFunctionMH,
@@ -108,33 +256,99 @@ public final class Bootstrap {
                     Object[].class));
 
             callSetupMH = lookup.findStatic(thisClass, "callSetup", MethodType.methodType(
-                    MethodHandle.class, MutableCallSite.class, Callable.class,
-                    ExecutionContext.class, Object.class, Object[].class));
+                    MethodHandle.class, FunctionCallSite.class, Callable.class));
         } catch (NoSuchMethodException | IllegalAccessException e) {
             throw new Error(e);
         }
     }
 
+    /**
+     * Maximum number of cache entries before a function call site becomes megamorphic
+     */
+    private static final int MAX_CALL_CACHE_ENTRIES = 4;
+
+    private static final class FunctionCallSite extends MutableCallSite {
+        /** number of arguments for fixed-arity call sites or {@code -1} */
+        final int argumentCount;
+        final MethodHandle generic;
+        int misses = 0;
+
+        FunctionCallSite(MethodType type) {
+            super(type);
+            if (type.parameterCount() == 4 && type.parameterType(3) == Object[].class) {
+                this.argumentCount = -1;
+                this.generic = callGenericMH;
+            } else {
+                this.argumentCount = type.parameterCount() - 3;
+                this.generic = withArgumentCount(callGenericMH, argumentCount);
+            }
+        }
+    }
+
+    /**
+     * Adapts {@code mh} with a trailing {@code Object[]} parameter to a method handle with
+     * {@code argumentCount} trailing {@code Object} parameters
+     */
+    private static MethodHandle withArgumentCount(MethodHandle mh, int argumentCount) {
+        if (argumentCount < 0) {
+            return mh;
+        }
+        if (argumentCount == 0) {
+            int pos = mh.type().parameterCount() - 1;
+            return MethodHandles.insertArguments(mh, pos, (Object) ScriptRuntime.EMPTY_ARRAY);
+        }
+        return mh.asCollector(Object[].class, argumentCount);
+    }
+
     @SuppressWarnings("unused")
-    private static MethodHandle callSetup(MutableCallSite callsite, Callable function,
-            ExecutionContext cx, Object thisValue, Object[] arguments) {
+    private static MethodHandle callSetup(FunctionCallSite callsite, Callable function) {
+        int argumentCount = callsite.argumentCount;
         MethodHandle target, test;
         if (function instanceof FunctionObject) {
-            MethodHandle mh = ((FunctionObject) function).getCallMethod();
+            FunctionObject functionObject = (FunctionObject) function;
+            MethodHandle mh = functionObject.getCallMethod();
             test = MethodHandles.insertArguments(testFunctionObjectMH, 1, mh);
-            target = mh;
+            MethodHandle direct = null;
+            if (argumentCount >= 0) {
+                direct = functionObject.getCallMethod(argumentCount);
+            }
+            target = direct != null ? direct : withArgumentCount(mh, argumentCount);
         } else if (function instanceof NativeFunction) {
-            MethodHandle mh = ((NativeFunction) function).getCallMethod();
+            NativeFunction nativeFunction = (NativeFunction) function;
+            MethodHandle mh = nativeFunction.getCallMethod();
             test = MethodHandles.insertArguments(testNativeFunctionMH, 1, mh);
-            target = MethodHandles.dropArguments(mh, 0, Callable.class, ExecutionContext.class);
+            MethodHandle direct = null;
+            if (argumentCount >= 0) {
+                direct = nativeFunction.getCallMethod(argumentCount);
+            }
+            target = direct != null ? direct : withArgumentCount(mh, argumentCount);
+            target = MethodHandles.dropArguments(target, 0, Callable.class, ExecutionContext.class);
         } else if (function instanceof NativeTailCallFunction) {
             MethodHandle mh = ((NativeTailCallFunction) function).getCallMethod();
             test = MethodHandles.insertArguments(testNativeTailCallFunctionMH, 1, mh);
-            target = MethodHandles.dropArguments(mh, 0, Callable.class);
+            target = MethodHandles.dropArguments(withArgumentCount(mh, argumentCount), 0,
+                    Callable.class);
         } else {
             target = test = null;
         }
-        return setCallSiteTarget(callsite, target, test, callGenericMH);
+        return setFunctionCallSiteTarget(callsite, target, test);
+    }
+
+    private static MethodHandle setFunctionCallSiteTarget(FunctionCallSite callsite,
+            MethodHandle target, MethodHandle test) {
+        if (++callsite.misses > MAX_CALL_CACHE_ENTRIES) {
+            // megamorphic call site
+            callsite.setTarget(callsite.generic);
+            return callsite.generic;
+        }
+        if (target == null) {
+            // uncacheable function, use generic call for this invocation only
+            return callsite.generic;
+        }
+        // prepend new cache entry to the existing guard chain
+        target = target.asType(callsite.type());
+        callsite.setTarget(MethodHandles.guardWithTest(test, target, callsite.getTarget()));
+        return target;
     }
 
     @SuppressWarnings("unused")
@@ -161,6 +375,355 @@ public final class Bootstrap {
         return function.call(callerContext, thisValue, arguments);
     }
 
+    /**
+     * Maximum number of cache entries before a property call site becomes megamorphic
+     */
+    private static final int MAX_PROPERTY_CACHE_ENTRIES = 4;
+
+    private static final class PropertyCallSite extends MutableCallSite {
+        final String propertyKey;
+        final boolean strict;
+        int misses = 0;
+        boolean primitiveGuard = false;
+
+        PropertyCallSite(MethodType type, String propertyKey, boolean strict) {
+            super(type);
+            this.propertyKey = propertyKey;
+            this.strict = strict;
+        }
+    }
+
+    private static final MethodHandle getPropertySetupMH, setPropertySetupMH;
+    private static final MethodHandle getPropertyGenericMH, setPropertyGenericMH;
+    private static final MethodHandle getPropertyCachedMH, setPropertyCachedMH;
+    private static final MethodHandle testCachedPropertyMH, testPrimitiveBaseMH;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        Class<?> thisClass = lookup.lookupClass();
+
+        try {
+            testCachedPropertyMH = lookup.findVirtual(CachedProperty.class, "test",
+                    MethodType.methodType(boolean.class, Object.class));
+            testPrimitiveBaseMH = lookup.findStatic(thisClass, "testPrimitiveBase",
+                    MethodType.methodType(boolean.class, Object.class));
+
+            getPropertyGenericMH = lookup.findStatic(thisClass, "getPropertyGeneric", MethodType
+                    .methodType(Object.class, String.class, boolean.class, Object.class,
+                            ExecutionContext.class));
+            setPropertyGenericMH = lookup.findStatic(thisClass, "setPropertyGeneric", MethodType
+                    .methodType(void.class, String.class, boolean.class, Object.class,
+                            Object.class, ExecutionContext.class));
+            getPropertyCachedMH = lookup.findStatic(thisClass, "getPropertyCached", MethodType
+                    .methodType(Object.class, CachedProperty.class, String.class, Object.class,
+                            ExecutionContext.class));
+            setPropertyCachedMH = lookup.findStatic(thisClass, "setPropertyCached", MethodType
+                    .methodType(void.class, CachedProperty.class, String.class, boolean.class,
+                            Object.class, Object.class, ExecutionContext.class));
+
+            getPropertySetupMH = lookup.findStatic(thisClass, "getPropertySetup", MethodType
+                    .methodType(MethodHandle.class, PropertyCallSite.class, Object.class,
+                            ExecutionContext.class));
+            setPropertySetupMH = lookup.findStatic(thisClass, "setPropertySetup", MethodType
+                    .methodType(MethodHandle.class, PropertyCallSite.class, Object.class,
+                            Object.class, ExecutionContext.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new Error(e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static MethodHandle getPropertySetup(PropertyCallSite callsite, Object base,
+            ExecutionContext cx) {
+        MethodHandle generic = MethodHandles.insertArguments(getPropertyGenericMH, 0,
+                callsite.propertyKey, callsite.strict);
+        if (testPrimitiveBase(base)) {
+            return setPrimitiveCallSiteTarget(callsite, generic);
+        }
+        CachedProperty entry = CachedProperty.forGet(base, callsite.propertyKey);
+        MethodHandle target = null;
+        if (entry != null) {
+            target = MethodHandles.insertArguments(getPropertyCachedMH, 0, entry,
+                    callsite.propertyKey);
+        }
+        return setPropertyCallSiteTarget(callsite, entry, target, generic);
+    }
+
+    @SuppressWarnings("unused")
+    private static MethodHandle setPropertySetup(PropertyCallSite callsite, Object base,
+            Object value, ExecutionContext cx) {
+        MethodHandle generic = MethodHandles.insertArguments(setPropertyGenericMH, 0,
+                callsite.propertyKey, callsite.strict);
+        if (testPrimitiveBase(base)) {
+            return setPrimitiveCallSiteTarget(callsite, generic);
+        }
+        CachedProperty entry = CachedProperty.forSet(base, callsite.propertyKey);
+        MethodHandle target = null;
+        if (entry != null) {
+            target = MethodHandles.insertArguments(setPropertyCachedMH, 0, entry,
+                    callsite.propertyKey, callsite.strict);
+        }
+        return setPropertyCallSiteTarget(callsite, entry, target, generic);
+    }
+
+    private static MethodHandle setPropertyCallSiteTarget(PropertyCallSite callsite,
+            CachedProperty entry, MethodHandle target, MethodHandle generic) {
+        if (++callsite.misses > MAX_PROPERTY_CACHE_ENTRIES) {
+            // megamorphic call site
+            callsite.setTarget(generic);
+            return generic;
+        }
+        if (target == null) {
+            // uncacheable property access, use generic lookup for this invocation only
+            return generic;
+        }
+        // prepend new cache entry to the existing guard chain
+        MethodHandle test = MethodHandles.insertArguments(testCachedPropertyMH, 0, entry);
+        callsite.setTarget(MethodHandles.guardWithTest(test, target, callsite.getTarget()));
+        return target;
+    }
+
+    /**
+     * Primitive base values don't count as cache misses, instead they are routed to the generic
+     * lookup through a separate guard which is installed once per call site
+     */
+    private static MethodHandle setPrimitiveCallSiteTarget(PropertyCallSite callsite,
+            MethodHandle generic) {
+        if (!callsite.primitiveGuard) {
+            callsite.primitiveGuard = true;
+            callsite.setTarget(MethodHandles.guardWithTest(testPrimitiveBaseMH, generic,
+                    callsite.getTarget()));
+        }
+        return generic;
+    }
+
+    private static boolean testPrimitiveBase(Object base) {
+        return !(base instanceof ScriptObject);
+    }
+
+    @SuppressWarnings("unused")
+    private static Object getPropertyGeneric(String propertyKey, boolean strict, Object base,
+            ExecutionContext cx) {
+        return ScriptRuntime.getPropertyValue(base, propertyKey, cx, strict);
+    }
+
+    @SuppressWarnings("unused")
+    private static void setPropertyGeneric(String propertyKey, boolean strict, Object base,
+            Object value, ExecutionContext cx) {
+        ScriptRuntime.setPropertyValue(base, propertyKey, value, cx, strict);
+    }
+
+    @SuppressWarnings("unused")
+    private static Object getPropertyCached(CachedProperty entry, String propertyKey,
+            Object base, ExecutionContext cx) {
+        Object value = entry.getValue(base);
+        if (value != null) {
+            return value;
+        }
+        // accessor property
+        return ((ScriptObject) base).get(cx, propertyKey, base);
+    }
+
+    @SuppressWarnings("unused")
+    private static void setPropertyCached(CachedProperty entry, String propertyKey,
+            boolean strict, Object base, Object value, ExecutionContext cx) {
+        if (!entry.setValue(base, value)) {
+            ScriptRuntime.setPropertyValue(base, propertyKey, value, cx, strict);
+        }
+    }
+
+    private static final class BindingCallSite extends MutableCallSite {
+        final String name;
+        final boolean strict;
+
+        BindingCallSite(MethodType type, String name, boolean strict) {
+            super(type);
+            this.name = name;
+            this.strict = strict;
+        }
+    }
+
+    private static final MethodHandle bindingValueSetupMH, bindingReferenceSetupMH;
+    private static final MethodHandle bindingValueGenericMH, bindingReferenceGenericMH;
+    private static final MethodHandle bindingValueCachedMH, bindingReferenceCachedMH;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        Class<?> thisClass = lookup.lookupClass();
+
+        try {
+            bindingValueGenericMH = lookup.findStatic(thisClass, "bindingValueGeneric",
+                    MethodType.methodType(Object.class, String.class, boolean.class,
+                            ExecutionContext.class));
+            bindingReferenceGenericMH = lookup.findStatic(thisClass, "bindingReferenceGeneric",
+                    MethodType.methodType(Reference.class, String.class, boolean.class,
+                            ExecutionContext.class));
+            bindingValueCachedMH = lookup.findStatic(thisClass, "bindingValueCached", MethodType
+                    .methodType(Object.class, int.class, int.class, String.class, boolean.class,
+                            ExecutionContext.class));
+            bindingReferenceCachedMH = lookup.findStatic(thisClass, "bindingReferenceCached",
+                    MethodType.methodType(Reference.class, int.class, int.class, String.class,
+                            boolean.class, ExecutionContext.class));
+
+            bindingValueSetupMH = lookup.findStatic(thisClass, "bindingValueSetup", MethodType
+                    .methodType(MethodHandle.class, BindingCallSite.class,
+                            ExecutionContext.class));
+            bindingReferenceSetupMH = lookup.findStatic(thisClass, "bindingReferenceSetup",
+                    MethodType.methodType(MethodHandle.class, BindingCallSite.class,
+                            ExecutionContext.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new Error(e);
+        }
+    }
+
+    /**
+     * Returns the declarative environment record holding the binding {@code name}, located
+     * {@code hops} levels above the current lexical environment, or {@code null} if the binding
+     * is no longer present at the cached location
+     */
+    private static DeclarativeEnvironmentRecord getBindingRecord(ExecutionContext cx, int hops,
+            int index, String name) {
+        LexicalEnvironment lex = cx.getLexicalEnvironment();
+        for (int i = 0; i < hops && lex != null; ++i) {
+            lex = lex.getOuter();
+        }
+        if (lex != null) {
+            EnvironmentRecord envRec = lex.getEnvRec();
+            if (envRec instanceof DeclarativeEnvironmentRecord
+                    && ((DeclarativeEnvironmentRecord) envRec).hasBindingAt(index, name)) {
+                return (DeclarativeEnvironmentRecord) envRec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolves the binding location of {@code callsite}'s identifier and returns a call site
+     * target with the location applied, or {@code null} if the binding is not stored in a
+     * declarative environment record
+     */
+    private static MethodHandle getCachedBindingTarget(BindingCallSite callsite,
+            ExecutionContext cx, MethodHandle cached) {
+        int hops = 0;
+        for (LexicalEnvironment lex = cx.getLexicalEnvironment(); lex != null; lex = lex
+                .getOuter(), ++hops) {
+            EnvironmentRecord envRec = lex.getEnvRec();
+            if (!(envRec instanceof DeclarativeEnvironmentRecord)) {
+                // object environment records may have side-effects, don't call hasBinding()
+                return null;
+            }
+            int index = ((DeclarativeEnvironmentRecord) envRec).getBindingIndex(callsite.name);
+            if (index >= 0) {
+                return MethodHandles.insertArguments(cached, 0, hops, index, callsite.name,
+                        callsite.strict);
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unused")
+    private static MethodHandle bindingValueSetup(BindingCallSite callsite, ExecutionContext cx) {
+        MethodHandle target = getCachedBindingTarget(callsite, cx, bindingValueCachedMH);
+        if (target == null) {
+            target = MethodHandles.insertArguments(bindingValueGenericMH, 0, callsite.name,
+                    callsite.strict);
+        }
+        callsite.setTarget(target);
+        return target;
+    }
+
+    @SuppressWarnings("unused")
+    private static MethodHandle bindingReferenceSetup(BindingCallSite callsite,
+            ExecutionContext cx) {
+        MethodHandle target = getCachedBindingTarget(callsite, cx, bindingReferenceCachedMH);
+        if (target == null) {
+            target = MethodHandles.insertArguments(bindingReferenceGenericMH, 0, callsite.name,
+                    callsite.strict);
+        }
+        callsite.setTarget(target);
+        return target;
+    }
+
+    @SuppressWarnings("unused")
+    private static Object bindingValueGeneric(String name, boolean strict, ExecutionContext cx) {
+        return cx.resolveBindingValue(name, strict);
+    }
+
+    @SuppressWarnings("unused")
+    private static Reference<EnvironmentRecord, String> bindingReferenceGeneric(String name,
+            boolean strict, ExecutionContext cx) {
+        return cx.resolveBinding(name, strict);
+    }
+
+    @SuppressWarnings("unused")
+    private static Object bindingValueCached(int hops, int index, String name, boolean strict,
+            ExecutionContext cx) {
+        DeclarativeEnvironmentRecord envRec = getBindingRecord(cx, hops, index, name);
+        if (envRec != null) {
+            return envRec.getBindingValueAt(index, strict);
+        }
+        return cx.resolveBindingValue(name, strict);
+    }
+
+    @SuppressWarnings("unused")
+    private static Reference<EnvironmentRecord, String> bindingReferenceCached(int hops,
+            int index, String name, boolean strict, ExecutionContext cx) {
+        DeclarativeEnvironmentRecord envRec = getBindingRecord(cx, hops, index, name);
+        if (envRec != null) {
+            return new Reference.IdentifierReference(envRec, name, strict);
+        }
+        return cx.resolveBinding(name, strict);
+    }
+
+    private static final class RegExpCallSite extends MutableCallSite {
+        final String pattern;
+        final String flags;
+
+        RegExpCallSite(MethodType type, String pattern, String flags) {
+            super(type);
+            this.pattern = pattern;
+            this.flags = flags;
+        }
+    }
+
+    private static final MethodHandle regExpSetupMH, regExpLiteralMH;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        Class<?> thisClass = lookup.lookupClass();
+
+        try {
+            regExpLiteralMH = lookup.findStatic(thisClass, "regExpLiteral", MethodType
+                    .methodType(Object.class, String.class, String.class, RegExpMatcher.class,
+                            ExecutionContext.class));
+            regExpSetupMH = lookup.findStatic(thisClass, "regExpSetup", MethodType.methodType(
+                    MethodHandle.class, RegExpCallSite.class, ExecutionContext.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new Error(e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static MethodHandle regExpSetup(RegExpCallSite callsite, ExecutionContext cx) {
+        // compile the pattern once and share the matcher for all evaluations of this literal
+        RegExpMatcher matcher;
+        try {
+            matcher = RegExpCache.get(callsite.pattern, callsite.flags);
+        } catch (ParserException e) {
+            throw e.toScriptException(cx);
+        }
+        MethodHandle target = MethodHandles.insertArguments(regExpLiteralMH, 0,
+                callsite.pattern, callsite.flags, matcher);
+        callsite.setTarget(target);
+        return target;
+    }
+
+    @SuppressWarnings("unused")
+    private static Object regExpLiteral(String pattern, String flags, RegExpMatcher matcher,
+            ExecutionContext cx) {
+        return RegExpConstructor.RegExpCreate(cx, pattern, flags, matcher);
+    }
+
     public static String getName(BinaryExpression.Operator binary) {
         switch (binary) {
         case ADD:
@@ -508,6 +1071,13 @@ public final class Bootstrap {
     private static final ConstantCallSite stackOverFlow_Eq;
     private static final ConstantCallSite stackOverFlow_StrictEq;
     private static final ConstantCallSite stackOverFlow_Call;
+    private static final ConstantCallSite[] stackOverFlow_CallFixed =
+            new ConstantCallSite[MAX_FIXED_ARGUMENTS + 1];
+    private static final ConstantCallSite stackOverFlow_GetProperty;
+    private static final ConstantCallSite stackOverFlow_SetProperty;
+    private static final ConstantCallSite stackOverFlow_BindingValue;
+    private static final ConstantCallSite stackOverFlow_BindingReference;
+    private static final ConstantCallSite stackOverFlow_RegExpLiteral;
     static {
         MethodHandles.Lookup lookup = MethodHandles.lookup();
         Class<?> thisClass = lookup.lookupClass();
@@ -527,6 +1097,25 @@ public final class Bootstrap {
             stackOverFlow_Call = new ConstantCallSite(lookup.findStatic(thisClass,
                     "stackOverFlow_Call", MethodType.methodType(Object.class, Callable.class,
                             ExecutionContext.class, Object.class, Object[].class)));
+            for (int i = 0; i <= MAX_FIXED_ARGUMENTS; ++i) {
+                stackOverFlow_CallFixed[i] = new ConstantCallSite(withArgumentCount(
+                        stackOverFlow_Call.getTarget(), i));
+            }
+            stackOverFlow_GetProperty = new ConstantCallSite(lookup.findStatic(thisClass,
+                    "stackOverFlow_GetProperty", MethodType.methodType(Object.class,
+                            Object.class, ExecutionContext.class)));
+            stackOverFlow_SetProperty = new ConstantCallSite(lookup.findStatic(thisClass,
+                    "stackOverFlow_SetProperty", MethodType.methodType(void.class, Object.class,
+                            Object.class, ExecutionContext.class)));
+            stackOverFlow_BindingValue = new ConstantCallSite(lookup.findStatic(thisClass,
+                    "stackOverFlow_BindingValue",
+                    MethodType.methodType(Object.class, ExecutionContext.class)));
+            stackOverFlow_BindingReference = new ConstantCallSite(lookup.findStatic(thisClass,
+                    "stackOverFlow_BindingReference",
+                    MethodType.methodType(Reference.class, ExecutionContext.class)));
+            stackOverFlow_RegExpLiteral = new ConstantCallSite(lookup.findStatic(thisClass,
+                    "stackOverFlow_RegExpLiteral",
+                    MethodType.methodType(Object.class, ExecutionContext.class)));
         } catch (NoSuchMethodException | IllegalAccessException e) {
             throw new Error(e);
         }
@@ -558,13 +1147,43 @@ public final class Bootstrap {
         throw new StackOverflowError("bootstrap stack overflow");
     }
 
+    @SuppressWarnings("unused")
+    private static Object stackOverFlow_GetProperty(Object base, ExecutionContext cx) {
+        throw new StackOverflowError("bootstrap stack overflow");
+    }
+
+    @SuppressWarnings("unused")
+    private static void stackOverFlow_SetProperty(Object base, Object value, ExecutionContext cx) {
+        throw new StackOverflowError("bootstrap stack overflow");
+    }
+
+    @SuppressWarnings("unused")
+    private static Object stackOverFlow_BindingValue(ExecutionContext cx) {
+        throw new StackOverflowError("bootstrap stack overflow");
+    }
+
+    @SuppressWarnings("unused")
+    private static Reference<?, ?> stackOverFlow_BindingReference(ExecutionContext cx) {
+        throw new StackOverflowError("bootstrap stack overflow");
+    }
+
+    @SuppressWarnings("unused")
+    private static Object stackOverFlow_RegExpLiteral(ExecutionContext cx) {
+        throw new StackOverflowError("bootstrap stack overflow");
+    }
+
     public static CallSite bootstrapDynamic(MethodHandles.Lookup caller, String name,
             MethodType type) {
         // System.out.printf("caller: %s\n", caller);
         // System.out.printf("name: %s\n", name);
         // System.out.printf("type: %s\n", type);
         try {
-            MutableCallSite callsite = new MutableCallSite(type);
+            MutableCallSite callsite;
+            if (CallNames.CALL.equals(name)) {
+                callsite = new FunctionCallSite(type);
+            } else {
+                callsite = new MutableCallSite(type);
+            }
 
             MethodHandle setup;
             switch (name) {
@@ -605,6 +1224,9 @@ public final class Bootstrap {
         } catch (StackOverflowError e) {
             switch (name) {
             case CallNames.CALL:
+                if (type.parameterCount() != 4 || type.parameterType(3) != Object[].class) {
+                    return stackOverFlow_CallFixed[type.parameterCount() - 3];
+                }
                 return stackOverFlow_Call;
             case CallNames.ADD:
                 return stackOverFlow_Add;
@@ -622,4 +1244,92 @@ public final class Bootstrap {
             }
         }
     }
+
+    public static CallSite bootstrapProperty(MethodHandles.Lookup caller, String name,
+            MethodType type, String propertyKey, int strict) {
+        try {
+            PropertyCallSite callsite = new PropertyCallSite(type, propertyKey, strict != 0);
+
+            MethodHandle setup;
+            switch (name) {
+            case CallNames.GET_PROPERTY:
+                setup = MethodHandles.insertArguments(getPropertySetupMH, 0, callsite);
+                break;
+            case CallNames.SET_PROPERTY:
+                setup = MethodHandles.insertArguments(setPropertySetupMH, 0, callsite);
+                break;
+            default:
+                throw new IllegalArgumentException(name);
+            }
+
+            callsite.setTarget(getSetupCallSiteTarget(type, setup));
+            return callsite;
+        } catch (StackOverflowError e) {
+            switch (name) {
+            case CallNames.GET_PROPERTY:
+                return stackOverFlow_GetProperty;
+            case CallNames.SET_PROPERTY:
+                return stackOverFlow_SetProperty;
+            default:
+                throw new IllegalArgumentException(name);
+            }
+        }
+    }
+
+    public static CallSite bootstrapBinding(MethodHandles.Lookup caller, String name,
+            MethodType type, String identifier, int strict) {
+        try {
+            BindingCallSite callsite = new BindingCallSite(type, identifier, strict != 0);
+
+            MethodHandle setup;
+            switch (name) {
+            case CallNames.BINDING_VALUE:
+                setup = MethodHandles.insertArguments(bindingValueSetupMH, 0, callsite);
+                break;
+            case CallNames.BINDING_REFERENCE:
+                setup = MethodHandles.insertArguments(bindingReferenceSetupMH, 0, callsite);
+                break;
+            default:
+                throw new IllegalArgumentException(name);
+            }
+
+            callsite.setTarget(getSetupCallSiteTarget(type, setup));
+            return callsite;
+        } catch (StackOverflowError e) {
+            switch (name) {
+            case CallNames.BINDING_VALUE:
+                return stackOverFlow_BindingValue;
+            case CallNames.BINDING_REFERENCE:
+                return stackOverFlow_BindingReference;
+            default:
+                throw new IllegalArgumentException(name);
+            }
+        }
+    }
+
+    public static CallSite bootstrapRegExp(MethodHandles.Lookup caller, String name,
+            MethodType type, String pattern, String flags) {
+        try {
+            RegExpCallSite callsite = new RegExpCallSite(type, pattern, flags);
+
+            MethodHandle setup;
+            switch (name) {
+            case CallNames.REGEXP_LITERAL:
+                setup = MethodHandles.insertArguments(regExpSetupMH, 0, callsite);
+                break;
+            default:
+                throw new IllegalArgumentException(name);
+            }
+
+            callsite.setTarget(getSetupCallSiteTarget(type, setup));
+            return callsite;
+        } catch (StackOverflowError e) {
+            switch (name) {
+            case CallNames.REGEXP_LITERAL:
+                return stackOverFlow_RegExpLiteral;
+            default:
+                throw new IllegalArgumentException(name);
+            }
+        }
+    }
 }
@@ -0,0 +1,266 @@
+/**
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.internal;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.anba.es6draft.Script;
+import com.github.anba.es6draft.compiler.Compiler;
+import com.github.anba.es6draft.parser.Parser;
+import com.github.anba.es6draft.runtime.Realm;
+
+/**
+ * Process-wide cache for the code compiled by eval and the Function and GeneratorFunction
+ * constructors.
+ * <p>
+ * Entries are keyed by the kind of code, the source name and text, the parser options and the
+ * compatibility and compiler options of the requesting realm. The parser options include every
+ * property of the calling scope the parser depends on (strictness, direct eval, function code,
+ * local scope, enclosing with-statement), all other scope information is resolved at runtime, so
+ * compiled code can be shared between call sites and realms. The cache holds at most
+ * {@code es6draft.compiledCode.cacheSize} entries (default: 256), the least recently used entry is
+ * evicted first. Sources longer than {@code es6draft.compiledCode.maxSourceLength} characters
+ * (default: 32768), sources with syntax errors and sources which may contain template literals are
+ * not cached. Template call site objects are registered per compilation, so sharing the compiled
+ * code would also share the call site objects between separate evaluations.
+ */
+public final class CompiledCodeCache {
+    private static final int CACHE_SIZE = Math.max(0,
+            Integer.getInteger("es6draft.compiledCode.cacheSize", 256));
+    private static final int MAX_SOURCE_LENGTH = Math.max(0,
+            Integer.getInteger("es6draft.compiledCode.maxSourceLength", 32768));
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
+    @SuppressWarnings("serial")
+    private static final Map<Key, Object> cache = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private CompiledCodeCache() {
+    }
+
+    /**
+     * The kind of the cached code
+     */
+    public enum Kind {
+        /** Eval scripts, cached as {@link Script} objects */
+        Eval,
+
+        /** Function constructor code, cached as {@link RuntimeInfo.Function} objects */
+        Function,
+
+        /** GeneratorFunction constructor code, cached as {@link RuntimeInfo.Function} objects */
+        Generator
+    }
+
+    /**
+     * Cache key for compiled code
+     */
+    public static final class Key {
+        private final Kind kind;
+        private final String sourceName;
+        private final String parameters;
+        private final String body;
+        private final EnumSet<Parser.Option> parserOptions;
+        private final Set<CompatibilityOption> options;
+        private final EnumSet<Compiler.Option> compilerOptions;
+        private final int hashCode;
+
+        private Key(Kind kind, String sourceName, String parameters, String body,
+                EnumSet<Parser.Option> parserOptions, Set<CompatibilityOption> options,
+                EnumSet<Compiler.Option> compilerOptions) {
+            this.kind = kind;
+            this.sourceName = sourceName;
+            this.parameters = parameters;
+            this.body = body;
+            this.parserOptions = parserOptions;
+            this.options = options;
+            this.compilerOptions = compilerOptions;
+            int h = kind.hashCode();
+            h = h * 31 + sourceName.hashCode();
+            h = h * 31 + parameters.hashCode();
+            h = h * 31 + body.hashCode();
+            h = h * 31 + parserOptions.hashCode();
+            this.hashCode = h;
+        }
+
+        private boolean isCacheable() {
+            return parameters.length() + body.length() <= MAX_SOURCE_LENGTH
+                    && !mayContainTemplate(parameters) && !mayContainTemplate(body);
+        }
+
+        private static boolean mayContainTemplate(String source) {
+            return source.indexOf('`') >= 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hashCode == other.hashCode && kind == other.kind
+                    && body.equals(other.body) && parameters.equals(other.parameters)
+                    && sourceName.equals(other.sourceName)
+                    && parserOptions.equals(other.parserOptions) && options.equals(other.options)
+                    && compilerOptions.equals(other.compilerOptions);
+        }
+    }
+
+    /**
+     * Returns a new cache key for eval code
+     *
+     * @param realm
+     *            the realm of the eval call
+     * @param sourceName
+     *            the source name
+     * @param source
+     *            the source text
+     * @param parserOptions
+     *            the parser options
+     * @return the new cache key
+     */
+    public static Key newEvalKey(Realm realm, String sourceName, CharSequence source,
+            EnumSet<Parser.Option> parserOptions) {
+        return new Key(Kind.Eval, sourceName, "", source.toString(),
+                EnumSet.copyOf(parserOptions), realm.getOptions(), realm.getCompilerOptions());
+    }
+
+    /**
+     * Returns a new cache key for function or generator code
+     *
+     * @param realm
+     *            the realm of the constructor call
+     * @param kind
+     *            the function kind, either {@link Kind#Function} or {@link Kind#Generator}
+     * @param sourceName
+     *            the source name
+     * @param parameters
+     *            the source text of the formal parameters
+     * @param body
+     *            the source text of the function body
+     * @return the new cache key
+     */
+    public static Key newFunctionKey(Realm realm, Kind kind, String sourceName,
+            CharSequence parameters, CharSequence body) {
+        assert kind != Kind.Eval;
+        return new Key(kind, sourceName, parameters.toString(), body.toString(),
+                EnumSet.noneOf(Parser.Option.class), realm.getOptions(),
+                realm.getCompilerOptions());
+    }
+
+    /**
+     * Returns the cached eval script for {@code key} or {@code null} if not present
+     */
+    public static Script getScript(Key key) {
+        assert key.kind == Kind.Eval;
+        return (Script) get(key);
+    }
+
+    /**
+     * Returns the cached function code for {@code key} or {@code null} if not present
+     */
+    public static RuntimeInfo.Function getFunction(Key key) {
+        assert key.kind != Kind.Eval;
+        return (RuntimeInfo.Function) get(key);
+    }
+
+    private static Object get(Key key) {
+        if (CACHE_SIZE == 0 || !key.isCacheable()) {
+            return null;
+        }
+        Object code;
+        synchronized (cache) {
+            code = cache.get(key);
+        }
+        if (code != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return code;
+    }
+
+    /**
+     * Adds the eval script {@code script} to the cache and returns the cached script, which is
+     * either {@code script} or a concurrently compiled script for the same key
+     */
+    public static Script putScript(Key key, Script script) {
+        assert key.kind == Kind.Eval;
+        return (Script) put(key, script);
+    }
+
+    /**
+     * Adds the function code {@code function} to the cache and returns the cached function code,
+     * which is either {@code function} or a concurrently compiled function for the same key
+     */
+    public static RuntimeInfo.Function putFunction(Key key, RuntimeInfo.Function function) {
+        assert key.kind != Kind.Eval;
+        return (RuntimeInfo.Function) put(key, function);
+    }
+
+    private static Object put(Key key, Object code) {
+        if (CACHE_SIZE == 0 || !key.isCacheable()) {
+            return code;
+        }
+        synchronized (cache) {
+            Object previous = cache.put(key, code);
+            if (previous != null) {
+                // concurrently compiled, keep the first code object
+                cache.put(key, previous);
+                return previous;
+            }
+        }
+        return code;
+    }
+
+    /**
+     * Returns the number of cache hits
+     */
+    public static long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of cache misses
+     */
+    public static long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the current number of cache entries
+     */
+    public static int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Removes all cache entries
+     */
+    public static void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+}
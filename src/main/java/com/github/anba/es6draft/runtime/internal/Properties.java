@@ -38,12 +38,12 @@ import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.types.BuiltinSymbol;
 import com.github.anba.es6draft.runtime.types.Callable;
 import com.github.anba.es6draft.runtime.types.Intrinsics;
-import com.github.anba.es6draft.runtime.types.Property;
 import com.github.anba.es6draft.runtime.types.PropertyDescriptor;
 import com.github.anba.es6draft.runtime.types.ScriptObject;
 import com.github.anba.es6draft.runtime.types.builtins.NativeFunction;
 import com.github.anba.es6draft.runtime.types.builtins.NativeTailCallFunction;
 import com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject;
+import com.github.anba.es6draft.runtime.types.builtins.PropertyTemplate;
 
 /**
  * Utility class to set-up initial properties for objects
@@ -277,14 +277,50 @@ public final class Properties {
     };
 
     private static final class ObjectLayout {
-        CompatibilityExtension extension;
-        Prototype proto = null;
+        CompatibilityOption extension = null;
+        boolean hasProto = false;
         Object protoValue = null;
-        Map<Value, Object> values = null;
-        Map<Function, MethodHandle> functions = null;
-        Map<Function, MethodHandle> tcfunctions = null;
-        Map<Accessor, MethodHandle> accessors = null;
-        List<Entry<AliasFunction, Function>> aliases = null;
+        PropertyEntry[] entries = null;
+        PropertyTemplate template = null;
+    }
+
+    private enum EntryKind {
+        Value, Function, TailCallFunction, Accessor, Alias
+    }
+
+    /**
+     * Pre-resolved built-in property definition, the annotation values are read once per holder
+     * class and shared by all realms
+     */
+    private static final class PropertyEntry {
+        final EntryKind kind;
+        final Object key;
+        final String name;
+        final int arity;
+        final boolean writable;
+        final boolean enumerable;
+        final boolean configurable;
+        // raw value or method handle, getter method handle for accessors
+        Object value;
+        // setter method handle for accessors
+        MethodHandle setter;
+        // unspread method handle and parameter defaults for functions, may be null
+        MethodHandle direct;
+        Object[] defaults;
+        // index of the aliased function entry
+        int target = -1;
+
+        PropertyEntry(EntryKind kind, String name, BuiltinSymbol sym, int arity,
+                Attributes attrs, Object value) {
+            this.kind = kind;
+            this.key = sym == BuiltinSymbol.NONE ? name : sym.get();
+            this.name = name;
+            this.arity = arity;
+            this.writable = attrs.writable();
+            this.enumerable = attrs.enumerable();
+            this.configurable = attrs.configurable();
+            this.value = value;
+        }
     }
 
     /**
@@ -522,63 +558,49 @@ public final class Properties {
     private static void createExternalProperties(ScriptObject target, ScriptObject owner,
             ExecutionContext cx, Class<?> holder) {
         ObjectLayout layout = externalLayouts.get(holder);
-        if (layout.functions != null) {
+        if (layout.entries != null) {
             Converter converter = new Converter(cx);
-            for (Entry<Function, MethodHandle> entry : layout.functions.entrySet()) {
-                createExternalFunction(target, owner, cx, converter, entry.getKey(),
-                        entry.getValue());
+            for (PropertyEntry entry : layout.entries) {
+                createExternalFunction(target, owner, cx, converter, entry);
             }
         }
     }
 
     private static void createExternalFunction(ScriptObject target, ScriptObject owner,
-            ExecutionContext cx, Converter converter, Function function, MethodHandle unreflect) {
-        MethodHandle handle = getInstanceMethodHandle(cx, converter, unreflect, owner);
-        String name = function.name();
-        int arity = function.arity();
-        Attributes attrs = function.attributes();
-        assert function.symbol() == BuiltinSymbol.NONE;
-
-        NativeFunction fun = new NativeFunction(cx.getRealm(), name, arity, handle);
-        target.defineOwnProperty(cx, name, propertyDescriptor(fun, attrs));
+            ExecutionContext cx, Converter converter, PropertyEntry entry) {
+        assert entry.kind == EntryKind.Function && entry.key instanceof String;
+        MethodHandle handle = getInstanceMethodHandle(cx, converter, (MethodHandle) entry.value,
+                owner);
+        NativeFunction fun = new NativeFunction(cx.getRealm(), entry.name, entry.arity, handle);
+        target.defineOwnProperty(cx, entry.name, propertyDescriptor(fun, entry));
     }
 
     private static void createInternalProperties(OrdinaryObject owner, ExecutionContext cx,
             Class<?> holder) {
         ObjectLayout layout = internalLayouts.get(holder);
-        if (layout.extension != null && !cx.getRealm().isEnabled(layout.extension.value())) {
+        if (layout.extension != null && !cx.getRealm().isEnabled(layout.extension)) {
             // return if extension is not enabled
             return;
         }
-        if (layout.proto != null) {
-            createPrototype(owner, cx, layout.proto, layout.protoValue);
-        }
-        if (layout.values != null) {
-            for (Entry<Value, Object> entry : layout.values.entrySet()) {
-                createValue(owner, cx, entry.getKey(), entry.getValue());
-            }
-        }
-        if (layout.functions != null) {
-            for (Entry<Function, MethodHandle> entry : layout.functions.entrySet()) {
-                createFunction(owner, cx, entry.getKey(), entry.getValue());
-            }
+        if (layout.hasProto) {
+            createPrototype(owner, cx, layout.protoValue);
         }
-        if (layout.tcfunctions != null) {
-            for (Entry<Function, MethodHandle> entry : layout.tcfunctions.entrySet()) {
-                createTailCallFunction(owner, cx, entry.getKey(), entry.getValue());
-            }
+        PropertyEntry[] entries = layout.entries;
+        if (entries == null) {
+            return;
         }
-        if (layout.accessors != null) {
-            Map<String, PropertyDescriptor> accessors1 = new LinkedHashMap<>();
-            Map<BuiltinSymbol, PropertyDescriptor> accessors2 = new EnumMap<>(BuiltinSymbol.class);
-            for (Entry<Accessor, MethodHandle> entry : layout.accessors.entrySet()) {
-                createAccessor(owner, cx, entry.getKey(), entry.getValue(), accessors1, accessors2);
-            }
-            completeAccessors(owner, cx, accessors1, accessors2);
+        List<Object> keys = new ArrayList<>(entries.length);
+        List<PropertyDescriptor> descs = new ArrayList<>(entries.length);
+        for (PropertyEntry entry : entries) {
+            keys.add(entry.key);
+            descs.add(createProperty(cx, entry, descs));
         }
-        if (layout.aliases != null) {
-            for (Entry<AliasFunction, Function> entry : layout.aliases) {
-                createAliasFunction(owner, cx, entry.getKey(), entry.getValue());
+        // replay the property layout recorded for the first object created from this holder
+        PropertyTemplate template = layout.template;
+        if (template == null || !template.apply(owner, descs)) {
+            PropertyTemplate newTemplate = PropertyTemplate.define(owner, cx, keys, descs);
+            if (template == null) {
+                layout.template = newTemplate;
             }
         }
     }
@@ -587,17 +609,19 @@ public final class Properties {
         try {
             ObjectLayout layout = new ObjectLayout();
             Lookup lookup = MethodHandles.publicLookup();
+            List<PropertyEntry> functions = new ArrayList<>();
             for (Method method : holder.getDeclaredMethods()) {
                 if (Modifier.isStatic(method.getModifiers()))
                     continue;
                 Function function = method.getAnnotation(Function.class);
                 if (function != null) {
-                    if (layout.functions == null) {
-                        layout.functions = new LinkedHashMap<>();
-                    }
-                    layout.functions.put(function, lookup.unreflect(method));
+                    functions.add(functionEntry(EntryKind.Function, function,
+                            lookup.unreflect(method)));
                 }
             }
+            if (!functions.isEmpty()) {
+                layout.entries = functions.toArray(new PropertyEntry[functions.size()]);
+            }
             return layout;
         } catch (IllegalAccessException e) {
             throw new IllegalArgumentException(e);
@@ -608,8 +632,16 @@ public final class Properties {
         try {
             ObjectLayout layout = new ObjectLayout();
             Lookup lookup = MethodHandles.publicLookup();
-            layout.extension = holder.getAnnotation(CompatibilityExtension.class);
-            boolean hasProto = false;
+            CompatibilityExtension extension = holder.getAnnotation(CompatibilityExtension.class);
+            if (extension != null) {
+                layout.extension = extension.value();
+            }
+            List<PropertyEntry> values = new ArrayList<>();
+            List<PropertyEntry> functions = new ArrayList<>();
+            List<PropertyEntry> tcfunctions = new ArrayList<>();
+            Map<String, PropertyEntry> accessors1 = new LinkedHashMap<>();
+            Map<BuiltinSymbol, PropertyEntry> accessors2 = new EnumMap<>(BuiltinSymbol.class);
+            List<Entry<AliasFunction, Function>> aliases = new ArrayList<>();
             for (Field field : holder.getDeclaredFields()) {
                 if (!Modifier.isStatic(field.getModifiers()))
                     continue;
@@ -619,16 +651,12 @@ public final class Properties {
 
                 if (value != null) {
                     assert Modifier.isFinal(field.getModifiers());
-                    if (layout.values == null) {
-                        layout.values = new LinkedHashMap<>();
-                    }
-                    layout.values.put(value, getRawValue(field));
+                    values.add(valueEntry(value, getRawValue(field)));
                 }
                 if (prototype != null) {
                     assert Modifier.isFinal(field.getModifiers());
-                    assert !hasProto;
-                    hasProto = true;
-                    layout.proto = prototype;
+                    assert !layout.hasProto;
+                    layout.hasProto = true;
                     layout.protoValue = getRawValue(field);
                 }
             }
@@ -638,61 +666,119 @@ public final class Properties {
                 Function function = method.getAnnotation(Function.class);
                 Accessor accessor = method.getAnnotation(Accessor.class);
                 AliasFunction alias = method.getAnnotation(AliasFunction.class);
-                AliasFunctions aliases = method.getAnnotation(AliasFunctions.class);
+                AliasFunctions aliasFunctions = method.getAnnotation(AliasFunctions.class);
                 TailCall tailCall = method.getAnnotation(TailCall.class);
                 Value value = method.getAnnotation(Value.class);
                 assert function == null || (accessor == null && value == null);
                 assert accessor == null || (function == null && value == null);
                 assert value == null || (function == null && accessor == null);
                 assert alias == null || function != null;
-                assert aliases == null || function != null;
+                assert aliasFunctions == null || function != null;
                 assert tailCall == null || function != null;
 
                 if (function != null && tailCall == null) {
-                    if (layout.functions == null) {
-                        layout.functions = new LinkedHashMap<>();
+                    PropertyEntry entry = functionEntry(EntryKind.Function, function,
+                            getStaticMethodHandle(lookup, method));
+                    entry.direct = getDirectMethodHandle(lookup, method);
+                    if (entry.direct != null) {
+                        entry.defaults = methodDefaults(method, 2, entry.direct.type()
+                                .parameterCount() - 2);
                     }
-                    layout.functions.put(function, getStaticMethodHandle(lookup, method));
+                    functions.add(entry);
                 }
                 if (function != null && tailCall != null) {
-                    if (layout.tcfunctions == null) {
-                        layout.tcfunctions = new LinkedHashMap<>();
-                    }
-                    layout.tcfunctions.put(function, getStaticMethodHandle(lookup, method));
+                    tcfunctions.add(functionEntry(EntryKind.TailCallFunction, function,
+                            getStaticMethodHandle(lookup, method)));
                 }
                 if (accessor != null) {
-                    if (layout.accessors == null) {
-                        layout.accessors = new LinkedHashMap<>();
-                    }
-                    layout.accessors.put(accessor, getStaticMethodHandle(lookup, method));
+                    addAccessor(accessor, getStaticMethodHandle(lookup, method), accessors1,
+                            accessors2);
                 }
                 if (value != null) {
-                    if (layout.values == null) {
-                        layout.values = new LinkedHashMap<>();
-                    }
-                    layout.values.put(value, getComputedValueMethodHandle(lookup, method));
+                    values.add(valueEntry(value, getComputedValueMethodHandle(lookup, method)));
                 }
                 if (alias != null) {
-                    if (layout.aliases == null) {
-                        layout.aliases = new ArrayList<>();
-                    }
-                    layout.aliases.add(new SimpleImmutableEntry<>(alias, function));
+                    aliases.add(new SimpleImmutableEntry<>(alias, function));
                 }
-                if (aliases != null) {
-                    if (layout.aliases == null) {
-                        layout.aliases = new ArrayList<>();
-                    }
-                    for (AliasFunction a : aliases.value()) {
-                        layout.aliases.add(new SimpleImmutableEntry<>(a, function));
+                if (aliasFunctions != null) {
+                    for (AliasFunction a : aliasFunctions.value()) {
+                        aliases.add(new SimpleImmutableEntry<>(a, function));
                     }
                 }
             }
+            List<PropertyEntry> entries = new ArrayList<>();
+            entries.addAll(values);
+            entries.addAll(functions);
+            entries.addAll(tcfunctions);
+            entries.addAll(accessors1.values());
+            entries.addAll(accessors2.values());
+            for (Entry<AliasFunction, Function> entry : aliases) {
+                entries.add(aliasEntry(entry.getKey(), entry.getValue(), entries));
+            }
+            if (!entries.isEmpty()) {
+                layout.entries = entries.toArray(new PropertyEntry[entries.size()]);
+            }
             return layout;
         } catch (IllegalAccessException e) {
             throw new IllegalArgumentException(e);
         }
     }
 
+    private static PropertyEntry valueEntry(Value value, Object rawValue) {
+        return new PropertyEntry(EntryKind.Value, value.name(), value.symbol(), 0,
+                value.attributes(), rawValue);
+    }
+
+    private static PropertyEntry functionEntry(EntryKind kind, Function function,
+            MethodHandle mh) {
+        return new PropertyEntry(kind, function.name(), function.symbol(), function.arity(),
+                function.attributes(), mh);
+    }
+
+    private static void addAccessor(Accessor accessor, MethodHandle mh,
+            Map<String, PropertyEntry> accessors1, Map<BuiltinSymbol, PropertyEntry> accessors2) {
+        String name = accessor.name();
+        BuiltinSymbol sym = accessor.symbol();
+        Attributes attrs = accessor.attributes();
+        PropertyEntry entry;
+        if (sym == BuiltinSymbol.NONE) {
+            if ((entry = accessors1.get(name)) == null) {
+                accessors1.put(name, entry = new PropertyEntry(EntryKind.Accessor, name, sym, 0,
+                        attrs, null));
+            }
+        } else {
+            if ((entry = accessors2.get(sym)) == null) {
+                accessors2.put(sym, entry = new PropertyEntry(EntryKind.Accessor, name, sym, 0,
+                        attrs, null));
+            }
+        }
+        assert !attrs.writable() && attrs.enumerable() == entry.enumerable
+                && attrs.configurable() == entry.configurable;
+        if (accessor.type() == Accessor.Type.Getter) {
+            assert entry.value == null;
+            entry.value = mh;
+        } else {
+            assert entry.setter == null;
+            entry.setter = mh;
+        }
+    }
+
+    private static PropertyEntry aliasEntry(AliasFunction alias, Function function,
+            List<PropertyEntry> entries) {
+        PropertyEntry entry = new PropertyEntry(EntryKind.Alias, alias.name(), alias.symbol(), 0,
+                alias.attributes(), null);
+        Object functionKey = function.symbol() == BuiltinSymbol.NONE ? function.name() : function
+                .symbol().get();
+        for (int i = entries.size() - 1; i >= 0; --i) {
+            if (entries.get(i).key.equals(functionKey)) {
+                entry.target = i;
+                break;
+            }
+        }
+        assert entry.target >= 0;
+        return entry;
+    }
+
     private static Object getRawValue(Field field) throws IllegalAccessException {
         return field.get(null);
     }
@@ -800,6 +886,19 @@ public final class Properties {
         return handle;
     }
 
+    private static MethodHandle getDirectMethodHandle(Lookup lookup, Method method)
+            throws IllegalAccessException {
+        // check: (ExecutionContext, Object, Object...) -> Object without varargs
+        MethodHandle handle = lookup.unreflect(method);
+        MethodType type = handle.type();
+        if (handle.isVarargsCollector()
+                || staticMethodKind(type) != StaticMethodKind.Spreader
+                || type.parameterType(type.parameterCount() - 1) == Object[].class) {
+            return null;
+        }
+        return handle;
+    }
+
     private static MethodHandle getComputedValueMethodHandle(Lookup lookup, Method method)
             throws IllegalAccessException {
         // check: (ExecutionContext) -> Object
@@ -913,128 +1012,48 @@ public final class Properties {
         }
     }
 
-    private static void createPrototype(OrdinaryObject owner, ExecutionContext cx, Prototype proto,
-            Object rawValue) {
+    private static void createPrototype(OrdinaryObject owner, ExecutionContext cx, Object rawValue) {
         Object value = resolveValue(cx, rawValue);
         assert value == null || value instanceof ScriptObject;
         ScriptObject prototype = (ScriptObject) value;
         owner.setPrototype(prototype);
     }
 
-    private static void createValue(OrdinaryObject owner, ExecutionContext cx, Value val,
-            Object rawValue) {
-        String name = val.name();
-        BuiltinSymbol sym = val.symbol();
-        Attributes attrs = val.attributes();
-        Object value = resolveValue(cx, rawValue);
-        if (sym == BuiltinSymbol.NONE) {
-            owner.defineOwnProperty(cx, name, propertyDescriptor(value, attrs));
-        } else {
-            owner.defineOwnProperty(cx, sym.get(), propertyDescriptor(value, attrs));
-        }
-    }
-
-    private static void createFunction(OrdinaryObject owner, ExecutionContext cx,
-            Function function, MethodHandle mh) {
-        String name = function.name();
-        BuiltinSymbol sym = function.symbol();
-        int arity = function.arity();
-        Attributes attrs = function.attributes();
-
-        mh = MethodHandles.insertArguments(mh, 0, cx);
-
-        NativeFunction fun = new NativeFunction(cx.getRealm(), name, arity, mh);
-        if (sym == BuiltinSymbol.NONE) {
-            owner.defineOwnProperty(cx, name, propertyDescriptor(fun, attrs));
-        } else {
-            owner.defineOwnProperty(cx, sym.get(), propertyDescriptor(fun, attrs));
-        }
-    }
-
-    private static void createTailCallFunction(OrdinaryObject owner, ExecutionContext cx,
-            Function function, MethodHandle mh) {
-        String name = function.name();
-        BuiltinSymbol sym = function.symbol();
-        int arity = function.arity();
-        Attributes attrs = function.attributes();
-
-        mh = MethodHandles.insertArguments(mh, 0, cx);
-
-        NativeTailCallFunction fun = new NativeTailCallFunction(cx.getRealm(), name, arity, mh);
-        if (sym == BuiltinSymbol.NONE) {
-            owner.defineOwnProperty(cx, name, propertyDescriptor(fun, attrs));
-        } else {
-            owner.defineOwnProperty(cx, sym.get(), propertyDescriptor(fun, attrs));
-        }
-    }
-
-    private static void createAccessor(OrdinaryObject owner, ExecutionContext cx,
-            Accessor accessor, MethodHandle mh, Map<String, PropertyDescriptor> accessors1,
-            Map<BuiltinSymbol, PropertyDescriptor> accessors2) {
-        String name = accessor.name();
-        BuiltinSymbol sym = accessor.symbol();
-        Accessor.Type type = accessor.type();
-        int arity = (type == Accessor.Type.Getter ? 0 : 1);
-        Attributes attrs = accessor.attributes();
-        String functionName = (type == Accessor.Type.Getter ? "get " : "set ") + name;
-
-        mh = MethodHandles.insertArguments(mh, 0, cx);
-
-        NativeFunction fun = new NativeFunction(cx.getRealm(), functionName, arity, mh);
-        PropertyDescriptor desc;
-        if (sym == BuiltinSymbol.NONE) {
-            if ((desc = accessors1.get(name)) == null) {
-                accessors1.put(name, desc = propertyDescriptor(null, null, attrs));
-            }
-        } else {
-            if ((desc = accessors2.get(sym)) == null) {
-                accessors2.put(sym, desc = propertyDescriptor(null, null, attrs));
+    private static PropertyDescriptor createProperty(ExecutionContext cx, PropertyEntry entry,
+            List<PropertyDescriptor> descs) {
+        switch (entry.kind) {
+        case Value:
+            return propertyDescriptor(resolveValue(cx, entry.value), entry);
+        case Function: {
+            MethodHandle mh = MethodHandles.insertArguments((MethodHandle) entry.value, 0, cx);
+            MethodHandle direct = null;
+            if (entry.direct != null) {
+                direct = MethodHandles.insertArguments(entry.direct, 0, cx);
             }
+            return propertyDescriptor(new NativeFunction(cx.getRealm(), entry.name, entry.arity,
+                    mh, direct, entry.defaults), entry);
         }
-        assert !attrs.writable() && attrs.enumerable() == desc.isEnumerable()
-                && attrs.configurable() == desc.isConfigurable();
-        if (type == Accessor.Type.Getter) {
-            assert desc.getGetter() == null;
-            desc.setGetter(fun);
-        } else {
-            assert desc.getSetter() == null;
-            desc.setSetter(fun);
+        case TailCallFunction: {
+            MethodHandle mh = MethodHandles.insertArguments((MethodHandle) entry.value, 0, cx);
+            return propertyDescriptor(new NativeTailCallFunction(cx.getRealm(), entry.name,
+                    entry.arity, mh), entry);
         }
-    }
-
-    private static void completeAccessors(OrdinaryObject owner, ExecutionContext cx,
-            Map<String, PropertyDescriptor> accessors1,
-            Map<BuiltinSymbol, PropertyDescriptor> accessors2) {
-        if (accessors1 != null) {
-            for (Entry<String, PropertyDescriptor> entry : accessors1.entrySet()) {
-                owner.defineOwnProperty(cx, entry.getKey(), entry.getValue());
+        case Accessor: {
+            Callable getter = null, setter = null;
+            if (entry.value != null) {
+                MethodHandle mh = MethodHandles.insertArguments((MethodHandle) entry.value, 0, cx);
+                getter = new NativeFunction(cx.getRealm(), "get " + entry.name, 0, mh);
             }
-        }
-        if (accessors2 != null) {
-            for (Entry<BuiltinSymbol, PropertyDescriptor> entry : accessors2.entrySet()) {
-                owner.defineOwnProperty(cx, entry.getKey().get(), entry.getValue());
+            if (entry.setter != null) {
+                MethodHandle mh = MethodHandles.insertArguments(entry.setter, 0, cx);
+                setter = new NativeFunction(cx.getRealm(), "set " + entry.name, 1, mh);
             }
+            return new PropertyDescriptor(getter, setter, entry.enumerable, entry.configurable);
         }
-    }
-
-    private static void createAliasFunction(OrdinaryObject owner, ExecutionContext cx,
-            AliasFunction alias, Function function) {
-        String name = alias.name();
-        BuiltinSymbol sym = alias.symbol();
-        Attributes attrs = alias.attributes();
-
-        Property fun;
-        if (function.symbol() == BuiltinSymbol.NONE) {
-            fun = owner.getOwnProperty(cx, function.name());
-        } else {
-            fun = owner.getOwnProperty(cx, function.symbol().get());
-        }
-        assert fun != null;
-
-        if (sym == BuiltinSymbol.NONE) {
-            owner.defineOwnProperty(cx, name, propertyDescriptor(fun.getValue(), attrs));
-        } else {
-            owner.defineOwnProperty(cx, sym.get(), propertyDescriptor(fun.getValue(), attrs));
+        case Alias:
+            return propertyDescriptor(descs.get(entry.target).getValue(), entry);
+        default:
+            throw new AssertionError();
         }
     }
 
@@ -1112,13 +1131,7 @@ public final class Properties {
         return defaults;
     }
 
-    private static PropertyDescriptor propertyDescriptor(Object value, Attributes attrs) {
-        return new PropertyDescriptor(value, attrs.writable(), attrs.enumerable(),
-                attrs.configurable());
-    }
-
-    private static PropertyDescriptor propertyDescriptor(Callable getter, Callable setter,
-            Attributes attrs) {
-        return new PropertyDescriptor(getter, setter, attrs.enumerable(), attrs.configurable());
+    private static PropertyDescriptor propertyDescriptor(Object value, PropertyEntry entry) {
+        return new PropertyDescriptor(value, entry.writable, entry.enumerable, entry.configurable);
     }
 }
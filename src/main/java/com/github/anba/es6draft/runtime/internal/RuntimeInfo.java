@@ -18,9 +18,15 @@ public final class RuntimeInfo {
     private RuntimeInfo() {
     }
 
+    public static Function newFunction(String functionName, int functionFlags,
+            int expectedArgumentCount, String source, MethodHandle handle, MethodHandle callMethod) {
+        return newFunction(functionName, functionFlags, expectedArgumentCount, source, handle,
+                callMethod, null);
+    }
+
     public static Function newFunction(final String functionName, final int functionFlags,
             final int expectedArgumentCount, final String source, final MethodHandle handle,
-            final MethodHandle callMethod) {
+            final MethodHandle callMethod, final MethodHandle fixedArityCallMethod) {
         return new Function() {
             @Override
             public String functionName() {
@@ -57,11 +63,6 @@ public final class RuntimeInfo {
                 return FunctionFlags.Legacy.isSet(functionFlags);
             }
 
-            @Override
-            public boolean hasSyntheticMethods() {
-                return FunctionFlags.SyntheticMethods.isSet(functionFlags);
-            }
-
             @Override
             public int expectedArgumentCount() {
                 return expectedArgumentCount;
@@ -81,6 +82,11 @@ public final class RuntimeInfo {
             public MethodHandle callMethod() {
                 return callMethod;
             }
+
+            @Override
+            public MethodHandle fixedArityCallMethod() {
+                return fixedArityCallMethod;
+            }
         };
     }
 
@@ -183,12 +189,7 @@ public final class RuntimeInfo {
         /**
          * Flag for legacy functions
          */
-        Legacy(0b0010_0000),
-
-        /**
-         * Flag for functions with synthetic sub-methods
-         */
-        SyntheticMethods(0b0100_0000);
+        Legacy(0b0010_0000);
 
         private final int value;
 
@@ -223,8 +224,6 @@ public final class RuntimeInfo {
 
         boolean isLegacy();
 
-        boolean hasSyntheticMethods();
-
         int expectedArgumentCount();
 
         String source();
@@ -234,6 +233,14 @@ public final class RuntimeInfo {
          */
         MethodHandle callMethod();
 
+        /**
+         * (? extends FunctionObject, ExecutionContext, Object, Object...) -> Object
+         * <p>
+         * Call method with one {@code Object} parameter per formal parameter, or {@code null} if
+         * the function code requires the arguments array
+         */
+        MethodHandle fixedArityCallMethod();
+
         /**
          * (ExecutionContext, ...?) -> Object
          */
@@ -14,16 +14,21 @@ import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.github.anba.es6draft.Script;
 import com.github.anba.es6draft.ScriptLoader;
+import com.github.anba.es6draft.compiler.CodeCache;
 import com.github.anba.es6draft.compiler.CompilationException;
+import com.github.anba.es6draft.compiler.Compiler;
 import com.github.anba.es6draft.parser.Parser;
 import com.github.anba.es6draft.parser.ParserException;
 
@@ -43,6 +48,8 @@ public final class ScriptCache {
     });
 
     private Set<CompatibilityOption> options;
+    private EnumSet<Compiler.Option> compilerOptions;
+    private CodeCache codeCache;
     private AtomicInteger scriptCounter = new AtomicInteger(0);
 
     private String nextScriptName() {
@@ -50,7 +57,27 @@ public final class ScriptCache {
     }
 
     public ScriptCache(Set<CompatibilityOption> options) {
+        this(options, null);
+    }
+
+    /**
+     * Creates a new script cache which additionally stores compiled scripts in the persistent
+     * {@code codeCache}
+     */
+    public ScriptCache(Set<CompatibilityOption> options, CodeCache codeCache) {
+        this(options, EnumSet.noneOf(Compiler.Option.class), codeCache);
+    }
+
+    /**
+     * Creates a new script cache which compiles scripts with {@code compilerOptions} and
+     * additionally stores compiled scripts in the persistent {@code codeCache}
+     */
+    public ScriptCache(Set<CompatibilityOption> options, Set<Compiler.Option> compilerOptions,
+            CodeCache codeCache) {
         this.options = EnumSet.copyOf(options);
+        this.compilerOptions = EnumSet.noneOf(Compiler.Option.class);
+        this.compilerOptions.addAll(compilerOptions);
+        this.codeCache = codeCache;
     }
 
     /**
@@ -64,8 +91,7 @@ public final class ScriptCache {
      * Parses the javascript source
      */
     private com.github.anba.es6draft.ast.Script parse(String sourceFile, int sourceLine,
-            Reader reader) throws ParserException, IOException {
-        String source = readFully(reader);
+            String source) throws ParserException {
         Parser parser = new Parser(sourceFile, sourceLine, options);
         com.github.anba.es6draft.ast.Script parsedScript = parser.parseScript(source);
         return parsedScript;
@@ -80,6 +106,27 @@ public final class ScriptCache {
         return sb.toString();
     }
 
+    /**
+     * Parses and compiles the javascript source, compiled scripts are looked up in and added to the
+     * persistent code cache if present
+     */
+    private Script load(String sourceName, int sourceLine, Reader reader) throws IOException,
+            ParserException, CompilationException {
+        String source = readFully(reader);
+        if (codeCache == null) {
+            return ScriptLoader.load(nextScriptName(), parse(sourceName, sourceLine, source),
+                    compilerOptions);
+        }
+        String cacheKey = codeCache.newKey(sourceName, sourceLine, source, options,
+                compilerOptions);
+        Script script = codeCache.load(cacheKey);
+        if (script == null) {
+            script = ScriptLoader.load(nextScriptName(), parse(sourceName, sourceLine, source),
+                    compilerOptions, codeCache, cacheKey);
+        }
+        return script;
+    }
+
     /**
      * Parses and compiles the javascript file
      */
@@ -94,7 +141,7 @@ public final class ScriptCache {
     public Script script(String sourceName, int sourceLine, InputStream stream) throws IOException,
             ParserException, CompilationException {
         try (Reader r = newReader(stream)) {
-            return ScriptLoader.load(nextScriptName(), parse(sourceName, sourceLine, r));
+            return load(sourceName, sourceLine, r);
         }
     }
 
@@ -104,7 +151,7 @@ public final class ScriptCache {
     public Script script(String sourceName, int sourceLine, Reader reader) throws IOException,
             ParserException, CompilationException {
         try (Reader r = reader) {
-            return ScriptLoader.load(nextScriptName(), parse(sourceName, sourceLine, r));
+            return load(sourceName, sourceLine, r);
         }
     }
 
@@ -121,4 +168,28 @@ public final class ScriptCache {
         cache.put(file, script);
         return script;
     }
+
+    /**
+     * Compiles each file in {@code files} to a {@link Script}. Files which are already cached are
+     * taken from the cache, all other files are parsed and compiled concurrently. The cache only
+     * holds the {@value #MAX_SIZE} most recently used files, so the newly compiled scripts are
+     * returned without being added to the cache.
+     */
+    public List<Script> getAll(List<Path> files) throws IOException, ParserException,
+            CompilationException {
+        List<Callable<Script>> tasks = new ArrayList<>(files.size());
+        for (final Path file : files) {
+            final Script cached = cache.get(file);
+            tasks.add(new Callable<Script>() {
+                @Override
+                public Script call() throws IOException, ParserException, CompilationException {
+                    if (cached != null) {
+                        return cached;
+                    }
+                    return script(file.getFileName().toString(), 1, file);
+                }
+            });
+        }
+        return ScriptLoader.awaitAll(ScriptLoader.loadAll(tasks));
+    }
 }
@@ -10,7 +10,6 @@ import static com.github.anba.es6draft.runtime.AbstractOperations.*;
 import static com.github.anba.es6draft.runtime.internal.Errors.*;
 import static com.github.anba.es6draft.runtime.objects.internal.ListIterator.FromListIterator;
 import static com.github.anba.es6draft.runtime.objects.internal.ListIterator.FromScriptIterator;
-import static com.github.anba.es6draft.runtime.objects.iteration.GeneratorAbstractOperations.GeneratorYield;
 import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
 import static com.github.anba.es6draft.runtime.types.builtins.ExoticArguments.CreateStrictArgumentsObject;
 import static com.github.anba.es6draft.runtime.types.builtins.ExoticArray.ArrayCreate;
@@ -38,6 +37,7 @@ import com.github.anba.es6draft.runtime.GlobalEnvironmentRecord;
 import com.github.anba.es6draft.runtime.LexicalEnvironment;
 import com.github.anba.es6draft.runtime.Realm;
 import com.github.anba.es6draft.runtime.objects.FunctionPrototype;
+import com.github.anba.es6draft.runtime.objects.binary.TypedArrayObject;
 import com.github.anba.es6draft.runtime.objects.iteration.GeneratorObject;
 import com.github.anba.es6draft.runtime.types.*;
 import com.github.anba.es6draft.runtime.types.builtins.FunctionObject;
@@ -331,6 +331,25 @@ public final class ScriptRuntime {
         return ref.getValue(cx);
     }
 
+    /**
+     * 12.2.2 Property Accessors
+     * <p>
+     * 12.2.2.1 Runtime Semantics: Evaluation
+     * <ul>
+     * <li>MemberExpression : MemberExpression . IdentifierName
+     * <li>CallExpression : CallExpression . IdentifierName
+     * </ul>
+     * 6.2.3.2 PutValue (V, W)
+     */
+    public static void setPropertyValue(Object baseValue, String propertyNameString, Object value,
+            ExecutionContext cx, boolean strict) {
+        /* steps 1-7 (generated code) */
+        /* steps 8-10 */
+        Reference<Object, String> ref = new Reference.PropertyNameReference(baseValue,
+                propertyNameString, strict);
+        ref.putValue(value, cx);
+    }
+
     /**
      * 12.2.2 Property Accessors
      * <p>
@@ -366,6 +385,12 @@ public final class ScriptRuntime {
     public static Object getElementValue(Object baseValue, Object propertyNameValue,
             ExecutionContext cx, boolean strict) {
         /* steps 1-6 (generated code) */
+        if (baseValue instanceof TypedArrayObject) {
+            int index = typedArrayIndex(propertyNameValue);
+            if (index >= 0) {
+                return ((TypedArrayObject) baseValue).getElement(cx, index);
+            }
+        }
         /* step 7 */
         CheckObjectCoercible(cx, baseValue);
         /* step 8 */
@@ -381,6 +406,106 @@ public final class ScriptRuntime {
         return ref.getValue(cx);
     }
 
+    /**
+     * 12.2.2 Property Accessors
+     * <p>
+     * 12.2.2.1 Runtime Semantics: Evaluation
+     * <ul>
+     * <li>MemberExpression : MemberExpression [ Expression ]
+     * <li>CallExpression : CallExpression [ Expression ]
+     * </ul>
+     * Specialised variant for numeric property names
+     */
+    public static Object getElementValue(Object baseValue, double propertyNameValue,
+            ExecutionContext cx, boolean strict) {
+        /* steps 1-6 (generated code) */
+        if (baseValue instanceof TypedArrayObject) {
+            int index = (int) propertyNameValue;
+            if (index == propertyNameValue && index >= 0) {
+                return ((TypedArrayObject) baseValue).getElement(cx, index);
+            }
+        }
+        /* steps 7-10 */
+        return getPropertyValue(baseValue, ToString(propertyNameValue), cx, strict);
+    }
+
+    /**
+     * 12.2.2 Property Accessors
+     * <p>
+     * 12.2.2.1 Runtime Semantics: Evaluation
+     * <ul>
+     * <li>MemberExpression : MemberExpression [ Expression ]
+     * <li>CallExpression : CallExpression [ Expression ]
+     * </ul>
+     * Steps 7-8 for assignments, number values are returned unchanged since their conversion to
+     * property keys cannot have side-effects
+     */
+    public static Object checkElementKey(Object baseValue, Object propertyNameValue,
+            ExecutionContext cx) {
+        /* steps 1-6 (generated code) */
+        /* step 7 */
+        CheckObjectCoercible(cx, baseValue);
+        /* step 8 */
+        if (Type.isNumber(propertyNameValue)) {
+            return propertyNameValue;
+        }
+        return ToPropertyKey(cx, propertyNameValue);
+    }
+
+    /**
+     * 12.2.2 Property Accessors
+     * <p>
+     * 12.2.2.1 Runtime Semantics: Evaluation
+     * <ul>
+     * <li>MemberExpression : MemberExpression [ Expression ]
+     * <li>CallExpression : CallExpression [ Expression ]
+     * </ul>
+     * 6.2.3.2 PutValue (V, W)
+     */
+    public static void setElementValue(Object baseValue, Object propertyKey, Object value,
+            ExecutionContext cx, boolean strict) {
+        /* steps 1-8 (generated code) */
+        if (baseValue instanceof TypedArrayObject) {
+            int index = typedArrayIndex(propertyKey);
+            if (index >= 0) {
+                boolean succeeded = ((TypedArrayObject) baseValue).setElement(cx, index, value);
+                if (!succeeded && strict) {
+                    throw newTypeError(cx, Messages.Key.PropertyNotModifiable,
+                            Integer.toString(index));
+                }
+                return;
+            }
+        }
+        /* steps 9-10 */
+        if (propertyKey instanceof Symbol) {
+            Reference<Object, Symbol> ref = new Reference.PropertySymbolReference(baseValue,
+                    (Symbol) propertyKey, strict);
+            ref.putValue(value, cx);
+        } else {
+            Reference<Object, String> ref = new Reference.PropertyNameReference(baseValue,
+                    ToFlatString(cx, propertyKey), strict);
+            ref.putValue(value, cx);
+        }
+    }
+
+    /**
+     * Returns the integer index for {@code propertyNameValue} if it is a non-negative integer
+     * number value in the int range, otherwise returns {@code -1}
+     */
+    private static int typedArrayIndex(Object propertyNameValue) {
+        if (propertyNameValue instanceof Integer) {
+            return (Integer) propertyNameValue;
+        }
+        if (propertyNameValue instanceof Double) {
+            double value = (Double) propertyNameValue;
+            int index = (int) value;
+            if (index == value) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
     /**
      * 12.2.3 The new Operator
      * <p>
@@ -742,7 +867,7 @@ public final class ScriptRuntime {
         if (newlen <= 10) {
             return new StringBuilder(newlen).append(lstr).append(rstr).toString();
         }
-        return new ConsString(lstr, rstr);
+        return ConsString.concat(lstr, rstr);
     }
 
     /**
@@ -1566,65 +1691,6 @@ public final class ScriptRuntime {
         return closure;
     }
 
-    /**
-     * 14.4 Generator Function Definitions
-     * <p>
-     * 14.4.14 Runtime Semantics: Evaluation
-     * <ul>
-     * <li>YieldExpression : yield
-     * <li>YieldExpression : yield AssignmentExpression
-     * </ul>
-     */
-    public static Object yield(Object value, ExecutionContext cx) {
-        return GeneratorYield(cx, CreateIterResultObject(cx, value, false));
-    }
-
-    /**
-     * 14.4 Generator Function Definitions
-     * <p>
-     * 14.4.14 Runtime Semantics: Evaluation
-     * <ul>
-     * <li>YieldExpression : yield * AssignmentExpression
-     * </ul>
-     */
-    public static Object delegatedYield(Object value, ExecutionContext cx) {
-        /* steps 1-3 (generated code) */
-        /* steps 4-5 */
-        ScriptObject iterator = GetIterator(cx, value);
-        /* step 6 */
-        boolean normalCompletion = true;
-        Object received = UNDEFINED;
-        /* step 7 */
-        for (;;) {
-            ScriptObject innerResult;
-            if (normalCompletion) {
-                /* step 7a */
-                innerResult = IteratorNext(cx, iterator, received);
-            } else {
-                /* step 7b */
-                innerResult = IteratorThrow(cx, iterator, received);
-            }
-            /* steps 7c-7d */
-            boolean done = IteratorComplete(cx, innerResult);
-            /* step 7e */
-            if (done) {
-                return IteratorValue(cx, innerResult);
-            }
-            /* step 7f */
-            try {
-                received = GeneratorYield(cx, innerResult);
-                normalCompletion = true;
-            } catch (ScriptException e) {
-                if (HasProperty(cx, iterator, "throw")) {
-                    received = e.getValue();
-                    normalCompletion = false;
-                } else {
-                    throw e;
-                }
-            }
-        }
-    }
-
     /**
      * 14.5 Class Definitions
      * <p>
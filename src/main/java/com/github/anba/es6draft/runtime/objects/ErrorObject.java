@@ -6,11 +6,7 @@
  */
 package com.github.anba.es6draft.runtime.objects;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import com.github.anba.es6draft.runtime.Realm;
-import com.github.anba.es6draft.runtime.internal.GeneratorThread;
 import com.github.anba.es6draft.runtime.internal.ScriptException;
 import com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject;
 
@@ -29,23 +25,11 @@ public final class ErrorObject extends OrdinaryObject {
     private final Realm realm;
     private boolean initialised = false;
     private ScriptException exception = null;
-    private List<StackTraceElement[]> stackTraces;
 
     public ErrorObject(Realm realm) {
         super(realm);
         this.realm = realm;
         this.exception = new ScriptException(this);
-        this.stackTraces = collectStackTraces();
-    }
-
-    private List<StackTraceElement[]> collectStackTraces() {
-        List<StackTraceElement[]> stackTraces = new ArrayList<>();
-        Thread thread = Thread.currentThread();
-        while (thread instanceof GeneratorThread) {
-            thread = ((GeneratorThread) thread).getParent();
-            stackTraces.add(thread.getStackTrace());
-        }
-        return stackTraces;
     }
 
     public boolean isInitialised() {
@@ -61,10 +45,6 @@ public final class ErrorObject extends OrdinaryObject {
         return exception;
     }
 
-    public List<StackTraceElement[]> getStackTraces() {
-        return stackTraces;
-    }
-
     @Override
     public String toString() {
         return getException().getMessage(realm.defaultContext());
@@ -272,13 +272,11 @@ public final class ErrorPrototype extends OrdinaryObject implements Initialisabl
     }
 
     private static final class StackTraceElementIterator extends SimpleIterator<StackTraceElement> {
-        private StackTraceElement[] elements;
+        private final StackTraceElement[] elements;
         private int cursor = 0;
-        private Iterator<StackTraceElement[]> stackTraces;
 
         StackTraceElementIterator(ErrorObject error) {
             this.elements = error.getException().getStackTrace();
-            this.stackTraces = error.getStackTraces().iterator();
         }
 
         private static boolean isInternalStackFrame(StackTraceElement element) {
@@ -290,18 +288,10 @@ public final class ErrorPrototype extends OrdinaryObject implements Initialisabl
 
         @Override
         protected StackTraceElement tryNext() {
-            while (elements != null) {
-                while (cursor < elements.length) {
-                    StackTraceElement element = elements[cursor++];
-                    if (isInternalStackFrame(element)) {
-                        return element;
-                    }
-                }
-                if (stackTraces.hasNext()) {
-                    cursor = 0;
-                    elements = stackTraces.next();
-                } else {
-                    elements = null;
+            while (cursor < elements.length) {
+                StackTraceElement element = elements[cursor++];
+                if (isInternalStackFrame(element)) {
+                    return element;
                 }
             }
             return null;
@@ -20,6 +20,7 @@ import com.github.anba.es6draft.parser.ParserException;
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.LexicalEnvironment;
 import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.internal.CompiledCodeCache;
 import com.github.anba.es6draft.runtime.internal.RuntimeInfo;
 import com.github.anba.es6draft.runtime.types.Callable;
 import com.github.anba.es6draft.runtime.types.Type;
@@ -255,13 +256,20 @@ public final class Eval {
                 // eval call crossing realm boundaries, include source file information here?
                 sourceFile = "<eval>";
             }
+            CompiledCodeCache.Key key = CompiledCodeCache.newEvalKey(realm, sourceFile, source,
+                    options);
+            Script script = CompiledCodeCache.getScript(key);
+            if (script != null) {
+                return script;
+            }
             Parser parser = new Parser(sourceFile, 1, realm.getOptions(), options);
             com.github.anba.es6draft.ast.Script parsedScript = parser.parseScript(source);
             if (parsedScript.getStatements().isEmpty()) {
                 return null;
             }
             String className = realm.nextEvalName();
-            return ScriptLoader.load(className, parsedScript, realm.getCompilerOptions());
+            script = ScriptLoader.load(className, parsedScript, realm.getCompilerOptions());
+            return CompiledCodeCache.putScript(key, script);
         } catch (ParserException | CompilationException e) {
             throw e.toScriptException(cx);
         }
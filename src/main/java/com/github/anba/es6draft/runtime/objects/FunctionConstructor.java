@@ -23,6 +23,7 @@ import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.LexicalEnvironment;
 import com.github.anba.es6draft.runtime.Realm;
 import com.github.anba.es6draft.runtime.internal.Initialisable;
+import com.github.anba.es6draft.runtime.internal.CompiledCodeCache;
 import com.github.anba.es6draft.runtime.internal.Messages;
 import com.github.anba.es6draft.runtime.internal.Properties.Attributes;
 import com.github.anba.es6draft.runtime.internal.Properties.Function;
@@ -88,10 +89,16 @@ public final class FunctionConstructor extends BuiltinConstructor implements Ini
         RuntimeInfo.Function function;
         try {
             Realm realm = calleeContext.getRealm();
-            Parser parser = new Parser("<Function>", 1, realm.getOptions());
-            FunctionDefinition functionDef = parser.parseFunction(p, bodyText);
-            String className = calleeContext.getRealm().nextFunctionName();
-            function = ScriptLoader.compile(className, functionDef, realm.getCompilerOptions());
+            CompiledCodeCache.Key key = CompiledCodeCache.newFunctionKey(realm,
+                    CompiledCodeCache.Kind.Function, "<Function>", p, bodyText);
+            function = CompiledCodeCache.getFunction(key);
+            if (function == null) {
+                Parser parser = new Parser("<Function>", 1, realm.getOptions());
+                FunctionDefinition functionDef = parser.parseFunction(p, bodyText);
+                String className = realm.nextFunctionName();
+                function = ScriptLoader.compile(className, functionDef, realm.getCompilerOptions());
+                function = CompiledCodeCache.putFunction(key, function);
+            }
         } catch (ParserException | CompilationException e) {
             throw e.toScriptException(calleeContext);
         }
@@ -12,8 +12,14 @@ import static com.github.anba.es6draft.runtime.internal.Errors.newTypeError;
 import static com.github.anba.es6draft.runtime.internal.Properties.createProperties;
 import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
 
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -96,10 +102,7 @@ public final class JSONObject extends OrdinaryObject implements Initialisable {
         @Function(name = "stringify", arity = 3)
         public static Object stringify(ExecutionContext cx, Object thisValue, Object value,
                 Object replacer, Object space) {
-            /* step 1 */
-            HashSet<ScriptObject> stack = new HashSet<>();
-            /* step 2 */
-            String indent = "";
+            /* steps 1-2 (stack and indent, see step 12) */
             /* step 3 */
             LinkedHashSet<String> propertyList = null;
             Callable replacerFunction = null;
@@ -157,11 +160,12 @@ public final class JSONObject extends OrdinaryObject implements Initialisable {
             boolean status = CreateDataProperty(cx, wrapper, "", value);
             assert status;
             /* step 12 */
-            String result = Str(cx, stack, propertyList, replacerFunction, indent, gap, "", wrapper);
-            if (result == null) {
+            StringifyState state = new StringifyState(cx, propertyList, replacerFunction, gap,
+                    null);
+            if (!Str(state, "", "", wrapper)) {
                 return UNDEFINED;
             }
-            return result;
+            return state.out.toString();
         }
 
         /**
@@ -172,6 +176,43 @@ public final class JSONObject extends OrdinaryObject implements Initialisable {
         public static final String toStringTag = "JSON";
     }
 
+    /**
+     * Parses the JSON text read from {@code reader}, same as calling {@code JSON.parse} without a
+     * reviver function. The input is consumed incrementally and never materialised as a single
+     * string.
+     * 
+     * @param cx
+     *            the execution context
+     * @param reader
+     *            the source reader
+     * @return the parsed value
+     * @throws IOException
+     *             if there was any I/O error
+     */
+    public static Object parse(ExecutionContext cx, Reader reader) throws IOException {
+        try {
+            return JSONParser.parse(cx, reader);
+        } catch (ParserException e) {
+            throw newSyntaxError(cx, Messages.Key.InvalidJSONLiteral);
+        }
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON text read from {@code stream}, same as calling
+     * {@code JSON.parse} without a reviver function
+     * 
+     * @param cx
+     *            the execution context
+     * @param stream
+     *            the source stream
+     * @return the parsed value
+     * @throws IOException
+     *             if there was any I/O error
+     */
+    public static Object parse(ExecutionContext cx, InputStream stream) throws IOException {
+        return parse(cx, new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+
     /**
      * 24.3.1.1 Runtime Semantics: Walk Abstract Operation
      */
@@ -212,14 +253,130 @@ public final class JSONObject extends OrdinaryObject implements Initialisable {
         return reviver.call(cx, holder, name, val);
     }
 
+    /**
+     * State of a single JSON.stringify call. The result is appended to a single buffer which is
+     * optionally flushed into a {@link Writer} whenever it grows too large.
+     */
+    private static final class StringifyState {
+        private static final int FLUSH_THRESHOLD = 8192;
+
+        final ExecutionContext cx;
+        final Set<ScriptObject> stack = Collections
+                .newSetFromMap(new IdentityHashMap<ScriptObject, Boolean>());
+        final Set<String> propertyList;
+        final Callable replacerFunction;
+        final String gap;
+        final StringBuilder out = new StringBuilder();
+        final Writer writer;
+        char[] chunk;
+
+        StringifyState(ExecutionContext cx, Set<String> propertyList, Callable replacerFunction,
+                String gap, Writer writer) {
+            this.cx = cx;
+            this.propertyList = propertyList;
+            this.replacerFunction = replacerFunction;
+            this.gap = gap;
+            this.writer = writer;
+        }
+
+        /**
+         * Writes the buffered output to the writer if the buffer is full
+         */
+        void flush() {
+            if (writer != null && out.length() >= FLUSH_THRESHOLD) {
+                flushAll();
+            }
+        }
+
+        /**
+         * Writes the buffered output to the writer
+         */
+        void flushAll() {
+            StringBuilder out = this.out;
+            int length = out.length();
+            if (chunk == null || chunk.length < length) {
+                chunk = new char[Math.max(length, FLUSH_THRESHOLD * 2)];
+            }
+            out.getChars(0, length, chunk, 0);
+            out.setLength(0);
+            try {
+                writer.write(chunk, 0, length);
+            } catch (IOException e) {
+                throw new OutputException(e);
+            }
+        }
+    }
+
+    /**
+     * Unchecked wrapper for {@link IOException}s thrown by the output writer
+     */
+    @SuppressWarnings("serial")
+    private static final class OutputException extends RuntimeException {
+        OutputException(IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+
+    /**
+     * Serialises {@code value} to {@code writer}, same as calling {@code JSON.stringify} without
+     * a replacer and space argument. The output is written in chunks and never materialised as a
+     * single string.
+     * 
+     * @param cx
+     *            the execution context
+     * @param value
+     *            the value to serialise
+     * @param writer
+     *            the output writer
+     * @return {@code false} if {@code value} has no JSON representation, i.e.
+     *         {@code JSON.stringify} returns {@code undefined}, otherwise {@code true}
+     * @throws IOException
+     *             if there was any I/O error
+     */
+    public static boolean stringify(ExecutionContext cx, Object value, Writer writer)
+            throws IOException {
+        ScriptObject wrapper = ObjectCreate(cx, Intrinsics.ObjectPrototype);
+        boolean status = CreateDataProperty(cx, wrapper, "", value);
+        assert status;
+        StringifyState state = new StringifyState(cx, null, null, "", writer);
+        try {
+            if (!Str(state, "", "", wrapper)) {
+                return false;
+            }
+            state.flushAll();
+        } catch (OutputException e) {
+            throw e.getCause();
+        }
+        return true;
+    }
+
     /**
      * 24.3.2.1 Runtime Semantics: Str Abstract Operation
+     * <p>
+     * Appends the serialisation of {@code holder[key]} and returns {@code true}, or returns
+     * {@code false} without appending anything if the value is not serialisable.
      */
-    public static String Str(ExecutionContext cx, Set<ScriptObject> stack,
-            Set<String> propertyList, Callable replacerFunction, String indent, String gap,
-            String key, ScriptObject holder) {
+    private static boolean Str(StringifyState state, String indent, String key,
+            ScriptObject holder) {
         /* steps 1-2 */
-        Object value = Get(cx, holder, key);
+        Object value = Get(state.cx, holder, key);
+        return Str(state, indent, key, holder, value);
+    }
+
+    /**
+     * 24.3.2.1 Runtime Semantics: Str Abstract Operation
+     * <p>
+     * Same as {@link #Str(StringifyState, String, String, ScriptObject)}, except the value
+     * {@code holder[key]} was already retrieved.
+     */
+    private static boolean Str(StringifyState state, String indent, String key,
+            ScriptObject holder, Object value) {
+        ExecutionContext cx = state.cx;
         /* step 3 */
         if (Type.isObject(value)) {
             ScriptObject objValue = Type.objectValue(value);
@@ -229,8 +386,8 @@ public final class JSONObject extends OrdinaryObject implements Initialisable {
             }
         }
         /* step 4 */
-        if (replacerFunction != null) {
-            value = replacerFunction.call(cx, holder, key, value);
+        if (state.replacerFunction != null) {
+            value = state.replacerFunction.call(cx, holder, key, value);
         }
         /* step 5 */
         if (Type.isObject(value)) {
@@ -248,31 +405,35 @@ public final class JSONObject extends OrdinaryObject implements Initialisable {
             }
         }
         /* steps 6-12 */
+        StringBuilder out = state.out;
         switch (Type.of(value)) {
         case Null:
-            return "null";
+            out.append("null");
+            return true;
         case Boolean:
-            return Type.booleanValue(value) ? "true" : "false";
+            out.append(Type.booleanValue(value) ? "true" : "false");
+            return true;
         case String:
-            return Quote(Type.stringValue(value));
+            Quote(Type.stringValue(value), out);
+            return true;
         case Number:
-            return isFinite(Type.numberValue(value)) ? ToFlatString(cx, value) : "null";
+            out.append(isFinite(Type.numberValue(value)) ? ToFlatString(cx, value) : "null");
+            return true;
         case Object:
             if (!IsCallable(value)) {
                 if (value instanceof ExoticArray) {
-                    return JA(cx, stack, propertyList, replacerFunction, indent, gap,
-                            Type.objectValue(value));
+                    JA(state, indent, (ExoticArray) value);
                 } else {
-                    return JO(cx, stack, propertyList, replacerFunction, indent, gap,
-                            Type.objectValue(value));
+                    JO(state, indent, Type.objectValue(value));
                 }
+                return true;
             } else {
-                return null;
+                return false;
             }
         case Undefined:
         case Symbol:
         default:
-            return null;
+            return false;
         }
     }
 
@@ -288,11 +449,28 @@ public final class JSONObject extends OrdinaryObject implements Initialisable {
      */
     public static String Quote(CharSequence value) {
         StringBuilder product = new StringBuilder(value.length() + 2);
+        Quote(value, product);
+        return product.toString();
+    }
+
+    /**
+     * 24.3.2.2 Runtime Semantics: Quote Abstract Operation
+     * <p>
+     * Appends the quoted string to {@code product}.
+     */
+    private static void Quote(CharSequence value, StringBuilder product) {
         /* step 1 */
         product.append('"');
         /* step 2 */
+        int start = 0;
         for (int i = 0, len = value.length(); i < len; ++i) {
             char c = value.charAt(i);
+            if (c >= ' ' && c != '"' && c != '\\') {
+                continue;
+            }
+            // append the unescaped characters in one step
+            product.append(value, start, i);
+            start = i + 1;
             switch (c) {
             case '"':
             case '\\':
@@ -314,146 +492,132 @@ public final class JSONObject extends OrdinaryObject implements Initialisable {
                 product.append('\\').append('t');
                 break;
             default:
-                if (c < ' ') {
-                    product.append('\\').append('u')//
-                            .append(hexdigits[(c >> 12) & 0xf])//
-                            .append(hexdigits[(c >> 8) & 0xf])//
-                            .append(hexdigits[(c >> 4) & 0xf])//
-                            .append(hexdigits[(c >> 0) & 0xf]);
-                } else {
-                    product.append(c);
-                }
+                product.append('\\').append('u')//
+                        .append(hexdigits[(c >> 12) & 0xf])//
+                        .append(hexdigits[(c >> 8) & 0xf])//
+                        .append(hexdigits[(c >> 4) & 0xf])//
+                        .append(hexdigits[(c >> 0) & 0xf]);
             }
         }
+        product.append(value, start, value.length());
         /* step 3 */
         product.append('"');
-        /* step 4 */
-        return product.toString();
+        /* step 4 (not applicable) */
     }
 
     /**
      * 24.3.2.3 Runtime Semantics: JO Abstract Operation
      */
-    public static String JO(ExecutionContext cx, Set<ScriptObject> stack, Set<String> propertyList,
-            Callable replacerFunction, String indent, String gap, ScriptObject value) {
-        /* step 1 */
-        if (stack.contains(value)) {
+    private static void JO(StringifyState state, String indent, ScriptObject value) {
+        ExecutionContext cx = state.cx;
+        StringBuilder out = state.out;
+        String gap = state.gap;
+        /* steps 1-2 */
+        if (!state.stack.add(value)) {
             throw newTypeError(cx, Messages.Key.CyclicValue);
         }
-        /* step 2 */
-        stack.add(value);
         /* step 3 */
         String stepback = indent;
         /* step 4 */
-        indent = indent + gap;
+        if (!gap.isEmpty()) {
+            indent = indent + gap;
+        }
         /* steps 5-6 */
         Iterable<String> k;
-        if (propertyList != null) {
-            k = propertyList;
+        if (state.propertyList != null) {
+            k = state.propertyList;
         } else {
-            k = GetOwnEnumerablePropertyNames(cx, value);
+            List<String> names = null;
+            if (value instanceof OrdinaryObject) {
+                // plain data object, no need to inspect each property
+                names = ((OrdinaryObject) value).getDataPropertyNames();
+            }
+            k = names != null ? names : GetOwnEnumerablePropertyNames(cx, value);
         }
-        /* step 7 */
-        List<String> partial = new ArrayList<>();
-        /* step 8 */
+        /* steps 7-10 */
+        boolean empty = true;
+        out.append('{');
         for (String p : k) {
-            String strP = Str(cx, stack, propertyList, replacerFunction, indent, gap, p, value);
-            if (strP != null) {
-                StringBuilder member = new StringBuilder(p.length() + strP.length() + 4);
-                member.append(Quote(p)).append(":");
-                if (!gap.isEmpty()) {
-                    member.append(' ');
-                }
-                member.append(strP);
-                partial.add(member.toString());
+            int mark = out.length();
+            if (!empty) {
+                out.append(',');
             }
-        }
-        /* steps 9-10 */
-        String _final;
-        if (partial.isEmpty()) {
-            _final = "{}";
-        } else {
-            if (gap.isEmpty()) {
-                StringBuilder properties = new StringBuilder();
-                for (String p : partial) {
-                    properties.append(',').append(p);
-                }
-                properties.append('}').setCharAt(0, '{');
-                _final = properties.toString();
+            if (!gap.isEmpty()) {
+                out.append('\n').append(indent);
+            }
+            Quote(p, out);
+            out.append(':');
+            if (!gap.isEmpty()) {
+                out.append(' ');
+            }
+            if (Str(state, indent, p, value)) {
+                empty = false;
+                state.flush();
             } else {
-                StringBuilder properties = new StringBuilder();
-                String separator = ",\n" + indent;
-                for (String p : partial) {
-                    properties.append(separator).append(p);
-                }
-                properties.append('\n').append(stepback).append('}').setCharAt(0, '{');
-                _final = properties.toString();
+                // not serialisable, remove the member name again
+                out.setLength(mark);
             }
         }
+        if (!empty && !gap.isEmpty()) {
+            out.append('\n').append(stepback);
+        }
+        out.append('}');
         /* step 11 */
-        stack.remove(value);
-        /* step 12 (not applicable) */
-        /* step 13 */
-        return _final;
+        state.stack.remove(value);
+        /* steps 12-13 (not applicable) */
     }
 
     /**
      * 24.3.2.4 Runtime Semantics: JA Abstract Operation
      */
-    public static String JA(ExecutionContext cx, Set<ScriptObject> stack, Set<String> propertyList,
-            Callable replacerFunction, String indent, String gap, ScriptObject value) {
-        /* step 1 */
-        if (stack.contains(value)) {
+    private static void JA(StringifyState state, String indent, ExoticArray value) {
+        ExecutionContext cx = state.cx;
+        StringBuilder out = state.out;
+        String gap = state.gap;
+        /* steps 1-2 */
+        if (!state.stack.add(value)) {
             throw newTypeError(cx, Messages.Key.CyclicValue);
         }
-        /* step 2 */
-        stack.add(value);
         /* step 3 */
         String stepback = indent;
         /* step 4 */
-        indent = indent + gap;
-        /* step 5 */
-        List<String> partial = new ArrayList<>();
+        if (!gap.isEmpty()) {
+            indent = indent + gap;
+        }
         /* steps 6-7 */
         Object lenVal = Get(cx, value, "length");
         /* steps 8-9 */
         long len = ToLength(cx, lenVal);
-        /* steps 10-11 */
+        /* steps 5, 10-13 */
+        out.append('[');
         for (long index = 0; index < len; ++index) {
-            String strP = Str(cx, stack, propertyList, replacerFunction, indent, gap,
-                    ToString(index), value);
-            if (strP == null) {
-                partial.add("null");
-            } else {
-                partial.add(strP);
+            if (index != 0) {
+                out.append(',');
             }
-        }
-        /* steps 12-13 */
-        String _final;
-        if (partial.isEmpty()) {
-            _final = "[]";
-        } else {
-            if (gap.isEmpty()) {
-                StringBuilder properties = new StringBuilder();
-                for (String p : partial) {
-                    properties.append(',').append(p);
-                }
-                properties.append(']').setCharAt(0, '[');
-                _final = properties.toString();
+            if (!gap.isEmpty()) {
+                out.append('\n').append(indent);
+            }
+            boolean serialisable;
+            Object element = value.getDenseElement(index);
+            if (element != null && state.replacerFunction == null && !Type.isObject(element)) {
+                // primitive dense element, the property key is not needed
+                serialisable = Str(state, indent, null, value, element);
+            } else if (element != null) {
+                serialisable = Str(state, indent, ToString(index), value, element);
             } else {
-                StringBuilder properties = new StringBuilder();
-                String separator = ",\n" + indent;
-                for (String p : partial) {
-                    properties.append(separator).append(p);
-                }
-                properties.append('\n').append(stepback).append(']').setCharAt(0, '[');
-                _final = properties.toString();
+                serialisable = Str(state, indent, ToString(index), value);
             }
+            if (!serialisable) {
+                out.append("null");
+            }
+            state.flush();
+        }
+        if (len != 0 && !gap.isEmpty()) {
+            out.append('\n').append(stepback);
         }
+        out.append(']');
         /* step 14 */
-        stack.remove(value);
-        /* step 15 (not applicable) */
-        /* step 16 */
-        return _final;
+        state.stack.remove(value);
+        /* steps 15-16 (not applicable) */
     }
 }
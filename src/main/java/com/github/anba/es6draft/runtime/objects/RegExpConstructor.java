@@ -18,8 +18,8 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.github.anba.es6draft.parser.ParserException;
+import com.github.anba.es6draft.regexp.RegExpCache;
 import com.github.anba.es6draft.regexp.RegExpMatcher;
-import com.github.anba.es6draft.regexp.RegExpParser;
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.Realm;
 import com.github.anba.es6draft.runtime.internal.*;
@@ -153,7 +153,7 @@ public final class RegExpConstructor extends BuiltinConstructor implements Initi
         /* steps 7-8 */
         RegExpMatcher matcher;
         try {
-            matcher = RegExpParser.parse(p, f, "<regexp>", 1, 1);
+            matcher = RegExpCache.get(p, f);
         } catch (ParserException e) {
             throw e.toScriptException(cx);
         }
@@ -176,6 +176,27 @@ public final class RegExpConstructor extends BuiltinConstructor implements Initi
         return RegExpInitialise(cx, obj, pattern, flags);
     }
 
+    /**
+     * 21.2.3.3 Abstract Operations for the RegExp Constructor<br>
+     * 21.2.3.3.3 Runtime Semantics: RegExpCreate Abstract Operation
+     * <p>
+     * RegExpCreate for regular expression literals, {@code matcher} is the already compiled
+     * matcher for {@code p} and {@code f}
+     */
+    public static RegExpObject RegExpCreate(ExecutionContext cx, String p, String f,
+            RegExpMatcher matcher) {
+        /* RegExp statics extension */
+        if (getRegExp(cx).isDefaultMultiline() && f.indexOf('m') == -1) {
+            return RegExpCreate(cx, (Object) p, (Object) f);
+        }
+        /* steps 1-2 */
+        RegExpObject obj = RegExpAlloc(cx, cx.getIntrinsic(Intrinsics.RegExp));
+        /* step 3 (RegExpInitialise, steps 9-14) */
+        obj.initialise(p, f, matcher);
+        Put(cx, obj, "lastIndex", 0, true);
+        return obj;
+    }
+
     /**
      * 21.2.3.3 Abstract Operations for the RegExp Constructor<br>
      * 21.2.3.3.4 Runtime Semantics: EscapeRegExpPattern Abstract Operation
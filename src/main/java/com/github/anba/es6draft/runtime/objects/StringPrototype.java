@@ -27,6 +27,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
+import org.mozilla.javascript.ConsString;
+
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.Realm;
 import com.github.anba.es6draft.runtime.internal.CompatibilityOption;
@@ -190,7 +192,7 @@ public final class StringPrototype extends OrdinaryObject implements Initialisab
             /* step 1 */
             Object obj = CheckObjectCoercible(cx, thisValue);
             /* steps 2-3 */
-            String s = ToFlatString(cx, obj);
+            CharSequence s = ToString(cx, obj);
             /* steps 4-5 */
             String searchStr = ToFlatString(cx, searchString);
             /* steps 6-7 */
@@ -200,7 +202,10 @@ public final class StringPrototype extends OrdinaryObject implements Initialisab
             /* step 9 */
             int start = (int) Math.min(Math.max(pos, 0), len);
             /* steps 10-11 */
-            return s.indexOf(searchStr, start);
+            if (s instanceof ConsString) {
+                return ((ConsString) s).indexOf(searchStr, start);
+            }
+            return s.toString().indexOf(searchStr, start);
         }
 
         /**
@@ -742,7 +747,7 @@ public final class StringPrototype extends OrdinaryObject implements Initialisab
             /* step 1 */
             Object obj = CheckObjectCoercible(cx, thisValue);
             /* steps 2-3 */
-            String s = ToFlatString(cx, obj);
+            CharSequence s = ToString(cx, obj);
             /* steps 4-5 */
             double position = ToInteger(cx, pos);
             /* step 6 */
@@ -752,7 +757,7 @@ public final class StringPrototype extends OrdinaryObject implements Initialisab
                 return UNDEFINED;
             }
             /* steps 8-12 */
-            return s.codePointAt((int) position);
+            return Character.codePointAt(s, (int) position);
         }
 
         /**
@@ -807,7 +812,7 @@ public final class StringPrototype extends OrdinaryObject implements Initialisab
             /* step 1 */
             Object obj = CheckObjectCoercible(cx, thisValue);
             /* step 2 */
-            String s = ToFlatString(cx, obj);
+            CharSequence s = ToString(cx, obj);
             /* steps 3-4 */
             double intStart = ToInteger(cx, start);
             /* steps 5-6 */
@@ -827,7 +832,7 @@ public final class StringPrototype extends OrdinaryObject implements Initialisab
             }
             assert 0 <= intStart && intStart + resultLength <= size;
             /* step 11 */
-            return s.substring((int) intStart, (int) (intStart + resultLength));
+            return s.subSequence((int) intStart, (int) (intStart + resultLength));
         }
 
         /**
@@ -47,6 +47,9 @@ public final class ArrayBufferConstructor extends BuiltinConstructor implements
     static {
         assert IS_LITTLE_ENDIAN == (DEFAULT_BYTE_ORDER == ByteOrder.LITTLE_ENDIAN);
     }
+    // data blocks of at least this size are allocated outside of the Java heap, disabled if < 0
+    private static final long DIRECT_ALLOCATION_THRESHOLD = Long.getLong(
+            "es6draft.arraybuffer.directThreshold", -1);
 
     public ArrayBufferConstructor(Realm realm) {
         super(realm, "ArrayBuffer");
@@ -80,6 +83,9 @@ public final class ArrayBufferConstructor extends BuiltinConstructor implements
         }
         try {
             /* step 3 */
+            if (DIRECT_ALLOCATION_THRESHOLD >= 0 && size >= DIRECT_ALLOCATION_THRESHOLD) {
+                return ByteBuffer.allocateDirect((int) size).order(DEFAULT_BYTE_ORDER);
+            }
             return ByteBuffer.allocate((int) size).order(DEFAULT_BYTE_ORDER);
         } catch (OutOfMemoryError e) {
             /* step 2 */
@@ -102,11 +108,10 @@ public final class ArrayBufferConstructor extends BuiltinConstructor implements
         assert toIndex + count <= toBlock.capacity();
 
         /* steps 7-8 */
-        fromBlock.limit((int) (fromIndex + count)).position((int) fromIndex);
-        toBlock.limit((int) (toIndex + count)).position((int) toIndex);
-        toBlock.put(fromBlock);
-        toBlock.clear();
-        fromBlock.clear();
+        ByteBuffer from = fromBlock.duplicate(), to = toBlock.duplicate();
+        from.limit((int) (fromIndex + count)).position((int) fromIndex);
+        to.limit((int) (toIndex + count)).position((int) toIndex);
+        to.put(from);
     }
 
     /**
@@ -199,50 +204,34 @@ public final class ArrayBufferConstructor extends BuiltinConstructor implements
             long byteIndex, ElementType type, boolean isLittleEndian) {
         /* steps 1-2 */
         assert (byteIndex >= 0 && (byteIndex + type.size()) <= arrayBuffer.getByteLength());
-        /* step 3 */
-        ByteBuffer block = arrayBuffer.getData();
+        /* steps 3, 7-8 */
+        ByteBuffer block = arrayBuffer.getData(isLittleEndian);
         /* step 4 */
         if (block == null) {
             throw newTypeError(cx, Messages.Key.UninitialisedObject);
         }
-        /* steps 7-8 */
-        if ((block.order() == ByteOrder.LITTLE_ENDIAN) != isLittleEndian) {
-            block.order(isLittleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
-        }
-
-        int index = (int) byteIndex;
-        switch (type) {
-        case Float32: {
-            /* steps 5-6, 9 */
-            double rawValue = block.getFloat(index);
-            return Double.isNaN(rawValue) ? Double.NaN : rawValue;
-        }
-        case Float64: {
-            /* steps 5-6, 10 */
-            double rawValue = block.getDouble(index);
-            return Double.isNaN(rawValue) ? Double.NaN : rawValue;
-        }
-
-        /* steps 5-6, 11, 13 */
-        case Uint8:
-        case Uint8C:
-            return block.get(index) & 0xffL;
-        case Uint16:
-            return block.getShort(index) & 0xffffL;
-        case Uint32:
-            return block.getInt(index) & 0xffffffffL;
-
-            /* steps 5-6, 12-13 */
-        case Int8:
-            return (long) block.get(index);
-        case Int16:
-            return (long) block.getShort(index);
-        case Int32:
-            return (long) block.getInt(index);
+        /* steps 5-6, 9-13 */
+        return type.getValue(block, (int) byteIndex);
+    }
 
-        default:
-            throw new IllegalStateException();
+    /**
+     * 24.1.1.4 GetValueFromBuffer (arrayBuffer, byteIndex, type, isLittleEndian)
+     * <p>
+     * Not in spec: Returns the value in the default byte order as a boxed number, integer values
+     * are returned as {@link Integer} or {@link Long} objects
+     */
+    public static Object GetElementFromBuffer(ExecutionContext cx, ArrayBufferObject arrayBuffer,
+            int byteIndex, ElementType type) {
+        /* steps 1-2 */
+        assert (byteIndex >= 0 && (byteIndex + type.size()) <= arrayBuffer.getByteLength());
+        /* steps 3, 7-8 */
+        ByteBuffer block = arrayBuffer.getData(IS_LITTLE_ENDIAN);
+        /* step 4 */
+        if (block == null) {
+            throw newTypeError(cx, Messages.Key.UninitialisedObject);
         }
+        /* steps 5-6, 9-13 */
+        return type.getElement(block, byteIndex);
     }
 
     /**
@@ -260,56 +249,14 @@ public final class ArrayBufferConstructor extends BuiltinConstructor implements
             long byteIndex, ElementType type, double value, boolean isLittleEndian) {
         /* steps 1-2 */
         assert (byteIndex >= 0 && (byteIndex + type.size()) <= arrayBuffer.getByteLength());
-        /* step 3 */
-        ByteBuffer block = arrayBuffer.getData();
+        /* steps 3, 6-9 */
+        ByteBuffer block = arrayBuffer.getData(isLittleEndian);
         /* step 4 */
         if (block == null) {
             throw newTypeError(cx, Messages.Key.UninitialisedObject);
         }
-        /* steps 6-9 */
-        if ((block.order() == ByteOrder.LITTLE_ENDIAN) != isLittleEndian) {
-            block.order(isLittleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
-        }
-
-        int index = (int) byteIndex;
-        switch (type) {
-        case Float32:
-            /* steps 7, 10-11 */
-            block.putFloat(index, (float) value);
-            return;
-        case Float64:
-            /* steps 8, 10-11 */
-            block.putDouble(index, value);
-            return;
-
-            /* steps 9, 10-11 */
-        case Int8:
-            block.put(index, ElementType.ToInt8(value));
-            return;
-        case Uint8:
-            block.put(index, ElementType.ToUint8(value));
-            return;
-        case Uint8C:
-            block.put(index, ElementType.ToUint8Clamp(value));
-            return;
-
-        case Int16:
-            block.putShort(index, ElementType.ToInt16(value));
-            return;
-        case Uint16:
-            block.putShort(index, ElementType.ToUint16(value));
-            return;
-
-        case Int32:
-            block.putInt(index, ElementType.ToInt32(value));
-            return;
-        case Uint32:
-            block.putInt(index, ElementType.ToUint32(value));
-            return;
-
-        default:
-            throw new IllegalStateException();
-        }
+        /* steps 7-11 */
+        type.setValue(block, (int) byteIndex, value);
     }
 
     /**
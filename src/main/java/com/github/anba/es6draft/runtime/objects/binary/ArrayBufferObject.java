@@ -7,6 +7,7 @@
 package com.github.anba.es6draft.runtime.objects.binary;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import com.github.anba.es6draft.runtime.Realm;
 import com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject;
@@ -22,6 +23,10 @@ public final class ArrayBufferObject extends OrdinaryObject {
     /** [[ArrayBufferData]] */
     private ByteBuffer data = null;
 
+    /** [[ArrayBufferData]] views in little- and big-endian byte order */
+    private ByteBuffer littleEndianData = null;
+    private ByteBuffer bigEndianData = null;
+
     /** [[ArrayBufferByteLength]] */
     private long byteLength = 0;
 
@@ -43,6 +48,19 @@ public final class ArrayBufferObject extends OrdinaryObject {
         assert data != null : "cannot initialise ArrayBuffer with null";
         assert this.data == null : "ArrayBuffer already initialised";
         this.data = data;
+        this.littleEndianData = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        this.bigEndianData = data.duplicate().order(ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * [[ArrayBufferData]]
+     * <p>
+     * Returns a view of the data block with the requested byte order. The views share the data
+     * block, but have their own byte order, position and limit. Callers must only use the absolute
+     * get and put methods on the returned view.
+     */
+    public ByteBuffer getData(boolean isLittleEndian) {
+        return isLittleEndian ? littleEndianData : bigEndianData;
     }
 
     /**
@@ -6,6 +6,9 @@
  */
 package com.github.anba.es6draft.runtime.objects.binary;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 import com.google.doubleconversion.DoubleConversion;
 
 /**
@@ -16,9 +19,198 @@ import com.google.doubleconversion.DoubleConversion;
  * </ul>
  */
 public enum ElementType {
-    Int8(1), Uint8(1), Uint8C(1), Int16(2), Uint16(2), Int32(4), Uint32(4), Float32(4), Float64(8);
+    Int8(1) {
+        @Override
+        public double getValue(ByteBuffer block, int byteIndex) {
+            return block.get(byteIndex);
+        }
+
+        @Override
+        public Object getElement(ByteBuffer block, int byteIndex) {
+            return (int) block.get(byteIndex);
+        }
+
+        @Override
+        public void setValue(ByteBuffer block, int byteIndex, double value) {
+            block.put(byteIndex, ToInt8(value));
+        }
+
+        @Override
+        public void sort(ByteBuffer block, int byteIndex, int length) {
+            sortInt8(block, byteIndex, length, false);
+        }
+    },
+
+    Uint8(1) {
+        @Override
+        public double getValue(ByteBuffer block, int byteIndex) {
+            return block.get(byteIndex) & 0xff;
+        }
+
+        @Override
+        public Object getElement(ByteBuffer block, int byteIndex) {
+            return block.get(byteIndex) & 0xff;
+        }
+
+        @Override
+        public void setValue(ByteBuffer block, int byteIndex, double value) {
+            block.put(byteIndex, ToUint8(value));
+        }
+
+        @Override
+        public void sort(ByteBuffer block, int byteIndex, int length) {
+            sortInt8(block, byteIndex, length, true);
+        }
+    },
+
+    Uint8C(1) {
+        @Override
+        public double getValue(ByteBuffer block, int byteIndex) {
+            return block.get(byteIndex) & 0xff;
+        }
+
+        @Override
+        public Object getElement(ByteBuffer block, int byteIndex) {
+            return block.get(byteIndex) & 0xff;
+        }
+
+        @Override
+        public void setValue(ByteBuffer block, int byteIndex, double value) {
+            block.put(byteIndex, ToUint8Clamp(value));
+        }
+
+        @Override
+        public void sort(ByteBuffer block, int byteIndex, int length) {
+            sortInt8(block, byteIndex, length, true);
+        }
+    },
+
+    Int16(2) {
+        @Override
+        public double getValue(ByteBuffer block, int byteIndex) {
+            return block.getShort(byteIndex);
+        }
+
+        @Override
+        public Object getElement(ByteBuffer block, int byteIndex) {
+            return (int) block.getShort(byteIndex);
+        }
+
+        @Override
+        public void setValue(ByteBuffer block, int byteIndex, double value) {
+            block.putShort(byteIndex, ToInt16(value));
+        }
+
+        @Override
+        public void sort(ByteBuffer block, int byteIndex, int length) {
+            sortInt16(block, byteIndex, length, false);
+        }
+    },
+
+    Uint16(2) {
+        @Override
+        public double getValue(ByteBuffer block, int byteIndex) {
+            return block.getShort(byteIndex) & 0xffff;
+        }
+
+        @Override
+        public Object getElement(ByteBuffer block, int byteIndex) {
+            return block.getShort(byteIndex) & 0xffff;
+        }
+
+        @Override
+        public void setValue(ByteBuffer block, int byteIndex, double value) {
+            block.putShort(byteIndex, ToUint16(value));
+        }
+
+        @Override
+        public void sort(ByteBuffer block, int byteIndex, int length) {
+            sortInt16(block, byteIndex, length, true);
+        }
+    },
+
+    Int32(4) {
+        @Override
+        public double getValue(ByteBuffer block, int byteIndex) {
+            return block.getInt(byteIndex);
+        }
+
+        @Override
+        public Object getElement(ByteBuffer block, int byteIndex) {
+            return block.getInt(byteIndex);
+        }
+
+        @Override
+        public void setValue(ByteBuffer block, int byteIndex, double value) {
+            block.putInt(byteIndex, ToInt32(value));
+        }
+
+        @Override
+        public void sort(ByteBuffer block, int byteIndex, int length) {
+            sortInt32(block, byteIndex, length, false);
+        }
+    },
+
+    Uint32(4) {
+        @Override
+        public double getValue(ByteBuffer block, int byteIndex) {
+            return block.getInt(byteIndex) & 0xffffffffL;
+        }
+
+        @Override
+        public Object getElement(ByteBuffer block, int byteIndex) {
+            int value = block.getInt(byteIndex);
+            return value >= 0 ? (Object) value : (Object) (value & 0xffffffffL);
+        }
+
+        @Override
+        public void setValue(ByteBuffer block, int byteIndex, double value) {
+            block.putInt(byteIndex, ToUint32(value));
+        }
+
+        @Override
+        public void sort(ByteBuffer block, int byteIndex, int length) {
+            sortInt32(block, byteIndex, length, true);
+        }
+    },
+
+    Float32(4) {
+        @Override
+        public double getValue(ByteBuffer block, int byteIndex) {
+            double rawValue = block.getFloat(byteIndex);
+            return Double.isNaN(rawValue) ? Double.NaN : rawValue;
+        }
+
+        @Override
+        public void setValue(ByteBuffer block, int byteIndex, double value) {
+            block.putFloat(byteIndex, (float) value);
+        }
+
+        @Override
+        public void sort(ByteBuffer block, int byteIndex, int length) {
+            sortFloat32(block, byteIndex, length);
+        }
+    },
+
+    Float64(8) {
+        @Override
+        public double getValue(ByteBuffer block, int byteIndex) {
+            double rawValue = block.getDouble(byteIndex);
+            return Double.isNaN(rawValue) ? Double.NaN : rawValue;
+        }
+
+        @Override
+        public void setValue(ByteBuffer block, int byteIndex, double value) {
+            block.putDouble(byteIndex, value);
+        }
+
+        @Override
+        public void sort(ByteBuffer block, int byteIndex, int length) {
+            sortFloat64(block, byteIndex, length);
+        }
+    };
 
-    private int size;
+    private final int size;
 
     private ElementType(int size) {
         this.size = size;
@@ -28,6 +220,33 @@ public enum ElementType {
         return size;
     }
 
+    /**
+     * Reads the element value at {@code byteIndex} from {@code block}, using the current byte
+     * order of {@code block}
+     */
+    public abstract double getValue(ByteBuffer block, int byteIndex);
+
+    /**
+     * Reads the element value at {@code byteIndex} from {@code block}, using the current byte
+     * order of {@code block}. Integer element values are returned as {@link Integer} or
+     * {@link Long} objects.
+     */
+    public Object getElement(ByteBuffer block, int byteIndex) {
+        return getValue(block, byteIndex);
+    }
+
+    /**
+     * Converts {@code value} to this element type and stores it at {@code byteIndex} in
+     * {@code block}, using the current byte order of {@code block}
+     */
+    public abstract void setValue(ByteBuffer block, int byteIndex, double value);
+
+    /**
+     * Sorts the {@code length} elements starting at {@code byteIndex} in {@code block} in ascending
+     * numeric order, using the current byte order of {@code block}
+     */
+    public abstract void sort(ByteBuffer block, int byteIndex, int length);
+
     public String getConstructorName() {
         switch (this) {
         case Int8:
@@ -81,4 +300,74 @@ public enum ElementType {
     public static int ToUint32(double v) {
         return (int) DoubleConversion.doubleToInt32(v);
     }
+
+    private static ByteBuffer slice(ByteBuffer block, int byteIndex, int byteLength) {
+        ByteBuffer view = block.duplicate();
+        view.limit(byteIndex + byteLength).position(byteIndex);
+        return view.slice().order(block.order());
+    }
+
+    private static void sortInt8(ByteBuffer block, int byteIndex, int length, boolean unsigned) {
+        // flip the sign bit to sort unsigned values with a signed comparison
+        byte flip = (byte) (unsigned ? 0x80 : 0);
+        ByteBuffer view = slice(block, byteIndex, length);
+        byte[] elements = new byte[length];
+        view.get(elements);
+        for (int i = 0; i < length; ++i) {
+            elements[i] ^= flip;
+        }
+        Arrays.sort(elements);
+        for (int i = 0; i < length; ++i) {
+            elements[i] ^= flip;
+        }
+        view.rewind();
+        view.put(elements);
+    }
+
+    private static void sortInt16(ByteBuffer block, int byteIndex, int length, boolean unsigned) {
+        ByteBuffer view = slice(block, byteIndex, length * 2);
+        if (unsigned) {
+            char[] elements = new char[length];
+            view.asCharBuffer().get(elements);
+            Arrays.sort(elements);
+            view.asCharBuffer().put(elements);
+        } else {
+            short[] elements = new short[length];
+            view.asShortBuffer().get(elements);
+            Arrays.sort(elements);
+            view.asShortBuffer().put(elements);
+        }
+    }
+
+    private static void sortInt32(ByteBuffer block, int byteIndex, int length, boolean unsigned) {
+        // flip the sign bit to sort unsigned values with a signed comparison
+        int flip = unsigned ? Integer.MIN_VALUE : 0;
+        ByteBuffer view = slice(block, byteIndex, length * 4);
+        int[] elements = new int[length];
+        view.asIntBuffer().get(elements);
+        for (int i = 0; i < length; ++i) {
+            elements[i] ^= flip;
+        }
+        Arrays.sort(elements);
+        for (int i = 0; i < length; ++i) {
+            elements[i] ^= flip;
+        }
+        view.asIntBuffer().put(elements);
+    }
+
+    private static void sortFloat32(ByteBuffer block, int byteIndex, int length) {
+        ByteBuffer view = slice(block, byteIndex, length * 4);
+        float[] elements = new float[length];
+        view.asFloatBuffer().get(elements);
+        Arrays.sort(elements);
+        view.asFloatBuffer().put(elements);
+    }
+
+    private static void sortFloat64(ByteBuffer block, int byteIndex, int length) {
+        ByteBuffer view = slice(block, byteIndex, length * 8);
+        double[] elements = new double[length];
+        view.asDoubleBuffer().get(elements);
+        Arrays.sort(elements);
+        view.asDoubleBuffer().put(elements);
+    }
 }
@@ -8,6 +8,7 @@ package com.github.anba.es6draft.runtime.objects.binary;
 
 import static com.github.anba.es6draft.runtime.AbstractOperations.ToNumber;
 import static com.github.anba.es6draft.runtime.internal.Errors.newTypeError;
+import static com.github.anba.es6draft.runtime.objects.binary.ArrayBufferConstructor.GetElementFromBuffer;
 import static com.github.anba.es6draft.runtime.objects.binary.ArrayBufferConstructor.GetValueFromBuffer;
 import static com.github.anba.es6draft.runtime.objects.binary.ArrayBufferConstructor.SetValueInBuffer;
 import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
@@ -136,6 +137,59 @@ public final class TypedArrayObject extends ExoticIntegerIndexedObject implement
         return true;
     }
 
+    /**
+     * 9.4.5.8 IntegerIndexedElementGet (O, index) Abstract Operation
+     * <p>
+     * Element access for integer indices, called by compiled code for {@code ta[i]}. Integer
+     * element values are returned as {@link Integer} or {@link Long} objects.
+     */
+    public Object getElement(ExecutionContext cx, int index) {
+        /* steps 1-2 (not applicable) */
+        /* step 3 */
+        ArrayBufferObject buffer = this.buffer;
+        /* step 4 */
+        if (buffer == null) {
+            throw newTypeError(cx, Messages.Key.UninitialisedObject);
+        }
+        /* steps 5-6 */
+        if (index < 0 || index >= arrayLength) {
+            return UNDEFINED;
+        }
+        /* steps 7-11 */
+        ElementType elementType = this.elementType;
+        int indexedPosition = (int) (byteOffset + (long) index * elementType.size());
+        /* step 12 */
+        return GetElementFromBuffer(cx, buffer, indexedPosition, elementType);
+    }
+
+    /**
+     * 9.4.5.9 IntegerIndexedElementSet (O, index, value) Abstract Operation
+     * <p>
+     * Element access for integer indices, called by compiled code for {@code ta[i] = v}
+     */
+    public boolean setElement(ExecutionContext cx, int index, Object value) {
+        /* steps 1-2 (not applicable) */
+        /* step 3 */
+        ArrayBufferObject buffer = this.buffer;
+        /* step 4 */
+        if (buffer == null) {
+            throw newTypeError(cx, Messages.Key.UninitialisedObject);
+        }
+        /* steps 6-7 */
+        double numValue = ToNumber(cx, value);
+        /* steps 5, 8 */
+        if (index < 0 || index >= arrayLength) {
+            return false;
+        }
+        /* steps 9-13 */
+        ElementType elementType = this.elementType;
+        long indexedPosition = byteOffset + (long) index * elementType.size();
+        /* steps 14-15 */
+        SetValueInBuffer(cx, buffer, indexedPosition, elementType, numValue);
+        /* step 16 */
+        return true;
+    }
+
     /**
      * [[ViewedArrayBuffer]]
      */
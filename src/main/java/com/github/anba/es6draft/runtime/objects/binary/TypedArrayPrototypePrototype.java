@@ -12,10 +12,12 @@ import static com.github.anba.es6draft.runtime.internal.Errors.newRangeError;
 import static com.github.anba.es6draft.runtime.internal.Errors.newTypeError;
 import static com.github.anba.es6draft.runtime.internal.Properties.createProperties;
 import static com.github.anba.es6draft.runtime.objects.binary.ArrayBufferConstructor.CloneArrayBuffer;
+import static com.github.anba.es6draft.runtime.objects.binary.ArrayBufferConstructor.CopyDataBlockBytes;
 import static com.github.anba.es6draft.runtime.objects.binary.ArrayBufferConstructor.GetValueFromBuffer;
 import static com.github.anba.es6draft.runtime.objects.binary.ArrayBufferConstructor.SetValueInBuffer;
 import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -82,6 +84,36 @@ public final class TypedArrayPrototypePrototype extends OrdinaryObject implement
             throw newTypeError(cx, Messages.Key.IncompatibleObject);
         }
 
+        private static long relativeIndex(double relative, long len) {
+            if (relative < 0) {
+                return (long) Math.max(len + relative, 0);
+            }
+            return (long) Math.min(relative, len);
+        }
+
+        private static int byteIndex(TypedArrayObject array, long index) {
+            return (int) (array.getByteOffset() + index * array.getElementType().size());
+        }
+
+        /**
+         * Copies {@code count} bytes between the data blocks of {@code from} and {@code to},
+         * overlapping ranges within the same data block are allowed
+         */
+        private static void copyBytes(ArrayBufferObject from, long fromIndex, ArrayBufferObject to,
+                long toIndex, long count) {
+            if (from != to) {
+                CopyDataBlockBytes(to.getData(), toIndex, from.getData(), fromIndex, count);
+            } else {
+                byte[] bytes = new byte[(int) count];
+                ByteBuffer source = from.getData().duplicate();
+                source.position((int) fromIndex);
+                source.get(bytes);
+                ByteBuffer target = to.getData().duplicate();
+                target.position((int) toIndex);
+                target.put(bytes);
+            }
+        }
+
         @Prototype
         public static final Intrinsics __proto__ = Intrinsics.ObjectPrototype;
 
@@ -245,6 +277,11 @@ public final class TypedArrayPrototypePrototype extends OrdinaryObject implement
                 long limit = (long) (targetByteIndex + targetElementSize
                         * Math.min(srcLength, targetLength - targetOffset));
                 /* step 28 */
+                if (srcType == targetType) {
+                    copyBytes(srcBuffer, srcByteIndex, targetBuffer, targetByteIndex, limit
+                            - targetByteIndex);
+                    return UNDEFINED;
+                }
                 for (; targetByteIndex < limit; srcByteIndex += srcElementSize, targetByteIndex += targetElementSize) {
                     double value = GetValueFromBuffer(cx, srcBuffer, srcByteIndex, srcType);
                     SetValueInBuffer(cx, targetBuffer, targetByteIndex, targetType, value);
@@ -343,9 +380,49 @@ public final class TypedArrayPrototypePrototype extends OrdinaryObject implement
         public static Object reverse(ExecutionContext cx, Object thisValue) {
             TypedArrayObject array = thisTypedArrayObject(cx, thisValue);
             long len = array.getArrayLength();
+            if (array.getBuffer() != null) {
+                ByteBuffer block = array.getBuffer().getData();
+                int elementSize = array.getElementType().size();
+                int lower = byteIndex(array, 0), upper = byteIndex(array, len - 1);
+                for (; lower < upper; lower += elementSize, upper -= elementSize) {
+                    swapElements(block, lower, upper, elementSize);
+                }
+                return array;
+            }
             return ArrayPrototype.Properties.reverse(cx, array, len);
         }
 
+        private static void swapElements(ByteBuffer block, int lower, int upper, int elementSize) {
+            switch (elementSize) {
+            case 1: {
+                byte lowerValue = block.get(lower);
+                block.put(lower, block.get(upper));
+                block.put(upper, lowerValue);
+                break;
+            }
+            case 2: {
+                short lowerValue = block.getShort(lower);
+                block.putShort(lower, block.getShort(upper));
+                block.putShort(upper, lowerValue);
+                break;
+            }
+            case 4: {
+                int lowerValue = block.getInt(lower);
+                block.putInt(lower, block.getInt(upper));
+                block.putInt(upper, lowerValue);
+                break;
+            }
+            case 8: {
+                long lowerValue = block.getLong(lower);
+                block.putLong(lower, block.getLong(upper));
+                block.putLong(upper, lowerValue);
+                break;
+            }
+            default:
+                throw new IllegalStateException();
+            }
+        }
+
         /**
          * 22.2.3.24 %TypedArray%.prototype.slice ( start, end )
          */
@@ -388,6 +465,17 @@ public final class TypedArrayPrototypePrototype extends OrdinaryObject implement
             }
             ScriptObject a = ((Constructor) c).construct(cx, count);
             /* steps 16-17 */
+            if (a instanceof TypedArrayObject && count > 0) {
+                TypedArrayObject target = (TypedArrayObject) a;
+                // overlapping ranges in the same buffer are copied element by element
+                if (target.getElementType() == o.getElementType() && o.getBuffer() != null
+                        && target.getBuffer() != null && target.getBuffer() != o.getBuffer()
+                        && target.getArrayLength() >= count) {
+                    copyBytes(o.getBuffer(), byteIndex(o, k), target.getBuffer(),
+                            byteIndex(target, 0), count * o.getElementType().size());
+                    return a;
+                }
+            }
             long n = 0;
             for (; k < finall; ++k, ++n) {
                 String pk = ToString(k);
@@ -438,6 +526,11 @@ public final class TypedArrayPrototypePrototype extends OrdinaryObject implement
                 throw newInternalError(cx, Messages.Key.OutOfMemory);
             }
             int length = (int) len;
+            if (Type.isUndefined(comparefn) && obj.getBuffer() != null) {
+                ElementType elementType = obj.getElementType();
+                elementType.sort(obj.getBuffer().getData(), byteIndex(obj, 0), length);
+                return obj;
+            }
             if (length == 0) {
                 return obj;
             }
@@ -492,7 +585,22 @@ public final class TypedArrayPrototypePrototype extends OrdinaryObject implement
                 @Optional(Optional.Default.NONE) Object fromIndex) {
             TypedArrayObject array = thisTypedArrayObject(cx, thisValue);
             long len = array.getArrayLength();
-            return ArrayPrototype.Properties.indexOf(cx, array, len, searchElement, fromIndex);
+            if (array.getBuffer() == null || len == 0) {
+                return ArrayPrototype.Properties.indexOf(cx, array, len, searchElement, fromIndex);
+            }
+            long n = (fromIndex != null ? (long) ToInteger(cx, fromIndex) : 0);
+            if (n >= len || !Type.isNumber(searchElement)) {
+                return -1;
+            }
+            double search = Type.numberValue(searchElement);
+            ByteBuffer block = array.getBuffer().getData();
+            ElementType elementType = array.getElementType();
+            for (long k = (n >= 0 ? n : Math.max(len + n, 0)); k < len; ++k) {
+                if (elementType.getValue(block, byteIndex(array, k)) == search) {
+                    return k;
+                }
+            }
+            return -1;
         }
 
         /**
@@ -503,7 +611,23 @@ public final class TypedArrayPrototypePrototype extends OrdinaryObject implement
                 Object searchElement, @Optional(Optional.Default.NONE) Object fromIndex) {
             TypedArrayObject array = thisTypedArrayObject(cx, thisValue);
             long len = array.getArrayLength();
-            return ArrayPrototype.Properties.lastIndexOf(cx, array, len, searchElement, fromIndex);
+            if (array.getBuffer() == null || len == 0) {
+                return ArrayPrototype.Properties.lastIndexOf(cx, array, len, searchElement,
+                        fromIndex);
+            }
+            long n = (fromIndex != null ? (long) ToInteger(cx, fromIndex) : len - 1);
+            if (!Type.isNumber(searchElement)) {
+                return -1;
+            }
+            double search = Type.numberValue(searchElement);
+            ByteBuffer block = array.getBuffer().getData();
+            ElementType elementType = array.getElementType();
+            for (long k = (n >= 0 ? Math.min(n, len - 1) : len + n); k >= 0; --k) {
+                if (elementType.getValue(block, byteIndex(array, k)) == search) {
+                    return k;
+                }
+            }
+            return -1;
         }
 
         /**
@@ -669,7 +793,29 @@ public final class TypedArrayPrototypePrototype extends OrdinaryObject implement
                 Object start, Object end) {
             TypedArrayObject array = thisTypedArrayObject(cx, thisValue);
             long len = array.getArrayLength();
-            return ArrayPrototype.Properties.fill(cx, array, len, value, start, end);
+            if (array.getBuffer() == null || Type.isObject(value)) {
+                // ToNumber(value) is called for each element if value is an object
+                return ArrayPrototype.Properties.fill(cx, array, len, value, start, end);
+            }
+            long k = relativeIndex(ToInteger(cx, start), len);
+            long finall = relativeIndex(Type.isUndefined(end) ? len : ToInteger(cx, end), len);
+            if (k < finall) {
+                ByteBuffer block = array.getBuffer().getData();
+                ElementType elementType = array.getElementType();
+                int elementSize = elementType.size();
+                int byteStart = byteIndex(array, k), byteEnd = byteIndex(array, finall);
+                elementType.setValue(block, byteStart, ToNumber(cx, value));
+                // double the filled range until all elements are set
+                for (int filled = elementSize; byteStart + filled < byteEnd; filled *= 2) {
+                    ByteBuffer source = block.duplicate();
+                    source.limit(byteStart + Math.min(filled, byteEnd - byteStart - filled))
+                            .position(byteStart);
+                    ByteBuffer target = block.duplicate();
+                    target.position(byteStart + filled);
+                    target.put(source);
+                }
+            }
+            return array;
         }
 
         /**
@@ -680,7 +826,19 @@ public final class TypedArrayPrototypePrototype extends OrdinaryObject implement
                 Object start, Object end) {
             TypedArrayObject array = thisTypedArrayObject(cx, thisValue);
             long len = array.getArrayLength();
-            return ArrayPrototype.Properties.copyWithin(cx, array, len, target, start, end);
+            if (array.getBuffer() == null) {
+                return ArrayPrototype.Properties.copyWithin(cx, array, len, target, start, end);
+            }
+            long to = relativeIndex(ToInteger(cx, target), len);
+            long from = relativeIndex(ToInteger(cx, start), len);
+            long finall = relativeIndex(Type.isUndefined(end) ? len : ToInteger(cx, end), len);
+            long count = Math.min(finall - from, len - to);
+            if (count > 0) {
+                ArrayBufferObject buffer = array.getBuffer();
+                copyBytes(buffer, byteIndex(array, from), buffer, byteIndex(array, to), count
+                        * array.getElementType().size());
+            }
+            return array;
         }
 
         /**
@@ -135,6 +135,17 @@ public final class CollatorConstructor extends BuiltinConstructor implements Ini
         public LocaleDataInfo info(ULocale locale) {
             return new CollatorLocaleDataInfo(usage, locale);
         }
+
+        @Override
+        public int hashCode() {
+            return usage.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof CollatorLocaleData
+                    && usage.equals(((CollatorLocaleData) obj).usage);
+        }
     }
 
     /** [[sortLocaleData]] + [[searchLocaleData]] */
@@ -52,13 +52,22 @@ public class CollatorObject extends OrdinaryObject {
 
     private Collator collator;
 
+    private final IntlCache cache;
+
     public CollatorObject(Realm realm) {
         super(realm);
+        this.cache = realm.getIntlCache();
     }
 
     public Collator getCollator() {
         if (collator == null) {
-            collator = createCollator();
+            IntlCache.Key key = IntlCache.newKey(IntlCache.Kind.Collator, locale, usage, numeric,
+                    caseFirst, sensitivity, ignorePunctuation);
+            collator = cache.getCollator(key);
+            if (collator == null) {
+                collator = createCollator();
+                cache.putCollator(key, collator);
+            }
         }
         return collator;
     }
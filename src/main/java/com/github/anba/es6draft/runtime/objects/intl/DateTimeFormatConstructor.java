@@ -148,6 +148,16 @@ public final class DateTimeFormatConstructor extends BuiltinConstructor implemen
         public LocaleDataInfo info(ULocale locale) {
             return new DateTimeFormatLocaleDataInfo(locale);
         }
+
+        @Override
+        public int hashCode() {
+            return DateTimeFormatLocaleData.class.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof DateTimeFormatLocaleData;
+        }
     }
 
     /** [[localeData]] */
@@ -303,10 +313,11 @@ public final class DateTimeFormatConstructor extends BuiltinConstructor implemen
         opt2.hour12 = hr12;
         /* steps 23-24, 27-28 */
         Lazy<String> pattern;
+        IntlCache cache = cx.getRealm().getIntlCache();
         if ("basic".equals(matcher)) {
-            pattern = new BasicFormatPattern(opt2, dataLocale);
+            pattern = new BasicFormatPattern(opt2, dataLocale, cache);
         } else {
-            pattern = new BestFitFormatPattern(opt2, dataLocale);
+            pattern = new BestFitFormatPattern(opt2, dataLocale, cache);
         }
         /* step 29 */
         dateTimeFormat.setPattern(pattern);
@@ -363,32 +374,57 @@ public final class DateTimeFormatConstructor extends BuiltinConstructor implemen
         return options;
     }
 
-    private static final class BasicFormatPattern extends Lazy<String> {
-        private final FormatMatcherRecord record;
-        private final String dataLocale;
+    private abstract static class FormatPattern extends Lazy<String> {
+        private final String matcher;
+        protected final FormatMatcherRecord record;
+        protected final String dataLocale;
+        private final IntlCache cache;
 
-        BasicFormatPattern(FormatMatcherRecord record, String dataLocale) {
+        FormatPattern(String matcher, FormatMatcherRecord record, String dataLocale,
+                IntlCache cache) {
+            this.matcher = matcher;
             this.record = record;
             this.dataLocale = dataLocale;
+            this.cache = cache;
         }
 
+        /**
+         * Computes the pattern for the format matcher record
+         */
+        protected abstract String computePattern();
+
         @Override
-        protected String computeValue() {
-            return BasicFormatMatcher(record, dataLocale);
+        protected final String computeValue() {
+            IntlCache.Key key = IntlCache.newKey(IntlCache.Kind.DateTimePattern, matcher,
+                    dataLocale, record.weekday, record.era, record.year, record.month, record.day,
+                    record.hour, record.minute, record.second, record.timeZoneName, record.hour12);
+            String pattern = cache.getDateTimePattern(key);
+            if (pattern == null) {
+                pattern = computePattern();
+                cache.putDateTimePattern(key, pattern);
+            }
+            return pattern;
         }
     }
 
-    private static final class BestFitFormatPattern extends Lazy<String> {
-        private final FormatMatcherRecord record;
-        private final String dataLocale;
+    private static final class BasicFormatPattern extends FormatPattern {
+        BasicFormatPattern(FormatMatcherRecord record, String dataLocale, IntlCache cache) {
+            super("basic", record, dataLocale, cache);
+        }
 
-        BestFitFormatPattern(FormatMatcherRecord record, String dataLocale) {
-            this.record = record;
-            this.dataLocale = dataLocale;
+        @Override
+        protected String computePattern() {
+            return BasicFormatMatcher(record, dataLocale);
+        }
+    }
+
+    private static final class BestFitFormatPattern extends FormatPattern {
+        BestFitFormatPattern(FormatMatcherRecord record, String dataLocale, IntlCache cache) {
+            super("best fit", record, dataLocale, cache);
         }
 
         @Override
-        protected String computeValue() {
+        protected String computePattern() {
             return BestFitFormatMatcher(record, dataLocale);
         }
     }
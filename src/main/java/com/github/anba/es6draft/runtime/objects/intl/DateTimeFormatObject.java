@@ -51,13 +51,22 @@ public class DateTimeFormatObject extends OrdinaryObject {
 
     private DateFormat dateFormat;
 
+    private final IntlCache cache;
+
     public DateTimeFormatObject(Realm realm) {
         super(realm);
+        this.cache = realm.getIntlCache();
     }
 
     public DateFormat getDateFormat() {
         if (dateFormat == null) {
-            dateFormat = createDateFormat();
+            IntlCache.Key key = IntlCache.newKey(IntlCache.Kind.DateFormat, locale,
+                    pattern.get(), timeZone);
+            dateFormat = cache.getDateFormat(key);
+            if (dateFormat == null) {
+                dateFormat = createDateFormat();
+                cache.putDateFormat(key, dateFormat);
+            }
         }
         return dateFormat;
     }
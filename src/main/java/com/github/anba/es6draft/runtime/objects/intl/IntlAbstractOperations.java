@@ -322,6 +322,9 @@ public final class IntlAbstractOperations {
 
     /**
      * 9.1 Internal Properties of Service Constructors
+     * <p>
+     * Results of {@link IntlAbstractOperations#ResolveLocale ResolveLocale} are cached per world,
+     * implementations need to provide {@code equals()} and {@code hashCode()} methods.
      */
     public interface LocaleData {
         LocaleDataInfo info(ULocale locale);
@@ -657,6 +660,14 @@ public final class IntlAbstractOperations {
         public String dataLocale;
         public String locale;
         public EnumMap<ExtensionKey, String> values = new EnumMap<>(ExtensionKey.class);
+
+        ResolvedLocale copy() {
+            ResolvedLocale copy = new ResolvedLocale();
+            copy.dataLocale = dataLocale;
+            copy.locale = locale;
+            copy.values.putAll(values);
+            return copy;
+        }
     }
 
     /**
@@ -666,6 +677,23 @@ public final class IntlAbstractOperations {
     public static ResolvedLocale ResolveLocale(ExecutionContext cx,
             Lazy<Set<String>> availableLocales, Set<String> requestedLocales,
             OptionsRecord options, List<ExtensionKey> relevantExtensionKeys, LocaleData localeData) {
+        // the result only depends on the arguments and the default locale, which is fixed per world
+        IntlCache cache = cx.getRealm().getIntlCache();
+        IntlCache.Key key = IntlCache.newKey(IntlCache.Kind.ResolvedLocale, localeData,
+                new ArrayList<>(requestedLocales), options.localeMatcher,
+                new EnumMap<>(options.values), relevantExtensionKeys);
+        ResolvedLocale resolved = cache.getResolvedLocale(key);
+        if (resolved == null) {
+            resolved = ResolveLocaleUncached(cx, availableLocales, requestedLocales, options,
+                    relevantExtensionKeys, localeData);
+            cache.putResolvedLocale(key, resolved);
+        }
+        return resolved.copy();
+    }
+
+    private static ResolvedLocale ResolveLocaleUncached(ExecutionContext cx,
+            Lazy<Set<String>> availableLocales, Set<String> requestedLocales,
+            OptionsRecord options, List<ExtensionKey> relevantExtensionKeys, LocaleData localeData) {
         /* steps 1-3 */
         MatcherType matcher = options.localeMatcher;
         LocaleMatch r;
@@ -0,0 +1,233 @@
+/**
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.objects.intl;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.github.anba.es6draft.runtime.World;
+import com.github.anba.es6draft.runtime.objects.intl.IntlAbstractOperations.ResolvedLocale;
+import com.ibm.icu.text.Collator;
+import com.ibm.icu.text.DateFormat;
+import com.ibm.icu.text.NumberFormat;
+
+/**
+ * Per-world cache for the ICU formatters and collators of the Intl objects.
+ * <p>
+ * Entries are keyed by the resolved internal properties of the requesting Intl object, so every
+ * {@link NumberFormatObject}, {@link DateTimeFormatObject} or {@link CollatorObject} with the same
+ * resolved options shares a single ICU instance. Date-time patterns are cached by the format
+ * matcher inputs and locale resolution results by the arguments of ResolveLocale. The options
+ * object is still read for each Intl object, only the locale resolution and ICU setup are skipped.
+ * The cache holds at most {@code es6draft.intl.cacheSize} entries (default: 128), the least
+ * recently used entry is evicted first.
+ * <p>
+ * The cached ICU instances are not thread-safe, a cache must only be accessed from the thread which
+ * owns its {@link World}.
+ */
+public final class IntlCache {
+    private static final int CACHE_SIZE = Math.max(0,
+            Integer.getInteger("es6draft.intl.cacheSize", 128));
+
+    private long hits = 0;
+    private long misses = 0;
+
+    @SuppressWarnings("serial")
+    private final Map<Key, Object> cache = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    /**
+     * The kind of the cached object
+     */
+    enum Kind {
+        /** {@link IntlAbstractOperations.ResolvedLocale} objects */
+        ResolvedLocale,
+
+        /** {@link NumberFormat} objects */
+        NumberFormat,
+
+        /** {@link DateFormat} objects */
+        DateFormat,
+
+        /** Date-time pattern strings */
+        DateTimePattern,
+
+        /** {@link Collator} objects */
+        Collator
+    }
+
+    /**
+     * Cache key for Intl objects
+     */
+    static final class Key {
+        private final Kind kind;
+        private final Object[] values;
+        private final int hashCode;
+
+        private Key(Kind kind, Object[] values) {
+            this.kind = kind;
+            this.values = values;
+            this.hashCode = kind.hashCode() * 31 + Arrays.hashCode(values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hashCode == other.hashCode && kind == other.kind
+                    && Arrays.equals(values, other.values);
+        }
+    }
+
+    /**
+     * Returns a new cache key for {@code kind}, {@code values} are the resolved properties which
+     * determine the cached object
+     */
+    static Key newKey(Kind kind, Object... values) {
+        return new Key(kind, values);
+    }
+
+    /**
+     * Returns the cached resolved locale for {@code key} or {@code null} if not present
+     */
+    ResolvedLocale getResolvedLocale(Key key) {
+        assert key.kind == Kind.ResolvedLocale;
+        return (ResolvedLocale) get(key);
+    }
+
+    /**
+     * Adds the resolved locale {@code resolvedLocale} to the cache
+     */
+    void putResolvedLocale(Key key, ResolvedLocale resolvedLocale) {
+        assert key.kind == Kind.ResolvedLocale;
+        put(key, resolvedLocale);
+    }
+
+    /**
+     * Returns the cached number format for {@code key} or {@code null} if not present
+     */
+    NumberFormat getNumberFormat(Key key) {
+        assert key.kind == Kind.NumberFormat;
+        return (NumberFormat) get(key);
+    }
+
+    /**
+     * Adds the number format {@code numberFormat} to the cache
+     */
+    void putNumberFormat(Key key, NumberFormat numberFormat) {
+        assert key.kind == Kind.NumberFormat;
+        put(key, numberFormat);
+    }
+
+    /**
+     * Returns the cached date format for {@code key} or {@code null} if not present
+     */
+    DateFormat getDateFormat(Key key) {
+        assert key.kind == Kind.DateFormat;
+        return (DateFormat) get(key);
+    }
+
+    /**
+     * Adds the date format {@code dateFormat} to the cache
+     */
+    void putDateFormat(Key key, DateFormat dateFormat) {
+        assert key.kind == Kind.DateFormat;
+        put(key, dateFormat);
+    }
+
+    /**
+     * Returns the cached date-time pattern for {@code key} or {@code null} if not present
+     */
+    String getDateTimePattern(Key key) {
+        assert key.kind == Kind.DateTimePattern;
+        return (String) get(key);
+    }
+
+    /**
+     * Adds the date-time pattern {@code pattern} to the cache
+     */
+    void putDateTimePattern(Key key, String pattern) {
+        assert key.kind == Kind.DateTimePattern;
+        put(key, pattern);
+    }
+
+    /**
+     * Returns the cached collator for {@code key} or {@code null} if not present
+     */
+    Collator getCollator(Key key) {
+        assert key.kind == Kind.Collator;
+        return (Collator) get(key);
+    }
+
+    /**
+     * Adds the collator {@code collator} to the cache
+     */
+    void putCollator(Key key, Collator collator) {
+        assert key.kind == Kind.Collator;
+        put(key, collator);
+    }
+
+    private Object get(Key key) {
+        if (CACHE_SIZE == 0) {
+            return null;
+        }
+        Object value = cache.get(key);
+        if (value != null) {
+            hits += 1;
+        } else {
+            misses += 1;
+        }
+        return value;
+    }
+
+    private void put(Key key, Object value) {
+        if (CACHE_SIZE == 0) {
+            return;
+        }
+        cache.put(key, value);
+    }
+
+    /**
+     * Returns the number of cache hits
+     */
+    public long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of cache misses
+     */
+    public long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Returns the current number of cache entries
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all cache entries
+     */
+    public void clear() {
+        cache.clear();
+    }
+}
@@ -80,6 +80,16 @@ public final class NumberFormatConstructor extends BuiltinConstructor implements
         public LocaleDataInfo info(ULocale locale) {
             return new NumberFormatLocaleDataInfo(locale);
         }
+
+        @Override
+        public int hashCode() {
+            return NumberFormatLocaleData.class.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof NumberFormatLocaleData;
+        }
     }
 
     /** [[localeData]] */
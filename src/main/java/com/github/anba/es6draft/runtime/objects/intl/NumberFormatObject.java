@@ -66,13 +66,24 @@ public class NumberFormatObject extends OrdinaryObject {
 
     private NumberFormat numberFormat;
 
+    private final IntlCache cache;
+
     public NumberFormatObject(Realm realm) {
         super(realm);
+        this.cache = realm.getIntlCache();
     }
 
     public NumberFormat getNumberFormat() {
         if (numberFormat == null) {
-            numberFormat = createNumberFormat();
+            IntlCache.Key key = IntlCache.newKey(IntlCache.Kind.NumberFormat, locale, style,
+                    currency, currencyDisplay, minimumIntegerDigits, minimumFractionDigits,
+                    maximumFractionDigits, minimumSignificantDigits, maximumSignificantDigits,
+                    useGrouping);
+            numberFormat = cache.getNumberFormat(key);
+            if (numberFormat == null) {
+                numberFormat = createNumberFormat();
+                cache.putNumberFormat(key, numberFormat);
+            }
         }
         return numberFormat;
     }
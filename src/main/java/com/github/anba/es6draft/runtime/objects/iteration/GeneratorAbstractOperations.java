@@ -11,7 +11,6 @@ import static com.github.anba.es6draft.runtime.internal.Errors.newTypeError;
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.internal.Messages;
 import com.github.anba.es6draft.runtime.internal.RuntimeInfo;
-import com.github.anba.es6draft.runtime.types.ScriptObject;
 import com.github.anba.es6draft.runtime.types.Type;
 
 /**
@@ -51,16 +50,4 @@ public final class GeneratorAbstractOperations {
         /* steps 3-15 */
         return ((GeneratorObject) generator).resume(cx, value);
     }
-
-    /**
-     * 25.3.3.3 GeneratorYield (iterNextObj)
-     */
-    public static Object GeneratorYield(ExecutionContext genContext, ScriptObject iterNextObj) {
-        /* step 1 (?) */
-        /* steps 2-4 */
-        GeneratorObject generator = genContext.getCurrentGenerator();
-        assert generator != null;
-        /* steps 5-11 */
-        return generator.yield(iterNextObj);
-    }
 }
@@ -24,6 +24,7 @@ import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.LexicalEnvironment;
 import com.github.anba.es6draft.runtime.Realm;
 import com.github.anba.es6draft.runtime.internal.Initialisable;
+import com.github.anba.es6draft.runtime.internal.CompiledCodeCache;
 import com.github.anba.es6draft.runtime.internal.Messages;
 import com.github.anba.es6draft.runtime.internal.Properties.Attributes;
 import com.github.anba.es6draft.runtime.internal.Properties.Function;
@@ -89,10 +90,16 @@ public final class GeneratorFunctionConstructor extends BuiltinConstructor imple
         RuntimeInfo.Function function;
         try {
             Realm realm = calleeContext.getRealm();
-            Parser parser = new Parser("<GeneratorFunction>", 1, realm.getOptions());
-            GeneratorDefinition generatorDef = parser.parseGenerator(p, bodyText);
-            String className = calleeContext.getRealm().nextFunctionName();
-            function = ScriptLoader.compile(className, generatorDef, realm.getCompilerOptions());
+            CompiledCodeCache.Key key = CompiledCodeCache.newFunctionKey(realm,
+                    CompiledCodeCache.Kind.Generator, "<GeneratorFunction>", p, bodyText);
+            function = CompiledCodeCache.getFunction(key);
+            if (function == null) {
+                Parser parser = new Parser("<GeneratorFunction>", 1, realm.getOptions());
+                GeneratorDefinition generatorDef = parser.parseGenerator(p, bodyText);
+                String className = realm.nextFunctionName();
+                function = ScriptLoader.compile(className, generatorDef, realm.getCompilerOptions());
+                function = CompiledCodeCache.putFunction(key, function);
+            }
         } catch (ParserException | CompilationException e) {
             throw e.toScriptException(calleeContext);
         }
@@ -8,16 +8,9 @@ package com.github.anba.es6draft.runtime.objects.iteration;
 
 import static com.github.anba.es6draft.runtime.AbstractOperations.CreateIterResultObject;
 import static com.github.anba.es6draft.runtime.internal.Errors.newTypeError;
-import static com.github.anba.es6draft.runtime.internal.GeneratorThread.newGeneratorThreadFactory;
 import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
 
 import java.lang.invoke.MethodHandle;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.SynchronousQueue;
 
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.Realm;
@@ -52,8 +45,8 @@ public final class GeneratorObject extends OrdinaryObject {
     /** [[GeneratorContext]] */
     private ExecutionContext context;
 
-    // internal generator implementation
-    private Generator generator;
+    // saved execution state of a suspended generator
+    private ResumptionPoint resumptionPoint;
 
     public GeneratorObject(Realm realm) {
         super(realm);
@@ -81,7 +74,7 @@ public final class GeneratorObject extends OrdinaryObject {
         this.context = null;
         this.code = null;
         this.state = GeneratorState.Completed;
-        this.generator = null;
+        this.resumptionPoint = null;
     }
 
     /**
@@ -94,8 +87,6 @@ public final class GeneratorObject extends OrdinaryObject {
         this.code = code;
         this.state = GeneratorState.SuspendedStart;
         this.context.setCurrentGenerator(this);
-        this.generator = code.hasSyntheticMethods() ? new ThreadGenerator(this)
-                : new ResumeGenerator(this);
     }
 
     /**
@@ -117,11 +108,11 @@ public final class GeneratorObject extends OrdinaryObject {
                 throw newTypeError(cx, Messages.Key.GeneratorNewbornSend);
             }
             this.state = GeneratorState.Executing;
-            return generator.start(cx);
+            return execute(cx, null);
         case SuspendedYield:
         default:
             this.state = GeneratorState.Executing;
-            return generator.resume(cx, value);
+            return execute(cx, value);
         }
     }
 
@@ -145,235 +136,59 @@ public final class GeneratorObject extends OrdinaryObject {
         case SuspendedYield:
         default:
             this.state = GeneratorState.Executing;
-            return generator._throw(cx, ScriptException.create(value));
+            return execute(cx, ScriptException.create(value));
         }
     }
 
     /**
-     * @see GeneratorAbstractOperations#GeneratorYield(ExecutionContext, ScriptObject)
+     * Starts or resumes the generator code. The resumption value resp. the exception is stored as the
+     * top stack entry of the innermost resumption point, the yielded iteration result object is
+     * retrieved from the same stack entry when the generator code was suspended.
      */
-    Object yield(ScriptObject value) {
-        assert state == GeneratorState.Executing : "yield from: " + state;
-        return generator.yield(value);
-    }
-
-    /**
-     * Generator implementation abstraction
-     */
-    private interface Generator {
-        /**
-         * Start generator execution
-         */
-        ScriptObject start(ExecutionContext cx);
-
-        /**
-         * Resume generator execution
-         */
-        ScriptObject resume(ExecutionContext cx, Object value);
-
-        /**
-         * Resume generator execution with an exception
-         */
-        ScriptObject _throw(ExecutionContext cx, ScriptException exception);
-
-        /**
-         * Yield support method (optional)
-         */
-        Object yield(ScriptObject value);
-    }
-
-    /**
-     * ResumptionPoint-based generator implementation
-     */
-    private static final class ResumeGenerator implements Generator {
-        private final GeneratorObject generatorObject;
-        private ResumptionPoint resumptionPoint = null;
-
-        public ResumeGenerator(GeneratorObject generatorObject) {
-            this.generatorObject = generatorObject;
-        }
-
-        @Override
-        public ScriptObject start(ExecutionContext cx) {
-            assert resumptionPoint == null;
-            return execute(cx);
-        }
-
-        @Override
-        public ScriptObject resume(ExecutionContext cx, Object value) {
-            assert resumptionPoint != null && value != null;
-            resumptionPoint.getStack()[0] = value;
-            return execute(cx);
-        }
-
-        @Override
-        public ScriptObject _throw(ExecutionContext cx, ScriptException exception) {
-            assert resumptionPoint != null && exception != null;
-            resumptionPoint.getStack()[0] = exception;
-            return execute(cx);
-        }
-
-        @Override
-        public Object yield(ScriptObject value) {
-            // implemented in generated code
-            throw new IllegalStateException();
-        }
-
-        private Object evaluate(MethodHandle handle, ExecutionContext cx, ResumptionPoint point) {
-            try {
-                return handle.invokeExact(cx, point);
-            } catch (RuntimeException | Error e) {
-                throw e;
-            } catch (Throwable e) {
-                throw new RuntimeException(e);
-            }
+    private ScriptObject execute(ExecutionContext cx, Object value) {
+        ResumptionPoint point = resumptionPoint;
+        resumptionPoint = null;
+        if (point != null) {
+            assert value != null;
+            getInnermost(point).getStack()[0] = value;
+        }
+        Object result;
+        try {
+            result = evaluate(code.handle(), context, point);
+        } catch (Throwable t) {
+            close();
+            throw t;
         }
-
-        private ResumptionPoint getResumptionPoint() {
-            ResumptionPoint point = resumptionPoint;
-            resumptionPoint = null;
-            return point;
-        }
-
-        private ScriptObject execute(ExecutionContext cx) {
-            GeneratorObject genObject = generatorObject;
-            Object result;
-            try {
-                result = evaluate(genObject.code.handle(), genObject.context, getResumptionPoint());
-            } catch (Throwable t) {
-                genObject.close();
-                throw t;
-            }
-            if (result instanceof ResumptionPoint) {
-                genObject.suspend();
-                resumptionPoint = (ResumptionPoint) result;
-                Object[] stack = resumptionPoint.getStack();
-                assert stack.length != 0 && stack[0] instanceof ScriptObject;
-                return (ScriptObject) stack[0];
-            }
-            genObject.close();
-            return CreateIterResultObject(cx, result, true);
+        if (result instanceof ResumptionPoint) {
+            suspend();
+            resumptionPoint = (ResumptionPoint) result;
+            Object[] stack = getInnermost(resumptionPoint).getStack();
+            assert stack.length != 0 && stack[0] instanceof ScriptObject;
+            return (ScriptObject) stack[0];
         }
+        close();
+        return CreateIterResultObject(cx, result, true);
     }
 
     /**
-     * Thread-based generator implementation
+     * Returns the innermost resumption point, resumption points of suspended synthetic methods are
+     * saved as the top stack entry of the calling method's resumption point
      */
-    private static final class ThreadGenerator implements Generator {
-        private static final Object COMPLETED = new Object();
-        private final GeneratorObject generatorObject;
-        private Future<Object> future;
-        private SynchronousQueue<Object> out;
-        private SynchronousQueue<Object> in;
-
-        public ThreadGenerator(GeneratorObject generatorObject) {
-            this.generatorObject = generatorObject;
-        }
-
-        @Override
-        public ScriptObject start(ExecutionContext cx) {
-            start0();
-            return execute0(cx);
-        }
-
-        @Override
-        public ScriptObject resume(ExecutionContext cx, Object value) {
-            resume0(value);
-            return execute0(cx);
-        }
-
-        @Override
-        public ScriptObject _throw(ExecutionContext cx, ScriptException exception) {
-            resume0(exception);
-            return execute0(cx);
-        }
-
-        @Override
-        public Object yield(ScriptObject value) {
-            try {
-                this.out.put(value);
-                Object resumptionValue = this.in.take();
-                if (resumptionValue instanceof ScriptException) {
-                    throw (ScriptException) resumptionValue;
-                }
-                return resumptionValue;
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
-            }
-        }
-
-        private void start0() {
-            in = new SynchronousQueue<>();
-            out = new SynchronousQueue<>();
-            ExecutorService executor = Executors
-                    .newSingleThreadExecutor(newGeneratorThreadFactory());
-            future = executor.submit(new Callable<Object>() {
-                @Override
-                public Object call() throws Exception {
-                    Object result;
-                    try {
-                        result = evaluate(generatorObject.code.handle(), generatorObject.context);
-                    } catch (ScriptException | StackOverflowError e) {
-                        result = e;
-                    } catch (Throwable t) {
-                        out.put(COMPLETED);
-                        throw t;
-                    }
-                    out.put(COMPLETED);
-                    return result;
-                }
-            });
-            executor.shutdown();
-        }
-
-        private Object evaluate(MethodHandle handle, ExecutionContext cx) {
-            try {
-                return handle.invokeExact(cx, (ResumptionPoint) null);
-            } catch (RuntimeException | Error e) {
-                throw e;
-            } catch (Throwable e) {
-                throw new RuntimeException(e);
-            }
-        }
-
-        private void resume0(Object value) {
-            try {
-                in.put(value);
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
-            }
+    private static ResumptionPoint getInnermost(ResumptionPoint point) {
+        for (Object[] stack; (stack = point.getStack()).length != 0
+                && stack[0] instanceof ResumptionPoint;) {
+            point = (ResumptionPoint) stack[0];
         }
+        return point;
+    }
 
-        private ScriptObject execute0(ExecutionContext cx) {
-            if (!future.isDone()) {
-                Object result;
-                try {
-                    result = out.take();
-                } catch (InterruptedException e) {
-                    throw new RuntimeException(e);
-                }
-                if (result != COMPLETED) {
-                    generatorObject.suspend();
-                    return (ScriptObject) result;
-                }
-            }
-
-            generatorObject.close();
-            Object result;
-            try {
-                result = future.get();
-            } catch (ExecutionException e) {
-                throw new RuntimeException(e.getCause());
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
-            }
-            if (result instanceof ScriptException) {
-                throw (ScriptException) result;
-            }
-            if (result instanceof StackOverflowError) {
-                throw (StackOverflowError) result;
-            }
-            return CreateIterResultObject(cx, result, true);
+    private static Object evaluate(MethodHandle handle, ExecutionContext cx, ResumptionPoint point) {
+        try {
+            return handle.invokeExact(cx, point);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
         }
     }
 }
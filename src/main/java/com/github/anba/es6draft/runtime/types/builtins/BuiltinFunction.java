@@ -91,6 +91,23 @@ public abstract class BuiltinFunction extends OrdinaryObject implements Callable
         return call(callerContext, thisValue, args);
     }
 
+    @Override
+    protected boolean isOrdinaryProperty(String propertyKey) {
+        return !"caller".equals(propertyKey);
+    }
+
+    /**
+     * 9.1.8 [[Get]] (P, Receiver)
+     */
+    @Override
+    public Object get(ExecutionContext cx, String propertyKey, Object receiver) {
+        if ("caller".equals(propertyKey)) {
+            // [[GetOwnProperty]] override applies
+            return ordinaryGet(cx, propertyKey, receiver);
+        }
+        return super.get(cx, propertyKey, receiver);
+    }
+
     /**
      * 9.2.3 [[GetOwnProperty]] (P)
      */
@@ -0,0 +1,206 @@
+/**
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.types.builtins;
+
+import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
+
+import java.lang.ref.WeakReference;
+
+import com.github.anba.es6draft.runtime.types.Property;
+import com.github.anba.es6draft.runtime.types.ScriptObject;
+
+/**
+ * Inline cache entry for named property accesses on {@link OrdinaryObject}s.
+ * <p>
+ * An entry records the receiver class and {@link Shape}, and for properties found on the prototype
+ * chain the identity and shape of each prototype object up to the holder object. Prototype objects
+ * are only weakly referenced, so compiled code shared between realms does not retain old realms.
+ * Entries for property assignments additionally record the shape transition when a new property is
+ * added to the receiver.
+ */
+public final class CachedProperty {
+    /** Maximum number of prototype objects to guard */
+    private static final int MAX_PROTOTYPE_DEPTH = 8;
+
+    private final Class<?> receiverClass;
+    private final Shape receiverShape;
+    private final Link[] prototypes;
+    private final boolean absent;
+    private final int slot;
+    private final Shape transition;
+
+    private static final class Link {
+        final WeakReference<OrdinaryObject> object;
+        final Shape shape;
+
+        Link(OrdinaryObject object) {
+            this.object = new WeakReference<>(object);
+            this.shape = object.getShape();
+        }
+    }
+
+    private CachedProperty(OrdinaryObject receiver, Link[] prototypes, boolean absent, int slot,
+            Shape transition) {
+        this.receiverClass = receiver.getClass();
+        this.receiverShape = receiver.getShape();
+        this.prototypes = prototypes;
+        this.absent = absent;
+        this.slot = slot;
+        this.transition = transition;
+    }
+
+    private static Link[] append(Link[] prototypes, OrdinaryObject object) {
+        int depth = prototypes.length;
+        Link[] newPrototypes = new Link[depth + 1];
+        System.arraycopy(prototypes, 0, newPrototypes, 0, depth);
+        newPrototypes[depth] = new Link(object);
+        return newPrototypes;
+    }
+
+    private static boolean isCacheable(ScriptObject object, String propertyKey) {
+        return object instanceof OrdinaryObject && ((OrdinaryObject) object).getShape() != null
+                && ((OrdinaryObject) object).isOrdinaryProperty(propertyKey);
+    }
+
+    /**
+     * Returns a new cache entry to read the property {@code propertyKey} from {@code base} and all
+     * objects with the same layout, or {@code null} if the property access is not cacheable
+     */
+    public static CachedProperty forGet(Object base, String propertyKey) {
+        if (!(base instanceof OrdinaryObject) || !isCacheable((OrdinaryObject) base, propertyKey)) {
+            return null;
+        }
+        OrdinaryObject receiver = (OrdinaryObject) base;
+        OrdinaryObject object = receiver;
+        Link[] prototypes = new Link[0];
+        for (int depth = 0;; ++depth) {
+            int slot = object.getShape().indexOf(propertyKey);
+            if (slot >= 0) {
+                return new CachedProperty(receiver, prototypes, false, slot, null);
+            }
+            ScriptObject proto = object.getPrototype();
+            if (proto == null) {
+                return new CachedProperty(receiver, prototypes, true, -1, null);
+            }
+            if (depth == MAX_PROTOTYPE_DEPTH || !isCacheable(proto, propertyKey)) {
+                return null;
+            }
+            object = (OrdinaryObject) proto;
+            prototypes = append(prototypes, object);
+        }
+    }
+
+    /**
+     * Returns a new cache entry to update or add the own property {@code propertyKey} of
+     * {@code base} and all objects with the same layout, or {@code null} if the property access is
+     * not cacheable. Only existing data properties with default attributes and new properties which
+     * are not present on the prototype chain are cacheable.
+     */
+    public static CachedProperty forSet(Object base, String propertyKey) {
+        if (!(base instanceof OrdinaryObject) || !isCacheable((OrdinaryObject) base, propertyKey)) {
+            return null;
+        }
+        OrdinaryObject receiver = (OrdinaryObject) base;
+        Shape shape = receiver.getShape();
+        int slot = shape.indexOf(propertyKey);
+        if (slot >= 0) {
+            if (receiver.getSlot(slot) instanceof Property) {
+                return null;
+            }
+            return new CachedProperty(receiver, new Link[0], false, slot, null);
+        }
+        if (!receiver.isExtensible()) {
+            return null;
+        }
+        // [[Set]] creates a new data property if the property is not present on the prototype chain
+        OrdinaryObject object = receiver;
+        Link[] prototypes = new Link[0];
+        for (int depth = 0;; ++depth) {
+            ScriptObject proto = object.getPrototype();
+            if (proto == null) {
+                break;
+            }
+            if (depth == MAX_PROTOTYPE_DEPTH || !isCacheable(proto, propertyKey)) {
+                return null;
+            }
+            object = (OrdinaryObject) proto;
+            if (object.getShape().indexOf(propertyKey) >= 0) {
+                return null;
+            }
+            prototypes = append(prototypes, object);
+        }
+        Shape transition = shape.addProperty(propertyKey);
+        if (transition == null) {
+            return null;
+        }
+        return new CachedProperty(receiver, prototypes, true, shape.size(), transition);
+    }
+
+    /**
+     * Returns {@code true} if {@code base} has the same layout as the object used to create this
+     * cache entry
+     */
+    public boolean test(Object base) {
+        if (base.getClass() != receiverClass) {
+            return false;
+        }
+        OrdinaryObject object = (OrdinaryObject) base;
+        if (object.getShape() != receiverShape) {
+            return false;
+        }
+        for (Link link : prototypes) {
+            OrdinaryObject proto = link.object.get();
+            if (proto == null || object.getPrototype() != proto || proto.getShape() != link.shape) {
+                return false;
+            }
+            object = proto;
+        }
+        return !absent || object.getPrototype() == null;
+    }
+
+    /**
+     * Returns the cached property value or {@code null} if the property is an accessor property
+     * <p>
+     * Precondition: {@code test(base) == true}
+     */
+    public Object getValue(Object base) {
+        if (absent) {
+            return UNDEFINED;
+        }
+        OrdinaryObject holder = prototypes.length == 0 ? (OrdinaryObject) base
+                : prototypes[prototypes.length - 1].object.get();
+        Object value = holder.getSlot(slot);
+        if (value instanceof Property) {
+            Property property = (Property) value;
+            return property.isDataDescriptor() ? property.getValue() : null;
+        }
+        return value;
+    }
+
+    /**
+     * Updates or adds the cached property value and returns {@code true} on success, or
+     * {@code false} if the property no longer has default attributes resp. the object is no longer
+     * extensible
+     * <p>
+     * Precondition: {@code test(base) == true}
+     */
+    public boolean setValue(Object base, Object value) {
+        OrdinaryObject object = (OrdinaryObject) base;
+        if (transition != null) {
+            if (!object.isExtensible()) {
+                return false;
+            }
+            object.addSlot(transition, value);
+            return true;
+        }
+        if (object.getSlot(slot) instanceof Property) {
+            return false;
+        }
+        object.setSlot(slot, value);
+        return true;
+    }
+}
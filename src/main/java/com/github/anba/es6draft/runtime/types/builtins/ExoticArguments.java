@@ -142,8 +142,6 @@ public class ExoticArguments extends OrdinaryObject {
 
     /**
      * Creates a legacy {@link ExoticArguments} object
-     * <p>
-     * [Called from generated code]
      */
     public static ExoticArguments CreateLegacyArgumentsObject(ExecutionContext cx,
             FunctionObject func, Object[] args, String[] formals, LexicalEnvironment env) {
@@ -161,6 +159,41 @@ public class ExoticArguments extends OrdinaryObject {
         return createLegacyArguments(cx, func, args, arguments.parameterMap);
     }
 
+    /**
+     * Creates a legacy {@link ExoticArguments} object on first access
+     * <p>
+     * [Called from generated code]
+     */
+    public static LazyLegacyArguments CreateLazyLegacyArgumentsObject(ExecutionContext cx,
+            FunctionObject func, Object[] args, String[] formals, LexicalEnvironment env) {
+        return new LazyLegacyArguments(cx, func, args, formals, env);
+    }
+
+    /**
+     * Placeholder for a legacy {@link ExoticArguments} object which has not yet been accessed
+     * through the function's "arguments" property
+     */
+    public static final class LazyLegacyArguments {
+        private final ExecutionContext cx;
+        private final FunctionObject func;
+        private final Object[] args;
+        private final String[] formals;
+        private final LexicalEnvironment env;
+
+        LazyLegacyArguments(ExecutionContext cx, FunctionObject func, Object[] args,
+                String[] formals, LexicalEnvironment env) {
+            this.cx = cx;
+            this.func = func;
+            this.args = args;
+            this.formals = formals;
+            this.env = env;
+        }
+
+        ExoticArguments create() {
+            return CreateLegacyArgumentsObject(cx, func, args, formals, env);
+        }
+    }
+
     /**
      * [9.4.4.1 Arguments Object] InstantiateArgumentsObject
      */
@@ -256,6 +289,12 @@ public class ExoticArguments extends OrdinaryObject {
             super(realm, true);
         }
 
+        @Override
+        protected boolean isOrdinaryProperty(String propertyKey) {
+            // [[Set]] is routed through the no-op [[DefineOwnProperty]]
+            return false;
+        }
+
         @Override
         public boolean setPrototypeOf(ExecutionContext cx, ScriptObject prototype) {
             // ignore attempts to change [[Prototype]]
@@ -287,6 +326,18 @@ public class ExoticArguments extends OrdinaryObject {
             // this object is effectively unmodifiable
             return true;
         }
+
+        @Override
+        public boolean set(ExecutionContext cx, Symbol propertyKey, Object value,
+                Object receiver) {
+            // skip the slot fast path, [[Set]] is routed through the no-op [[DefineOwnProperty]]
+            return ordinarySet(cx, propertyKey, value, receiver);
+        }
+    }
+
+    @Override
+    protected boolean isOrdinaryProperty(String propertyKey) {
+        return ParameterMap.toArgumentIndex(propertyKey) < 0 && !"caller".equals(propertyKey);
     }
 
     /**
@@ -319,6 +370,18 @@ public class ExoticArguments extends OrdinaryObject {
         return map.get(propertyKey);
     }
 
+    /**
+     * [[Set]]
+     */
+    @Override
+    public boolean set(ExecutionContext cx, String propertyKey, Object value, Object receiver) {
+        if (parameterMap == null && !isLegacy) {
+            return super.set(cx, propertyKey, value, receiver);
+        }
+        // mapped arguments are updated through [[DefineOwnProperty]]
+        return ordinarySet(cx, propertyKey, value, receiver);
+    }
+
     /**
      * [[GetOwnProperty]]
      */
@@ -11,8 +11,11 @@ import static com.github.anba.es6draft.runtime.AbstractOperations.ToString;
 import static com.github.anba.es6draft.runtime.AbstractOperations.ToUint32;
 import static com.github.anba.es6draft.runtime.internal.Errors.newRangeError;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.Realm;
@@ -31,9 +34,23 @@ import com.github.anba.es6draft.runtime.types.ScriptObject;
  * </ul>
  */
 public final class ExoticArray extends OrdinaryObject {
+    private static final Object[] EMPTY_ELEMENTS = new Object[0];
+    private static final int MIN_ELEMENTS_CAPACITY = 8;
+
     /** [[ArrayInitialisationState]] */
     private boolean initialisationState = false;
 
+    /**
+     * Dense element storage, {@code null} if the array is in sparse mode. In dense mode all array
+     * index properties are in the range [0, {@link #denseLength}) and are data properties with
+     * default attributes {[[Writable]]: true, [[Enumerable]]: true, [[Configurable]]: true}, and
+     * all dense elements were created before any ordinary property other than "length".
+     */
+    private Object[] elements = EMPTY_ELEMENTS;
+
+    /** Number of used slots in {@link #elements} */
+    private int denseLength = 0;
+
     public ExoticArray(Realm realm) {
         super(realm);
     }
@@ -68,6 +85,258 @@ public final class ExoticArray extends OrdinaryObject {
         return Strings.toArrayIndex(p);
     }
 
+    /**
+     * Returns {@code true} if the array elements are stored in the dense element storage
+     */
+    public boolean isDenseArray() {
+        return elements != null;
+    }
+
+    /**
+     * Returns the value of the dense element at {@code index} or {@code null} if the array is not
+     * in dense mode or has no own element at {@code index}
+     */
+    public Object getDenseElement(long index) {
+        return elements != null && index >= 0 && index < denseLength ? elements[(int) index] : null;
+    }
+
+    /**
+     * Returns the dense element index for {@code propertyKey} or {@code -1} if the array is not in
+     * dense mode or {@code propertyKey} is not an array index
+     */
+    private long denseIndex(String propertyKey) {
+        return elements != null ? toArrayIndex(propertyKey) : -1;
+    }
+
+    private static boolean isDefaultElement(PropertyDescriptor desc) {
+        return !desc.isAccessorDescriptor() && (!desc.hasWritable() || desc.isWritable())
+                && (!desc.hasEnumerable() || desc.isEnumerable())
+                && (!desc.hasConfigurable() || desc.isConfigurable());
+    }
+
+    private static boolean isNewDefaultElement(PropertyDescriptor desc) {
+        return !desc.isAccessorDescriptor() && desc.hasWritable() && desc.isWritable()
+                && desc.hasEnumerable() && desc.isEnumerable() && desc.hasConfigurable()
+                && desc.isConfigurable();
+    }
+
+    private void appendElement(Object value) {
+        assert elements != null;
+        int length = denseLength;
+        if (length == elements.length) {
+            if (length == Integer.MAX_VALUE - 8) {
+                toSparseArray();
+                addProperty(Integer.toString(length), new Property(value, true, true, true));
+                return;
+            }
+            int newCapacity = Math.max(MIN_ELEMENTS_CAPACITY, length + (length >> 1));
+            if (newCapacity < 0 || newCapacity > Integer.MAX_VALUE - 8) {
+                newCapacity = Integer.MAX_VALUE - 8;
+            }
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+        elements[length] = value;
+        denseLength = length + 1;
+    }
+
+    private void truncateElements(int newLength) {
+        assert elements != null && newLength <= denseLength;
+        Arrays.fill(elements, newLength, denseLength, null);
+        denseLength = newLength;
+    }
+
+    /**
+     * Returns {@code true} if "length" is the only ordinary property
+     */
+    private boolean hasOnlyLengthProperty() {
+        return propertyCount() == 1;
+    }
+
+    /**
+     * Moves all dense elements into the ordinary property storage. The dense elements were all
+     * added before any other property except "length", so they are inserted directly after
+     * "length" to retain the property creation order.
+     */
+    private void toSparseArray() {
+        Object[] elements = this.elements;
+        if (elements == null) {
+            return;
+        }
+        int len = denseLength;
+        this.elements = null;
+        this.denseLength = 0;
+        if (hasOnlyLengthProperty()) {
+            for (int i = 0; i < len; ++i) {
+                addProperty(Integer.toString(i), new Property(elements[i], true, true, true));
+            }
+        } else if (len > 0) {
+            String[] keys = new String[len];
+            for (int i = 0; i < len; ++i) {
+                keys[i] = Integer.toString(i);
+            }
+            insertProperties(1, keys, elements, len);
+        }
+    }
+
+    /**
+     * [[DefineOwnProperty]] for array index properties, steps 3.f-3.h
+     */
+    private boolean defineOwnElement(long index, String propertyKey, PropertyDescriptor desc) {
+        if (elements != null) {
+            if (index < denseLength) {
+                if (isDefaultElement(desc)) {
+                    if (desc.hasValue()) {
+                        elements[(int) index] = desc.getValue();
+                    }
+                    return true;
+                }
+            } else if (index == denseLength && isExtensible() && isNewDefaultElement(desc)
+                    && hasOnlyLengthProperty()) {
+                // appending after other properties were added would change the key order
+                appendElement(desc.getValue());
+                return true;
+            }
+            toSparseArray();
+        }
+        return ordinaryDefineOwnProperty(propertyKey, desc);
+    }
+
+    @Override
+    protected boolean isOrdinaryProperty(String propertyKey) {
+        return toArrayIndex(propertyKey) < 0;
+    }
+
+    @Override
+    protected boolean hasOwnProperty(String propertyKey) {
+        long index = denseIndex(propertyKey);
+        if (index >= 0) {
+            return index < denseLength;
+        }
+        return super.hasOwnProperty(propertyKey);
+    }
+
+    /**
+     * 9.1.5 [[GetOwnProperty]] (P)
+     */
+    @Override
+    public Property getOwnProperty(ExecutionContext cx, String propertyKey) {
+        long index = denseIndex(propertyKey);
+        if (index >= 0) {
+            if (index < denseLength) {
+                return new Property(elements[(int) index], true, true, true);
+            }
+            return null;
+        }
+        return super.getOwnProperty(cx, propertyKey);
+    }
+
+    /**
+     * 9.1.8 [[Get]] (P, Receiver)
+     */
+    @Override
+    public Object get(ExecutionContext cx, String propertyKey, Object receiver) {
+        long index = denseIndex(propertyKey);
+        if (index >= 0 && index < denseLength) {
+            return elements[(int) index];
+        }
+        return super.get(cx, propertyKey, receiver);
+    }
+
+    /**
+     * 9.1.9 [[Set] (P, V, Receiver)
+     */
+    @Override
+    public boolean set(ExecutionContext cx, String propertyKey, Object value, Object receiver) {
+        if (receiver == this) {
+            long index = denseIndex(propertyKey);
+            if (index >= 0 && index < denseLength) {
+                elements[(int) index] = value;
+                return true;
+            }
+        }
+        return super.set(cx, propertyKey, value, receiver);
+    }
+
+    /**
+     * 9.1.10 [[Delete]] (P)
+     */
+    @Override
+    public boolean delete(ExecutionContext cx, String propertyKey) {
+        long index = denseIndex(propertyKey);
+        if (index >= 0) {
+            if (index >= denseLength) {
+                return true;
+            }
+            if (index == denseLength - 1) {
+                truncateElements((int) index);
+                return true;
+            }
+            toSparseArray();
+        }
+        return super.delete(cx, propertyKey);
+    }
+
+    /**
+     * 9.1.11 [[Enumerate]] ()
+     */
+    @Override
+    protected Collection<String> enumerateKeys() {
+        Collection<String> keys = super.enumerateKeys();
+        if (elements == null || denseLength == 0) {
+            return keys;
+        }
+        return withDenseKeys(keys, denseKeys());
+    }
+
+    @Override
+    protected boolean isEnumerableOwnProperty(String key) {
+        long index = denseIndex(key);
+        if (index >= 0) {
+            return index < denseLength;
+        }
+        return super.isEnumerableOwnProperty(key);
+    }
+
+    /**
+     * 9.1.12 [[OwnPropertyKeys]] ( )
+     */
+    @Override
+    protected Collection<Object> enumerateOwnKeys() {
+        Collection<Object> keys = super.enumerateOwnKeys();
+        if (elements == null || denseLength == 0) {
+            return keys;
+        }
+        return withDenseKeys(keys, denseKeys());
+    }
+
+    /**
+     * Merges the dense element keys into {@code keys}. "length" is always the first ordinary
+     * property and elements are only appended in dense mode while "length" is the only ordinary
+     * property, so the element keys are inserted directly after it to retain the same order as if
+     * the elements were stored as ordinary properties.
+     */
+    private static <KEY> List<KEY> withDenseKeys(Collection<KEY> keys,
+            Collection<? extends KEY> denseKeys) {
+        List<KEY> propList = new ArrayList<>(denseKeys.size() + keys.size());
+        Iterator<KEY> iter = keys.iterator();
+        KEY length = iter.next();
+        assert "length".equals(length);
+        propList.add(length);
+        propList.addAll(denseKeys);
+        while (iter.hasNext()) {
+            propList.add(iter.next());
+        }
+        return propList;
+    }
+
+    private List<String> denseKeys() {
+        List<String> keys = new ArrayList<>(denseLength);
+        for (int i = 0, len = denseLength; i < len; ++i) {
+            keys.add(Integer.toString(i));
+        }
+        return keys;
+    }
+
     /**
      * 9.4.2.1 [[DefineOwnProperty]] (P, Desc)
      */
@@ -91,7 +360,7 @@ public final class ExoticArray extends OrdinaryObject {
                 return false;
             }
             /* steps 3.f-3.h */
-            boolean succeeded = ordinaryDefineOwnProperty(propertyKey, desc);
+            boolean succeeded = defineOwnElement(index, propertyKey, desc);
             if (!succeeded) {
                 return false;
             }
@@ -171,9 +440,9 @@ public final class ExoticArray extends OrdinaryObject {
      */
     public static ExoticArray DenseArrayCreate(ExecutionContext cx, Object[] values) {
         ExoticArray array = ArrayCreate(cx, values.length);
-        for (int i = 0, len = values.length; i < len; ++i) {
-            array.addProperty(Integer.toString(i), new Property(values[i], true, true, true));
-        }
+        // take ownership of the freshly allocated values array
+        array.elements = values;
+        array.denseLength = values.length;
         return array;
     }
 
@@ -184,9 +453,26 @@ public final class ExoticArray extends OrdinaryObject {
      */
     public static ExoticArray SparseArrayCreate(ExecutionContext cx, Object[] values) {
         ExoticArray array = ArrayCreate(cx, values.length);
-        for (int i = 0, len = values.length; i < len; ++i) {
-            if (values[i] != null) {
-                array.addProperty(Integer.toString(i), new Property(values[i], true, true, true));
+        int len = values.length;
+        while (len > 0 && values[len - 1] == null) {
+            // trailing holes do not require sparse mode
+            len -= 1;
+        }
+        for (int i = 0; i < len; ++i) {
+            if (values[i] == null) {
+                array.toSparseArray();
+                break;
+            }
+        }
+        if (array.elements != null) {
+            array.elements = values;
+            array.denseLength = len;
+        } else {
+            for (int i = 0; i < len; ++i) {
+                if (values[i] != null) {
+                    array.addProperty(Integer.toString(i), new Property(values[i], true, true,
+                            true));
+                }
             }
         }
         return array;
@@ -239,7 +525,13 @@ public final class ExoticArray extends OrdinaryObject {
             return false;
         }
         /* step 15 */
-        if ((oldLen - newLen) > 1000) {
+        if (array.elements != null) {
+            // dense elements are always configurable, no further index properties present
+            if (newLen < array.denseLength) {
+                array.truncateElements((int) newLen);
+            }
+            oldLen = -1;
+        } else if ((oldLen - newLen) > 1000) {
             oldLen = SparseArraySetLength(cx, array, newLen);
         } else {
             oldLen = DenseArraySetLength(cx, array, oldLen, newLen);
@@ -40,6 +40,11 @@ public abstract class ExoticIntegerIndexedObject extends OrdinaryObject {
         return Double.NaN;
     }
 
+    @Override
+    protected boolean isOrdinaryProperty(String propertyKey) {
+        return Double.isNaN(toIntegerIndex(propertyKey));
+    }
+
     /** [[HasOwnProperty]] (P) */
     @Override
     protected boolean hasOwnProperty(String propertyKey) {
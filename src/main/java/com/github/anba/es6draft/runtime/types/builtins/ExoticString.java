@@ -60,6 +60,11 @@ public final class ExoticString extends OrdinaryObject {
         return Strings.toIndex(p);
     }
 
+    @Override
+    protected boolean isOrdinaryProperty(String propertyKey) {
+        return toStringIndex(propertyKey) < 0;
+    }
+
     /**
      * [[HasOwnProperty]] (P)
      */
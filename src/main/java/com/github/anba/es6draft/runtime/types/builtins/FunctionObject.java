@@ -13,6 +13,7 @@ import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.invoke.MethodType;
+import java.util.Arrays;
 import java.util.Collection;
 
 import com.github.anba.es6draft.runtime.ExecutionContext;
@@ -28,6 +29,8 @@ import com.github.anba.es6draft.runtime.types.Property;
 import com.github.anba.es6draft.runtime.types.PropertyDescriptor;
 import com.github.anba.es6draft.runtime.types.ScriptObject;
 import com.github.anba.es6draft.runtime.types.Symbol;
+import com.github.anba.es6draft.runtime.types.Undefined;
+import com.github.anba.es6draft.runtime.types.builtins.ExoticArguments.LazyLegacyArguments;
 
 /**
  * <h1>9 Ordinary and Exotic Objects Behaviours</h1><br>
@@ -139,6 +142,32 @@ public abstract class FunctionObject extends OrdinaryObject implements Callable
         return callMethod;
     }
 
+    /**
+     * Returns the {@link MethodHandle} for the function entry method for calls with exactly
+     * {@code argumentCount} arguments or {@code null} if not available. Missing arguments are
+     * filled with {@code undefined}, calls with more arguments than formal parameters need to use
+     * the generic entry method.
+     */
+    public final MethodHandle getCallMethod(int argumentCount) {
+        if (!isInitialised()) {
+            return null;
+        }
+        MethodHandle fixedArityCallMethod = function.fixedArityCallMethod();
+        if (fixedArityCallMethod == null) {
+            return null;
+        }
+        int parameterCount = fixedArityCallMethod.type().parameterCount() - 3;
+        if (argumentCount > parameterCount) {
+            return null;
+        }
+        if (argumentCount < parameterCount) {
+            Object[] missing = new Object[parameterCount - argumentCount];
+            Arrays.fill(missing, Undefined.UNDEFINED);
+            return MethodHandles.insertArguments(fixedArityCallMethod, 3 + argumentCount, missing);
+        }
+        return fixedArityCallMethod;
+    }
+
     /**
      * Returns the {@link MethodHandle} for the function tail-call entry method
      */
@@ -178,6 +207,13 @@ public abstract class FunctionObject extends OrdinaryObject implements Callable
         this.arguments.applyValue(arguments);
     }
 
+    /**
+     * [Called from generated code]
+     */
+    public final void setLegacyArguments(LazyLegacyArguments arguments) {
+        this.arguments.applyValue(arguments);
+    }
+
     /**
      * [Called from generated code]
      */
@@ -216,6 +252,11 @@ public abstract class FunctionObject extends OrdinaryObject implements Callable
         return ValidateAndApplyPropertyDescriptor(this, propertyKey, extensible, desc, current);
     }
 
+    @Override
+    protected boolean isOrdinaryProperty(String propertyKey) {
+        return !("caller".equals(propertyKey) || "arguments".equals(propertyKey));
+    }
+
     @Override
     protected boolean hasOwnProperty(String propertyKey) {
         boolean has = super.hasOwnProperty(propertyKey);
@@ -257,6 +298,10 @@ public abstract class FunctionObject extends OrdinaryObject implements Callable
                 return caller;
             }
             if ("arguments".equals(propertyKey)) {
+                Object value = arguments.getValue();
+                if (value instanceof LazyLegacyArguments) {
+                    arguments.applyValue(((LazyLegacyArguments) value).create());
+                }
                 return arguments;
             }
         }
@@ -334,6 +379,21 @@ public abstract class FunctionObject extends OrdinaryObject implements Callable
         }
     }
 
+    /**
+     * Replaces the [[Code]] of this function object with {@code function}, which must be the
+     * compiled form of the current code, e.g. after lazily compiling the function on its first
+     * call
+     */
+    public final void replaceCode(RuntimeInfo.Function function) {
+        assert isInitialised() : "uninitialised function object";
+        assert this.function.isStrict() == function.isStrict()
+                && this.function.isGenerator() == function.isGenerator();
+        assert !function.hasTailCall() || this.function.hasTailCall();
+        this.function = function;
+        this.callMethod = tailCallAdapter(function);
+        this.tailCallMethod = function.callMethod();
+    }
+
     /**
      * 9.2.10 MakeMethod ( F, methodName, homeObject ) Abstract Operation
      */
@@ -7,9 +7,12 @@
 package com.github.anba.es6draft.runtime.types.builtins;
 
 import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
 
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.types.Undefined;
 
 /**
  * <h1>9 Ordinary and Exotic Objects Behaviours</h1>
@@ -21,9 +24,29 @@ public final class NativeFunction extends BuiltinFunction {
     // (Object, Object[]) -> Object
     private final MethodHandle mh;
 
+    // (Object, Object...) -> Object
+    private final MethodHandle directMethod;
+    private final Object[] defaults;
+
     public NativeFunction(Realm realm, String name, int arity, MethodHandle mh) {
+        this(realm, name, arity, mh, null, null);
+    }
+
+    /**
+     * Creates a new built-in function whose implementation method takes its arguments as
+     * individual parameters. {@code directMethod} has the type {@code (Object, Object...) -> Object}
+     * where the trailing parameters are the function arguments, missing arguments are replaced by
+     * the corresponding entry from {@code defaults} or {@code undefined} if {@code defaults} is
+     * {@code null}.
+     */
+    public NativeFunction(Realm realm, String name, int arity, MethodHandle mh,
+            MethodHandle directMethod, Object[] defaults) {
         super(realm, name, arity);
         this.mh = mh;
+        this.directMethod = directMethod;
+        this.defaults = defaults;
+        assert directMethod == null || defaults == null
+                || defaults.length == directMethod.type().parameterCount() - 1;
     }
 
     /**
@@ -33,6 +56,30 @@ public final class NativeFunction extends BuiltinFunction {
         return mh;
     }
 
+    /**
+     * Returns `(Object, Object...) -> Object` method-handle for calls with exactly
+     * {@code argumentCount} arguments or {@code null} if not available
+     */
+    public MethodHandle getCallMethod(int argumentCount) {
+        if (directMethod == null) {
+            return null;
+        }
+        int parameterCount = directMethod.type().parameterCount() - 1;
+        if (argumentCount < parameterCount) {
+            Object[] missing = new Object[parameterCount - argumentCount];
+            for (int i = 0; i < missing.length; ++i) {
+                missing[i] = defaults != null ? defaults[argumentCount + i] : Undefined.UNDEFINED;
+            }
+            return MethodHandles.insertArguments(directMethod, 1 + argumentCount, missing);
+        }
+        if (argumentCount > parameterCount) {
+            Class<?>[] extra = new Class<?>[argumentCount - parameterCount];
+            Arrays.fill(extra, Object.class);
+            return MethodHandles.dropArguments(directMethod, 1 + parameterCount, extra);
+        }
+        return directMethod;
+    }
+
     /**
      * 9.3.1 [[Call]] (thisArgument, argumentsList)
      */
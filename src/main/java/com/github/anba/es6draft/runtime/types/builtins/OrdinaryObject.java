@@ -14,11 +14,13 @@ import static com.github.anba.es6draft.runtime.objects.internal.ListIterator.Fro
 import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import com.github.anba.es6draft.runtime.ExecutionContext;
@@ -40,8 +42,23 @@ import com.github.anba.es6draft.runtime.types.Type;
  * </ul>
  */
 public class OrdinaryObject implements ScriptObject {
-    // Map<String|Symbol, Property> properties
-    private LinkedHashMap<Object, Property> properties = new LinkedHashMap<>();
+    private static final Object[] EMPTY_SLOTS = new Object[0];
+    private static final int MIN_SLOTS_CAPACITY = 4;
+
+    /**
+     * Property layout, {@code null} if the properties are stored in {@link #dictionary}
+     */
+    private Shape shape = Shape.EMPTY;
+
+    /**
+     * Property slots, indexed by {@link #shape}. Data properties with default attributes, i.e.
+     * {[[Writable]]: true, [[Enumerable]]: true, [[Configurable]]: true}, only store their value,
+     * all other properties are stored as {@link Property} objects.
+     */
+    private Object[] slots = EMPTY_SLOTS;
+
+    // Map<String|Symbol, Object|Property> dictionary
+    private LinkedHashMap<Object, Object> dictionary = null;
 
     /** [[Realm]] */
     @SuppressWarnings("unused")
@@ -64,12 +81,106 @@ public class OrdinaryObject implements ScriptObject {
         __put__(propertyKey, property);
     }
 
+    /**
+     * Internal hook for ExoticArray
+     */
+    final int propertyCount() {
+        return dictionary != null ? dictionary.size() : shape.size();
+    }
+
+    /**
+     * Internal hook for ExoticArray, inserts the data properties {@code keys[i]: values[i]} with
+     * default attributes after the first {@code position} own properties
+     */
+    final void insertProperties(int position, String[] keys, Object[] values, int length) {
+        assert 0 <= position && position <= propertyCount();
+        if (dictionary == null) {
+            toDictionary();
+        }
+        LinkedHashMap<Object, Object> dictionary = new LinkedHashMap<>();
+        Iterator<Map.Entry<Object, Object>> iter = this.dictionary.entrySet().iterator();
+        for (int i = 0; i < position; ++i) {
+            Map.Entry<Object, Object> entry = iter.next();
+            dictionary.put(entry.getKey(), entry.getValue());
+        }
+        for (int i = 0; i < length; ++i) {
+            dictionary.put(keys[i], values[i]);
+        }
+        while (iter.hasNext()) {
+            Map.Entry<Object, Object> entry = iter.next();
+            dictionary.put(entry.getKey(), entry.getValue());
+        }
+        this.dictionary = dictionary;
+    }
+
     /**
      * Internal hook for FunctionObject
      */
     final void inheritProperties(OrdinaryObject source) {
-        assert properties.isEmpty() : "properties not empty";
-        properties.putAll(source.properties);
+        assert shape == Shape.EMPTY && dictionary == null : "properties not empty";
+        if (source.dictionary != null) {
+            shape = null;
+            dictionary = new LinkedHashMap<>(source.dictionary);
+        } else {
+            shape = source.shape;
+            slots = source.slots.clone();
+        }
+    }
+
+    /**
+     * Internal hook for CachedProperty
+     */
+    final Shape getShape() {
+        return shape;
+    }
+
+    /**
+     * Internal hook for CachedProperty
+     */
+    final Object getSlot(int index) {
+        return slots[index];
+    }
+
+    /**
+     * Internal hook for CachedProperty
+     */
+    final void setSlot(int index, Object value) {
+        assert !(slots[index] instanceof Property);
+        slots[index] = value;
+    }
+
+    /**
+     * Internal hook for CachedProperty
+     */
+    final void addSlot(Shape newShape, Object value) {
+        assert newShape.getParent() == shape && !(value instanceof Property);
+        appendSlot(newShape, value);
+    }
+
+    /**
+     * Internal hook for PropertyTemplate
+     */
+    final Object[] copySlots(int length) {
+        assert shape != null && length >= shape.size();
+        return Arrays.copyOf(slots, length);
+    }
+
+    /**
+     * Internal hook for PropertyTemplate
+     */
+    final void replaceSlots(Shape newShape, Object[] newSlots) {
+        assert shape != null && newSlots.length >= newShape.size();
+        this.shape = newShape;
+        this.slots = newSlots;
+    }
+
+    /**
+     * Returns {@code true} if [[GetOwnProperty]], [[DefineOwnProperty]], [[Get]] and [[Set]] for
+     * {@code propertyKey} are fully described by the ordinary property storage of this object.
+     * Subclasses which override any of these methods need to exclude the affected property keys.
+     */
+    protected boolean isOrdinaryProperty(String propertyKey) {
+        return true;
     }
 
     /** [[Prototype]] */
@@ -105,28 +216,156 @@ public class OrdinaryObject implements ScriptObject {
         return __has__(propertyKey);
     }
 
-    private void __put__(Object propertyKey, Property property) {
+    private static Object toSlot(Property property) {
+        if (property.isDataDescriptor() && property.isWritable() && property.isEnumerable()
+                && property.isConfigurable()) {
+            return property.getValue();
+        }
+        return property;
+    }
+
+    private static Property toProperty(Object slot) {
+        if (slot instanceof Property) {
+            return (Property) slot;
+        }
+        return new Property(slot, true, true, true);
+    }
+
+    private static boolean isDefaultDataDescriptor(PropertyDescriptor desc) {
+        return !desc.isAccessorDescriptor() && (!desc.hasWritable() || desc.isWritable())
+                && (!desc.hasEnumerable() || desc.isEnumerable())
+                && (!desc.hasConfigurable() || desc.isConfigurable());
+    }
+
+    /**
+     * Switches from the shared property layout to dictionary mode
+     */
+    private void toDictionary() {
+        assert dictionary == null;
+        Shape shape = this.shape;
+        Object[] slots = this.slots;
+        LinkedHashMap<Object, Object> dictionary = new LinkedHashMap<>();
+        List<Object> keys = shape.keys();
+        for (int i = 0, size = keys.size(); i < size; ++i) {
+            dictionary.put(keys.get(i), slots[i]);
+        }
+        this.shape = null;
+        this.slots = EMPTY_SLOTS;
+        this.dictionary = dictionary;
+    }
+
+    private Object __slot__(Object propertyKey) {
         assert propertyKey instanceof String || propertyKey instanceof Symbol;
-        properties.put(propertyKey, property);
+        if (dictionary != null) {
+            return dictionary.get(propertyKey);
+        }
+        int index = shape.indexOf(propertyKey);
+        return index >= 0 ? slots[index] : null;
     }
 
-    private boolean __has__(Object propertyKey) {
+    private void __setSlot__(Object propertyKey, Object slot) {
         assert propertyKey instanceof String || propertyKey instanceof Symbol;
-        return properties.containsKey(propertyKey);
+        if (dictionary != null) {
+            dictionary.put(propertyKey, slot);
+            return;
+        }
+        int index = shape.indexOf(propertyKey);
+        if (index >= 0) {
+            slots[index] = slot;
+            return;
+        }
+        Shape newShape = shape.addProperty(propertyKey);
+        if (newShape == null) {
+            toDictionary();
+            dictionary.put(propertyKey, slot);
+            return;
+        }
+        appendSlot(newShape, slot);
+    }
+
+    private void appendSlot(Shape newShape, Object slot) {
+        int size = shape.size();
+        if (size == slots.length) {
+            slots = Arrays.copyOf(slots, Math.max(MIN_SLOTS_CAPACITY, size + (size >> 1)));
+        }
+        slots[size] = slot;
+        shape = newShape;
+    }
+
+    private void __put__(Object propertyKey, Property property) {
+        __setSlot__(propertyKey, toSlot(property));
+    }
+
+    private boolean __has__(Object propertyKey) {
+        return __slot__(propertyKey) != null;
     }
 
     private Property __get__(Object propertyKey) {
-        assert propertyKey instanceof String || propertyKey instanceof Symbol;
-        return properties.get(propertyKey);
+        Object slot = __slot__(propertyKey);
+        return slot != null ? toProperty(slot) : null;
+    }
+
+    /**
+     * Returns the value of the data property {@code propertyKey} if the property is present and
+     * has default attributes, otherwise returns {@code null}
+     */
+    private Object __value__(Object propertyKey) {
+        Object slot = __slot__(propertyKey);
+        return slot instanceof Property ? null : slot;
+    }
+
+    /**
+     * Returns the {@link Property} object for {@code propertyKey} and ensures the property slot
+     * holds the returned object, so it can be modified in-place
+     */
+    private Property __getMutable__(Object propertyKey) {
+        Object slot = __slot__(propertyKey);
+        if (slot == null || slot instanceof Property) {
+            return (Property) slot;
+        }
+        Property property = toProperty(slot);
+        __setSlot__(propertyKey, property);
+        return property;
+    }
+
+    /**
+     * Applies {@code desc} to the existing property {@code propertyKey}
+     */
+    private void __apply__(Object propertyKey, PropertyDescriptor desc) {
+        Object slot = __slot__(propertyKey);
+        assert slot != null;
+        if (!(slot instanceof Property) && isDefaultDataDescriptor(desc)) {
+            if (desc.hasValue()) {
+                __setSlot__(propertyKey, desc.getValue());
+            }
+            return;
+        }
+        Property property = toProperty(slot);
+        property.apply(desc);
+        __setSlot__(propertyKey, toSlot(property));
     }
 
     private void __delete__(Object propertyKey) {
         assert propertyKey instanceof String || propertyKey instanceof Symbol;
-        properties.remove(propertyKey);
+        if (dictionary == null) {
+            Shape shape = this.shape;
+            int size = shape.size();
+            if (size > 0 && shape.lastKey().equals(propertyKey)) {
+                // removing the last added property does not require dictionary mode
+                this.shape = shape.getParent();
+                this.slots[size - 1] = null;
+                return;
+            }
+            toDictionary();
+        }
+        dictionary.remove(propertyKey);
     }
 
-    private Set<Object> __keys__() {
-        return properties.keySet();
+    private Collection<Object> __keys__() {
+        if (dictionary != null) {
+            return dictionary.keySet();
+        }
+        return shape.keys();
     }
 
     /** 9.1.1 [[GetPrototypeOf]] ( ) */
@@ -206,7 +445,7 @@ public class OrdinaryObject implements ScriptObject {
         if (desc == null) {
             return null;
         }
-        /* steps 3-9 (altered: returns live view) */
+        /* steps 3-9 (altered: returns live view for non-default properties) */
         return desc;
     }
 
@@ -220,7 +459,7 @@ public class OrdinaryObject implements ScriptObject {
         if (desc == null) {
             return null;
         }
-        /* steps 3-9 (altered: returns live view) */
+        /* steps 3-9 (altered: returns live view for non-default properties) */
         return desc;
     }
 
@@ -347,11 +586,11 @@ public class OrdinaryObject implements ScriptObject {
                 }
                 if (current.isDataDescriptor()) {
                     if (object != null) {
-                        object.__get__(propertyKey).toAccessorProperty();
+                        object.__getMutable__(propertyKey).toAccessorProperty();
                     }
                 } else {
                     if (object != null) {
-                        object.__get__(propertyKey).toDataProperty();
+                        object.__getMutable__(propertyKey).toDataProperty();
                     }
                 }
             } else if (desc.isDataDescriptor() && current.isDataDescriptor()) {
@@ -384,7 +623,7 @@ public class OrdinaryObject implements ScriptObject {
             }
             /* step 10 */
             if (object != null) {
-                object.__get__(propertyKey).apply(desc);
+                object.__apply__(propertyKey, desc);
             }
             /* step 11 */
             return true;
@@ -433,6 +672,21 @@ public class OrdinaryObject implements ScriptObject {
     /** 9.1.8 [[Get]] (P, Receiver) */
     @Override
     public Object get(ExecutionContext cx, String propertyKey, Object receiver) {
+        // optimised: own data property with default attributes
+        Object value = __value__(propertyKey);
+        if (value != null) {
+            return value;
+        }
+        return ordinaryGet(cx, propertyKey, receiver);
+    }
+
+    /**
+     * 9.1.8 [[Get]] (P, Receiver)
+     * <p>
+     * Subclasses which override [[GetOwnProperty]] for ordinary properties need to call this
+     * method instead of {@link #get(ExecutionContext, String, Object)}
+     */
+    protected final Object ordinaryGet(ExecutionContext cx, String propertyKey, Object receiver) {
         /* step 1 (implicit) */
         /* steps 2-3 */
         Property desc = getOwnProperty(cx, propertyKey);
@@ -462,6 +716,21 @@ public class OrdinaryObject implements ScriptObject {
     /** 9.1.8 [[Get]] (P, Receiver) */
     @Override
     public Object get(ExecutionContext cx, Symbol propertyKey, Object receiver) {
+        // optimised: own data property with default attributes
+        Object value = __value__(propertyKey);
+        if (value != null) {
+            return value;
+        }
+        return ordinaryGet(cx, propertyKey, receiver);
+    }
+
+    /**
+     * 9.1.8 [[Get]] (P, Receiver)
+     * <p>
+     * Subclasses which override [[GetOwnProperty]] for ordinary properties need to call this
+     * method instead of {@link #get(ExecutionContext, Symbol, Object)}
+     */
+    protected final Object ordinaryGet(ExecutionContext cx, Symbol propertyKey, Object receiver) {
         /* step 1 (implicit) */
         /* steps 2-3 */
         Property desc = getOwnProperty(cx, propertyKey);
@@ -491,6 +760,22 @@ public class OrdinaryObject implements ScriptObject {
     /** 9.1.9 [[Set] (P, V, Receiver) */
     @Override
     public boolean set(ExecutionContext cx, String propertyKey, Object value, Object receiver) {
+        // optimised: own data property with default attributes
+        if (receiver == this && __value__(propertyKey) != null) {
+            __setSlot__(propertyKey, value);
+            return true;
+        }
+        return ordinarySet(cx, propertyKey, value, receiver);
+    }
+
+    /**
+     * 9.1.9 [[Set] (P, V, Receiver)
+     * <p>
+     * Subclasses which override [[DefineOwnProperty]] for ordinary properties need to call this
+     * method instead of {@link #set(ExecutionContext, String, Object, Object)}
+     */
+    protected final boolean ordinarySet(ExecutionContext cx, String propertyKey, Object value,
+            Object receiver) {
         /* step 1 (implicit) */
         /* steps 2-3 */
         Property ownDesc = getOwnProperty(cx, propertyKey);
@@ -533,6 +818,22 @@ public class OrdinaryObject implements ScriptObject {
     /** 9.1.9 [[Set] (P, V, Receiver) */
     @Override
     public boolean set(ExecutionContext cx, Symbol propertyKey, Object value, Object receiver) {
+        // optimised: own data property with default attributes
+        if (receiver == this && __value__(propertyKey) != null) {
+            __setSlot__(propertyKey, value);
+            return true;
+        }
+        return ordinarySet(cx, propertyKey, value, receiver);
+    }
+
+    /**
+     * 9.1.9 [[Set] (P, V, Receiver)
+     * <p>
+     * Subclasses which override [[DefineOwnProperty]] for ordinary properties need to call this
+     * method instead of {@link #set(ExecutionContext, Symbol, Object, Object)}
+     */
+    protected final boolean ordinarySet(ExecutionContext cx, Symbol propertyKey, Object value,
+            Object receiver) {
         /* step 1 (implicit) */
         /* steps 2-3 */
         Property ownDesc = getOwnProperty(cx, propertyKey);
@@ -625,6 +926,28 @@ public class OrdinaryObject implements ScriptObject {
         return propList;
     }
 
+    /**
+     * Returns the own property keys of this object if it is a plain ordinary object whose own
+     * properties are all string-keyed data properties with default attributes, otherwise returns
+     * {@code null}. The returned list is an immutable snapshot and equals the list of enumerable
+     * own property names.
+     */
+    @SuppressWarnings("unchecked")
+    public final List<String> getDataPropertyNames() {
+        Shape shape = this.shape;
+        if (getClass() != OrdinaryObject.class || shape == null) {
+            return null;
+        }
+        Object[] slots = this.slots;
+        List<?> keys = shape.keys();
+        for (int i = 0, size = keys.size(); i < size; ++i) {
+            if (slots[i] instanceof Property || !(keys.get(i) instanceof String)) {
+                return null;
+            }
+        }
+        return (List<String>) keys;
+    }
+
     /**
      * Subclasses need to override this method if they have virtual, enumerable properties
      */
@@ -742,6 +1065,41 @@ public class OrdinaryObject implements ScriptObject {
         return obj;
     }
 
+    /**
+     * Helper method to create objects with data properties
+     * <p>
+     * Creates a new ordinary object and defines the data properties {@code keys[start..end)} with
+     * the values {@code values[start..end)}. Duplicate keys keep their first position and receive
+     * the last value, i.e. the result is the same as calling CreateDataProperty() for each entry.
+     */
+    public static OrdinaryObject DataObjectCreate(ExecutionContext cx, String[] keys,
+            Object[] values, int start, int end) {
+        OrdinaryObject obj = ObjectCreate(cx, Intrinsics.ObjectPrototype);
+        Shape shape = obj.shape;
+        Object[] slots = new Object[end - start];
+        for (int i = start; i < end; ++i) {
+            String key = keys[i];
+            int index = shape.indexOf(key);
+            if (index >= 0) {
+                slots[index] = values[i];
+                continue;
+            }
+            Shape newShape = shape.addProperty(key);
+            if (newShape == null) {
+                // too many properties, let the ordinary code path switch to dictionary mode
+                obj.replaceSlots(shape, slots);
+                for (; i < end; ++i) {
+                    CreateDataProperty(cx, obj, keys[i], values[i]);
+                }
+                return obj;
+            }
+            slots[shape.size()] = values[i];
+            shape = newShape;
+        }
+        obj.replaceSlots(shape, slots);
+        return obj;
+    }
+
     /**
      * 9.1.14 OrdinaryCreateFromConstructor ( constructor, intrinsicDefaultProto )
      */
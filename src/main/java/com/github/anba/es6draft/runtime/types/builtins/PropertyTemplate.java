@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.types.builtins;
+
+import java.util.List;
+
+import com.github.anba.es6draft.runtime.ExecutionContext;
+import com.github.anba.es6draft.runtime.types.Property;
+import com.github.anba.es6draft.runtime.types.PropertyDescriptor;
+import com.github.anba.es6draft.runtime.types.ScriptObject;
+import com.github.anba.es6draft.runtime.types.Symbol;
+
+/**
+ * Recorded property layout for the built-in properties of intrinsic objects.
+ * <p>
+ * The first realm defines the built-in properties of an intrinsic object through the ordinary
+ * [[DefineOwnProperty]] method and records the initial and resulting {@link Shape} of the object
+ * together with the slot index of each property. Later realms copy that layout directly into
+ * their own intrinsic objects, property values are still created per realm.
+ */
+public final class PropertyTemplate {
+    private static final ClassValue<Boolean> ordinaryDefine = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return hasOrdinaryDefineOwnProperty(type);
+        }
+    };
+
+    private final Class<?> ownerClass;
+    private final Shape initialShape;
+    private final Shape shape;
+    private final int[] indices;
+
+    private PropertyTemplate(Class<?> ownerClass, Shape initialShape, Shape shape, int[] indices) {
+        this.ownerClass = ownerClass;
+        this.initialShape = initialShape;
+        this.shape = shape;
+        this.indices = indices;
+    }
+
+    private static boolean hasOrdinaryDefineOwnProperty(Class<?> type) {
+        try {
+            for (Class<?> keyType : new Class<?>[] { String.class, Symbol.class }) {
+                Class<?> declaringClass = type.getMethod("defineOwnProperty",
+                        ExecutionContext.class, keyType, PropertyDescriptor.class)
+                        .getDeclaringClass();
+                if (declaringClass != OrdinaryObject.class
+                        && declaringClass != FunctionObject.class) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Defines the properties {@code keys} with the descriptors {@code descs} on {@code owner} and
+     * returns a new template for the resulting property layout, or {@code null} if the layout
+     * cannot be replayed on other objects
+     */
+    public static PropertyTemplate define(OrdinaryObject owner, ExecutionContext cx,
+            List<Object> keys, List<PropertyDescriptor> descs) {
+        assert keys.size() == descs.size();
+        Shape initialShape = owner.getShape();
+        boolean recordable = initialShape != null && owner.isExtensible()
+                && ordinaryDefine.get(owner.getClass());
+        for (int i = 0, size = keys.size(); i < size; ++i) {
+            Object key = keys.get(i);
+            if (key instanceof String) {
+                recordable &= owner.isOrdinaryProperty((String) key);
+                owner.defineOwnProperty(cx, (String) key, descs.get(i));
+            } else {
+                owner.defineOwnProperty(cx, (Symbol) key, descs.get(i));
+            }
+        }
+        Shape shape = owner.getShape();
+        if (!recordable || shape == null) {
+            return null;
+        }
+        int[] indices = new int[keys.size()];
+        for (int i = 0, size = keys.size(); i < size; ++i) {
+            int index = shape.indexOf(keys.get(i));
+            if (index < 0 || !isSameProperty(owner.getSlot(index), descs.get(i))) {
+                // property definition was rejected or overridden
+                return null;
+            }
+            indices[i] = index;
+        }
+        return new PropertyTemplate(owner.getClass(), initialShape, shape, indices);
+    }
+
+    private static boolean isSameProperty(Object slot, PropertyDescriptor desc) {
+        if (!(slot instanceof Property)) {
+            return desc.isDataDescriptor() && desc.getValue() == slot && desc.isWritable()
+                    && desc.isEnumerable() && desc.isConfigurable();
+        }
+        Property property = (Property) slot;
+        if (property.isEnumerable() != desc.isEnumerable()
+                || property.isConfigurable() != desc.isConfigurable()) {
+            return false;
+        }
+        if (desc.isDataDescriptor()) {
+            return property.isDataDescriptor() && property.getValue() == desc.getValue()
+                    && property.isWritable() == desc.isWritable();
+        }
+        return property.isAccessorDescriptor() && property.getGetter() == desc.getGetter()
+                && property.getSetter() == desc.getSetter();
+    }
+
+    /**
+     * Copies the recorded property layout into {@code owner} and stores the properties
+     * {@code descs}. Returns {@code false} if {@code owner} does not have the initial layout of
+     * this template, no properties are defined in that case.
+     */
+    public boolean apply(OrdinaryObject owner, List<PropertyDescriptor> descs) {
+        assert descs.size() == indices.length;
+        if (owner.getClass() != ownerClass || owner.getShape() != initialShape
+                || !owner.isExtensible()) {
+            return false;
+        }
+        Object[] slots = owner.copySlots(shape.size());
+        for (int i = 0, size = indices.length; i < size; ++i) {
+            PropertyDescriptor desc = descs.get(i);
+            if (desc.isDataDescriptor() && desc.isWritable() && desc.isEnumerable()
+                    && desc.isConfigurable()) {
+                slots[indices[i]] = desc.getValue();
+            } else {
+                slots[indices[i]] = desc.toPlainProperty();
+            }
+        }
+        owner.replaceSlots(shape, slots);
+        return true;
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.types.builtins;
+
+import java.lang.ref.WeakReference;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Shared property layout ("hidden class") for {@link OrdinaryObject}s.
+ * <p>
+ * A shape maps property keys to slot indices, the slot index is equal to the insertion order of
+ * the property. Objects which add the same property keys in the same order share the same shape
+ * through the transition tree rooted at {@link #EMPTY}. Shapes are immutable and can be shared
+ * across realms and threads.
+ */
+final class Shape {
+    /** Maximum number of properties before objects switch to dictionary mode */
+    static final int MAX_PROPERTIES = 128;
+
+    /** Maximum number of cached transitions per shape */
+    private static final int MAX_TRANSITIONS = 64;
+
+    /** Shapes with more keys use a hash table for key lookups */
+    private static final int LINEAR_LOOKUP_LIMIT = 8;
+
+    /** The root shape without any properties */
+    static final Shape EMPTY = new Shape();
+
+    private final Shape parent;
+    private final Object[] keys;
+    private final HashMap<Object, Integer> indices;
+
+    // Map<String, WeakReference<Shape>> transitions, guarded by this
+    private HashMap<Object, WeakReference<Shape>> transitions;
+
+    private Shape() {
+        this.parent = null;
+        this.keys = new Object[0];
+        this.indices = null;
+    }
+
+    private Shape(Shape parent, Object key) {
+        int size = parent.keys.length;
+        Object[] keys = Arrays.copyOf(parent.keys, size + 1);
+        keys[size] = key;
+        this.parent = parent;
+        this.keys = keys;
+        this.indices = keys.length > LINEAR_LOOKUP_LIMIT ? createIndices(keys) : null;
+    }
+
+    private static HashMap<Object, Integer> createIndices(Object[] keys) {
+        HashMap<Object, Integer> indices = new HashMap<>(keys.length * 2);
+        for (int i = 0; i < keys.length; ++i) {
+            indices.put(keys[i], i);
+        }
+        return indices;
+    }
+
+    /**
+     * Returns the number of properties described by this shape
+     */
+    int size() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the parent shape or {@code null} for the root shape
+     */
+    Shape getParent() {
+        return parent;
+    }
+
+    /**
+     * Returns the key of the last property added to this shape
+     */
+    Object lastKey() {
+        assert keys.length > 0;
+        return keys[keys.length - 1];
+    }
+
+    /**
+     * Returns the slot index for {@code propertyKey} or {@code -1} if not present
+     */
+    int indexOf(Object propertyKey) {
+        HashMap<Object, Integer> indices = this.indices;
+        if (indices != null) {
+            Integer index = indices.get(propertyKey);
+            return index != null ? index : -1;
+        }
+        Object[] keys = this.keys;
+        for (int i = keys.length - 1; i >= 0; --i) {
+            Object key = keys[i];
+            if (key == propertyKey || key.equals(propertyKey)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the property keys in insertion order
+     */
+    List<Object> keys() {
+        final Object[] keys = this.keys;
+        return new AbstractList<Object>() {
+            @Override
+            public Object get(int index) {
+                return keys[index];
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    /**
+     * Returns the successor shape after adding {@code propertyKey} or {@code null} if the maximum
+     * number of properties was reached
+     */
+    Shape addProperty(Object propertyKey) {
+        assert indexOf(propertyKey) < 0;
+        if (keys.length >= MAX_PROPERTIES) {
+            return null;
+        }
+        if (!(propertyKey instanceof String)) {
+            // symbols are not shared between realms, don't retain them in the transition tree
+            return new Shape(this, propertyKey);
+        }
+        synchronized (this) {
+            HashMap<Object, WeakReference<Shape>> transitions = this.transitions;
+            if (transitions == null) {
+                this.transitions = transitions = new HashMap<>(4);
+            } else {
+                WeakReference<Shape> ref = transitions.get(propertyKey);
+                Shape shape = ref != null ? ref.get() : null;
+                if (shape != null) {
+                    return shape;
+                }
+                if (transitions.size() >= MAX_TRANSITIONS && !purgeTransitions(transitions)) {
+                    // too many transitions, don't cache the new shape
+                    return new Shape(this, propertyKey);
+                }
+            }
+            Shape shape = new Shape(this, propertyKey);
+            transitions.put(propertyKey, new WeakReference<>(shape));
+            return shape;
+        }
+    }
+
+    private static boolean purgeTransitions(HashMap<Object, WeakReference<Shape>> transitions) {
+        for (Iterator<WeakReference<Shape>> iter = transitions.values().iterator(); iter
+                .hasNext();) {
+            if (iter.next().get() == null) {
+                iter.remove();
+            }
+        }
+        return transitions.size() < MAX_TRANSITIONS;
+    }
+}
@@ -13,8 +13,17 @@ package org.mozilla.javascript;
  * <p>This string representation is optimized for concatenation using the "+"
  * operator. Instead of immediately copying both components to a new character
  * array, ConsString keeps references to the original components and only
- * converts them to a String if either toString() is called or a certain depth
- * level is reached.</p>
+ * converts them to a String if toString() is called.</p>
+ *
+ * <p>ConsString trees are kept height-balanced (AVL) by {@link #concat}, so
+ * charAt(), subSequence() and indexOf() walk the tree in O(log n) and never
+ * flatten the string. charAt() remembers the last leaf it read, so sequential
+ * access only walks the tree once per leaf. Once toString() was called, the
+ * flattened string replaces the components, so a flattened ConsString does
+ * not retain its tree, and it is treated as a leaf when it is concatenated
+ * again. The components are cleared while holding the lock of the
+ * ConsString, readers which observe a cleared component read the flattened
+ * string under the same lock. Tree walks therefore only read plain fields.</p>
  *
  * <p>Note that instances of this class are only immutable if both parts are
  * immutable, i.e. either Strings or ConsStrings that are ultimately composed
@@ -23,55 +32,253 @@ package org.mozilla.javascript;
  * <p>Both the name and the concept are borrowed from V8.</p>
  */
 public final class ConsString implements CharSequence {
+    // adjacent leaves are merged if the result is not longer than this value
+    private static final int SHORT_LEAF_LENGTH = 32;
 
+    // both null once flattened, guarded by this for writes
     private CharSequence s1, s2;
     private final int length;
-    private int depth;
+    private final int depth;
+    // flattened string, benign data race
+    private String flat;
+    // last leaf read by charAt(), benign data race
+    private Leaf lastLeaf;
+
+    private static final class Leaf {
+        final int start;
+        final CharSequence chars;
+
+        Leaf(int start, CharSequence chars) {
+            this.start = start;
+            this.chars = chars;
+        }
+    }
 
-    public ConsString(CharSequence str1, CharSequence str2) {
+    private ConsString(CharSequence str1, CharSequence str2) {
         s1 = str1;
         s2 = str2;
         length = str1.length() + str2.length();
-        depth = 1;
-        if (str1 instanceof ConsString) {
-            depth += ((ConsString)str1).depth;
+        depth = Math.max(depth(str1), depth(str2)) + 1;
+    }
+
+    /**
+     * Returns the flattened string after a cleared component was observed.
+     */
+    private synchronized String flattened() {
+        return flat;
+    }
+
+    private static int depth(CharSequence s) {
+        return s instanceof ConsString ? ((ConsString)s).depth : 0;
+    }
+
+    private static CharSequence leaf(CharSequence s) {
+        if (s instanceof ConsString) {
+            String flat = ((ConsString)s).flat;
+            if (flat != null) {
+                return flat;
+            }
         }
-        if (str2 instanceof ConsString) {
-            depth += ((ConsString)str2).depth;
+        return s;
+    }
+
+    private static boolean isShortLeaf(CharSequence s, int extra) {
+        return !(s instanceof ConsString) && s.length() + extra <= SHORT_LEAF_LENGTH;
+    }
+
+    private static String concatLeaves(CharSequence str1, CharSequence str2) {
+        return new StringBuilder(str1.length() + str2.length()).append(str1)
+                .append(str2).toString();
+    }
+
+    /**
+     * Returns the concatenation of {@code str1} and {@code str2}.
+     */
+    public static CharSequence concat(CharSequence str1, CharSequence str2) {
+        str1 = leaf(str1);
+        str2 = leaf(str2);
+        int len1 = str1.length(), len2 = str2.length();
+        if (len1 == 0) {
+            return str2;
         }
-        // Don't let it grow too deep, can cause stack overflows
-        if (depth > 200) {
-            flatten();
+        if (len2 == 0) {
+            return str1;
         }
+        if (isShortLeaf(str1, len2) && isShortLeaf(str2, len1)) {
+            return concatLeaves(str1, str2);
+        }
+        if (str1 instanceof ConsString && isShortLeaf(str2, 0)) {
+            // s += "..."
+            CharSequence last = str1;
+            while (last instanceof ConsString) {
+                ConsString c = (ConsString)last;
+                CharSequence r = c.s2;
+                last = r != null ? r : c.flattened();
+            }
+            if (isShortLeaf(last, len2)) {
+                ConsString result = appendToLastLeaf((ConsString)str1, str2);
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+        if (str2 instanceof ConsString && isShortLeaf(str1, 0)) {
+            // s = "..." + s
+            CharSequence first = str2;
+            while (first instanceof ConsString) {
+                ConsString c = (ConsString)first;
+                CharSequence l = c.s1;
+                first = l != null ? l : c.flattened();
+            }
+            if (isShortLeaf(first, len1)) {
+                ConsString result = prependToFirstLeaf(str1, (ConsString)str2);
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+        return join(str1, str2);
     }
 
-    @Override
-    public String toString() {
-        return depth == 0 ? (String)s1 : flatten();
+    // the depth of the tree is unchanged, only the path to the leaf is copied,
+    // returns null if a node on the path was flattened
+    private static ConsString appendToLastLeaf(ConsString c, CharSequence str) {
+        CharSequence l = c.s1, r = c.s2;
+        if (l == null || r == null) {
+            return null;
+        }
+        if (r instanceof ConsString) {
+            ConsString t = appendToLastLeaf((ConsString)r, str);
+            return t != null ? new ConsString(l, t) : null;
+        }
+        return new ConsString(l, concatLeaves(r, str));
     }
 
-    private String flatten() {
-        if (depth > 0) {
-            StringBuilder b = new StringBuilder(length);
-            appendTo(b);
-            s1 = b.toString();
-            s2 = "";
-            depth = 0;
+    // the depth of the tree is unchanged, only the path to the leaf is copied,
+    // returns null if a node on the path was flattened
+    private static ConsString prependToFirstLeaf(CharSequence str, ConsString c) {
+        CharSequence l = c.s1, r = c.s2;
+        if (l == null || r == null) {
+            return null;
+        }
+        if (l instanceof ConsString) {
+            ConsString t = prependToFirstLeaf(str, (ConsString)l);
+            return t != null ? new ConsString(t, r) : null;
+        }
+        return new ConsString(concatLeaves(str, l), r);
+    }
+
+    private static ConsString join(CharSequence l, CharSequence r) {
+        int dl = depth(l), dr = depth(r);
+        if (dl > dr + 1) {
+            return joinRight((ConsString)l, r);
+        }
+        if (dr > dl + 1) {
+            return joinLeft(l, (ConsString)r);
+        }
+        return new ConsString(l, r);
+    }
+
+    private static ConsString joinRight(ConsString l, CharSequence r) {
+        CharSequence ll = l.s1, lr = l.s2;
+        if (ll == null || lr == null) {
+            return join(l.flattened(), r);
+        }
+        if (depth(lr) <= depth(r) + 1) {
+            ConsString t = new ConsString(lr, r);
+            if (t.depth <= depth(ll) + 1) {
+                return new ConsString(ll, t);
+            }
+            return rotateLeft(ll, rotateRight((ConsString)t.s1, t.s2));
         }
-        return (String)s1;
+        ConsString t = joinRight((ConsString)lr, r);
+        if (t.depth <= depth(ll) + 1) {
+            return new ConsString(ll, t);
+        }
+        return rotateLeft(ll, t);
+    }
+
+    private static ConsString joinLeft(CharSequence l, ConsString r) {
+        CharSequence rl = r.s1, rr = r.s2;
+        if (rl == null || rr == null) {
+            return join(l, r.flattened());
+        }
+        if (depth(rl) <= depth(l) + 1) {
+            ConsString t = new ConsString(l, rl);
+            if (t.depth <= depth(rr) + 1) {
+                return new ConsString(t, rr);
+            }
+            return rotateRight(rotateLeft(t.s1, (ConsString)t.s2), rr);
+        }
+        ConsString t = joinLeft(l, (ConsString)rl);
+        if (t.depth <= depth(rr) + 1) {
+            return new ConsString(t, rr);
+        }
+        return rotateRight(t, rr);
+    }
+
+    // (l, (a, b)) -> ((l, a), b)
+    private static ConsString rotateLeft(CharSequence l, ConsString r) {
+        CharSequence a = r.s1, b = r.s2;
+        if (a == null || b == null) {
+            // flattened, joined as a leaf
+            return new ConsString(l, r.flattened());
+        }
+        return new ConsString(new ConsString(l, a), b);
     }
 
-    private void appendTo(StringBuilder b) {
-        appendFragment(s1, b);
-        appendFragment(s2, b);
+    // ((a, b), r) -> (a, (b, r))
+    private static ConsString rotateRight(ConsString l, CharSequence r) {
+        CharSequence a = l.s1, b = l.s2;
+        if (a == null || b == null) {
+            // flattened, joined as a leaf
+            return new ConsString(l.flattened(), r);
+        }
+        return new ConsString(a, new ConsString(b, r));
+    }
+
+    @Override
+    public String toString() {
+        String flat = this.flat;
+        if (flat == null) {
+            CharSequence l = s1, r = s2;
+            if (l == null || r == null) {
+                return flattened();
+            }
+            StringBuilder b = new StringBuilder(length);
+            appendFragment(l, b);
+            appendFragment(r, b);
+            flat = b.toString();
+            synchronized (this) {
+                if (this.flat != null) {
+                    return this.flat;
+                }
+                // release the components, the string is a leaf from now on
+                this.flat = flat;
+                s1 = null;
+                s2 = null;
+                lastLeaf = null;
+            }
+        }
+        return flat;
     }
 
     private static void appendFragment(CharSequence s, StringBuilder b) {
         if (s instanceof ConsString) {
-            ((ConsString)s).appendTo(b);
-        } else {
-            b.append(s);
+            ConsString c = (ConsString)s;
+            String flat = c.flat;
+            if (flat == null) {
+                CharSequence l = c.s1, r = c.s2;
+                if (l != null && r != null) {
+                    appendFragment(l, b);
+                    appendFragment(r, b);
+                    return;
+                }
+                flat = c.flattened();
+            }
+            s = flat;
         }
+        b.append(s);
     }
 
     @Override
@@ -81,12 +288,210 @@ public final class ConsString implements CharSequence {
 
     @Override
     public char charAt(int index) {
-        return toString().charAt(index);
+        if (index < 0 || index >= length) {
+            throw new StringIndexOutOfBoundsException(index);
+        }
+        String flat = this.flat;
+        if (flat != null) {
+            return flat.charAt(index);
+        }
+        Leaf leaf = lastLeaf;
+        if (leaf != null) {
+            int i = index - leaf.start;
+            if (i >= 0 && i < leaf.chars.length()) {
+                return leaf.chars.charAt(i);
+            }
+        }
+        CharSequence s = this;
+        int start = 0;
+        while (s instanceof ConsString) {
+            ConsString c = (ConsString)s;
+            String f = c.flat;
+            if (f != null) {
+                s = f;
+                break;
+            }
+            CharSequence l = c.s1, r = c.s2;
+            if (l == null || r == null) {
+                s = c.flattened();
+                break;
+            }
+            int length1 = l.length();
+            if (index - start < length1) {
+                s = l;
+            } else {
+                s = r;
+                start += length1;
+            }
+        }
+        lastLeaf = new Leaf(start, s);
+        return s.charAt(index - start);
     }
 
     @Override
     public CharSequence subSequence(int start, int end) {
-        return toString().substring(start, end);
+        if (start < 0 || end > length || start > end) {
+            throw new StringIndexOutOfBoundsException();
+        }
+        String flat = this.flat;
+        if (flat != null) {
+            return flat.substring(start, end);
+        }
+        return subSequence(this, start, end);
     }
 
+    private static CharSequence subSequence(CharSequence s, int start, int end) {
+        for (;;) {
+            if (start == 0 && end == s.length()) {
+                return s;
+            }
+            if (!(s instanceof ConsString)) {
+                return s.toString().substring(start, end);
+            }
+            ConsString c = (ConsString)s;
+            String f = c.flat;
+            if (f != null) {
+                return f.substring(start, end);
+            }
+            CharSequence l = c.s1, r = c.s2;
+            if (l == null || r == null) {
+                return c.flattened().substring(start, end);
+            }
+            int length1 = l.length();
+            if (end <= length1) {
+                s = l;
+            } else if (start >= length1) {
+                s = r;
+                start -= length1;
+                end -= length1;
+            } else if (end - start <= SHORT_LEAF_LENGTH) {
+                StringBuilder b = new StringBuilder(end - start);
+                appendRange(l, start, Math.min(end, length1), b);
+                appendRange(r, 0, end - length1, b);
+                return b.toString();
+            } else {
+                return concat(subSequence(l, start, length1),
+                        subSequence(r, 0, end - length1));
+            }
+        }
+    }
+
+    private static void appendRange(CharSequence s, int start, int end, StringBuilder b) {
+        if (s instanceof ConsString) {
+            ConsString c = (ConsString)s;
+            String flat = c.flat;
+            if (flat == null) {
+                CharSequence l = c.s1, r = c.s2;
+                if (l != null && r != null) {
+                    int length1 = l.length();
+                    if (start < length1) {
+                        appendRange(l, start, Math.min(end, length1), b);
+                    }
+                    if (end > length1) {
+                        appendRange(r, Math.max(start - length1, 0), end - length1, b);
+                    }
+                    return;
+                }
+                flat = c.flattened();
+            }
+            s = flat;
+        }
+        b.append(s, start, end);
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code str} at or after
+     * {@code fromIndex}, or {@code -1} if not found. Same as
+     * {@code toString().indexOf(str, fromIndex)}, but searches leaf by leaf
+     * instead of flattening this string.
+     */
+    public int indexOf(String str, int fromIndex) {
+        String flat = this.flat;
+        if (flat != null) {
+            return flat.indexOf(str, fromIndex);
+        }
+        int strLength = str.length();
+        fromIndex = Math.max(fromIndex, 0);
+        if (fromIndex >= length) {
+            return strLength == 0 ? length : -1;
+        }
+        if (strLength == 0) {
+            return fromIndex;
+        }
+        // right siblings along the path to the current leaf
+        CharSequence[] pending = new CharSequence[depth];
+        int top = 0;
+        CharSequence s = this;
+        int offset = 0;
+        while (s instanceof ConsString) {
+            ConsString c = (ConsString)s;
+            String f = c.flat;
+            if (f != null) {
+                s = f;
+                break;
+            }
+            CharSequence l = c.s1, r = c.s2;
+            if (l == null || r == null) {
+                s = c.flattened();
+                break;
+            }
+            int length1 = l.length();
+            if (fromIndex - offset < length1) {
+                pending[top++] = r;
+                s = l;
+            } else {
+                s = r;
+                offset += length1;
+            }
+        }
+        // up to strLength - 1 characters before offset, starting at or after fromIndex
+        String tail = "";
+        for (;;) {
+            String leaf = s.toString();
+            int leafLength = leaf.length();
+            if (!tail.isEmpty()) {
+                // matches crossing the boundary to the preceding leaves
+                int tailLength = tail.length();
+                String window = tail.concat(leaf.substring(0,
+                        Math.min(leafLength, strLength - 1)));
+                int index = window.indexOf(str);
+                if (index >= 0 && index < tailLength) {
+                    return offset - tailLength + index;
+                }
+            }
+            int index = leaf.indexOf(str, Math.max(fromIndex - offset, 0));
+            if (index >= 0) {
+                return offset + index;
+            }
+            offset += leafLength;
+            if (top == 0) {
+                return -1;
+            }
+            if (strLength > 1) {
+                int keep = Math.min(strLength - 1, offset - fromIndex);
+                if (leafLength >= keep) {
+                    tail = leaf.substring(leafLength - keep);
+                } else {
+                    String t = tail.concat(leaf);
+                    tail = t.substring(Math.max(t.length() - keep, 0));
+                }
+            }
+            s = pending[--top];
+            while (s instanceof ConsString) {
+                ConsString c = (ConsString)s;
+                String f = c.flat;
+                if (f != null) {
+                    s = f;
+                    break;
+                }
+                CharSequence l = c.s1, r = c.s2;
+                if (l == null || r == null) {
+                    s = c.flattened();
+                    break;
+                }
+                pending[top++] = r;
+                s = l;
+            }
+        }
+    }
 }
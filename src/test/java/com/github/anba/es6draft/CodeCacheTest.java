@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.anba.es6draft.compiler.CodeCache;
+import com.github.anba.es6draft.compiler.Compiler;
+import com.github.anba.es6draft.runtime.World;
+import com.github.anba.es6draft.runtime.internal.CompatibilityOption;
+import com.github.anba.es6draft.runtime.internal.ScriptCache;
+import com.github.anba.es6draft.runtime.objects.GlobalObject;
+
+/**
+ *
+ */
+public class CodeCacheTest {
+    private static final Set<CompatibilityOption> OPTIONS = CompatibilityOption
+            .WebCompatibility();
+    private static final EnumSet<Compiler.Option> NO_OPTIONS = EnumSet
+            .noneOf(Compiler.Option.class);
+
+    private Path directory;
+    private CodeCache codeCache;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("es6draft");
+        codeCache = new CodeCache(directory);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        for (Path file : entries()) {
+            Files.delete(file);
+        }
+        Files.delete(directory);
+    }
+
+    private List<Path> entries() throws IOException {
+        List<Path> entries = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                entries.add(file);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Returns a script source which is compiled instead of interpreted
+     */
+    private static String source(String expression) {
+        return "function f() { return " + expression + "; } f();";
+    }
+
+    private Script compile(String source, Set<Compiler.Option> compilerOptions)
+            throws IOException {
+        ScriptCache scriptCache = new ScriptCache(OPTIONS, compilerOptions, codeCache);
+        return scriptCache.script("script.js", 1, new ByteArrayInputStream(source(source)
+                .getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String key(String source, Set<Compiler.Option> compilerOptions) {
+        return codeCache.newKey("script.js", 1, source(source), OPTIONS, compilerOptions);
+    }
+
+    private static Object evaluate(Script script) {
+        World<GlobalObject> world = new World<>(World.getDefaultGlobalObjectAllocator());
+        return ScriptLoader.ScriptEvaluation(script, world.newGlobal().getRealm(), false);
+    }
+
+    private void writeEntry(String key, String version) throws IOException {
+        Path file = directory.resolve(key + ".classes");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(0x6573_6364);
+            out.writeInt(1);
+            out.writeUTF(version);
+            out.writeUTF(key);
+            out.writeUTF("#Script_1");
+            out.writeInt(0);
+        }
+    }
+
+    @Test
+    public void testStoreAndLoad() throws IOException {
+        assertNull(codeCache.load(key("6 * 7", NO_OPTIONS)));
+        assertEquals(42, ((Number) evaluate(compile("6 * 7", NO_OPTIONS))).intValue());
+        assertEquals(1, entries().size());
+
+        Script script = codeCache.load(key("6 * 7", NO_OPTIONS));
+        assertNotNull(script);
+        assertEquals(42, ((Number) evaluate(script)).intValue());
+        assertEquals(42, ((Number) evaluate(compile("6 * 7", NO_OPTIONS))).intValue());
+        assertEquals(1, entries().size());
+    }
+
+    @Test
+    public void testSourceChange() throws IOException {
+        compile("1", NO_OPTIONS);
+        assertNotEquals(key("1", NO_OPTIONS), key("2", NO_OPTIONS));
+        assertNull(codeCache.load(key("2", NO_OPTIONS)));
+        assertEquals(2, ((Number) evaluate(compile("2", NO_OPTIONS))).intValue());
+        assertEquals(2, entries().size());
+    }
+
+    @Test
+    public void testCompilerOptions() throws IOException {
+        EnumSet<Compiler.Option> debug = EnumSet.of(Compiler.Option.Debug);
+        assertNotEquals(key("1", NO_OPTIONS), key("1", debug));
+        assertNotEquals(key("1", debug), key("1", EnumSet.of(Compiler.Option.SourceMap)));
+        compile("1", NO_OPTIONS);
+        assertNull(codeCache.load(key("1", debug)));
+        compile("1", debug);
+        assertNotNull(codeCache.load(key("1", debug)));
+        assertEquals(2, entries().size());
+    }
+
+    @Test
+    public void testVersionChange() throws IOException {
+        String key = key("1", NO_OPTIONS);
+        writeEntry(key, "<other version>");
+        assertNull(codeCache.load(key));
+        assertEquals(1, ((Number) evaluate(compile("1", NO_OPTIONS))).intValue());
+        assertNotNull(codeCache.load(key));
+    }
+
+    @Test
+    public void testTruncatedEntry() throws IOException {
+        String key = key("1 + 2", NO_OPTIONS);
+        compile("1 + 2", NO_OPTIONS);
+        Path file = entries().get(0);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+        assertNull(codeCache.load(key));
+        assertEquals(3, ((Number) evaluate(compile("1 + 2", NO_OPTIONS))).intValue());
+        assertNotNull(codeCache.load(key));
+    }
+
+    @Test
+    public void testCorruptEntry() throws IOException {
+        String key = key("1 + 2", NO_OPTIONS);
+        Path file = directory.resolve(key + ".classes");
+        Files.write(file, "garbage".getBytes(StandardCharsets.UTF_8));
+        assertNull(codeCache.load(key));
+        assertEquals(3, ((Number) evaluate(compile("1 + 2", NO_OPTIONS))).intValue());
+        assertNotNull(codeCache.load(key));
+    }
+}
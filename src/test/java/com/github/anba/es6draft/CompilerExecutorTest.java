@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.github.anba.es6draft.ast.Script;
+import com.github.anba.es6draft.compiler.CompilerExecutor;
+import com.github.anba.es6draft.parser.Parser;
+import com.github.anba.es6draft.runtime.internal.CompatibilityOption;
+
+/**
+ *
+ */
+public class CompilerExecutorTest {
+    private static final int THREADS = Integer.getInteger("es6draft.compiler.threads", 1);
+    private static final int INLINE_LINE_COUNT = Integer.getInteger(
+            "es6draft.compiler.inlineLineCount", 100);
+    private static final int INLINE_SOURCE_LENGTH = Integer.getInteger(
+            "es6draft.compiler.inlineSourceLength", 4096);
+
+    private static Script parse(int lines) {
+        char[] newlines = new char[lines - 1];
+        Arrays.fill(newlines, '\n');
+        String source = "(function(){" + new String(newlines) + "})";
+        return new Parser("script", 1, CompatibilityOption.WebCompatibility())
+                .parseScript(source);
+    }
+
+    private static String source(int length) {
+        char[] cs = new char[length];
+        Arrays.fill(cs, ' ');
+        return new String(cs);
+    }
+
+    private static final class ThreadTask implements Callable<Thread> {
+        private final Thread blockingThread;
+        private final CountDownLatch latch;
+
+        ThreadTask(Thread blockingThread, CountDownLatch latch) {
+            this.blockingThread = blockingThread;
+            this.latch = latch;
+        }
+
+        @Override
+        public Thread call() throws InterruptedException {
+            Thread current = Thread.currentThread();
+            if (current != blockingThread) {
+                latch.await(30, TimeUnit.SECONDS);
+            }
+            return current;
+        }
+    }
+
+    @Test
+    public void testInlineThreshold() {
+        assumeTrue(THREADS > 0);
+        assertTrue(CompilerExecutor.isInline(parse(1)));
+        assertTrue(CompilerExecutor.isInline(parse(INLINE_LINE_COUNT)));
+        assertFalse(CompilerExecutor.isInline(parse(INLINE_LINE_COUNT + 1)));
+
+        assertTrue(CompilerExecutor.isInline(""));
+        assertTrue(CompilerExecutor.isInline(source(INLINE_SOURCE_LENGTH - 1)));
+        assertFalse(CompilerExecutor.isInline(source(INLINE_SOURCE_LENGTH)));
+    }
+
+    @Test
+    public void testInlineTask() throws Exception {
+        long inline = CompilerExecutor.getInlineTaskCount();
+        long submitted = CompilerExecutor.getSubmittedTaskCount();
+
+        Future<Thread> future = CompilerExecutor.submit(
+                new ThreadTask(Thread.currentThread(), null), true);
+        assertTrue(future.isDone());
+        assertSame(Thread.currentThread(), future.get());
+
+        assertEquals(inline + 1, CompilerExecutor.getInlineTaskCount());
+        assertEquals(submitted, CompilerExecutor.getSubmittedTaskCount());
+    }
+
+    @Test
+    public void testSubmittedTask() throws Exception {
+        assumeTrue(THREADS > 0);
+        long inline = CompilerExecutor.getInlineTaskCount();
+        long submitted = CompilerExecutor.getSubmittedTaskCount();
+
+        Future<Thread> future = CompilerExecutor.submit(
+                new ThreadTask(Thread.currentThread(), new CountDownLatch(0)), false);
+        Thread thread = future.get(30, TimeUnit.SECONDS);
+        assertNotSame(Thread.currentThread(), thread);
+        assertTrue(thread.isDaemon());
+        assertTrue(thread.getName().startsWith("es6draft-compiler-"));
+
+        assertEquals(inline, CompilerExecutor.getInlineTaskCount());
+        assertEquals(submitted + 1, CompilerExecutor.getSubmittedTaskCount());
+        assertTrue(CompilerExecutor.getThreadCount() > 0);
+    }
+
+    @Test
+    public void testCallerRunsWhenQueueIsFull() throws Exception {
+        assumeTrue(THREADS > 0);
+        long inline = CompilerExecutor.getInlineTaskCount();
+        long submitted = CompilerExecutor.getSubmittedTaskCount();
+
+        // block all compiler threads and fill the queue until a task runs in this thread
+        Thread testThread = Thread.currentThread();
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Future<Thread>> futures = new ArrayList<>();
+        Future<Thread> callerRuns = null;
+        int queueDepth = 0;
+        try {
+            for (int i = 0; i < 100000 && callerRuns == null; ++i) {
+                Future<Thread> future = CompilerExecutor.submit(new ThreadTask(testThread,
+                        latch), false);
+                if (future.isDone() && future.get() == testThread) {
+                    callerRuns = future;
+                    queueDepth = CompilerExecutor.getQueueDepth();
+                } else {
+                    futures.add(future);
+                }
+            }
+        } finally {
+            latch.countDown();
+        }
+        assertNotNull("no task was run in the submitting thread", callerRuns);
+        for (Future<Thread> future : futures) {
+            assertNotSame(testThread, future.get(30, TimeUnit.SECONDS));
+        }
+
+        assertTrue(queueDepth > 0);
+        assertTrue(CompilerExecutor.getPeakQueueDepth() >= queueDepth);
+        assertEquals(inline + 1, CompilerExecutor.getInlineTaskCount());
+        assertEquals(submitted + futures.size(), CompilerExecutor.getSubmittedTaskCount());
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static org.junit.Assert.*;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.github.anba.es6draft.compiler.Compiler;
+import com.github.anba.es6draft.parser.Parser;
+import com.github.anba.es6draft.parser.ParserException;
+import com.github.anba.es6draft.runtime.internal.CompatibilityOption;
+import com.github.anba.es6draft.runtime.internal.ScriptCache;
+
+/**
+ *
+ */
+public class ScriptLoaderTest {
+    private static Callable<Script> compileTask(final String className, final String source) {
+        return new Callable<Script>() {
+            @Override
+            public Script call() {
+                Parser parser = new Parser(className, 1, CompatibilityOption.WebCompatibility());
+                return ScriptLoader.compile(className, parser.parseScript(source),
+                        EnumSet.noneOf(Compiler.Option.class));
+            }
+        };
+    }
+
+    private static Callable<Script> failingTask(final Exception exception) {
+        return new Callable<Script>() {
+            @Override
+            public Script call() throws Exception {
+                throw exception;
+            }
+        };
+    }
+
+    @Test
+    public void testLoadAll() throws Exception {
+        List<Callable<Script>> tasks = Arrays.asList(compileTask("Script_a", "1"),
+                compileTask("Script_b", "2"), compileTask("Script_c", "3"));
+        List<Script> scripts = ScriptLoader.awaitAll(ScriptLoader.loadAll(tasks));
+        assertEquals(3, scripts.size());
+        for (Script script : scripts) {
+            assertNotNull(script);
+        }
+    }
+
+    @Test
+    public void testIOException() throws Exception {
+        FileNotFoundException exception = new FileNotFoundException("missing.js");
+        List<Callable<Script>> tasks = Arrays.asList(compileTask("Script_a", "1"),
+                failingTask(exception));
+        try {
+            ScriptLoader.awaitAll(ScriptLoader.loadAll(tasks));
+            fail("expected IOException");
+        } catch (IOException e) {
+            assertSame(exception, e);
+        }
+    }
+
+    @Test
+    public void testWrappedIOException() throws Exception {
+        FileNotFoundException exception = new FileNotFoundException("missing.js");
+        List<Callable<Script>> tasks = Collections.singletonList(failingTask(new RuntimeException(
+                exception)));
+        try {
+            ScriptLoader.awaitAll(ScriptLoader.loadAll(tasks));
+            fail("expected IOException");
+        } catch (IOException e) {
+            assertSame(exception, e);
+        }
+    }
+
+    @Test
+    public void testParserException() throws Exception {
+        List<Callable<Script>> tasks = Collections.singletonList(compileTask("Script_a", "("));
+        try {
+            ScriptLoader.awaitAll(ScriptLoader.loadAll(tasks));
+            fail("expected ParserException");
+        } catch (ParserException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCancelOnFirstFailure() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        Callable<Script> blocking = new Callable<Script>() {
+            @Override
+            public Script call() throws InterruptedException {
+                release.await(30, TimeUnit.SECONDS);
+                return null;
+            }
+        };
+        IOException exception = new IOException("first failure");
+        List<Callable<Script>> tasks = Arrays.asList(failingTask(exception), blocking, blocking);
+        List<Future<Script>> futures = ScriptLoader.loadAll(tasks);
+        try {
+            ScriptLoader.awaitAll(futures);
+            fail("expected IOException");
+        } catch (IOException e) {
+            assertSame(exception, e);
+        } finally {
+            release.countDown();
+        }
+        assertTrue(futures.get(1).isCancelled());
+        assertTrue(futures.get(2).isCancelled());
+    }
+
+    @Test
+    public void testScriptCacheMissingFile() throws Exception {
+        Path dir = Files.createTempDirectory("es6draft");
+        try {
+            Path file = dir.resolve("script.js");
+            Files.write(file, "1 + 1".getBytes(StandardCharsets.UTF_8));
+            ScriptCache scriptCache = new ScriptCache(CompatibilityOption.WebCompatibility());
+            assertEquals(1, scriptCache.getAll(Arrays.asList(file)).size());
+            try {
+                scriptCache.getAll(Arrays.asList(file, dir.resolve("missing.js")));
+                fail("expected IOException");
+            } catch (NoSuchFileException e) {
+                // expected
+            }
+            Files.delete(file);
+        } finally {
+            Files.delete(dir);
+        }
+    }
+}
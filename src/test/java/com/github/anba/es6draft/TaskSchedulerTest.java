@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.anba.es6draft.runtime.Task;
+import com.github.anba.es6draft.runtime.TaskQueue;
+import com.github.anba.es6draft.runtime.TaskScheduler;
+import com.github.anba.es6draft.runtime.World;
+import com.github.anba.es6draft.runtime.objects.GlobalObject;
+
+/**
+ *
+ */
+public class TaskSchedulerTest {
+    private TaskScheduler scheduler;
+    private List<String> log;
+
+    @Before
+    public void setUp() {
+        scheduler = new World<GlobalObject>(World.getDefaultGlobalObjectAllocator())
+                .getTaskScheduler();
+        log = new ArrayList<>();
+    }
+
+    private Task logTask(final String name) {
+        return new Task() {
+            @Override
+            public void execute() {
+                log.add(name);
+            }
+        };
+    }
+
+    /**
+     * Returns a promise-task which enqueues its successor, like a chain of promise reactions
+     */
+    private Task chainTask(final String name, final int index, final int length) {
+        return new Task() {
+            @Override
+            public void execute() {
+                log.add(name + index);
+                if (index + 1 < length) {
+                    scheduler.enqueuePromiseTask(chainTask(name, index + 1, length));
+                }
+            }
+        };
+    }
+
+    private static final class ManualExecutor implements Executor {
+        final ArrayDeque<Runnable> turns = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            turns.add(command);
+        }
+    }
+
+    @Test
+    public void testUnlimitedBudget() {
+        scheduler.enqueuePromiseTask(chainTask("p", 0, 10));
+        assertEquals(10, scheduler.executeTurn());
+        assertFalse(scheduler.hasPendingTasks());
+    }
+
+    @Test
+    public void testTurnBudgetSplitsPromiseChain() {
+        scheduler.setTurnBudget(3);
+        scheduler.enqueuePromiseTask(chainTask("p", 0, 10));
+
+        List<Integer> turns = new ArrayList<>();
+        while (scheduler.hasPendingTasks()) {
+            turns.add(scheduler.executeTurn());
+        }
+        assertEquals(Arrays.asList(3, 3, 3, 1), turns);
+        assertEquals(Arrays.asList("p0", "p1", "p2", "p3", "p4", "p5", "p6", "p7", "p8", "p9"), log);
+    }
+
+    @Test
+    public void testTurnBudgetInterleavesLoadingTasks() {
+        scheduler.setTurnBudget(2);
+        scheduler.enqueuePromiseTask(chainTask("p", 0, 5));
+
+        assertEquals(2, scheduler.executeTurn());
+        scheduler.enqueueLoadingTask(logTask("load"));
+        scheduler.executeTasks();
+
+        assertEquals(Arrays.asList("p0", "p1", "load", "p2", "p3", "p4"), log);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidTurnBudget() {
+        scheduler.setTurnBudget(0);
+    }
+
+    @Test
+    public void testDeadlineStopsDrain() {
+        final long[] executed = { 0 };
+        Task endless = new Task() {
+            @Override
+            public void execute() {
+                executed[0] += 1;
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                scheduler.enqueuePromiseTask(this);
+            }
+        };
+        scheduler.enqueuePromiseTask(endless);
+
+        assertFalse(scheduler.executeTasks(50, TimeUnit.MILLISECONDS));
+        assertTrue(scheduler.hasPendingTasks());
+        assertTrue(executed[0] > 0);
+        assertEquals(executed[0], scheduler.getPromiseTasks().getExecutedTaskCount());
+        assertEquals(1, scheduler.getPromiseTasks().size());
+    }
+
+    @Test
+    public void testDeadlineDrainsAllTasks() {
+        scheduler.enqueueLoadingTask(logTask("load"));
+        scheduler.enqueuePromiseTask(chainTask("p", 0, 3));
+
+        assertTrue(scheduler.executeTasks(10, TimeUnit.SECONDS));
+        assertFalse(scheduler.hasPendingTasks());
+        assertEquals(Arrays.asList("load", "p0", "p1", "p2"), log);
+    }
+
+    @Test
+    public void testExpiredDeadline() {
+        scheduler.enqueuePromiseTask(logTask("p"));
+
+        assertFalse(scheduler.executeTasks(0, TimeUnit.MILLISECONDS));
+        assertTrue(log.isEmpty());
+        assertEquals(1, scheduler.getPromiseTasks().size());
+    }
+
+    @Test
+    public void testExecutorRunsTurns() {
+        ManualExecutor executor = new ManualExecutor();
+        scheduler.setExecutor(executor);
+        scheduler.setTurnBudget(2);
+        scheduler.enqueuePromiseTask(chainTask("p", 0, 3));
+        scheduler.enqueuePromiseTask(logTask("q"));
+
+        // only one turn is scheduled at a time
+        assertEquals(1, executor.turns.size());
+        executor.turns.poll().run();
+        assertEquals(Arrays.asList("p0", "q"), log);
+
+        assertEquals(1, executor.turns.size());
+        executor.turns.poll().run();
+        assertEquals(Arrays.asList("p0", "q", "p1", "p2"), log);
+
+        assertTrue(executor.turns.isEmpty());
+        assertFalse(scheduler.hasPendingTasks());
+    }
+
+    @Test
+    public void testThrowingTaskReschedulesTurn() {
+        ManualExecutor executor = new ManualExecutor();
+        scheduler.setExecutor(executor);
+        final RuntimeException exception = new RuntimeException("task failure");
+        scheduler.enqueuePromiseTask(new Task() {
+            @Override
+            public void execute() {
+                throw exception;
+            }
+        });
+        scheduler.enqueuePromiseTask(logTask("next"));
+
+        assertEquals(1, executor.turns.size());
+        try {
+            executor.turns.poll().run();
+            fail("expected exception");
+        } catch (RuntimeException e) {
+            assertSame(exception, e);
+        }
+        assertTrue(log.isEmpty());
+
+        // the remaining task is executed in the next turn
+        assertEquals(1, executor.turns.size());
+        executor.turns.poll().run();
+        assertEquals(Arrays.asList("next"), log);
+        assertTrue(executor.turns.isEmpty());
+    }
+
+    @Test
+    public void testCounters() {
+        TaskQueue promiseTasks = scheduler.getPromiseTasks();
+        TaskQueue loadingTasks = scheduler.getLoadingTasks();
+        assertEquals(0, promiseTasks.size());
+        assertEquals(0, promiseTasks.getPeakSize());
+        assertEquals(0, promiseTasks.getEnqueuedTaskCount());
+        assertEquals(0, promiseTasks.getExecutedTaskCount());
+
+        scheduler.enqueuePromiseTask(logTask("a"));
+        scheduler.enqueuePromiseTask(logTask("b"));
+        scheduler.enqueuePromiseTask(logTask("c"));
+        scheduler.enqueueLoadingTask(logTask("load"));
+        assertEquals(3, promiseTasks.size());
+        assertEquals(3, promiseTasks.getPeakSize());
+        assertEquals(3, promiseTasks.getEnqueuedTaskCount());
+        assertEquals(0, promiseTasks.getExecutedTaskCount());
+        assertEquals(1, loadingTasks.getPeakSize());
+
+        scheduler.setTurnBudget(2);
+        assertEquals(3, scheduler.executeTurn());
+        assertEquals(1, promiseTasks.size());
+        assertEquals(2, promiseTasks.getExecutedTaskCount());
+        assertEquals(1, loadingTasks.getExecutedTaskCount());
+
+        scheduler.executeTasks();
+        scheduler.enqueuePromiseTask(logTask("d"));
+        assertEquals(1, promiseTasks.size());
+        assertEquals(3, promiseTasks.getPeakSize());
+        assertEquals(4, promiseTasks.getEnqueuedTaskCount());
+        assertEquals(3, promiseTasks.getExecutedTaskCount());
+
+        scheduler.executeTasks();
+        assertEquals(0, promiseTasks.size());
+        assertEquals(4, promiseTasks.getExecutedTaskCount());
+        assertEquals(Arrays.asList("load", "a", "b", "c", "d"), log);
+    }
+}
@@ -42,11 +42,9 @@ public abstract class TestShellGlobals<GLOBAL extends ShellGlobalObject> extends
 
         // pre-compile init scripts
         List<?> initScriptNames = getConfiguration().getList("scripts.init", emptyList());
-        List<Script> scripts = new ArrayList<>();
-        for (String scriptName : toStrings(initScriptNames)) {
-            scripts.add(ShellGlobalObject.compileScript(getScriptCache(), scriptName));
-        }
-        this.initScripts = scripts;
+        List<String> scriptNames = intoCollection(toStrings(initScriptNames),
+                new ArrayList<String>());
+        this.initScripts = ShellGlobalObject.compileScripts(getScriptCache(), scriptNames);
 
         List<?> includeScripts = getConfiguration().getList("scripts.include", emptyList());
         this.includes = intoCollection(toStrings(includeScripts), new ArrayList<String>());
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+
+const {
+  assertSame, assertEquals,
+} = Assert;
+
+// Mixed-endian DataView access does not change the byte order of other views
+
+// Byte order used by typed arrays
+const littleEndian = new Uint8Array(new Uint16Array([0x0102]).buffer)[0] === 0x02;
+const swap16 = v => ((v & 0xff) << 8) | (v >>> 8);
+const native16 = (v, le) => le === littleEndian ? v : swap16(v);
+
+// Big-endian and little-endian access on the same buffer
+{
+  let buffer = new ArrayBuffer(8);
+  let view = new DataView(buffer);
+  let ta = new Uint16Array(buffer);
+  view.setUint16(0, 0x0102);
+  assertEquals([0x01, 0x02], [...new Uint8Array(buffer, 0, 2)]);
+  assertSame(native16(0x0102, false), ta[0]);
+  view.setUint16(2, 0x0102, true);
+  assertEquals([0x02, 0x01], [...new Uint8Array(buffer, 2, 2)]);
+  assertSame(native16(0x0102, true), ta[1]);
+  assertSame(0x0102, view.getUint16(0));
+  assertSame(0x0201, view.getUint16(0, true));
+  assertSame(native16(0x0102, false), ta[0]);
+}
+
+// Interleaved accesses with all element types
+{
+  let buffer = new ArrayBuffer(16);
+  let view = new DataView(buffer);
+  view.setFloat64(0, Math.PI, false);
+  view.setInt32(8, -2, true);
+  view.setFloat32(12, 1.5, false);
+  assertSame(Math.PI, view.getFloat64(0, false));
+  assertSame(-2, view.getInt32(8, true));
+  assertSame(1.5, view.getFloat32(12, false));
+  assertSame(view.getInt32(8, littleEndian), new Int32Array(buffer, 8, 1)[0]);
+  assertSame(0xfeffffff, view.getUint32(8, false));
+  assertSame(0x3fc00000, new DataView(buffer, 12).getUint32(0));
+}
+
+// Copies are not affected by other views
+{
+  let buffer = new ArrayBuffer(4);
+  let view = new DataView(buffer);
+  view.setUint32(0, 0x01020304);
+  let copy = buffer.slice(1, 3);
+  assertEquals([0x02, 0x03], [...new Uint8Array(copy)]);
+  assertSame(0x0203, new DataView(copy).getUint16(0));
+  assertSame(0x01020304, view.getUint32(0));
+  assertEquals([1, 2, 3, 4], [...new Uint8Array(new Uint32Array(new Uint32Array(buffer)).buffer)]);
+}
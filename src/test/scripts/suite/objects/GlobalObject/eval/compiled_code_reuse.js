@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+
+const {
+  assertSame, assertNotSame, assertTrue, assertFalse, assertThrows, assertEquals,
+} = Assert;
+
+// Repeated eval and Function calls with the same source text behave like fresh compilations
+
+// Same eval source in different scopes resolves bindings in the calling scope
+{
+  function f(x) { return eval("x + 1"); }
+  function g(x) { let y = x * 2; return eval("x + 1"); }
+  function h() { var x = "h"; with ({x: "with"}) { return eval("x + 1"); } }
+  assertSame(2, f(1));
+  assertSame(11, f(10));
+  assertSame(4, g(3));
+  assertSame("with1", h());
+  assertSame("undefined1", (0, eval)("typeof x === 'undefined' ? 'undefined1' : x + 1"));
+}
+
+// var declarations are created in each calling function
+{
+  function declare(v) { eval("var local = " + JSON.stringify(v)); return local; }
+  function declareSame() { eval("var same = []"); return same; }
+  assertSame(1, declare(1));
+  assertSame(2, declare(2));
+  let a = declareSame(), b = declareSame();
+  assertTrue(Array.isArray(a));
+  assertNotSame(a, b);
+}
+
+// Strictness of the caller is respected
+{
+  let src = "var strictVar = 1; typeof strictVar";
+  function sloppy() { eval(src); return typeof strictVar; }
+  function strict() { "use strict"; eval(src); return typeof strictVar; }
+  assertSame("number", sloppy());
+  assertSame("undefined", strict());
+  assertSame("number", sloppy());
+  let withSrc = "with ({}) {}";
+  assertSame(undefined, eval(withSrc));
+  assertThrows(() => { "use strict"; eval(withSrc); }, SyntaxError);
+  assertSame(undefined, eval(withSrc));
+}
+
+// Syntax errors are reported on every call
+{
+  for (let i = 0; i < 3; ++i) {
+    assertThrows(() => eval("a b"), SyntaxError);
+    assertThrows(() => Function("a b"), SyntaxError);
+  }
+}
+
+// Function constructor returns distinct functions for the same source
+{
+  let f1 = Function("a", "b", "return a + b");
+  let f2 = Function("a", "b", "return a + b");
+  let f3 = Function("a, b", "return a + b");
+  assertNotSame(f1, f2);
+  assertNotSame(f1.prototype, f2.prototype);
+  assertSame(3, f1(1, 2));
+  assertSame(3, f2(1, 2));
+  assertSame(3, f3(1, 2));
+  f1.property = 0;
+  assertFalse("property" in f2);
+  assertSame(f1.toString(), f2.toString());
+  assertSame(2, f1.length);
+  assertSame(2, f3.length);
+}
+
+// Functions created from the same source do not share state
+{
+  let counters = [0, 1].map(() => Function("var n = 0; return function() { return ++n; }")());
+  assertSame(1, counters[0]());
+  assertSame(2, counters[0]());
+  assertSame(1, counters[1]());
+  let strictFn = Function("'use strict'; return this");
+  assertSame(undefined, strictFn());
+  assertSame(undefined, Function("'use strict'; return this")());
+}
+
+// Generator functions
+{
+  let GeneratorFunction = Object.getPrototypeOf(function*(){}).constructor;
+  let g1 = GeneratorFunction("n", "yield n; yield n + 1;");
+  let g2 = GeneratorFunction("n", "yield n; yield n + 1;");
+  assertNotSame(g1, g2);
+  assertEquals([1, 2], [...g1(1)]);
+  assertEquals([5, 6], [...g2(5)]);
+  assertSame(10, Function("n", "yield = n; return yield")(10));
+}
+
+// Template call sites
+{
+  function tag(cs) { return cs; }
+  let a = eval("tag`x`"), b = eval("tag`x`");
+  assertSame("x", a[0]);
+  assertSame("x", b[0]);
+  assertTrue(Object.isFrozen(a));
+  assertNotSame(a, b);
+  assertNotSame(eval("tag`a${1}b`"), eval("tag`a${1}b`"));
+
+  let f1 = Function("tag", "return tag`x`"), f2 = Function("tag", "return tag`x`");
+  assertSame(f1(tag), f1(tag));
+  assertNotSame(f1(tag), f2(tag));
+  let repeat = () => eval("[0, 1].map(() => tag`y`)");
+  let [c, d] = repeat(), [e] = repeat();
+  assertSame(c, d);
+  assertNotSame(c, e);
+}
+
+// Other realms
+{
+  let realm = new Realm();
+  let f = realm.global.Function("return Object");
+  assertSame(realm.global.Object, f());
+  assertSame(Object, Function("return Object")());
+  assertSame(realm.global.Object, realm.global.eval("Object"));
+  assertSame(Object, eval("Object"));
+}
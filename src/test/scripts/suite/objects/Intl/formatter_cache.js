@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+
+const {
+  assertSame, assertNotSame, assertTrue,
+} = Assert;
+
+// ICU formatters and collators are shared between Intl objects with the same resolved options
+
+// Options are still read for every call
+{
+  let count = 0;
+  let options = {get minimumFractionDigits() { count += 1; return 2; }};
+  assertSame("1.50", (1.5).toLocaleString("en-US", options));
+  assertSame("1.50", (1.5).toLocaleString("en-US", options));
+  assertSame(2, count);
+
+  Object.defineProperty(Object.prototype, "useGrouping", {
+    get() { count += 1; return false; }, configurable: true
+  });
+  try {
+    assertSame("1234567", (1234567).toLocaleString("en-US"));
+    assertSame("1234567", (1234567).toLocaleString("en-US"));
+    assertSame(4, count);
+  } finally {
+    delete Object.prototype.useGrouping;
+  }
+  assertSame("1,234,567", (1234567).toLocaleString("en-US"));
+}
+
+// Different resolved options use different formatters
+{
+  assertSame("1,234.5", (1234.5).toLocaleString("en-US"));
+  assertSame("1.234,5", (1234.5).toLocaleString("de-DE"));
+  assertSame("1,234.5", (1234.5).toLocaleString("en-US"));
+  assertSame("$1.50", (1.5).toLocaleString("en-US", {style: "currency", currency: "USD"}));
+  assertSame("€1.50", (1.5).toLocaleString("en-US", {style: "currency", currency: "EUR"}));
+  assertSame("150%", (1.5).toLocaleString("en-US", {style: "percent"}));
+  assertSame("1.5", (1.5).toLocaleString("en-US"));
+}
+
+// Date-time patterns and formats
+{
+  let date = new Date(Date.UTC(2014, 0, 2, 3, 4, 5));
+  let utc = {timeZone: "UTC"};
+  assertSame("1/2/2014", date.toLocaleDateString("en-US", utc));
+  assertSame("2.1.2014", date.toLocaleDateString("de-DE", utc));
+  assertSame("1/2/2014", date.toLocaleDateString("en-US", utc));
+  assertSame("3:04:05 AM", date.toLocaleTimeString("en-US", utc));
+  assertSame("03:04:05", date.toLocaleTimeString("en-US", {timeZone: "UTC", hour12: false}));
+  assertSame("3:04:05 AM", date.toLocaleTimeString("en-US", utc));
+
+  let basic = {formatMatcher: "basic", month: "long", timeZone: "UTC"};
+  let bestFit = {formatMatcher: "best fit", month: "long", timeZone: "UTC"};
+  let dtf = new Intl.DateTimeFormat("en-US", bestFit);
+  assertSame("January", dtf.format(date));
+  assertSame("long", dtf.resolvedOptions().month);
+  assertSame(undefined, dtf.resolvedOptions().year);
+  assertSame(new Intl.DateTimeFormat("en-US", basic).format(date),
+             new Intl.DateTimeFormat("en-US", basic).format(date));
+  assertSame("January", new Intl.DateTimeFormat("en-US", bestFit).format(date));
+}
+
+// Collators
+{
+  assertTrue("a".localeCompare("B", "en") < 0);
+  assertTrue("a".localeCompare("B", "en", {caseFirst: "upper"}) < 0);
+  assertSame(0, "a".localeCompare("A", "en", {sensitivity: "base"}));
+  assertNotSame(0, "a".localeCompare("A", "en"));
+  assertSame(0, "a".localeCompare("A", "en", {sensitivity: "base"}));
+  assertTrue("2".localeCompare("10", "en", {numeric: true}) < 0);
+  assertTrue("2".localeCompare("10", "en") > 0);
+  assertTrue("ä".localeCompare("z", "de") < 0);
+  assertTrue("ä".localeCompare("z", "sv") > 0);
+  assertTrue("ä".localeCompare("z", "de") < 0);
+
+  let sort = new Intl.Collator("en", {usage: "sort"});
+  let search = new Intl.Collator("en", {usage: "search"});
+  assertSame("sort", sort.resolvedOptions().usage);
+  assertSame("search", search.resolvedOptions().usage);
+}
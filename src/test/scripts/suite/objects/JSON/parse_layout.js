@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+
+const {
+  assertSame, assertEquals, assertTrue, assertFalse, assertThrows,
+} = Assert;
+
+// JSON.parse creates ordinary objects and dense arrays with default data properties
+
+function assertDataProperty(object, key, value) {
+  let desc = Object.getOwnPropertyDescriptor(object, key);
+  assertSame(value, desc.value);
+  assertTrue(desc.writable);
+  assertTrue(desc.enumerable);
+  assertTrue(desc.configurable);
+}
+
+// Objects and nesting
+{
+  let o = JSON.parse('{"a": 1, "b": {"c": [true, null, "x"]}, "d": []}');
+  assertSame(Object.prototype, Object.getPrototypeOf(o));
+  assertEquals(["a", "b", "d"], Object.keys(o));
+  assertDataProperty(o, "a", 1);
+  assertEquals(["c"], Object.keys(o.b));
+  assertTrue(Array.isArray(o.b.c));
+  assertSame(3, o.b.c.length);
+  assertDataProperty(o.b.c, "2", "x");
+  assertSame(null, o.b.c[1]);
+  assertTrue(Array.isArray(o.d));
+  assertSame(0, o.d.length);
+}
+
+// Duplicate keys keep their first position and take the last value
+{
+  let o = JSON.parse('{"a": 1, "b": 2, "a": 3}');
+  assertEquals(["a", "b"], Object.keys(o));
+  assertSame(3, o.a);
+  assertSame(2, o.b);
+}
+
+// Records with the same keys share the key strings, but not their values
+{
+  let records = JSON.parse('[{"id": 1, "name": "a"}, {"id": 2, "name": "b"}, {"name": "c", "id": 3}]');
+  assertEquals([1, 2, 3], records.map(r => r.id));
+  assertEquals(["a", "b", "c"], records.map(r => r.name));
+  assertEquals(["name", "id"], Object.keys(records[2]));
+  records[0].id = 10;
+  delete records[1].name;
+  assertSame(10, records[0].id);
+  assertFalse("name" in records[1]);
+  assertSame("c", records[2].name);
+}
+
+// Objects with many keys
+{
+  let source = {};
+  for (let i = 0; i < 300; ++i) {
+    source["k" + i] = i;
+  }
+  let o = JSON.parse(JSON.stringify(source));
+  assertEquals(Object.keys(source), Object.keys(o));
+  assertSame(299, o.k299);
+  o.k300 = 300;
+  assertSame(300, o.k300);
+  assertTrue(delete o.k0);
+  assertFalse("k0" in o);
+}
+
+// "__proto__" is an ordinary data property
+{
+  let o = JSON.parse('{"__proto__": [], "a": 0}');
+  assertSame(Object.prototype, Object.getPrototypeOf(o));
+  assertEquals(["__proto__", "a"], Object.keys(o));
+  assertTrue(Array.isArray(Object.getOwnPropertyDescriptor(o, "__proto__").value));
+}
+
+// Arrays are extensible and have default element properties
+{
+  let a = JSON.parse('[1, [2, [3]], {"x": 4}]');
+  assertSame(3, a.length);
+  assertDataProperty(a, "0", 1);
+  assertSame(3, a[1][1][0]);
+  a.push(5);
+  assertSame(4, a.length);
+  a.length = 1;
+  assertEquals([1], a);
+}
+
+// Reviver functions see the same values
+{
+  let seen = [];
+  let o = JSON.parse('{"a": [1, 2], "a": {"b": 3}}', function(k, v) { seen.push(k); return v; });
+  assertEquals(["b", "a", ""], seen);
+  assertSame(3, o.a.b);
+}
+
+// Long inputs and keys
+{
+  let key = "k".repeat(100);
+  let text = "[" + Array(5000).fill(`{"${key}": "${"v".repeat(10)}"}`).join(",") + "]";
+  let a = JSON.parse(text);
+  assertSame(5000, a.length);
+  assertSame("vvvvvvvvvv", a[4999][key]);
+}
+
+// Syntax errors
+for (let text of ['{"a": 1,}', '[1,]', '{"a" 1}', '{a: 1}', '[1 2]', '"abc', '', '{', '[', '{"a": [}]']) {
+  assertThrows(() => JSON.parse(text), SyntaxError);
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+
+const {
+  assertSame, assertUndefined, assertThrows,
+} = Assert;
+
+// JSON.stringify output for plain data, non-serialisable members and indentation
+
+// Primitives and strings
+{
+  assertUndefined(JSON.stringify(void 0));
+  assertUndefined(JSON.stringify(Symbol()));
+  assertUndefined(JSON.stringify(function(){}));
+  assertSame("null", JSON.stringify(null));
+  assertSame("null", JSON.stringify(NaN));
+  assertSame("0", JSON.stringify(-0));
+  let backslash = String.fromCharCode(92), quote = String.fromCharCode(34);
+  assertSame(quote + "a" + backslash + quote + backslash + backslash + backslash + "n" +
+             backslash + "u0001" + backslash + "u001f" + " " + quote,
+             JSON.stringify("a" + String.fromCharCode(34, 92, 10, 1, 31, 32)));
+}
+
+// Non-serialisable members are skipped in objects and replaced with null in arrays
+{
+  let o = {a: 1, b: void 0, c: function(){}, d: Symbol(), e: [void 0, function(){}, Symbol(), null]};
+  assertSame('{"a":1,"e":[null,null,null,null]}', JSON.stringify(o));
+  assertSame('{"b":2}', JSON.stringify({a: void 0, b: 2}));
+  assertSame('{"a":1}', JSON.stringify({a: 1, b: void 0}));
+  assertSame('{}', JSON.stringify({a: void 0}));
+  assertSame('{}', JSON.stringify({a: void 0}, null, 2));
+}
+
+// Indentation
+{
+  let o = {a: [1, {b: []}], c: {}};
+  assertSame('{\n  "a": [\n    1,\n    {\n      "b": []\n    }\n  ],\n  "c": {}\n}',
+             JSON.stringify(o, null, 2));
+  assertSame('[\n--1,\n--null\n]', JSON.stringify([1, void 0], null, "--"));
+  assertSame('{\n "b": 2\n}', JSON.stringify({a: void 0, b: 2}, null, 1));
+}
+
+// toJSON, replacer functions and property lists
+{
+  assertSame('["tj:0",{"x":"tj:x"}]', JSON.stringify([
+    {toJSON(k) { return "tj:" + k; }}, {x: {toJSON(k) { return "tj:" + k; }}}
+  ]));
+  assertSame('{"a":2,"b":[4,6]}', JSON.stringify({a: 1, b: [2, 3]},
+             (k, v) => typeof v === "number" ? v * 2 : v));
+  assertSame('{"b":2,"a":1}', JSON.stringify({a: 1, b: 2, c: 3}, ["b", "a"]));
+}
+
+// Accessors, non-enumerable, inherited and symbol-keyed properties
+{
+  let o = Object.create({inherited: 1}, {
+    hidden: {value: 0, enumerable: false},
+    getter: {get() { return "g"; }, enumerable: true},
+  });
+  o.own = 2;
+  o[Symbol()] = 3;
+  assertSame('{"getter":"g","own":2}', JSON.stringify(o));
+}
+
+// Getters which modify the object while it is serialised
+{
+  let o = {a: 1};
+  Object.defineProperty(o, "b", {get() { this.c = 3; o.a = 0; return 2; }, enumerable: true});
+  assertSame('{"a":1,"b":2}', JSON.stringify(o));
+  assertSame('{"a":0,"b":2,"c":3}', JSON.stringify(o));
+}
+
+// Holes are looked up on the prototype chain
+{
+  let a = [1, , 3];
+  Array.prototype[1] = "proto";
+  try {
+    assertSame('[1,"proto",3]', JSON.stringify(a));
+  } finally {
+    delete Array.prototype[1];
+  }
+  assertSame('[1,null,3]', JSON.stringify(a));
+}
+
+// Cyclic structures
+{
+  let o = {}, a = [];
+  o.self = o;
+  a.push([a]);
+  assertThrows(() => JSON.stringify(o), TypeError);
+  assertThrows(() => JSON.stringify(a), TypeError);
+  let shared = {x: 1};
+  assertSame('[{"x":1},{"x":1}]', JSON.stringify([shared, shared]));
+}
+
+// Round trip of larger documents
+{
+  let records = [];
+  for (let i = 0; i < 1000; ++i) {
+    records.push({id: i, name: "n" + i, tags: [i, "t"], nested: {flag: i % 2 === 0}});
+  }
+  let text = JSON.stringify(records);
+  assertSame(text, JSON.stringify(JSON.parse(text)));
+  assertSame('{"id":999,"name":"n999","tags":[999,"t"],"nested":{"flag":false}}',
+             JSON.stringify(records[999]));
+}
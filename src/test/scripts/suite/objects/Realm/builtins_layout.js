@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+
+const {
+  assertSame, assertNotSame, assertEquals, assertTrue, assertFalse, assertUndefined,
+} = Assert;
+
+// Built-in properties of new realms are independent copies with the same layout
+
+function builtins(global) {
+  return [
+    global.Object, global.Object.prototype, global.Function.prototype,
+    global.Array, global.Array.prototype, global.String.prototype, global.Number,
+    global.Math, global.JSON, global.Date.prototype, global.RegExp.prototype,
+    global.Map.prototype, global.Promise, global.Symbol, global.Reflect,
+    global.Int8Array.prototype, global.Error.prototype, global.TypeError.prototype,
+  ];
+}
+
+const wellKnownSymbols = [
+  "create", "hasInstance", "isConcatSpreadable", "isRegExp", "iterator", "toPrimitive",
+  "toStringTag", "unscopables",
+];
+
+function keyName(key) {
+  if (typeof key === "symbol") {
+    return "@@" + wellKnownSymbols.find(k => Symbol[k] === key);
+  }
+  return key;
+}
+
+function describe(object) {
+  let keys = [...Object.getOwnPropertyNames(object), ...Object.getOwnPropertySymbols(object)];
+  return keys.map(key => {
+    let desc = Object.getOwnPropertyDescriptor(object, key);
+    let kind = "value" in desc ? typeof desc.value : `${typeof desc.get}/${typeof desc.set}`;
+    return `${keyName(key)}:${kind}:${desc.writable}:${desc.enumerable}:${desc.configurable}`;
+  });
+}
+
+// Same property keys, order and attributes in all realms
+{
+  let realmA = new Realm(), realmB = new Realm();
+  let expected = builtins(this).map(describe);
+  assertEquals(expected, builtins(realmA.global).map(describe));
+  assertEquals(expected, builtins(realmB.global).map(describe));
+}
+
+// Built-in functions are created per realm
+{
+  let realmA = new Realm(), realmB = new Realm();
+  let mapA = realmA.global.Array.prototype.map, mapB = realmB.global.Array.prototype.map;
+  assertNotSame(Array.prototype.map, mapA);
+  assertNotSame(mapA, mapB);
+  assertSame(realmA.global.Function.prototype, Object.getPrototypeOf(mapA));
+  let sizeA = Object.getOwnPropertyDescriptor(realmA.global.Map.prototype, "size").get;
+  let sizeB = Object.getOwnPropertyDescriptor(realmB.global.Map.prototype, "size").get;
+  assertNotSame(sizeA, sizeB);
+  assertSame(0, sizeA.call(new realmA.global.Map));
+}
+
+// Changes to built-in properties are not visible in other realms
+{
+  let realmA = new Realm(), realmB = new Realm();
+  let protoA = realmA.global.Array.prototype, protoB = realmB.global.Array.prototype;
+  assertTrue(delete protoA.map);
+  protoA.join = "changed";
+  Object.defineProperty(protoA, "slice", {enumerable: true});
+  assertUndefined(protoA.map);
+  assertSame("function", typeof protoB.map);
+  assertSame("function", typeof protoB.join);
+  assertFalse(Object.getOwnPropertyDescriptor(protoB, "slice").enumerable);
+  assertSame("function", typeof Array.prototype.map);
+  assertSame("function", typeof new Realm().global.Array.prototype.map);
+}
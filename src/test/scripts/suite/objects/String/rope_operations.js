@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+
+const {
+  assertSame,
+} = Assert;
+
+// String methods on concatenated strings agree with the flat string
+
+function build(parts, prepend) {
+  let s = "";
+  for (let part of parts) {
+    s = prepend ? part + s : s + part;
+  }
+  return s;
+}
+
+function flat(s) {
+  return s.split("").join("");
+}
+
+let parts = [];
+for (let i = 0; i < 500; ++i) {
+  parts.push(i % 3 ? "x" + i : "long-fragment-" + i + "-".repeat(i % 40));
+}
+
+for (let prepend of [false, true]) {
+  let rope = build(parts, prepend), str = flat(rope);
+  assertSame(str.length, rope.length);
+  for (let i = 0; i < str.length; i += 37) {
+    assertSame(str.charAt(i), rope.charAt(i));
+    assertSame(str.charCodeAt(i), rope.charCodeAt(i));
+    assertSame(str.codePointAt(i), rope.codePointAt(i));
+    assertSame(str[i], rope[i]);
+  }
+  for (let [s, e] of [[0, 10], [5, 5000], [100, 101], [-50, -10], [3000, 2000], [0, undefined]]) {
+    assertSame(str.slice(s, e), rope.slice(s, e));
+    assertSame(str.substring(s, e), rope.substring(s, e));
+    assertSame(str.substr(s, e), rope.substr(s, e));
+  }
+  for (let search of ["x1", "x499", "long-fragment-3-", "-x", "--", "", "not found", "9x", str.slice(-60)]) {
+    for (let pos of [undefined, -1, 0, 1, 77, 2000, str.length - 5, str.length, str.length + 1]) {
+      assertSame(str.indexOf(search, pos), rope.indexOf(search, pos));
+      assertSame(str.lastIndexOf(search, pos), rope.lastIndexOf(search, pos));
+    }
+  }
+  // slices of ropes are strings
+  let slice = rope.slice(1000, 4000);
+  assertSame("string", typeof slice);
+  assertSame(str.slice(1000, 4000), slice + "");
+  assertSame(str.slice(1000, 4000).indexOf("x4"), slice.indexOf("x4"));
+}
+
+// Deep concatenation does not overflow
+{
+  let s = "";
+  for (let i = 0; i < 100000; ++i) {
+    s += "ab";
+    if (i % 1000 == 0) {
+      assertSame("a", s.charAt(i * 2));
+    }
+  }
+  assertSame(200000, s.length);
+  assertSame(199998, s.lastIndexOf("ab"));
+  assertSame(-1, s.indexOf("ba", 199999));
+}
+
+// Flattened ropes and flattened shared subtrees are still usable
+{
+  let rope = build(parts, false), str = flat(rope);
+  let slice = rope.slice(500, 3500), sliceStr = str.slice(500, 3500);
+  let o = {};
+  o[slice] = 1;
+  assertSame(1, o[sliceStr]);
+  assertSame(str.charAt(2000), rope.charAt(2000));
+  assertSame(str.indexOf("x250"), rope.indexOf("x250"));
+  o[rope] = 2;
+  assertSame(2, o[str]);
+  let longer = rope + "tail" + rope;
+  assertSame(str + "tail" + str, flat(longer));
+  assertSame(str.length + 4, longer.indexOf(str.slice(0, 100), 1));
+  assertSame(sliceStr + "!", slice + "!");
+  assertSame(sliceStr.charAt(42), slice.charAt(42));
+}
+
+// Repeated accesses on the rope agree with accesses after flattening
+{
+  let str = flat(build(parts, false));
+  let rope = build(parts, false);
+  let results = [];
+  for (let i = 0; i < 20; ++i) {
+    results.push(rope.charCodeAt(i * 101), rope.indexOf("x" + (i * 7 + 1)),
+                 rope.slice(i * 50, i * 50 + 40));
+  }
+  let o = {[rope]: 0};
+  for (let i = 0; i < 20; ++i) {
+    assertSame(rope.charCodeAt(i * 101), results[i * 3]);
+    assertSame(rope.indexOf("x" + (i * 7 + 1)), results[i * 3 + 1]);
+    assertSame(rope.slice(i * 50, i * 50 + 40), results[i * 3 + 2]);
+    assertSame(str.charCodeAt(i * 101), results[i * 3]);
+    assertSame(str.indexOf("x" + (i * 7 + 1)), results[i * 3 + 1]);
+    assertSame(str.slice(i * 50, i * 50 + 40), results[i * 3 + 2]);
+  }
+  let longer = "head" + rope + "tail";
+  assertSame("head" + str + "tail", flat(longer));
+  assertSame(str.charAt(10), longer.charAt(14));
+}
+
+// Sequential and backward character access across leaves
+{
+  let rope = build(parts, true), str = flat(rope);
+  for (let i = 0; i < str.length; ++i) {
+    assertSame(str.charCodeAt(i), rope.charCodeAt(i));
+  }
+  for (let i = str.length - 1; i >= 0; i -= 3) {
+    assertSame(str.charCodeAt(i), rope.charCodeAt(i));
+  }
+}
+
+// Searches for strings which span several short leaves
+{
+  let rope = "";
+  for (let i = 0; i < 200; ++i) {
+    rope += String.fromCharCode(97 + i % 26);
+    rope = rope + "";
+  }
+  let str = flat(rope);
+  for (let search of ["abc", "xyzab", str.slice(20, 90), str.slice(150), "zz"]) {
+    for (let pos of [0, 1, 25, 26, 60, 199]) {
+      assertSame(str.indexOf(search, pos), rope.indexOf(search, pos));
+    }
+  }
+}
+
+// Ropes whose subtrees were flattened after they were concatenated
+{
+  let left = build(parts.slice(0, 250), false), right = build(parts.slice(250), true);
+  let rope = left + right, str = flat(left) + flat(right);
+  let o = {};
+  o[left] = 1;
+  o[right] = 2;
+  for (let i = 0; i < str.length; i += 13) {
+    assertSame(str.charCodeAt(i), rope.charCodeAt(i));
+  }
+  assertSame(str.slice(10, 5000), rope.slice(10, 5000));
+  assertSame(str.indexOf("x400"), rope.indexOf("x400"));
+  let more = rope + "x" + left;
+  assertSame(str + "x" + flat(left), flat(more));
+  assertSame(str, rope + "");
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+
+const {
+  assertSame,
+} = Assert;
+
+// Bulk operations on typed arrays agree with the element-wise Array.prototype algorithms
+
+const constructors = [
+  Int8Array, Uint8Array, Uint8ClampedArray, Int16Array, Uint16Array,
+  Int32Array, Uint32Array, Float32Array, Float64Array,
+];
+
+const values = [
+  0, -0, 1, -1, 127, 128, -128, 255, 256, 32767, -32768, 65535, 2147483647, -2147483648,
+  4294967295, 0.5, -1.5, 1e10, -Infinity, Infinity, NaN, 3, 3, 42,
+];
+
+function same(a, b) {
+  assertSame(a.length, b.length);
+  for (let i = 0; i < a.length; ++i) {
+    assertSame(a[i], b[i], `index ${i}`);
+  }
+}
+
+function defaultCompare(x, y) {
+  if (x !== x) return y !== y ? 0 : 1;
+  if (y !== y) return -1;
+  if (x < y) return -1;
+  if (x > y) return 1;
+  if (x === 0 && y === 0) return (1 / x < 0 ? -1 : 0) + (1 / y < 0 ? 1 : 0);
+  return 0;
+}
+
+for (let C of constructors) {
+  // sort
+  {
+    let ta = new C(values);
+    let expected = [...new C(values)].sort(defaultCompare);
+    same(ta.sort(), expected);
+    same(new C(values).sort(undefined), expected);
+    same(new C(values).sort((x, y) => defaultCompare(y, x)), expected.slice().reverse());
+    let sub = new C(new C(values).buffer, C.BYTES_PER_ELEMENT * 2, 5);
+    sub.sort();
+    same(sub, [...new C(values).subarray(2, 7)].sort(defaultCompare));
+    same(new C(values).subarray(0, 2), new C(values.slice(0, 2)));
+  }
+
+  // reverse
+  {
+    same(new C(values).reverse(), [...new C(values)].reverse());
+    same(new C(values.slice(1)).reverse(), [...new C(values.slice(1))].reverse());
+    same(new C(values).subarray(3, 8).reverse(), [...new C(values).subarray(3, 8)].reverse());
+  }
+
+  // fill
+  {
+    for (let [v, s, e] of [[7], [7, 2], [7, 2, 9], [-1, -5], [300, 1, -1], [NaN, 3, 3]]) {
+      let ta = new C(values), expected = [...new C(values)];
+      expected.fill(v, s, e);
+      same(ta.fill(v, s, e), new C(expected));
+    }
+    let counter = 0;
+    new C(4).fill({valueOf() { counter += 1; return 1; }});
+    assertSame(4, counter);
+    same(new C(2).fill(1).fill(undefined), new C([NaN, NaN]));
+    same(new C(2).fill("2", 1), new C([0, 2]));
+  }
+
+  // copyWithin
+  {
+    for (let [t, s, e] of [[0, 3], [3, 0], [1, 0, 10], [-3, 0], [0, -3, -1], [5, 5]]) {
+      let ta = new C(values), expected = [...new C(values)];
+      expected.copyWithin(t, s, e);
+      same(ta.copyWithin(t, s, e), new C(expected));
+    }
+  }
+
+  // set and slice
+  {
+    let source = new C(values), target = new C(values.length + 2);
+    target.set(source, 2);
+    same(target.subarray(2), source);
+    target.set(target.subarray(0, 10), 1);
+    let expected = new C(values.length + 2);
+    expected.set([...new C(values.length + 2).fill(0)]);
+    expected.set(source, 2);
+    expected.set([...expected.subarray(0, 10)], 1);
+    same(target, expected);
+    same(source.slice(3, -2), [...source].slice(3, -2));
+    same(source.slice(-4), [...source].slice(-4));
+    same(source.slice(2, 1), []);
+    let other = new Float64Array(values);
+    let converted = new C(values.length);
+    converted.set(other);
+    same(converted, new C(values));
+  }
+
+  // indexOf and lastIndexOf
+  {
+    let ta = new C(values), plain = [...ta];
+    for (let v of [0, -0, 3, 42, 255, -1, NaN, Infinity, "3", 0.5, undefined]) {
+      assertSame(plain.indexOf(v), ta.indexOf(v), `indexOf ${String(v)}`);
+      assertSame(plain.lastIndexOf(v), ta.lastIndexOf(v), `lastIndexOf ${String(v)}`);
+      for (let from of [-100, -3, 0, 2, 23, 24, 100]) {
+        assertSame(plain.indexOf(v, from), ta.indexOf(v, from));
+        assertSame(plain.lastIndexOf(v, from), ta.lastIndexOf(v, from));
+      }
+    }
+    let calls = 0;
+    ta.indexOf("x", {valueOf() { calls += 1; return 0; }});
+    assertSame(1, calls);
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+
+const {
+  assertSame, assertTrue, assertUndefined, assertThrows, assertEquals,
+} = Assert;
+
+// Integer-indexed element access on typed arrays
+
+// Integer, double and string indices
+{
+  let ta = new Int32Array(4);
+  for (let i = 0; i < ta.length; ++i) {
+    ta[i] = i * 10;
+  }
+  assertEquals([0, 10, 20, 30], [ta[0], ta[1], ta[2], ta[3]]);
+  let d = 1.0, s = "2";
+  assertSame(10, ta[d]);
+  assertSame(20, ta[s]);
+  assertSame(30, ta[1 + 2]);
+  assertSame(0, ta[-0]);
+  ta[-0] = 5;
+  assertSame(5, ta[0]);
+  ta[d * 3] = 7;
+  assertSame(7, ta[3]);
+}
+
+// Out of range and non-integer indices
+{
+  let ta = new Uint8Array(2);
+  assertUndefined(ta[2]);
+  assertUndefined(ta[-1]);
+  assertUndefined(ta[0.5]);
+  assertUndefined(ta[4294967296]);
+  ta[2] = 1;
+  ta[-1] = 1;
+  assertUndefined(ta[2]);
+  assertUndefined(ta[-1]);
+  ta[0.5] = 1;
+  let half = 0.5;
+  assertSame(ta["0.5"], ta[half]);
+}
+
+// Out of range writes throw in strict mode
+{
+  let ta = new Float64Array(1);
+  assertThrows(() => { "use strict"; ta[1] = 0; }, TypeError);
+  assertThrows(() => { "use strict"; let i = 1; ta[i] = 0; }, TypeError);
+  (() => { "use strict"; ta[0] = 1.5; })();
+  assertSame(1.5, ta[0]);
+}
+
+// Element conversion
+{
+  let u32 = new Uint32Array(1);
+  u32[0] = -1;
+  assertSame(4294967295, u32[0]);
+  assertTrue(u32[0] > 0);
+  let clamped = new Uint8ClampedArray(2);
+  clamped[0] = 300;
+  clamped[1] = 1.5;
+  assertEquals([255, 2], [clamped[0], clamped[1]]);
+  let f32 = new Float32Array(1);
+  f32[0] = NaN;
+  assertTrue(f32[0] !== f32[0]);
+  f32[0] = 0.1;
+  assertSame(Math.fround(0.1), f32[0]);
+  let i8 = new Int8Array(1);
+  i8[0] = 255;
+  assertSame(-1, i8[0]);
+  i8[0] = {valueOf() { return 3; }};
+  assertSame(3, i8[0]);
+}
+
+// Evaluation order: key conversion before the right-hand side, value conversion after
+{
+  let log = [];
+  let ta = new Int16Array(2);
+  let key = {toString() { log.push("key"); return "1"; }};
+  let value = {valueOf() { log.push("value"); return 9; }};
+  ta[key] = (log.push("rhs"), value);
+  assertEquals(["key", "rhs", "value"], log);
+  assertSame(9, ta[1]);
+}
+
+// Assignment expression result is the right-hand side value
+{
+  let ta = new Uint8Array(1);
+  assertSame(257, ta[0] = 257);
+  assertSame(1, ta[0]);
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+
+const {
+  assertSame, assertNull, assertEquals
+} = Assert;
+
+// Alternate global matches against different strings
+{
+  let r1 = /b+/g, r2 = /c+/g;
+  let s1 = "abbcabbbc", s2 = "ccacccab";
+  assertSame("bb", r1.exec(s1)[0]);
+  assertSame("cc", r2.exec(s2)[0]);
+  assertSame("bbb", r1.exec(s1)[0]);
+  assertSame(3, r2.exec(s2).index);
+  assertSame(8, r1.lastIndex);
+  assertNull(r1.exec(s1));
+  assertNull(r2.exec(s2));
+}
+
+// Different regular expressions against the same string
+{
+  let s = "key1=value1;key2=value2";
+  let key = /key\d/g, value = /value\d/g;
+  assertSame("key1", key.exec(s)[0]);
+  assertSame("value1", value.exec(s)[0]);
+  assertSame("key2", key.exec(s)[0]);
+  assertSame("value2", value.exec(s)[0]);
+}
+
+// Regular expressions used within replacement functions
+{
+  let s = "a1b22c333";
+  let inner = "x9y88";
+  let result = s.replace(/\d+/g, m => m.length + ":" + inner.replace(/\d/g, "#"));
+  assertSame("a1:x#y##b2:x#y##c3:x#y##", result);
+}
+
+// Short strings after a long string, and vice versa
+{
+  let long = "ab".repeat(100000) + "end";
+  let rx = /end$/;
+  assertSame(200000, rx.exec(long).index);
+  assertSame(0, rx.exec("end").index);
+  assertNull(rx.exec("ending"));
+  assertSame(200000, rx.exec(long).index);
+  assertEquals(["x", "y", "z"], "x,y,z".split(/,/));
+}
+
+// Matches at the end of the input are not affected by stale buffer contents
+{
+  let rx = /a+$/;
+  assertSame("aaaa", rx.exec("baaaa")[0]);
+  assertSame("a", rx.exec("ba")[0]);
+  assertNull(rx.exec("ab"));
+}
+
+// Global matches against a long string interleaved with matches against short strings
+{
+  let records = [];
+  for (let i = 0; i < 20000; ++i) {
+    records.push("id" + i + ":" + (i * 7) + ";");
+  }
+  let big = records.join("");
+  let re = /id(\d+):(\d+);/g, m, count = 0, last = -1;
+  while ((m = re.exec(big))) {
+    assertSame(last + 1, +m[1]);
+    last = +m[1];
+    if (/7/.test(m[2])) {
+      count += 1;
+    }
+  }
+  assertSame(19999, last);
+  assertSame(records.filter(r => /7/.test(r.split(":")[1])).length, count);
+}
+
+// Different regular expressions interleaved on different long strings
+{
+  let s1 = "a".repeat(5000) + "b", s2 = "c".repeat(5000) + "d";
+  let r1 = /a(?=b)/, r2 = /c(?=d)/;
+  assertSame(4999, r1.exec(s1).index);
+  assertSame(4999, r2.exec(s2).index);
+  assertNull(r1.exec(s2));
+  assertSame(4999, r2.exec(s2).index);
+  assertSame(4999, r1.exec(s1).index);
+}
+
+// Long strings matched within replacement functions for another long string
+{
+  let s1 = "a1".repeat(3000), s2 = "b22".repeat(3000);
+  let calls = 0;
+  let result = s1.replace(/\d/g, d => {
+    calls += 1;
+    return /b(2+)$/.exec(s2).index === s2.length - 3 ? d : "?";
+  });
+  assertSame(3000, calls);
+  assertSame(s1, result);
+}
+
+// Inputs longer than the input buffer limit
+{
+  let huge = "x".repeat((1 << 20) + 1) + "y";
+  let rx = /x(y)/g;
+  assertSame("y", rx.exec(huge)[1]);
+  assertSame(huge.length, rx.lastIndex);
+  assertSame(0, /^x/.exec(huge).index);
+  assertNull(rx.exec(huge));
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+
+const {
+  assertSame, assertNotSame, assertTrue, assertFalse, assertNull, assertThrows
+} = Assert;
+
+// Each evaluation of a regular expression literal creates a new RegExp object
+{
+  function literal() {
+    return /(a+)(b)?/g;
+  }
+  let r1 = literal(), r2 = literal();
+  assertNotSame(r1, r2);
+  assertSame(0, r1.lastIndex);
+  assertSame("aa", r1.exec("xaab")[1]);
+  assertSame(4, r1.lastIndex);
+  assertSame(0, r2.lastIndex);
+  assertSame("a", r2.exec("ab aa")[1]);
+  assertSame("aa", r2.exec("ab aa")[1]);
+  assertNull(r1.exec("xaab"));
+}
+
+// Literals and dynamic patterns with the same source and flags are independent objects
+{
+  let rx = /abc/i;
+  let dyn1 = new RegExp("abc", "i"), dyn2 = new RegExp("abc", "i");
+  assertNotSame(dyn1, dyn2);
+  assertTrue(rx.test("ABC") && dyn1.test("ABC") && dyn2.test("ABC"));
+  assertSame("abc", dyn1.source);
+  assertTrue(dyn1.ignoreCase);
+  assertFalse(dyn1.global);
+}
+
+// Same pattern with different flags
+{
+  let patterns = ["a.c", "a.c"], flags = ["", "i"];
+  let r = patterns.map((p, i) => new RegExp(p, flags[i]));
+  assertFalse(r[0].test("ABC"));
+  assertTrue(r[1].test("ABC"));
+}
+
+// Invalid patterns and flags still throw on every attempt
+for (let i = 0; i < 3; ++i) {
+  assertThrows(() => new RegExp("(", ""), SyntaxError);
+  assertThrows(() => new RegExp("a", "gg"), SyntaxError);
+}
+
+// RegExp.multiline applies to literals evaluated later
+{
+  function literal() {
+    return /^b/;
+  }
+  assertFalse(literal().multiline);
+  RegExp.multiline = true;
+  try {
+    assertTrue(literal().multiline);
+    assertTrue(literal().test("a\nb"));
+  } finally {
+    RegExp.multiline = false;
+  }
+  assertFalse(literal().multiline);
+  assertFalse(literal().test("a\nb"));
+}
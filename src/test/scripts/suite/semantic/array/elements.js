@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+
+const {
+  assertSame, assertTrue, assertFalse, assertEquals, assertDataProperty
+} = Assert;
+
+// 9.4.2 Array Exotic Objects: element storage transitions
+
+// Append and truncate
+{
+  let array = [];
+  for (let i = 0; i < 100; ++i) {
+    array[i] = i;
+  }
+  assertSame(100, array.length);
+  assertSame(99, array[99]);
+  array.length = 10;
+  assertSame(10, array.length);
+  assertFalse(10 in array);
+  assertSame(void 0, array[10]);
+  array.push(10);
+  assertSame(11, array.length);
+  assertSame(10, array[10]);
+}
+
+// Property keys retain insertion order
+{
+  let array = [1, 2, 3];
+  array.foo = "foo";
+  array.push(4);
+  assertEquals(["length", "0", "1", "2", "foo", "3"], Object.getOwnPropertyNames(array));
+  assertEquals(["0", "1", "2", "foo", "3"], Object.keys(array));
+  let keys = [];
+  for (let k in array) keys.push(k);
+  assertEquals(["0", "1", "2", "foo", "3"], keys);
+
+  let empty = [];
+  empty.y = 1;
+  empty[0] = 1;
+  assertEquals(["y", "0"], Object.keys(empty));
+
+  let named = [1, 2];
+  named.z = 0;
+  delete named[0];
+  assertEquals(["1", "z"], Object.keys(named));
+  named[0] = 1;
+  assertEquals(["1", "z", "0"], Object.keys(named));
+}
+
+// Holes
+{
+  let array = [1, 2, 3];
+  assertTrue(delete array[1]);
+  assertFalse(1 in array);
+  assertSame(3, array.length);
+  assertEquals(["length", "0", "2"], Object.getOwnPropertyNames(array));
+
+  let sparse = [];
+  sparse[5] = 5;
+  assertSame(6, sparse.length);
+  assertFalse(0 in sparse);
+  sparse[0] = 0;
+  assertEquals(["length", "5", "0"], Object.getOwnPropertyNames(sparse));
+
+  let elision = [0, , 2, , ];
+  assertSame(4, elision.length);
+  assertEquals(["length", "0", "2"], Object.getOwnPropertyNames(elision));
+}
+
+// Non-default attributes
+{
+  let array = [1, 2, 3];
+  Object.defineProperty(array, 1, {writable: false});
+  assertDataProperty(array, "1", {value: 2, writable: false, enumerable: true, configurable: true});
+  array[1] = 5;
+  assertSame(2, array[1]);
+  assertDataProperty(array, "0", {value: 1, writable: true, enumerable: true, configurable: true});
+
+  let frozen = Object.freeze([1, 2]);
+  frozen[0] = 0;
+  frozen[2] = 2;
+  assertSame(1, frozen[0]);
+  assertSame(2, frozen.length);
+  assertFalse(2 in frozen);
+
+  let nonExtensible = Object.preventExtensions([1, 2]);
+  nonExtensible[2] = 3;
+  assertSame(2, nonExtensible.length);
+  nonExtensible[0] = 0;
+  assertSame(0, nonExtensible[0]);
+}
+
+// Non-configurable element stops truncation
+{
+  let array = [1, 2, 3, 4];
+  Object.defineProperty(array, 1, {configurable: false});
+  array.length = 0;
+  assertSame(2, array.length);
+  assertSame(2, array[1]);
+}
+
+// Setter on prototype is invoked for missing elements
+{
+  let called = 0;
+  let proto = Object.create(Array.prototype, {1: {set(v) { called += 1 }}});
+  let array = [0];
+  Object.setPrototypeOf(array, proto);
+  array[1] = 1;
+  assertSame(1, called);
+  assertSame(1, array.length);
+  assertFalse(array.hasOwnProperty(1));
+}
+
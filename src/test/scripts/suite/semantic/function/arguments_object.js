@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+
+const {
+  assertSame, assertNotSame, assertEquals,
+} = Assert;
+
+// The arguments object is only created if the function code can observe it
+
+// Direct references and nested arrow functions
+{
+  function direct(a) { return arguments.length; }
+  function typeOf() { return typeof arguments; }
+  function arrow() { return (() => arguments[0])(); }
+  function nestedArrow() { return (() => () => arguments.length)()(); }
+  function shorthand() { return {arguments}.arguments[1]; }
+  assertSame(3, direct(1, 2, 3));
+  assertSame("object", typeOf());
+  assertSame("arrow", arrow("arrow"));
+  assertSame(2, nestedArrow(0, 0));
+  assertSame("b", shorthand("a", "b"));
+}
+
+// Direct eval in the function or in nested arrow functions
+{
+  function sloppyEval() { return eval("arguments[0]"); }
+  function strictEval() { "use strict"; return eval("arguments.length"); }
+  function arrowEval() { return (() => eval("arguments[1]"))(); }
+  assertSame("eval", sloppyEval("eval"));
+  assertSame(2, strictEval(0, 0));
+  assertSame("arrow", arrowEval(0, "arrow"));
+}
+
+// Nested functions have their own arguments object
+{
+  function outer() {
+    function inner() { return arguments.length; }
+    return inner();
+  }
+  assertSame(0, outer(1, 2, 3));
+}
+
+// Legacy arguments object, created on access
+{
+  function f(a, b) {
+    a = "changed";
+    return f.arguments;
+  }
+  let args = f("a", "b", "c");
+  assertSame(3, args.length);
+  assertEquals(["changed", "b", "c"], [args[0], args[1], args[2]]);
+  assertSame(f, args.callee);
+
+  function same() { return same.arguments === same.arguments; }
+  assertSame(true, same());
+
+  function recursive(n) {
+    if (n > 0) {
+      let inner = recursive(n - 1);
+      assertNotSame(inner, recursive.arguments);
+    }
+    return recursive.arguments[0];
+  }
+  assertSame(2, recursive(2));
+  assertSame(null, recursive.arguments);
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+
+const {
+  assertSame, assertEquals, assertUndefined,
+} = Assert;
+
+// Calls with up to four arguments pass their arguments without an arguments array
+
+// Missing and extra arguments for user-defined functions
+{
+  function f(a, b, c) {
+    return [arguments.length, a, b, c];
+  }
+  assertEquals([0, void 0, void 0, void 0], f());
+  assertEquals([1, 1, void 0, void 0], f(1));
+  assertEquals([3, 1, 2, 3], f(1, 2, 3));
+  assertEquals([4, 1, 2, 3], f(1, 2, 3, 4));
+  assertEquals([5, 1, 2, 3], f(1, 2, 3, 4, 5));
+  assertEquals([3, 1, 2, 3], f(...[1, 2, 3]));
+}
+
+// Missing and extra arguments for built-in functions, including optional parameters
+{
+  assertSame("a", "abc".charAt());
+  assertSame("c", "abc".charAt(2, 0));
+  assertSame(255, parseInt("ff", 16));
+  assertSame(12, parseInt("12"));
+  assertSame(12, parseInt("12", void 0, 1, 2, 3));
+  assertSame("abc", "abc".slice());
+  assertSame("b", "abc".slice(1, 2));
+  assertSame(3, Math.max(1, 2, 3));
+  assertSame(-Infinity, Math.max());
+  assertSame(6, Math.max(1, 2, 3, 4, 5, 6));
+}
+
+// this-value for function and method calls
+{
+  let o = {
+    m(x) { return [this, x]; }
+  };
+  let [thisValue, x] = o.m(1);
+  assertSame(o, thisValue);
+  assertSame(1, x);
+  function sloppy() { return this; }
+  function strict() { "use strict"; return this; }
+  assertSame(this, sloppy(0, 1));
+  assertUndefined(strict(0, 1));
+}
+
+// Polymorphic call sites with user-defined and built-in functions
+{
+  let fns = [Math.abs, function(x) { return x * 2; }, x => -x, Math.floor, String,
+             function() { return arguments.length; }];
+  let results = [];
+  for (let i = 0; i < 24; ++i) {
+    results.push(fns[i % fns.length](-1.5));
+  }
+  assertEquals([1.5, -3, 1.5, -2, "-1.5", 1], results.slice(18));
+}
+
+// Calls with yield expressions as arguments
+{
+  function* g() {
+    return Math.max(yield 1, yield 2);
+  }
+  let it = g();
+  it.next();
+  it.next(5);
+  assertEquals({value: 7, done: true}, it.next(7));
+}
+
+// Strict functions without an arguments object use a fixed-arity entry point
+{
+  function f(a, b, c) {
+    "use strict";
+    return [a, b, c];
+  }
+  function g(a, b) {
+    "use strict";
+    return () => a + b;
+  }
+  function h(a, b = 2, ...rest) {
+    "use strict";
+    return [a, b, rest];
+  }
+  let arrow = (x, y) => { "use strict"; return [x, y]; };
+  for (let i = 0; i < 3; ++i) {
+    assertEquals([void 0, void 0, void 0], f());
+    assertEquals([1, void 0, void 0], f(1));
+    assertEquals([1, 2, 3], f(1, 2, 3));
+    assertEquals([1, 2, 3], f(1, 2, 3, 4));
+    assertEquals([1, 2, 3], f(...[1, 2, 3, 4]));
+    assertSame(3, g(1, 2)());
+    assertEquals([1, 2, []], h(1));
+    assertEquals([1, 3, [4]], h(1, 3, 4));
+    assertEquals([1, void 0], arrow(1));
+  }
+}
+
+// Lazily compiled functions switch over to the fixed-arity entry point after their first call
+{
+  function lazy(a, b) {
+    "use strict";
+    // ------------------------------------------------------------------------------------------
+    // ------------------------------------------------------------------------------------------
+    // ------------------------------------------------------------------------------------------
+    return [a, b];
+  }
+  let results = [];
+  for (let i = 0; i < 3; ++i) {
+    results.push(lazy(i), lazy(i, i + 1));
+  }
+  assertEquals([[2, void 0], [2, 3]], results.slice(4));
+}
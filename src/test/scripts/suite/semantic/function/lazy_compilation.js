@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+
+const {
+  assertSame, assertNotSame, assertThrows,
+} = Assert;
+
+// Functions with long bodies are compiled on their first call, the padding comments ensure the
+// function bodies exceed the default length limit for lazy compilation
+
+// Closures created before the first call share the compiled code
+{
+  function counter(start) {
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    return function next(step) {
+      /* padding padding padding padding padding padding padding padding padding padding padding */
+      /* padding padding padding padding padding padding padding padding padding padding padding */
+      /* padding padding padding padding padding padding padding padding padding padding padding */
+      return start += step;
+    };
+  }
+  let a = counter(0), b = counter(100);
+  assertNotSame(a, b);
+  assertSame(1, a.length);
+  assertSame("next", a.name);
+  let source = String(a);
+  assertSame(1, a(1));
+  assertSame(102, b(2));
+  assertSame(3, a(2));
+  assertSame(source, String(a));
+  assertSame(source, String(b));
+}
+
+// Recursion, strict mode and tail calls
+{
+  function fib(n) {
+    "use strict";
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    return n < 2 ? n : fib(n - 1) + fib(n - 2);
+  }
+  function loop(n, acc) {
+    "use strict";
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    if (n === 0) return acc;
+    return loop(n - 1, acc + 1);
+  }
+  function sloppy() {
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    return this;
+  }
+  assertSame(55, fib(10));
+  assertSame(100000, loop(100000, 0));
+  assertSame(this, sloppy());
+}
+
+// Scope access through with-statements and direct eval
+{
+  let o = {x: "with"};
+  with (o) {
+    var readX = function() {
+      /* padding padding padding padding padding padding padding padding padding padding padding */
+      /* padding padding padding padding padding padding padding padding padding padding padding */
+      /* padding padding padding padding padding padding padding padding padding padding padding */
+      return x;
+    };
+  }
+  function evalVar(code) {
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    eval(code);
+    return y;
+  }
+  assertSame("with", readX());
+  o.x = "changed";
+  assertSame("changed", readX());
+  assertSame(42, evalVar("var y = 42"));
+}
+
+// Nested functions in eval code and the Function constructor
+{
+  let f = eval(`(function outer(v) {
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    function inner() {
+      /* padding padding padding padding padding padding padding padding padding padding padding */
+      /* padding padding padding padding padding padding padding padding padding padding padding */
+      /* padding padding padding padding padding padding padding padding padding padding padding */
+      return v * 2;
+    }
+    return inner();
+  })`);
+  assertSame(8, f(4));
+  let g = Function("v", `
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    return function inner() {
+      /* padding padding padding padding padding padding padding padding padding padding padding */
+      /* padding padding padding padding padding padding padding padding padding padding padding */
+      /* padding padding padding padding padding padding padding padding padding padding padding */
+      return v + 1;
+    };
+  `);
+  assertSame(6, g(5)());
+}
+
+// Constructor calls and errors thrown from the compiled code
+{
+  function Point(x, y) {
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    this.x = x;
+    this.y = y;
+  }
+  let p = new Point(1, 2);
+  assertSame(Point.prototype, Object.getPrototypeOf(p));
+  assertSame(2, p.y);
+  function thrower() {
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    /* padding padding padding padding padding padding padding padding padding padding padding */
+    throw new RangeError("thrower");
+  }
+  assertThrows(() => thrower(), RangeError);
+  assertThrows(() => thrower(), RangeError);
+}
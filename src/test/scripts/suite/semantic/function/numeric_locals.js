@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+
+const {
+  assertSame, assertEquals,
+} = Assert;
+
+// Variables which only hold numbers are stored in unboxed local variables
+
+// Loop counters and accumulators
+{
+  function sum(n) {
+    var s = 0;
+    for (var i = 0; i < n; i++) {
+      s += i;
+    }
+    return s;
+  }
+  function scaled() {
+    let t = 0;
+    for (let j = 0; j < 5; j++) {
+      t = t + j * 2;
+    }
+    return t;
+  }
+  assertSame(45, sum(10));
+  assertSame(20, scaled());
+}
+
+// Increment and decrement operators, compound assignment
+{
+  function update() {
+    var k = 0, r = [];
+    while (k < 3) {
+      r.push(k++, ++k, k--, --k);
+      k += 1;
+    }
+    return r;
+  }
+  function compound() {
+    let x = 1.5;
+    x *= 2; x -= 1; x /= 4; x %= 3; x <<= 3; x >>= 1; x >>>= 0; x |= 1; x &= 7; x ^= 2;
+    return x;
+  }
+  assertEquals([0, 2, 2, 0, 1, 3, 3, 1, 2, 4, 4, 2], update());
+  assertSame(3, compound());
+}
+
+// Relational and equality operators with NaN and signed zero
+{
+  function compare() {
+    var a = 0 / 0, b = 1, z = -0;
+    return [a < b, a > b, a <= b, a >= b, a == a, a != a, a === a, a !== a, z === 0, 1 / z];
+  }
+  assertEquals([false, false, false, false, false, true, false, true, true, -Infinity], compare());
+}
+
+// Relational operators with one numeric operand convert the other operand with ToNumber
+{
+  function mixed(o) {
+    var n = 2;
+    return [n < o, o < n, n > o, o > n, n <= o, o <= n, n >= o, o >= n];
+  }
+  assertEquals([true, false, false, true, true, false, false, true], mixed("10"));
+  assertEquals([false, true, true, false, false, true, true, false], mixed(true));
+  assertEquals([false, true, true, false, false, true, true, false], mixed(null));
+  assertEquals([false, false, false, false, false, false, false, false], mixed(void 0));
+  assertEquals([false, false, false, false, false, false, false, false], mixed("abc"));
+  assertEquals([false, false, false, false, true, true, true, true],
+               mixed({valueOf() { return 2; }}));
+  assertEquals([false, false, false, false, false, false, false, false], mixed(Symbol()));
+
+  function order() {
+    var log = [], n = 1;
+    var o = {valueOf() { log.push("valueOf"); return 0; }};
+    var r1 = o < (log.push("right"), n);
+    var r2 = (log.push("left"), n) < o;
+    return [r1, r2, log.join()];
+  }
+  assertEquals([true, false, "right,valueOf,left,valueOf"], order());
+}
+
+// Equality operators with one numeric operand keep their usual semantics
+{
+  function equal(o) {
+    var n = 0;
+    return [n == o, o == n, n != o, n === o, o !== n];
+  }
+  assertEquals([false, false, true, false, true], equal(null));
+  assertEquals([false, false, true, false, true], equal(void 0));
+  assertEquals([true, true, false, false, true], equal("0"));
+  assertEquals([true, true, false, false, true], equal(false));
+}
+
+// Variables with non-numeric values or visible to other code keep their usual representation
+{
+  function concat(o) {
+    var i = 0;
+    i = i + o;
+    return i;
+  }
+  function reassigned() {
+    var x = 1;
+    x = "s";
+    return x;
+  }
+  function closure() {
+    var x = 1;
+    function g() { return x; }
+    x = 2;
+    return g();
+  }
+  function hoisted() {
+    var before = typeof x;
+    var x = 5;
+    return before + ":" + x;
+  }
+  function withEval(code) {
+    var x = 1;
+    eval(code);
+    return x;
+  }
+  assertSame("0x", concat("x"));
+  assertSame("s", reassigned());
+  assertSame(2, closure());
+  assertSame("undefined:5", hoisted());
+  assertSame("str", withEval("x = 'str'"));
+}
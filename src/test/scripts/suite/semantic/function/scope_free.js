@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+"use strict";
+
+const {
+  assertSame, assertUndefined, assertThrows,
+} = Assert;
+
+// Functions which don't capture their scope are evaluated without a function environment record
+
+// Formal parameters, missing and extra arguments
+{
+  function add(a, b) {
+    return a + b;
+  }
+  assertSame(3, add(1, 2));
+  assertSame("xy", add("x", "y"));
+  assertSame(3, add(1, 2, 3));
+  assertSame(3, add.apply(null, [1, 2]));
+  assertSame(3, add.apply(null, [1, 2, 3]));
+  assertSame("1undefined", add("1"));
+  function second(a, b) {
+    return b;
+  }
+  assertUndefined(second(1));
+  assertSame(2, second.apply(null, [1, 2]));
+  function none() {
+    return 0;
+  }
+  assertSame(0, none(1, 2, 3));
+}
+
+// Free variables are resolved in the closure environment
+{
+  let outer = 1;
+  function read(a) {
+    return a + outer;
+  }
+  assertSame(2, read(1));
+  outer = 10;
+  assertSame(11, read(1));
+
+  function f(x) {
+    var local = x * 2;
+    function g(y) {
+      return local + x + y;
+    }
+    return g;
+  }
+  assertSame(7, f(2)(1));
+  assertSame(10, f(3)(1));
+
+  function unresolvable(a) {
+    return a + notDefined;
+  }
+  assertThrows(() => unresolvable(1), ReferenceError);
+}
+
+// Numeric locals and block scopes
+{
+  function sum(n) {
+    var s = 0;
+    for (let i = 0; i < n; i++) {
+      s += i;
+    }
+    return s;
+  }
+  assertSame(45, sum(10));
+  function blocks(a) {
+    {
+      let t = "b";
+      try {
+        throw t;
+      } catch (e) {
+        return a + e;
+      }
+    }
+  }
+  assertSame("ab", blocks("a"));
+}
+
+// Recursion through the closure environment
+{
+  function fib(n) {
+    return n < 2 ? n : fib(n - 1) + fib(n - 2);
+  }
+  assertSame(55, fib(10));
+}
+
+// Construct calls
+{
+  function C(a) {
+    return a;
+  }
+  assertSame(C.prototype, Object.getPrototypeOf(new C(1)));
+  let o = {};
+  assertSame(o, new C(o));
+}
+
+// Arrow functions with block bodies
+{
+  let mul = (x, y) => { return x * y; };
+  assertSame(42, mul(6, 7));
+}
+
+// Functions which need their environment record are evaluated as before
+{
+  function assign(a) {
+    a = a + 1;
+    return a;
+  }
+  assertSame(2, assign(1));
+  function type(a) {
+    return typeof a;
+  }
+  assertSame("number", type(1));
+  function nonNumeric(a) {
+    var s = "" + a;
+    return s;
+  }
+  assertSame("1", nonNumeric(1));
+  function duplicate(a, b) {
+    var a;
+    return a + b;
+  }
+  assertSame(3, duplicate(1, 2));
+  function args(a) {
+    return arguments.length;
+  }
+  assertSame(2, args(1, 2));
+  function self() {
+    return this;
+  }
+  assertUndefined(self());
+}
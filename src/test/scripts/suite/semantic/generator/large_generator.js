@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+
+const {
+  assertSame, assertEquals
+} = Assert;
+
+// Test yield works in generators which are split into multiple methods
+
+function repeat(n, f, sep = "") {
+  let list = [];
+  for (let i = 0; i < n; ++i) {
+    list.push(f(i));
+  }
+  return list.join(sep);
+}
+
+// yield in statement lists
+{
+  let g = eval(`(function* g() {
+    var sum = 0;
+    ${repeat(400, i => `sum += yield ${i};\n`)}
+    return sum;
+  })`);
+  let gen = g();
+  assertEquals({value: 0, done: false}, gen.next());
+  for (let i = 1; i < 400; ++i) {
+    assertEquals({value: i, done: false}, gen.next(i - 1));
+  }
+  assertEquals({value: (399 * 400) / 2, done: true}, gen.next(399));
+}
+
+// throw() into yield in statement lists
+{
+  let g = eval(`(function* g() {
+    var caught = 0;
+    ${repeat(400, i => `try { yield ${i}; } catch (e) { caught += e; }\n`)}
+    return caught;
+  })`);
+  let gen = g(), result = gen.next();
+  for (let i = 0; i < 400; ++i) {
+    result = gen.throw(2);
+  }
+  assertEquals({value: 800, done: true}, result);
+}
+
+// yield in object literals, spread elements and expressions
+{
+  let g = eval(`(function* g() {
+    var o = {${repeat(300, i => `p${i}: yield ${i}`, ",\n")}};
+    var a = [${repeat(300, i => `...[yield ${i}]`, ",\n")}];
+    var e = 0;
+    ${repeat(10, j => `e += 0 ${repeat(100, i => ` + (yield ${100 * j + i})`)};\n`)}
+    return [Object.keys(o).length, o.p299, a.length, a[299], e];
+  })`);
+  let gen = g(), result = gen.next(), count = 0;
+  while (!result.done) {
+    result = gen.next(count++);
+  }
+  assertSame(1600, count);
+  assertEquals([300, 299, 300, 599, (600 + 1599) * 500], result.value);
+}
+
+// yield* in statement lists
+{
+  function* inner() {
+    yield 1;
+    yield 2;
+  }
+  let g = eval(`(function* g() {
+    ${repeat(400, i => `yield* inner();\n`)}
+  })`);
+  let count = 0;
+  for (let v of g()) {
+    count += v;
+  }
+  assertSame(1200, count);
+}
+
+// yield in generator comprehensions
+{
+  let g = eval(`(for (x of [1, 2, 3]) 0 ${repeat(100, i => ` + x`)})`);
+  assertEquals([100, 200, 300], [...g]);
+}
+
+// many suspended generators
+{
+  let g = eval(`(function* g() {
+    ${repeat(400, i => `yield ${i};\n`)}
+  })`);
+  let gens = [];
+  for (let i = 0; i < 10000; ++i) {
+    let gen = g();
+    gen.next();
+    gens.push(gen);
+  }
+  assertEquals({value: 1, done: false}, gens[9999].next());
+}
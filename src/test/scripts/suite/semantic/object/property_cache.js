@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+
+const { assertSame, assertFalse, assertThrows } = Assert;
+
+// own data properties, polymorphic and megamorphic receivers
+{
+  function getX(o) { return o.x; }
+  function setX(o, v) { o.x = v; }
+  let objects = [{x: 0}, {a: 0, x: 1}, {b: 0, x: 2}, {c: 0, x: 3}, {d: 0, x: 4}, {e: 0, x: 5}];
+  for (let k = 0; k < 3; ++k) {
+    for (let i = 0; i < objects.length; ++i) {
+      assertSame(i + k, getX(objects[i]));
+      setX(objects[i], i + k + 1);
+      assertSame(i + k + 1, objects[i].x);
+    }
+  }
+}
+
+// primitive receivers on object call sites
+{
+  function getLength(o) { return o.length; }
+  function setLength(o, v) { o.length = v; }
+  let o = {length: 1};
+  for (let i = 0; i < 8; ++i) {
+    assertSame(3, getLength("abc"));
+    assertSame(void 0, getLength(i));
+    assertSame(void 0, getLength(true));
+    setLength("abc", 0);
+    setLength(i, 0);
+    assertSame(i + 1, getLength(o));
+    setLength(o, i + 2);
+  }
+  assertSame(9, getLength(o));
+  assertThrows(() => getLength(null), TypeError);
+  assertThrows(() => setLength(void 0, 0), TypeError);
+}
+
+// prototype chain lookups observe prototype changes
+{
+  function getY(o) { return o.y; }
+  let proto = {y: 1};
+  let o = Object.create(proto);
+  assertSame(1, getY(o));
+  proto.y = 2;
+  assertSame(2, getY(o));
+  o.y = 3;
+  assertSame(3, getY(o));
+  delete o.y;
+  assertSame(2, getY(o));
+  Object.setPrototypeOf(o, {y: 4});
+  assertSame(4, getY(o));
+  Object.defineProperty(Object.getPrototypeOf(o), "y", {get() { return this === o ? 5 : -1 }});
+  assertSame(5, getY(o));
+  Object.setPrototypeOf(o, null);
+  assertSame(void 0, getY(o));
+}
+
+// absent properties
+{
+  function getZ(o) { return o.z; }
+  let proto = {};
+  let o = Object.create(proto);
+  assertSame(void 0, getZ(o));
+  proto.z = 1;
+  assertSame(1, getZ(o));
+  Object.prototype.z = 2;
+  assertSame(2, getZ({}));
+  delete Object.prototype.z;
+  assertSame(void 0, getZ({}));
+}
+
+// attribute changes on cached properties
+{
+  function setW(o, v) { "use strict"; o.w = v; }
+  let o = {w: 0};
+  setW(o, 1);
+  assertSame(1, o.w);
+  Object.freeze(o);
+  assertThrows(() => setW(o, 2), TypeError);
+  assertSame(1, o.w);
+  let p = {w: 0};
+  setW(p, 1);
+  Object.defineProperty(p, "w", {set(v) { this.v = v }});
+  setW(p, 3);
+  assertSame(3, p.v);
+}
+
+// method calls
+{
+  function call(o) { return o.m(1); }
+  let a = {m(x) { return [this, x] }};
+  let [self, x] = call(a);
+  assertSame(a, self);
+  assertSame(1, x);
+  assertSame("1", call({m: String}));
+  Number.prototype.m = function(x) { "use strict"; return typeof this; };
+  assertSame("number", call(5));
+  delete Number.prototype.m;
+  assertThrows(() => call(5), TypeError);
+  assertThrows(() => call(null), TypeError);
+}
+
+// exotic objects
+{
+  function len(o) { return o.length; }
+  let arr = [1, 2, 3];
+  assertSame(3, len(arr));
+  arr.push(4);
+  assertSame(4, len(arr));
+  function setLen(o, v) { o.length = v; }
+  setLen(arr, 1);
+  assertSame(1, arr.length);
+  assertSame(void 0, arr[1]);
+  assertSame(3, len("abc"));
+  function args() { return len(arguments); }
+  assertSame(2, args(1, 2));
+}
+
+// new properties added through assignment
+{
+  function C(v) { this.v = v; }
+  let a = new C(1), b = new C(2);
+  assertSame(1, a.v);
+  assertSame(2, b.v);
+  let log = [];
+  Object.defineProperty(C.prototype, "v", {set(v) { log.push(v) }, configurable: true});
+  let c = new C(3);
+  assertFalse(c.hasOwnProperty("v"));
+  assertSame("3", log.join(","));
+  delete C.prototype.v;
+  let d = Object.preventExtensions(Object.create(C.prototype));
+  C.call(d, 4);
+  assertFalse(d.hasOwnProperty("v"));
+  assertThrows(() => { "use strict"; d.v = 5; }, TypeError);
+  let e = new C(6);
+  assertSame(6, e.v);
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+
+const {
+  assertSame, assertFalse, assertEquals, assertDataProperty, assertAccessorProperty
+} = Assert;
+
+// 9.1 Ordinary Object Internal Methods: property storage retains insertion order
+
+// Objects with the same property insertion order
+{
+  let o1 = {a: 1, b: 2};
+  let o2 = {a: 3, b: 4};
+  o2.c = 5;
+  assertEquals(["a", "b"], Object.keys(o1));
+  assertEquals(["a", "b", "c"], Object.keys(o2));
+  assertSame(1, o1.a);
+  assertSame(3, o2.a);
+  assertFalse("c" in o1);
+}
+
+// Delete and re-add properties
+{
+  let o = {a: 1, b: 2, c: 3};
+  delete o.c;
+  o.d = 4;
+  assertEquals(["a", "b", "d"], Object.keys(o));
+  delete o.a;
+  o.a = 5;
+  assertEquals(["b", "d", "a"], Object.keys(o));
+  let keys = [];
+  for (let k in o) keys.push(k);
+  assertEquals(["b", "d", "a"], keys);
+}
+
+// Many properties
+{
+  let o = {};
+  let expected = [];
+  for (let i = 0; i < 500; ++i) {
+    o["p" + i] = i;
+    expected.push("p" + i);
+  }
+  assertEquals(expected, Object.getOwnPropertyNames(o));
+  assertSame(499, o.p499);
+}
+
+// Attribute changes
+{
+  let o = {a: 1, b: 2};
+  Object.defineProperty(o, "a", {writable: false});
+  o.a = 10;
+  assertSame(1, o.a);
+  assertDataProperty(o, "a", {value: 1, writable: false, enumerable: true, configurable: true});
+  Object.defineProperty(o, "a", {writable: true});
+  o.a = 10;
+  assertDataProperty(o, "a", {value: 10, writable: true, enumerable: true, configurable: true});
+
+  let getter = () => 0;
+  Object.defineProperty(o, "b", {get: getter});
+  assertAccessorProperty(o, "b", {get: getter, set: void 0, enumerable: true, configurable: true});
+  Object.defineProperty(o, "b", {value: 3});
+  assertDataProperty(o, "b", {value: 3, writable: false, enumerable: true, configurable: true});
+  assertEquals(["a", "b"], Object.keys(o));
+}
+
+// Symbol-keyed properties
+{
+  let s = Symbol();
+  let o = {a: 1};
+  o[s] = 2;
+  assertSame(2, o[s]);
+  assertEquals([s], Object.getOwnPropertySymbols(o));
+  delete o[s];
+  assertEquals([], Object.getOwnPropertySymbols(o));
+}
+
+// Mapped arguments
+{
+  function f(a) {
+    arguments[0] = 2;
+    return a;
+  }
+  assertSame(2, f(1));
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2012-2014 André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+
+const { assertSame, assertThrows } = Assert;
+
+// 8.1.1.1 Declarative Environment Records: cached binding locations
+
+// bindings in nested functions and blocks
+{
+  function outer(a) {
+    let b = a + 1;
+    function inner(c) {
+      {
+        let d = c * 2;
+        return a + b + c + d;
+      }
+    }
+    return inner;
+  }
+  for (let i = 0; i < 3; ++i) {
+    assertSame(i + (i + 1) + 3 + 6, outer(i)(3));
+  }
+}
+
+// uninitialised and immutable bindings
+{
+  function f(init) {
+    if (init) {
+      return x;
+    }
+    let g = () => x;
+    try {
+      return g();
+    } finally {
+      let x = 0;
+    }
+  }
+  assertThrows(() => f(false), ReferenceError);
+  function h() {
+    "use strict";
+    const c = 1;
+    for (let i = 0; i < 3; ++i) {
+      assertThrows(() => { c = 2; }, TypeError);
+    }
+    return c;
+  }
+  assertSame(1, h());
+}
+
+// bindings with more than eight entries per environment
+{
+  function many() {
+    var a0 = 0, a1 = 1, a2 = 2, a3 = 3, a4 = 4, a5 = 5, a6 = 6, a7 = 7, a8 = 8, a9 = 9;
+    let sum = 0;
+    for (let k = 0; k < 3; ++k) {
+      sum += a0 + a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8 + a9;
+    }
+    return sum;
+  }
+  assertSame(135, many());
+}
+
+// eval in enclosing function shadows outer bindings
+{
+  let x = "outer";
+  function f(code) {
+    eval(code);
+    return () => x;
+  }
+  assertSame("outer", f("")());
+  assertSame("inner", f("var x = 'inner'")());
+  function g() {
+    var h = () => x;
+    var r = [h()];
+    eval("var x = 'eval'");
+    r.push(h());
+    assertSame(true, delete x);
+    r.push(h());
+    return r.join(",");
+  }
+  assertSame("outer,eval,outer", g());
+}
+
+// with statement
+{
+  let y = "outer";
+  function f(o) {
+    with (o) {
+      return () => y;
+    }
+  }
+  assertSame("outer", f({})());
+  assertSame("object", f({y: "object"})());
+  let o = {};
+  let fn = f(o);
+  assertSame("outer", fn());
+  o.y = "late";
+  assertSame("late", fn());
+}
+
+// parameter expressions observe function bindings
+{
+  let x = "outer";
+  function f(g = () => x, a = g()) {
+    var x = "inner";
+    return [String(a), g()].join(",");
+  }
+  assertSame("undefined,inner", f());
+  assertSame("undefined,inner", f());
+}